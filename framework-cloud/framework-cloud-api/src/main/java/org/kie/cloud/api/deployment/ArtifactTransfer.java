@@ -0,0 +1,101 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.cloud.api.deployment;
+
+import java.time.Instant;
+
+/**
+ * Single artifact upload to or download from Maven repository.
+ */
+public class ArtifactTransfer {
+
+    public enum Direction {
+        UPLOAD, DOWNLOAD
+    }
+
+    private final Direction direction;
+    private final String path;
+    private final int status;
+    private final long bytes;
+    private final long durationMillis;
+    private final String client;
+    private final Instant time;
+
+    public ArtifactTransfer(Direction direction, String path, int status, long bytes, long durationMillis, String client, Instant time) {
+        this.direction = direction;
+        this.path = path;
+        this.status = status;
+        this.bytes = bytes;
+        this.durationMillis = durationMillis;
+        this.client = client;
+        this.time = time;
+    }
+
+    public Direction getDirection() {
+        return direction;
+    }
+
+    /**
+     * @return Path of the file in repository, e.g. org/kie/kjar/1.0/kjar-1.0.jar.
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * @return HTTP status of the response.
+     */
+    public int getStatus() {
+        return status;
+    }
+
+    /**
+     * @return True if the file was transferred, false for example if it wasn't found.
+     */
+    public boolean isSuccessful() {
+        return status >= 200 && status < 300;
+    }
+
+    /**
+     * @return Size of transferred file.
+     */
+    public long getBytes() {
+        return bytes;
+    }
+
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    /**
+     * @return Address of the client uploading or downloading the file.
+     */
+    public String getClient() {
+        return client;
+    }
+
+    /**
+     * @return Time when the transfer finished.
+     */
+    public Instant getTime() {
+        return time;
+    }
+
+    @Override
+    public String toString() {
+        return direction + " " + path + " " + status + " " + bytes + " B in " + durationMillis + " ms by " + client;
+    }
+}
@@ -20,6 +20,7 @@ import java.io.ByteArrayOutputStream;
 public class CommandExecutionResult {
     private ByteArrayOutputStream output;
     private ByteArrayOutputStream error;
+    private Integer exitCode;
 
     public String getOutput() {
         return output.toString();
@@ -36,4 +37,15 @@ public class CommandExecutionResult {
     public void setError(ByteArrayOutputStream error) {
         this.error = error;
     }
+
+    /**
+     * @return Exit code of the command, null if it isn't known.
+     */
+    public Integer getExitCode() {
+        return exitCode;
+    }
+
+    public void setExitCode(Integer exitCode) {
+        this.exitCode = exitCode;
+    }
 }
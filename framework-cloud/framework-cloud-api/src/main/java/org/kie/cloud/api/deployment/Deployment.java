@@ -17,6 +17,9 @@ package org.kie.cloud.api.deployment;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
 
 /**
  * Deployment representation in cloud environment.
@@ -46,6 +49,23 @@ public interface Deployment {
      */
     void waitForScale() throws DeploymentTimeoutException;
 
+    /**
+     * Change number of instances available for the deployment without blocking the caller.
+     *
+     * @param instances Number of deployment instances to be available.
+     * @return Future completed once the deployment is scaled, completed exceptionally if scaling fails.
+     * @see #scale(int)
+     */
+    CompletableFuture<Void> scaleAsync(int instances);
+
+    /**
+     * Wait until Deployment is ready to use without blocking the caller.
+     *
+     * @return Future completed once the deployment is ready, completed exceptionally with {@link DeploymentTimeoutException} in case deployment isn't scaled in defined timeout.
+     * @see #waitForScale()
+     */
+    CompletableFuture<Void> waitForScaleAsync();
+
     /**
      * Return list of all already running instances of the deployment.
      *
@@ -54,6 +74,18 @@ public interface Deployment {
      */
     List<Instance> getInstances();
 
+    /**
+     * Run command in all running instances of the deployment in parallel without blocking the caller.
+     *
+     * @param timeout Maximal time the command can run in each instance.
+     * @param outputConsumer Consumer of standard output lines, called with the instance producing the line. Called concurrently for different instances.
+     * @param errorConsumer Consumer of error output lines, called with the instance producing the line. Called concurrently for different instances.
+     * @param command Command to be run.
+     * @return Futures completed with exit code of the command in each instance.
+     * @see Instance#runCommandAsync(Duration, java.util.function.Consumer, java.util.function.Consumer, String...)
+     */
+    Map<Instance, CompletableFuture<Integer>> runCommandAsync(Duration timeout, BiConsumer<Instance, String> outputConsumer, BiConsumer<Instance, String> errorConsumer, String... command);
+
     /**
      * This method delete given cloud instances. Cloud should automaticly start
      * new instances. Number of available instance is same as before.
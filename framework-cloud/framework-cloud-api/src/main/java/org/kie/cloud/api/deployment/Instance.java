@@ -15,6 +15,12 @@
 
 package org.kie.cloud.api.deployment;
 
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
 /**
  * Running instance of deployment representation in cloud environment. One
  * instance of deployed application. Application is configured in
@@ -39,12 +45,58 @@ public interface Instance {
      */
     String getNamespace();
 
+    /**
+     * Run command in the instance and wait until it finishes.
+     *
+     * @param command Command to be run.
+     * @return Output, error output and exit code of the command.
+     */
     CommandExecutionResult runCommand(String... command);
 
+    /**
+     * Run command in the instance without blocking the caller. Output is passed to consumers line by line as it is
+     * produced, so only the line being read is kept in memory.
+     *
+     * @param timeout Maximal time the command can run, command is terminated once it elapses.
+     * @param outputConsumer Consumer of standard output lines.
+     * @param errorConsumer Consumer of error output lines.
+     * @param command Command to be run.
+     * @return Future completed with exit code of the command, completed exceptionally with
+     * {@link java.util.concurrent.TimeoutException} if the command doesn't finish in time.
+     */
+    CompletableFuture<Integer> runCommandAsync(Duration timeout, Consumer<String> outputConsumer, Consumer<String> errorConsumer, String... command);
+
     /**
      * Return cloud instance logs.
      *
      * @return instance logs
      */
     String getLogs();
+
+    /**
+     * Write cloud instance logs to the output stream without loading them into memory.
+     *
+     * @param output Stream the logs are written to, the stream isn't closed.
+     * @param previous If true then logs of the previous container of restarted instance are written, nothing is written if instance wasn't restarted.
+     */
+    void writeLogs(OutputStream output, boolean previous);
+
+    /**
+     * Wait until instance log contains the text. Log is followed in background since first search in the instance log,
+     * so repeated searches process just log written since previous search.
+     *
+     * @param text Text to be searched for.
+     * @param timeout Maximal waiting time.
+     * @return True if log contains the text, false if text didn't appear in time.
+     */
+    boolean waitForLogMatch(String text, Duration timeout);
+
+    /**
+     * Count occurrences of texts in instance log received so far. Log is followed in background since first search in
+     * the instance log, so repeated counting of the same texts processes just log written since previous counting.
+     *
+     * @param texts Texts to be searched for.
+     * @return Number of occurrences of each text.
+     */
+    Map<String, Long> countLogMatches(String... texts);
 }
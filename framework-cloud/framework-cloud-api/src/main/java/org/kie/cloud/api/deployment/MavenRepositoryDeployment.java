@@ -0,0 +1,44 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.cloud.api.deployment;
+
+import java.net.URL;
+import java.util.List;
+
+/**
+ * Maven repository deployed in scenario namespace. Kjars deployed there are resolved by Kie servers of the scenario
+ * without leaving the namespace, Kie servers are connected to it using service name, see
+ * {@link org.kie.cloud.api.settings.builder.KieServerSettingsBuilder#withMavenRepoService(String, String)}.
+ */
+public interface MavenRepositoryDeployment extends Deployment {
+
+    String SERVICE_NAME = "maven-repository";
+    String REPOSITORY_PATH = "/";
+
+    /**
+     * Get URL of the repository reachable from outside of the namespace, used for deploying artifacts.
+     *
+     * @return Maven repository URL
+     */
+    URL getUrl();
+
+    /**
+     * Return artifact uploads and downloads served by the repository so far.
+     *
+     * @return Artifact transfers in order they finished.
+     */
+    List<ArtifactTransfer> getArtifactTransfers();
+}
@@ -44,6 +44,11 @@ public class DeploymentConstants implements Constants {
 
     public static final String DEFAULT_DOMAIN_SUFFIX = "default.domain.suffix";
 
+    /**
+     * If set to false then every test deploys its own scenario even if the test allows sharing the scenario with other tests.
+     */
+    public static final String SCENARIO_SHARING_ENABLED = "scenario.sharing.enabled";
+
     public static String getKieServerUser() {
         return System.getProperty(KIE_SERVER_USER);
     }
@@ -103,4 +108,8 @@ public class DeploymentConstants implements Constants {
     public static String getDefaultDomainSuffix() {
         return System.getProperty(DEFAULT_DOMAIN_SUFFIX);
     }
+
+    public static boolean isScenarioSharingEnabled() {
+        return Boolean.parseBoolean(System.getProperty(SCENARIO_SHARING_ENABLED, "true"));
+    }
 }
@@ -32,6 +32,13 @@ public interface DeploymentScenario {
      */
     String getNamespace();
 
+    /**
+     * Return fingerprint of deployment scenario settings. Scenarios with equal fingerprint deploy equal environment.
+     *
+     * @return deployment scenario fingerprint.
+     */
+    String getFingerprint();
+
     /**
      * Create and deploy deployment scenario.
      *
@@ -17,6 +17,7 @@ package org.kie.cloud.api.scenario;
 
 import java.util.List;
 import org.kie.cloud.api.deployment.KieServerDeployment;
+import org.kie.cloud.api.deployment.MavenRepositoryDeployment;
 import org.kie.cloud.api.deployment.SmartRouterDeployment;
 import org.kie.cloud.api.deployment.WorkbenchDeployment;
 
@@ -45,4 +46,12 @@ public interface GenericScenario extends DeploymentScenario {
      * @see SmartRouterDeployment
      */
     List<SmartRouterDeployment> getSmartRouterDeployments();
+
+    /**
+     * Return Maven repository deployed in scenario namespace.
+     *
+     * @return MavenRepositoryDeployment, null if scenario doesn't contain Maven repository.
+     * @see MavenRepositoryDeployment
+     */
+    MavenRepositoryDeployment getMavenRepositoryDeployment();
 }
@@ -61,4 +61,13 @@ public interface GenericScenarioBuilder extends DeploymentScenarioBuilder<Generi
      */
     GenericScenarioBuilder withSmartRouter(DeploymentSettings smartRouterSettings);
 
+    /**
+     * Return scenario Builder with added Maven repository deployment into
+     * scenario. Repository is deployed before Kie Servers, so they can connect
+     * to it using its service name.
+     *
+     * @return Builder
+     * @see org.kie.cloud.api.deployment.MavenRepositoryDeployment
+     */
+    GenericScenarioBuilder withMavenRepository();
 }
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.cloud.benchmark;
+
+import java.util.Collection;
+import java.util.Collections;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.profile.InternalProfiler;
+import org.openjdk.jmh.results.AggregationPolicy;
+import org.openjdk.jmh.results.IterationResult;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.ScalarResult;
+import org.openjdk.jmh.runner.Defaults;
+
+/**
+ * Report number of requests received by {@link MockOpenShiftApi} per benchmark operation.
+ * Enabled by <code>-prof org.kie.cloud.benchmark.ApiCallProfiler</code>, {@link BenchmarkRunner} enables it by default.
+ */
+public class ApiCallProfiler implements InternalProfiler {
+
+    private long requestCountBeforeIteration;
+
+    @Override
+    public String getDescription() {
+        return "Number of OpenShift API calls per operation";
+    }
+
+    @Override
+    public void beforeIteration(BenchmarkParams benchmarkParams, IterationParams iterationParams) {
+        requestCountBeforeIteration = MockOpenShiftApi.getRequestCount();
+    }
+
+    @Override
+    public Collection<? extends Result> afterIteration(BenchmarkParams benchmarkParams, IterationParams iterationParams, IterationResult result) {
+        long requests = MockOpenShiftApi.getRequestCount() - requestCountBeforeIteration;
+        long operations = result.getMetadata().getMeasuredOps();
+        double requestsPerOperation = operations == 0 ? Double.NaN : (double) requests / operations;
+        return Collections.singletonList(new ScalarResult(Defaults.PREFIX + "api.calls", requestsPerOperation, "calls/op", AggregationPolicy.AVG));
+    }
+}
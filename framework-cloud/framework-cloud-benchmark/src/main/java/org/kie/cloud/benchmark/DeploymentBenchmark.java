@@ -0,0 +1,69 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.cloud.benchmark;
+
+import java.net.URL;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.kie.cloud.api.deployment.Instance;
+import org.kie.cloud.openshift.deployment.KieServerDeploymentImpl;
+import org.kie.cloud.openshift.resource.Service;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Framework reads of deployments and their resources.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DeploymentBenchmark {
+
+    @Benchmark
+    public List<Instance> getInstances(MockOpenShiftState state) {
+        return state.createKieServerDeployment().getInstances();
+    }
+
+    /**
+     * Route URI is resolved by the first URL request of a deployment.
+     */
+    @Benchmark
+    public URL getRouteUri(MockOpenShiftState state) {
+        return state.createKieServerDeployment().getUrl();
+    }
+
+    @Benchmark
+    public Service getService(MockOpenShiftState state) {
+        return state.getController().getProject(MockOpenShiftState.PROJECT_NAME).getService(state.createKieServerDeployment().getServiceName());
+    }
+
+    /**
+     * All pods are ready, measures cost of checking the readiness.
+     */
+    @Benchmark
+    public void waitUntilAllPodsAreReady(MockOpenShiftState state) {
+        KieServerDeploymentImpl deployment = state.createKieServerDeployment();
+        state.getController().getProject(MockOpenShiftState.PROJECT_NAME).getService(deployment.getServiceName()).getDeploymentConfig().waitUntilAllPodsAreReady();
+    }
+}
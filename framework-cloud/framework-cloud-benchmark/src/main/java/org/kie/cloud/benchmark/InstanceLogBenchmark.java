@@ -0,0 +1,84 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.cloud.benchmark;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.kie.cloud.api.deployment.Deployment;
+import org.kie.cloud.api.scenario.DeploymentScenario;
+import org.kie.cloud.common.logs.InstanceLogUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Collection of instance logs done at scenario undeploy.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InstanceLogBenchmark {
+
+    @Benchmark
+    public void writeDeploymentLogs(MockOpenShiftState state) {
+        InstanceLogUtil.writeDeploymentLogs(new BenchmarkScenario(state.createKieServerDeployment()));
+    }
+
+    /**
+     * Scenario wrapping already existing deployment, it can't be deployed or undeployed.
+     */
+    private static class BenchmarkScenario implements DeploymentScenario {
+
+        private final Deployment deployment;
+
+        private BenchmarkScenario(Deployment deployment) {
+            this.deployment = deployment;
+        }
+
+        @Override
+        public String getNamespace() {
+            return deployment.getNamespace();
+        }
+
+        @Override
+        public String getFingerprint() {
+            return getClass().getName();
+        }
+
+        @Override
+        public void deploy() {
+            throw new UnsupportedOperationException("Benchmark scenario can't be deployed.");
+        }
+
+        @Override
+        public void undeploy() {
+            throw new UnsupportedOperationException("Benchmark scenario can't be undeployed.");
+        }
+
+        @Override
+        public List<Deployment> getDeployments() {
+            return Collections.singletonList(deployment);
+        }
+    }
+}
@@ -0,0 +1,325 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.cloud.benchmark;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.ServiceBuilder;
+import io.fabric8.kubernetes.client.server.mock.KubernetesCrudDispatcher;
+import io.fabric8.mockwebserver.Context;
+import io.fabric8.mockwebserver.ServerRequest;
+import io.fabric8.mockwebserver.ServerResponse;
+import io.fabric8.openshift.api.model.DeploymentConfigBuilder;
+import io.fabric8.openshift.api.model.ProjectBuilder;
+import io.fabric8.openshift.api.model.RouteBuilder;
+import io.fabric8.openshift.client.OpenShiftClient;
+import io.fabric8.openshift.client.server.mock.OpenShiftMockServer;
+import okhttp3.Response;
+import okhttp3.WebSocket;
+import okhttp3.WebSocketListener;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.kie.cloud.openshift.OpenShiftController;
+import org.kie.cloud.openshift.resource.OpenShiftResourceConstants;
+
+/**
+ * Local OpenShift API server keeping resources in memory, every response is delayed by configured latency.
+ * Requests are counted so benchmarks can report number of API calls per operation.
+ */
+public class MockOpenShiftApi implements Closeable {
+
+    // Static as the count is read by profiler which has no access to benchmark state
+    private static final AtomicLong requestCount = new AtomicLong();
+
+    private static final String POD_READY_CONDITION = "Ready";
+    private static final String LOG_SUBRESOURCE = "/log";
+    private static final String WATCH_PARAMETER = "watch=true";
+    private static final String LABEL_SELECTOR_PARAMETER = "labelSelector=";
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final OpenShiftMockServer mockServer;
+    private final OpenShiftController controller;
+
+    public MockOpenShiftApi(Duration latency, String logContent) {
+        Dispatcher dispatcher = new LatencyDispatcher(new KubernetesCrudDispatcher(), latency, logContent);
+        mockServer = new OpenShiftMockServer(new Context(), new MockWebServer(), new HashMap<ServerRequest, Queue<ServerResponse>>(), dispatcher, false);
+        mockServer.init();
+        // Controller builds its own client from mock configuration so requests pass through the same interceptors as against real cluster
+        controller = new OpenShiftController(mockServer.createOpenShiftClient().getConfiguration());
+    }
+
+    /**
+     * @return Number of requests received by all mock API servers in this JVM.
+     */
+    public static long getRequestCount() {
+        return requestCount.get();
+    }
+
+    public OpenShiftController getController() {
+        return controller;
+    }
+
+    public OpenShiftClient getClient() {
+        return controller.getClient();
+    }
+
+    public void createProject(String projectName) {
+        getClient().projects().create(new ProjectBuilder()
+                .withNewMetadata()
+                    .withName(projectName)
+                .endMetadata()
+                .withNewStatus()
+                    .withPhase("Active")
+                .endStatus()
+                .build());
+    }
+
+    /**
+     * Create service with route and deployment config having the service name, deployment config has given number of ready pods.
+     */
+    public void createDeployment(String projectName, String serviceName, int pods) {
+        getClient().services().inNamespace(projectName).create(new ServiceBuilder()
+                .withNewMetadata()
+                    .withName(serviceName)
+                    .withNamespace(projectName)
+                .endMetadata()
+                .withNewSpec()
+                    .withSelector(Collections.singletonMap("deploymentconfig", serviceName))
+                .endSpec()
+                .build());
+        getClient().routes().inNamespace(projectName).create(new RouteBuilder()
+                .withNewMetadata()
+                    .withName(serviceName)
+                    .withNamespace(projectName)
+                .endMetadata()
+                .withNewSpec()
+                    .withHost(serviceName + "-" + projectName + ".benchmark.local")
+                    .withNewTo()
+                        .withKind(OpenShiftResourceConstants.ROUTE_REDIRECT_COMPONENT_TYPE)
+                        .withName(serviceName)
+                    .endTo()
+                .endSpec()
+                .build());
+        getClient().deploymentConfigs().inNamespace(projectName).create(new DeploymentConfigBuilder()
+                .withNewMetadata()
+                    .withName(serviceName)
+                    .withNamespace(projectName)
+                .endMetadata()
+                .withNewSpec()
+                    .withReplicas(pods)
+                .endSpec()
+                .build());
+        for (int i = 0; i < pods; i++) {
+            getClient().pods().inNamespace(projectName).create(new PodBuilder()
+                    .withNewMetadata()
+                        .withName(serviceName + "-1-" + i)
+                        .withNamespace(projectName)
+                        .addToLabels(OpenShiftResourceConstants.DEPLOYMENT_CONFIG_LABEL, serviceName)
+                    .endMetadata()
+                    .withNewStatus()
+                        .withPhase("Running")
+                        .addNewCondition()
+                            .withType(POD_READY_CONDITION)
+                            .withStatus("True")
+                            .withLastTransitionTime("2017-01-01T00:00:00Z")
+                        .endCondition()
+                        .withStartTime("2017-01-01T00:00:00Z")
+                    .endStatus()
+                    .build());
+        }
+    }
+
+    @Override
+    public void close() {
+        controller.close();
+        mockServer.destroy();
+    }
+
+    /**
+     * Delays and counts requests handled by the delegate. Pod logs and watches aren't supported by CRUD dispatcher, so they are served directly.
+     * Watches are websockets notified about every successful write to the watched collection, label selector is matched by equality only.
+     */
+    private static class LatencyDispatcher extends Dispatcher {
+
+        private final Dispatcher delegate;
+        private final Duration latency;
+        private final String logContent;
+
+        private final Map<WebSocket, WatchedCollection> watches = new ConcurrentHashMap<>();
+        // Last known state of resources by resource path, needed to send deleted resource to watches
+        private final Map<String, String> resources = new ConcurrentHashMap<>();
+
+        private LatencyDispatcher(Dispatcher delegate, Duration latency, String logContent) {
+            this.delegate = delegate;
+            this.latency = latency;
+            this.logContent = logContent;
+        }
+
+        @Override
+        public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+            requestCount.incrementAndGet();
+            if (!latency.isZero()) {
+                Thread.sleep(latency.toMillis());
+            }
+            String[] pathAndQuery = request.getPath().split("\\?", 2);
+            String path = pathAndQuery[0];
+            String query = pathAndQuery.length > 1 ? pathAndQuery[1] : "";
+            if (path.endsWith(LOG_SUBRESOURCE)) {
+                return new MockResponse().setResponseCode(200).setBody(logContent);
+            }
+            if (query.contains(WATCH_PARAMETER)) {
+                return new MockResponse().withWebSocketUpgrade(new WatchListener(new WatchedCollection(path, getLabelSelector(query))));
+            }
+            MockResponse response = delegate.dispatch(request);
+            if (!"GET".equals(request.getMethod()) && isSuccessful(response)) {
+                notifyWatches(request.getMethod(), path, response);
+            }
+            return response;
+        }
+
+        private void notifyWatches(String method, String path, MockResponse response) {
+            String resource;
+            String collectionPath;
+            if ("POST".equals(method)) {
+                resource = response.getBody().clone().readUtf8();
+                collectionPath = path;
+                path = path + "/" + getName(resource);
+            } else {
+                resource = "DELETE".equals(method) ? resources.get(path) : response.getBody().clone().readUtf8();
+                collectionPath = path.substring(0, path.lastIndexOf('/'));
+            }
+            if (resource == null || resource.isEmpty()) {
+                return;
+            }
+
+            String eventType;
+            if ("DELETE".equals(method)) {
+                resources.remove(path);
+                eventType = "DELETED";
+            } else {
+                resources.put(path, resource);
+                eventType = "POST".equals(method) ? "ADDED" : "MODIFIED";
+            }
+
+            JsonNode labels = readTree(resource).path("metadata").path("labels");
+            String event = "{\"type\":\"" + eventType + "\",\"object\":" + resource + "}";
+            watches.forEach((webSocket, watchedCollection) -> {
+                if (watchedCollection.matches(collectionPath, labels)) {
+                    webSocket.send(event);
+                }
+            });
+        }
+
+        private class WatchListener extends WebSocketListener {
+
+            private final WatchedCollection watchedCollection;
+
+            private WatchListener(WatchedCollection watchedCollection) {
+                this.watchedCollection = watchedCollection;
+            }
+
+            @Override
+            public void onOpen(WebSocket webSocket, Response response) {
+                watches.put(webSocket, watchedCollection);
+            }
+
+            @Override
+            public void onClosing(WebSocket webSocket, int code, String reason) {
+                watches.remove(webSocket);
+                webSocket.close(code, reason);
+            }
+
+            @Override
+            public void onFailure(WebSocket webSocket, Throwable t, Response response) {
+                watches.remove(webSocket);
+            }
+        }
+    }
+
+    private static class WatchedCollection {
+
+        private final String collectionPath;
+        private final Map<String, String> labelSelector;
+
+        private WatchedCollection(String collectionPath, Map<String, String> labelSelector) {
+            this.collectionPath = collectionPath;
+            this.labelSelector = labelSelector;
+        }
+
+        private boolean matches(String resourceCollectionPath, JsonNode labels) {
+            return collectionPath.equals(resourceCollectionPath) &&
+                    labelSelector.entrySet().stream().allMatch(e -> e.getValue().equals(labels.path(e.getKey()).asText(null)));
+        }
+    }
+
+    private static boolean isSuccessful(MockResponse response) {
+        // Status line has format "HTTP/1.1 200 OK"
+        String[] status = response.getStatus().split(" ");
+        return status.length > 1 && status[1].startsWith("2");
+    }
+
+    private static String getName(String resource) {
+        return readTree(resource).path("metadata").path("name").asText();
+    }
+
+    private static JsonNode readTree(String resource) {
+        try {
+            return objectMapper.readTree(resource);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error while parsing resource " + resource, e);
+        }
+    }
+
+    private static Map<String, String> getLabelSelector(String query) {
+        Map<String, String> labelSelector = new HashMap<>();
+        for (String parameter : query.split("&")) {
+            if (parameter.startsWith(LABEL_SELECTOR_PARAMETER)) {
+                for (String requirement : decode(parameter.substring(LABEL_SELECTOR_PARAMETER.length())).split(",")) {
+                    String[] keyValue = requirement.split("==?", 2);
+                    if (keyValue.length == 2) {
+                        labelSelector.put(keyValue[0], keyValue[1]);
+                    }
+                }
+            }
+        }
+        return labelSelector;
+    }
+
+    private static String decode(String value) {
+        try {
+            return URLDecoder.decode(value, "UTF-8");
+        } catch (UnsupportedEncodingException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.cloud.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Duration;
+
+import org.apache.commons.io.FileUtils;
+import org.kie.cloud.openshift.OpenShiftController;
+import org.kie.cloud.openshift.deployment.KieServerDeploymentImpl;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Mock OpenShift API with one project containing Kie server deployment.
+ */
+@State(Scope.Benchmark)
+public class MockOpenShiftState {
+
+    public static final String PROJECT_NAME = "benchmark";
+    public static final String APPLICATION_NAME = "myapp";
+
+    private static final String INSTANCE_LOGS_PROPERTY = "instance.logs";
+    private static final String LOG_LINE = "INFO  [org.kie.server.services.impl.KieServerImpl] Kie server is ready to receive requests\n";
+
+    /**
+     * Latency of every API request in milliseconds.
+     */
+    @Param({"0", "5"})
+    public int latencyMillis;
+
+    /**
+     * Whether reads are served by the namespace resource cache or go directly to the API.
+     */
+    @Param({"true", "false"})
+    public boolean resourceCache;
+
+    @Param({"3"})
+    public int pods;
+
+    @Param({"1000"})
+    public int logLines;
+
+    private MockOpenShiftApi mockApi;
+    private File instanceLogsDirectory;
+
+    @Setup
+    public void setUp() throws IOException {
+        StringBuilder logContent = new StringBuilder();
+        for (int i = 0; i < logLines; i++) {
+            logContent.append(LOG_LINE);
+        }
+        mockApi = new MockOpenShiftApi(Duration.ofMillis(latencyMillis), logContent.toString());
+        mockApi.createProject(PROJECT_NAME);
+        if (!resourceCache) {
+            mockApi.getController().disableResourceCache(PROJECT_NAME);
+        }
+
+        KieServerDeploymentImpl deployment = createKieServerDeployment();
+        mockApi.createDeployment(PROJECT_NAME, deployment.getServiceName(), pods);
+        mockApi.createDeployment(PROJECT_NAME, deployment.getSecureServiceName(), 0);
+
+        instanceLogsDirectory = Files.createTempDirectory("benchmark-instance-logs").toFile();
+        System.setProperty(INSTANCE_LOGS_PROPERTY, instanceLogsDirectory.getAbsolutePath());
+    }
+
+    @TearDown
+    public void tearDown() {
+        mockApi.close();
+        System.clearProperty(INSTANCE_LOGS_PROPERTY);
+        FileUtils.deleteQuietly(instanceLogsDirectory);
+    }
+
+    public MockOpenShiftApi getMockApi() {
+        return mockApi;
+    }
+
+    public OpenShiftController getController() {
+        return mockApi.getController();
+    }
+
+    /**
+     * @return New deployment instance, so no URL resolved by previous invocation is reused.
+     */
+    public KieServerDeploymentImpl createKieServerDeployment() {
+        KieServerDeploymentImpl deployment = new KieServerDeploymentImpl();
+        deployment.setOpenShiftController(mockApi.getController());
+        deployment.setNamespace(PROJECT_NAME);
+        deployment.setServiceName(APPLICATION_NAME);
+        deployment.setSecureServiceName(APPLICATION_NAME);
+        return deployment;
+    }
+}
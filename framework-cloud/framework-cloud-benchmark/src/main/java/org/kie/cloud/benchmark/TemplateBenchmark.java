@@ -0,0 +1,81 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.cloud.benchmark;
+
+import java.net.URL;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.kie.cloud.openshift.constants.OpenShiftConstants;
+import org.kie.cloud.openshift.resource.impl.ProjectImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Processing of Kie server template and creation of its resources.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TemplateBenchmark {
+
+    private static final String TEMPLATE_RESOURCE = "/benchmark-kie-server-template.json";
+
+    @Param({"true", "false"})
+    public boolean templateCache;
+
+    private URL templateUrl;
+    private Map<String, String> envVariables;
+    private int projectNumber = 0;
+
+    @Setup
+    public void setUp() {
+        System.setProperty(OpenShiftConstants.TEMPLATE_CACHE_ENABLED, String.valueOf(templateCache));
+        templateUrl = TemplateBenchmark.class.getResource(TEMPLATE_RESOURCE);
+        envVariables = new HashMap<>();
+        envVariables.put("APPLICATION_NAME", MockOpenShiftState.APPLICATION_NAME);
+        envVariables.put("KIE_SERVER_USER", "executionUser");
+        envVariables.put("KIE_SERVER_PWD", "execution1!");
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.clearProperty(OpenShiftConstants.TEMPLATE_CACHE_ENABLED);
+    }
+
+    /**
+     * Resources are created in a new project every invocation, mock API would reject already existing resources.
+     */
+    @Benchmark
+    public void processTemplateAndCreateResources(MockOpenShiftState state) {
+        String projectName = "template-" + projectNumber++;
+        new ProjectImpl(state.getMockApi().getClient(), projectName).processTemplateAndCreateResources(templateUrl, envVariables);
+    }
+}
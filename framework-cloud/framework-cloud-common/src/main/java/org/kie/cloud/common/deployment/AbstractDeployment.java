@@ -0,0 +1,80 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.cloud.common.deployment;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BiConsumer;
+
+import org.kie.cloud.api.deployment.Deployment;
+import org.kie.cloud.api.deployment.Instance;
+import org.kie.cloud.common.provider.KieServerClientProvider;
+import org.kie.cloud.common.util.DaemonThreadFactory;
+
+/**
+ * Behaviour shared by deployments of all cloud implementations, asynchronous operations are derived from their blocking
+ * variants.
+ */
+public abstract class AbstractDeployment implements Deployment {
+
+    // Shared by all deployments, scaling threads mostly wait for pods so number of threads isn't limited
+    private static final ExecutorService scalingExecutorService = Executors.newCachedThreadPool(new DaemonThreadFactory("deployment-scaling"));
+
+    /**
+     * Change number of instances of the deployment in the cloud.
+     *
+     * @param instances Number of deployment instances to be available.
+     */
+    protected abstract void scaleInstances(int instances);
+
+    @Override
+    public void scale(int instances) {
+        scaleInstances(instances);
+        if (instances == 0) {
+            // Pooled clients can't be reused once the deployment is scaled up again
+            KieServerClientProvider.invalidateClients(this);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> scaleAsync(int instances) {
+        return CompletableFuture.runAsync(() -> scale(instances), scalingExecutorService);
+    }
+
+    @Override
+    public CompletableFuture<Void> waitForScaleAsync() {
+        return CompletableFuture.runAsync(this::waitForScale, scalingExecutorService);
+    }
+
+    @Override
+    public Map<Instance, CompletableFuture<Integer>> runCommandAsync(Duration timeout, BiConsumer<Instance, String> outputConsumer, BiConsumer<Instance, String> errorConsumer, String... command) {
+        Map<Instance, CompletableFuture<Integer>> exitCodes = new LinkedHashMap<>();
+        for (Instance instance : getInstances()) {
+            exitCodes.put(instance, instance.runCommandAsync(timeout, line -> outputConsumer.accept(instance, line), line -> errorConsumer.accept(instance, line), command));
+        }
+        return exitCodes;
+    }
+
+    @Override
+    public void deleteInstances(Instance... instance) {
+        deleteInstances(Arrays.asList(instance));
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.cloud.common.logs;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Aho-Corasick automaton matching set of texts in a byte stream in one pass. Texts are matched in their UTF-8 form,
+ * so scanned bytes don't need to be decoded.
+ */
+public class AhoCorasickMatcher {
+
+    private static final int ALPHABET_SIZE = 256;
+    private static final int[] NO_MATCHES = new int[0];
+
+    private final List<String> texts;
+    // Complete transition table, every state has transition for every byte
+    private final int[][] transitions;
+    // Indexes of texts ending in the state
+    private final int[][] matches;
+
+    public AhoCorasickMatcher(List<String> texts) {
+        this.texts = new ArrayList<>(texts);
+
+        List<int[]> trie = new ArrayList<>();
+        List<int[]> trieMatches = new ArrayList<>();
+        trie.add(newState());
+        trieMatches.add(NO_MATCHES);
+
+        for (int i = 0; i < texts.size(); i++) {
+            byte[] text = texts.get(i).getBytes(StandardCharsets.UTF_8);
+            if (text.length == 0) {
+                throw new IllegalArgumentException("Empty text cannot be matched.");
+            }
+            int state = 0;
+            for (byte b : text) {
+                int next = trie.get(state)[b & 0xFF];
+                if (next < 0) {
+                    next = trie.size();
+                    trie.get(state)[b & 0xFF] = next;
+                    trie.add(newState());
+                    trieMatches.add(NO_MATCHES);
+                }
+                state = next;
+            }
+            trieMatches.set(state, append(trieMatches.get(state), i));
+        }
+
+        transitions = trie.toArray(new int[trie.size()][]);
+        matches = trieMatches.toArray(new int[trieMatches.size()][]);
+        buildFailureTransitions();
+    }
+
+    /**
+     * @return Texts matched by this matcher, text index used by {@link #getMatches(int)} is position in this list.
+     */
+    public List<String> getTexts() {
+        return texts;
+    }
+
+    /**
+     * @return State before any byte is scanned.
+     */
+    public int getInitialState() {
+        return 0;
+    }
+
+    /**
+     * @return State after scanning the byte.
+     */
+    public int next(int state, byte b) {
+        return transitions[state][b & 0xFF];
+    }
+
+    /**
+     * @return Indexes of texts ending at the last byte scanned to reach the state.
+     */
+    public int[] getMatches(int state) {
+        return matches[state];
+    }
+
+    private void buildFailureTransitions() {
+        int[] failure = new int[transitions.length];
+        Deque<Integer> queue = new ArrayDeque<>();
+
+        for (int b = 0; b < ALPHABET_SIZE; b++) {
+            int next = transitions[0][b];
+            if (next < 0) {
+                transitions[0][b] = 0;
+            } else {
+                failure[next] = 0;
+                queue.add(next);
+            }
+        }
+
+        // Breadth first, so failure state of every state is complete before the state is processed
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            matches[state] = concat(matches[state], matches[failure[state]]);
+            for (int b = 0; b < ALPHABET_SIZE; b++) {
+                int next = transitions[state][b];
+                if (next < 0) {
+                    transitions[state][b] = transitions[failure[state]][b];
+                } else {
+                    failure[next] = transitions[failure[state]][b];
+                    queue.add(next);
+                }
+            }
+        }
+    }
+
+    private static int[] newState() {
+        int[] state = new int[ALPHABET_SIZE];
+        Arrays.fill(state, -1);
+        return state;
+    }
+
+    private static int[] append(int[] array, int value) {
+        int[] result = Arrays.copyOf(array, array.length + 1);
+        result[array.length] = value;
+        return result;
+    }
+
+    private static int[] concat(int[] first, int[] second) {
+        if (second.length == 0) {
+            return first;
+        }
+        int[] result = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, result, first.length, second.length);
+        return result;
+    }
+}
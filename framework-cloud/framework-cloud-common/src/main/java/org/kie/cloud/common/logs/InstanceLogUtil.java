@@ -15,11 +15,22 @@
 
 package org.kie.cloud.common.logs;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.GZIPOutputStream;
 
-import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.output.CountingOutputStream;
 import org.kie.cloud.api.deployment.Deployment;
 import org.kie.cloud.api.deployment.Instance;
 import org.kie.cloud.api.scenario.DeploymentScenario;
@@ -28,34 +39,122 @@ public class InstanceLogUtil {
 
     private static final String INSTANCES_LOGS_OUTPUT_DIRECTORY = "instance.logs";
     private static final String DEFAULT_LOG_OUTPUT_DIRECTORY = "instances";
+    // If true then instance logs are gzip compressed
+    private static final String INSTANCES_LOGS_COMPRESS = "instance.logs.compress";
+    // If true then logs of previous containers of restarted instances are written too
+    private static final String INSTANCES_LOGS_PREVIOUS = "instance.logs.previous";
+    private static final String INSTANCES_LOGS_THREADS = "instance.logs.threads";
     private static final String LOG_SUFFIX = ".log";
+    private static final String PREVIOUS_LOG_SUFFIX = "-previous";
+    private static final String COMPRESSED_LOG_SUFFIX = ".gz";
+    private static final String DEFAULT_LOG_THREADS = "8";
+    private static final int LOG_BUFFER_SIZE = 64 * 1024;
+    private static final String LEASE_DIRECTORY_SUFFIX = "-lease-";
 
-    public static void writeInstanceLogs(Instance instance) {
+    // Number of leases of namespaces reused by namespace pool
+    private static final Map<String, Integer> namespaceLeases = new ConcurrentHashMap<>();
+
+    /**
+     * @return Root directory of instance logs.
+     */
+    public static File getOutputDirectory() {
         File outputDirectory = new File(System.getProperty(INSTANCES_LOGS_OUTPUT_DIRECTORY, DEFAULT_LOG_OUTPUT_DIRECTORY));
-        if (!outputDirectory.isDirectory()) {
-            outputDirectory.mkdir();
-        }
-        outputDirectory = new File(outputDirectory, instance.getNamespace());
-        if (!outputDirectory.isDirectory()) {
-            outputDirectory.mkdir();
-        }
+        outputDirectory.mkdirs();
+        return outputDirectory;
+    }
 
-        File logFile = new File(outputDirectory, instance.getName() + LOG_SUFFIX);
-        try {
-            FileUtils.write(logFile, instance.getLogs(), "UTF-8");
-        } catch (IOException e) {
-            throw new RuntimeException("Error writting instance logs", e);
+    /**
+     * @return Directory of instance logs for the current lease of the namespace.
+     */
+    public static File getOutputDirectory(String namespace) {
+        File outputDirectory = new File(getOutputDirectory(), getNamespaceDirectoryName(namespace));
+        // Called concurrently, mkdirs doesn't fail if directory was created meanwhile by other thread
+        outputDirectory.mkdirs();
+        return outputDirectory;
+    }
+
+    /**
+     * Start new lease of namespace reused by namespace pool. Logs, timeline and metrics of every further lease are
+     * written to directory with lease number suffix, so they don't overwrite files of previous leases.
+     *
+     * @param namespace Namespace name.
+     */
+    public static void startNamespaceLease(String namespace) {
+        namespaceLeases.merge(namespace, 1, Integer::sum);
+    }
+
+    static String getNamespaceDirectoryName(String namespace) {
+        int lease = namespaceLeases.getOrDefault(namespace, 1);
+        return lease > 1 ? namespace + LEASE_DIRECTORY_SUFFIX + lease : namespace;
+    }
+
+    /**
+     * Stream instance logs to a file in namespace log directory, logs aren't loaded into memory.
+     */
+    public static void writeInstanceLogs(Instance instance) {
+        File outputDirectory = getOutputDirectory(instance.getNamespace());
+        writeLogFile(instance, new File(outputDirectory, getLogFileName(instance.getName())), false);
+
+        if (Boolean.parseBoolean(System.getProperty(INSTANCES_LOGS_PREVIOUS))) {
+            File previousLogFile = new File(outputDirectory, getLogFileName(instance.getName() + PREVIOUS_LOG_SUFFIX));
+            if (writeLogFile(instance, previousLogFile, true) == 0) {
+                // Instance wasn't restarted
+                previousLogFile.delete();
+            }
         }
     }
 
+    /**
+     * Write logs of all scenario instances, logs are retrieved concurrently.
+     */
     public static void writeDeploymentLogs(DeploymentScenario deploymentScenario) {
+        List<Instance> instances = new ArrayList<>();
         for(Deployment deployment : deploymentScenario.getDeployments()) {
             if (deployment != null) {
-                List<Instance> instances = deployment.getInstances();
-                for (Instance instance : instances) {
-                    writeInstanceLogs(instance);
-                }
+                instances.addAll(deployment.getInstances());
+            }
+        }
+        if (instances.isEmpty()) {
+            return;
+        }
+
+        ExecutorService executorService = Executors.newFixedThreadPool(Math.min(instances.size(), Integer.parseInt(System.getProperty(INSTANCES_LOGS_THREADS, DEFAULT_LOG_THREADS))));
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (Instance instance : instances) {
+                futures.add(executorService.submit(() -> writeInstanceLogs(instance)));
             }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while writing instance logs", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Error writting instance logs", e.getCause());
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    /**
+     * @return Number of log bytes written before compression.
+     */
+    private static long writeLogFile(Instance instance, File logFile, boolean previous) {
+        try (OutputStream fileOutput = new BufferedOutputStream(new FileOutputStream(logFile), LOG_BUFFER_SIZE);
+             CountingOutputStream logOutput = new CountingOutputStream(isCompressionEnabled() ? new GZIPOutputStream(fileOutput, LOG_BUFFER_SIZE) : fileOutput)) {
+            instance.writeLogs(logOutput, previous);
+            return logOutput.getByteCount();
+        } catch (IOException e) {
+            throw new RuntimeException("Error writting instance logs", e);
         }
     }
+
+    private static String getLogFileName(String name) {
+        return name + LOG_SUFFIX + (isCompressionEnabled() ? COMPRESSED_LOG_SUFFIX : "");
+    }
+
+    private static boolean isCompressionEnabled() {
+        return Boolean.parseBoolean(System.getProperty(INSTANCES_LOGS_COMPRESS));
+    }
 }
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.cloud.common.logs;
+
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Incrementally growing copy of instance log. Texts are searched by {@link AhoCorasickMatcher}s remembering how far
+ * they have scanned the log, so repeated searches for the same texts process only log written since previous search.
+ * Only the end of the log up to the maximal retained size is kept in memory. Texts already searched for are matched
+ * against the whole log, texts searched for the first time only against the retained part.
+ */
+public class LogBuffer extends OutputStream {
+
+    private static final int CHUNK_SIZE = 64 * 1024;
+    private static final long DEFAULT_MAX_RETAINED_BYTES = 64L * 1024 * 1024;
+
+    private final int maxRetainedChunks;
+    private final List<byte[]> chunks = new ArrayList<>();
+    private final Map<List<String>, MatchState> matchStates = new HashMap<>();
+    private long droppedChunks;
+    private long size;
+    private boolean closed;
+
+    public LogBuffer() {
+        this(DEFAULT_MAX_RETAINED_BYTES);
+    }
+
+    /**
+     * @param maxRetainedBytes Maximal size of log kept in memory, rounded up to whole chunks of 64 kB.
+     */
+    public LogBuffer(long maxRetainedBytes) {
+        this.maxRetainedChunks = (int) Math.max(1, (maxRetainedBytes + CHUNK_SIZE - 1) / CHUNK_SIZE);
+    }
+
+    @Override
+    public synchronized void write(int b) {
+        write(new byte[] {(byte) b}, 0, 1);
+    }
+
+    @Override
+    public synchronized void write(byte[] b, int off, int len) {
+        while (len > 0) {
+            int chunkOffset = (int) (size % CHUNK_SIZE);
+            if (chunkOffset == 0) {
+                if (chunks.size() == maxRetainedChunks) {
+                    dropOldestChunk();
+                }
+                chunks.add(new byte[CHUNK_SIZE]);
+            }
+            int copied = Math.min(len, CHUNK_SIZE - chunkOffset);
+            System.arraycopy(b, off, chunks.get(chunks.size() - 1), chunkOffset, copied);
+            size += copied;
+            off += copied;
+            len -= copied;
+        }
+        notifyAll();
+    }
+
+    /**
+     * Mark end of the log, waiting for texts doesn't block anymore.
+     */
+    @Override
+    public synchronized void close() {
+        closed = true;
+        notifyAll();
+    }
+
+    /**
+     * @return True if log ended and no more content will be written.
+     */
+    public synchronized boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * @return Number of log bytes written so far.
+     */
+    public synchronized long size() {
+        return size;
+    }
+
+    /**
+     * @param texts Texts to be searched for.
+     * @return Number of occurrences of each text in log written so far.
+     */
+    public synchronized Map<String, Long> countMatches(String... texts) {
+        MatchState matchState = scan(Arrays.asList(texts));
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (int i = 0; i < texts.length; i++) {
+            counts.put(texts[i], matchState.counts[i]);
+        }
+        return counts;
+    }
+
+    /**
+     * Wait until log contains the text.
+     *
+     * @param text Text to be searched for.
+     * @param timeout Maximal waiting time.
+     * @return True if log contains the text, false if text didn't appear in time or log ended without it.
+     */
+    public synchronized boolean waitForMatch(String text, Duration timeout) {
+        List<String> texts = Collections.singletonList(text);
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (true) {
+            if (scan(texts).counts[0] > 0) {
+                return true;
+            }
+            long remainingNanos = deadline - System.nanoTime();
+            if (closed || remainingNanos <= 0) {
+                return false;
+            }
+            try {
+                TimeUnit.NANOSECONDS.timedWait(this, remainingNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while waiting for log to contain " + text, e);
+            }
+        }
+    }
+
+    private MatchState scan(List<String> texts) {
+        MatchState matchState = matchStates.computeIfAbsent(new ArrayList<>(texts), t -> new MatchState(new AhoCorasickMatcher(t), droppedChunks * CHUNK_SIZE));
+        scan(matchState, size);
+        return matchState;
+    }
+
+    private void scan(MatchState matchState, long end) {
+        while (matchState.position < end) {
+            byte[] chunk = chunks.get((int) (matchState.position / CHUNK_SIZE - droppedChunks));
+            int from = (int) (matchState.position % CHUNK_SIZE);
+            int to = (int) Math.min(CHUNK_SIZE, from + end - matchState.position);
+            matchState.scan(chunk, from, to);
+        }
+    }
+
+    /**
+     * Drop the oldest chunk once all searched texts are matched against it.
+     */
+    private void dropOldestChunk() {
+        long retainedStart = (droppedChunks + 1) * CHUNK_SIZE;
+        for (MatchState matchState : matchStates.values()) {
+            scan(matchState, retainedStart);
+        }
+        chunks.remove(0);
+        droppedChunks++;
+    }
+
+    private static class MatchState {
+
+        private final AhoCorasickMatcher matcher;
+        private final long[] counts;
+        private int state;
+        private long position;
+
+        MatchState(AhoCorasickMatcher matcher, long position) {
+            this.matcher = matcher;
+            this.counts = new long[matcher.getTexts().size()];
+            this.state = matcher.getInitialState();
+            this.position = position;
+        }
+
+        void scan(byte[] bytes, int from, int to) {
+            for (int i = from; i < to; i++) {
+                state = matcher.next(state, bytes[i]);
+                for (int match : matcher.getMatches(state)) {
+                    counts[match]++;
+                }
+            }
+            position += to - from;
+        }
+    }
+}
@@ -0,0 +1,304 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.cloud.common.metrics;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+
+import org.apache.commons.io.FileUtils;
+import org.kie.cloud.common.logs.InstanceLogUtil;
+import org.kie.cloud.common.report.RunSummary;
+
+/**
+ * Metrics of calls to cloud API server in one namespace, grouped by verb, resource type and calling framework method.
+ * Every call is also added to the summary of the whole test run, including calls which don't belong to any namespace.
+ * Metrics are exported as CSV next to the instance logs, the summary is written when JVM exits.
+ */
+public class ApiCallMetrics {
+
+    /**
+     * Namespace used for calls of cluster scoped resources, such as projects.
+     */
+    public static final String CLUSTER_NAMESPACE = "";
+
+    private static final String METRICS_FILE_NAME = "api-calls.csv";
+    private static final String SUMMARY_FILE_NAME = "api-calls-summary.csv";
+    private static final int SUMMARY_LOGGED_CALLS = 10;
+    // Upper bounds of latency histogram buckets, the last bucket is unbounded
+    private static final long[] LATENCY_BUCKETS_MILLIS = {5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000};
+    private static final String CSV_HEADER = "verb,resourceType,caller,count,totalMillis,averageMillis,p50Millis,p95Millis,p99Millis,maxMillis,responseBytes,throttled,serverErrors"
+            + Arrays.stream(LATENCY_BUCKETS_MILLIS).mapToObj(bucket -> ",le" + bucket).collect(Collectors.joining()) + ",leInf";
+    private static final Comparator<Entry<CallKey, CallStatistics>> MOST_FREQUENT_FIRST = Comparator.comparing((Entry<CallKey, CallStatistics> e) -> e.getValue().count).reversed();
+
+    private static final Map<String, ApiCallMetrics> namespaceMetrics = new ConcurrentHashMap<>();
+    private static final ApiCallMetrics summary = new ApiCallMetrics(null);
+
+    static {
+        new SummaryWriter().writeOnExit("api-call-metrics-summary");
+    }
+
+    private final String namespace;
+    private final Map<CallKey, CallStatistics> statistics = new ConcurrentHashMap<>();
+
+    private ApiCallMetrics(String namespace) {
+        this.namespace = namespace;
+    }
+
+    /**
+     * @return Metrics of the namespace, created on first access.
+     */
+    public static ApiCallMetrics forNamespace(String namespace) {
+        return namespaceMetrics.computeIfAbsent(namespace, ApiCallMetrics::new);
+    }
+
+    /**
+     * @return Metrics of all calls done in this JVM.
+     */
+    public static ApiCallMetrics getSummary() {
+        return summary;
+    }
+
+    /**
+     * Record finished API call.
+     *
+     * @param namespace Namespace of the called resource, {@link #CLUSTER_NAMESPACE} for cluster scoped resources.
+     * @param verb Verb of the call, such as get, list or watch.
+     * @param resourceType Type of the called resource, such as pods.
+     * @param caller Framework method doing the call.
+     * @param latency Time until response was received.
+     * @param statusCode HTTP status code of the response.
+     * @param responseBytes Size of the response body, negative if unknown.
+     */
+    public static void record(String namespace, String verb, String resourceType, String caller, Duration latency, int statusCode, long responseBytes) {
+        CallKey key = new CallKey(verb, resourceType, caller);
+        if (!CLUSTER_NAMESPACE.equals(namespace)) {
+            forNamespace(namespace).add(key, latency, statusCode, responseBytes);
+        }
+        summary.add(key, latency, statusCode, responseBytes);
+    }
+
+    /**
+     * Write metrics to CSV file in instance logs directory of the namespace.
+     * Metrics are removed from the registry, later calls in the namespace start new metrics.
+     */
+    public void export() {
+        namespaceMetrics.remove(namespace, this);
+        if (statistics.isEmpty()) {
+            return;
+        }
+
+        try {
+            FileUtils.write(new File(InstanceLogUtil.getOutputDirectory(namespace), METRICS_FILE_NAME), toCsv(), "UTF-8");
+        } catch (IOException e) {
+            throw new RuntimeException("Error writing API call metrics of namespace " + namespace, e);
+        }
+    }
+
+    /**
+     * @return Total number of recorded calls.
+     */
+    public long getCallCount() {
+        return statistics.values().stream().mapToLong(CallStatistics::getCount).sum();
+    }
+
+    /**
+     * @return Number of calls done by the framework method, in form SimpleClassName.method.
+     */
+    public long getCallCount(String caller) {
+        return statistics.entrySet().stream()
+                .filter(e -> e.getKey().caller.equals(caller))
+                .mapToLong(e -> e.getValue().getCount())
+                .sum();
+    }
+
+    private void add(CallKey key, Duration latency, int statusCode, long responseBytes) {
+        statistics.computeIfAbsent(key, k -> new CallStatistics()).add(latency.toMillis(), statusCode, responseBytes);
+    }
+
+    private String toCsv() {
+        List<Entry<CallKey, CallStatistics>> rows = snapshot();
+        rows.sort(MOST_FREQUENT_FIRST);
+        return RunSummary.toCsv(CSV_HEADER, rows, ApiCallMetrics::toCsvRow);
+    }
+
+    private List<Entry<CallKey, CallStatistics>> snapshot() {
+        return statistics.entrySet().stream()
+                .map(e -> new SimpleImmutableEntry<>(e.getKey(), e.getValue().snapshot()))
+                .collect(Collectors.toList());
+    }
+
+    private static String toCsvRow(Entry<CallKey, CallStatistics> row) {
+        CallKey key = row.getKey();
+        CallStatistics callStatistics = row.getValue();
+        StringBuilder csv = new StringBuilder()
+                .append(RunSummary.escapeCsv(key.verb)).append(',')
+                .append(RunSummary.escapeCsv(key.resourceType)).append(',')
+                .append(RunSummary.escapeCsv(key.caller)).append(',')
+                .append(callStatistics.count).append(',')
+                .append(callStatistics.totalMillis).append(',')
+                .append(callStatistics.totalMillis / callStatistics.count).append(',')
+                .append(callStatistics.getPercentile(0.5)).append(',')
+                .append(callStatistics.getPercentile(0.95)).append(',')
+                .append(callStatistics.getPercentile(0.99)).append(',')
+                .append(callStatistics.maxMillis).append(',')
+                .append(callStatistics.responseBytes).append(',')
+                .append(callStatistics.throttled).append(',')
+                .append(callStatistics.serverErrors);
+        for (long bucketCount : callStatistics.latencyBuckets) {
+            csv.append(',').append(bucketCount);
+        }
+        return csv.toString();
+    }
+
+    private static long sum(Collection<Entry<CallKey, CallStatistics>> rows, ToLongFunction<CallStatistics> value) {
+        return rows.stream().map(Entry::getValue).mapToLong(value).sum();
+    }
+
+    /**
+     * Summary of all calls done in this JVM, most frequent calls are logged.
+     */
+    private static class SummaryWriter extends RunSummary<Entry<CallKey, CallStatistics>> {
+
+        private SummaryWriter() {
+            super(SUMMARY_FILE_NAME, CSV_HEADER, MOST_FREQUENT_FIRST, SUMMARY_LOGGED_CALLS);
+        }
+
+        @Override
+        protected Collection<Entry<CallKey, CallStatistics>> getRows() {
+            return summary.snapshot();
+        }
+
+        @Override
+        protected String getLogHeader(List<Entry<CallKey, CallStatistics>> rows) {
+            return String.format("API calls: total %d, throttled %d, server errors %d. Most frequent calls:",
+                    sum(rows, s -> s.count), sum(rows, s -> s.throttled), sum(rows, s -> s.serverErrors));
+        }
+
+        @Override
+        protected String toCsvRow(Entry<CallKey, CallStatistics> row) {
+            return ApiCallMetrics.toCsvRow(row);
+        }
+
+        @Override
+        protected String toLogRow(Entry<CallKey, CallStatistics> row) {
+            CallKey key = row.getKey();
+            CallStatistics callStatistics = row.getValue();
+            return String.format("%s %s from %s: count %d, total %d ms, throttled %d",
+                    key.verb, key.resourceType, key.caller, callStatistics.count, callStatistics.totalMillis, callStatistics.throttled);
+        }
+    }
+
+    private static class CallKey {
+
+        private final String verb;
+        private final String resourceType;
+        private final String caller;
+
+        private CallKey(String verb, String resourceType, String caller) {
+            this.verb = verb;
+            this.resourceType = resourceType;
+            this.caller = caller;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof CallKey)) {
+                return false;
+            }
+            CallKey other = (CallKey) obj;
+            return verb.equals(other.verb) && resourceType.equals(other.resourceType) && caller.equals(other.caller);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(verb, resourceType, caller);
+        }
+    }
+
+    private static class CallStatistics {
+
+        private long count = 0;
+        private long totalMillis = 0;
+        private long maxMillis = 0;
+        private long responseBytes = 0;
+        private long throttled = 0;
+        private long serverErrors = 0;
+        private final long[] latencyBuckets = new long[LATENCY_BUCKETS_MILLIS.length + 1];
+
+        private synchronized void add(long millis, int statusCode, long bytes) {
+            count++;
+            totalMillis += millis;
+            maxMillis = Math.max(maxMillis, millis);
+            if (bytes > 0) {
+                responseBytes += bytes;
+            }
+            if (statusCode == 429) {
+                throttled++;
+            } else if (statusCode >= 500) {
+                serverErrors++;
+            }
+            latencyBuckets[getBucket(millis)]++;
+        }
+
+        private synchronized long getCount() {
+            return count;
+        }
+
+        private synchronized CallStatistics snapshot() {
+            CallStatistics snapshot = new CallStatistics();
+            snapshot.count = count;
+            snapshot.totalMillis = totalMillis;
+            snapshot.maxMillis = maxMillis;
+            snapshot.responseBytes = responseBytes;
+            snapshot.throttled = throttled;
+            snapshot.serverErrors = serverErrors;
+            System.arraycopy(latencyBuckets, 0, snapshot.latencyBuckets, 0, latencyBuckets.length);
+            return snapshot;
+        }
+
+        /**
+         * @return Upper bound of the histogram bucket containing the percentile, max latency for the unbounded bucket.
+         */
+        private long getPercentile(double percentile) {
+            long threshold = (long) Math.ceil(count * percentile);
+            long cumulativeCount = 0;
+            for (int i = 0; i < latencyBuckets.length; i++) {
+                cumulativeCount += latencyBuckets[i];
+                if (cumulativeCount >= threshold) {
+                    return i < LATENCY_BUCKETS_MILLIS.length ? Math.min(LATENCY_BUCKETS_MILLIS[i], maxMillis) : maxMillis;
+                }
+            }
+            return maxMillis;
+        }
+
+        private static int getBucket(long millis) {
+            int bucket = Arrays.binarySearch(LATENCY_BUCKETS_MILLIS, millis);
+            return bucket >= 0 ? bucket : -bucket - 1;
+        }
+    }
+}
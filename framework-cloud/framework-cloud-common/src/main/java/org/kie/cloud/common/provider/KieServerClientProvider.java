@@ -21,9 +21,12 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
+import org.kie.cloud.api.deployment.Deployment;
 import org.kie.cloud.api.deployment.KieServerDeployment;
 import org.kie.cloud.api.deployment.SmartRouterDeployment;
+import org.kie.cloud.common.provider.KieServicesClientPool.ClientKey;
 import org.kie.server.api.KieServerConstants;
+import org.kie.server.api.marshalling.MarshallingFormat;
 import org.kie.server.api.model.KieContainerResource;
 import org.kie.server.api.model.KieContainerStatus;
 import org.kie.server.api.model.ServiceResponse;
@@ -35,9 +38,15 @@ import org.kie.server.client.QueryServicesClient;
 import org.kie.server.client.RuleServicesClient;
 import org.kie.server.client.UserTaskServicesClient;
 
+/**
+ * Provides Kie server clients. Clients are pooled per deployment and configuration, so the same client instance can be
+ * returned to several callers. Returned clients are shared and mustn't be reconfigured, for example by setting
+ * conversation id or classloader.
+ */
 public class KieServerClientProvider {
 
     private static final long KIE_SERVER_TIMEOUT = 300_000L;
+    private static final MarshallingFormat DEFAULT_MARSHALLING_FORMAT = MarshallingFormat.JAXB;
 
     public static KieServicesClient getKieServerClient(KieServerDeployment kieServerDeployment) {
         return getKieServerClient(kieServerDeployment, KIE_SERVER_TIMEOUT);
@@ -52,11 +61,23 @@ public class KieServerClientProvider {
     }
 
     public static KieServicesClient getKieServerClient(KieServerDeployment kieServerDeployment, Set<Class<?>> extraClasses, long clientTimeout) {
-        KieServicesConfiguration configuration = KieServicesFactory.newRestConfiguration(kieServerDeployment.getUrl().toString() + "/services/rest/server",
-                kieServerDeployment.getUsername(), kieServerDeployment.getPassword(), clientTimeout);
-        configuration.addExtraClasses(extraClasses);
-        KieServicesClient kieServerClient = KieServicesFactory.newKieServicesClient(configuration);
-        return kieServerClient;
+        return getKieServerClient(kieServerDeployment, extraClasses, clientTimeout, DEFAULT_MARSHALLING_FORMAT);
+    }
+
+    public static KieServicesClient getKieServerClient(KieServerDeployment kieServerDeployment, MarshallingFormat marshallingFormat) {
+        return getKieServerClient(kieServerDeployment, new HashSet<>(), KIE_SERVER_TIMEOUT, marshallingFormat);
+    }
+
+    public static KieServicesClient getKieServerClient(KieServerDeployment kieServerDeployment, Set<Class<?>> extraClasses, long clientTimeout, MarshallingFormat marshallingFormat) {
+        String url = kieServerDeployment.getUrl().toString() + "/services/rest/server";
+        ClientKey clientKey = new ClientKey(url, kieServerDeployment.getUsername(), kieServerDeployment.getPassword(), clientTimeout, marshallingFormat, extraClasses);
+        return KieServicesClientPool.getClient(kieServerDeployment, clientKey, () -> {
+            KieServicesConfiguration configuration = KieServicesFactory.newRestConfiguration(url,
+                    kieServerDeployment.getUsername(), kieServerDeployment.getPassword(), clientTimeout);
+            configuration.addExtraClasses(extraClasses);
+            configuration.setMarshallingFormat(marshallingFormat);
+            return KieServicesFactory.newKieServicesClient(configuration);
+        });
     }
 
     public static KieServicesClient getSmartRouterClient(SmartRouterDeployment smartRouterDeployment, String userName, String password) {
@@ -64,7 +85,22 @@ public class KieServerClientProvider {
     }
 
     public static KieServicesClient getSmartRouterClient(SmartRouterDeployment smartRouterDeployment, String userName, String password, long clientTimeout) {
-        KieServicesConfiguration configuration = KieServicesFactory.newRestConfiguration(smartRouterDeployment.getUrl().toString(),
+        String url = smartRouterDeployment.getUrl().toString();
+        ClientKey clientKey = new ClientKey(url, userName, password, clientTimeout, DEFAULT_MARSHALLING_FORMAT, new HashSet<>());
+        return KieServicesClientPool.getClient(smartRouterDeployment, clientKey, () -> createSmartRouterClient(url, userName, password, clientTimeout));
+    }
+
+    /**
+     * Remove pooled clients of the deployment, next request for a client creates a new one.
+     *
+     * @param deployment Kie server or smart router deployment.
+     */
+    public static void invalidateClients(Deployment deployment) {
+        KieServicesClientPool.invalidate(deployment);
+    }
+
+    private static KieServicesClient createSmartRouterClient(String url, String userName, String password, long clientTimeout) {
+        KieServicesConfiguration configuration = KieServicesFactory.newRestConfiguration(url,
                 userName, password, clientTimeout);
         List<String> capabilities = Arrays.asList(KieServerConstants.CAPABILITY_BPM,
                 KieServerConstants.CAPABILITY_BPM_QUERIES,
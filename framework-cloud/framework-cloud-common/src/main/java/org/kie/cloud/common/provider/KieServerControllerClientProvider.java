@@ -19,6 +19,8 @@ import java.time.Instant;
 import java.util.Collection;
 
 import org.kie.cloud.api.deployment.WorkbenchDeployment;
+import org.kie.cloud.common.timeline.DeploymentTimeline;
+import org.kie.cloud.common.timeline.DeploymentTimeline.Span;
 import org.kie.server.controller.api.model.spec.ServerTemplate;
 import org.kie.server.controller.management.client.KieServerMgmtControllerClient;
 import org.kie.server.controller.management.client.KieServerMgmtControllerClientFactory;
@@ -35,6 +37,12 @@ public class KieServerControllerClientProvider {
      * Wait until server templates are created in controller.
      */
     public static void waitForServerTemplateCreation(WorkbenchDeployment workbenchDeployment, int numberOfServerTemplates) {
+        try (Span span = DeploymentTimeline.forNamespace(workbenchDeployment.getNamespace()).span("controller registration")) {
+            waitForServerTemplateCreationImpl(workbenchDeployment, numberOfServerTemplates);
+        }
+    }
+
+    private static void waitForServerTemplateCreationImpl(WorkbenchDeployment workbenchDeployment, int numberOfServerTemplates) {
         Instant timeoutTime = Instant.now().plusSeconds(30);
         while (Instant.now().isBefore(timeoutTime)) {
 
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.cloud.common.provider;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.kie.cloud.api.deployment.Deployment;
+import org.kie.server.api.marshalling.MarshallingFormat;
+import org.kie.server.client.KieServicesClient;
+
+/**
+ * Pool of Kie server clients. Creating a client includes server capabilities handshake, so clients are reused by all
+ * callers requesting client with the same configuration for the same deployment.
+ * <p>
+ * Pooled clients are shared, callers mustn't change client state such as conversation id or classloader, as the change
+ * affects all other callers of the same client.
+ * <p>
+ * Clients are released when deployment URL changes or when the deployment is invalidated explicitly, for example when
+ * it is scaled to zero, as the client can't be reused once deployment is scaled up again.
+ */
+class KieServicesClientPool {
+
+    // Weak keys, clients of deployments which aren't used anymore are released together with the deployment
+    private static final Map<Deployment, Map<ClientKey, KieServicesClient>> clients = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private KieServicesClientPool() {
+        // Util class
+    }
+
+    /**
+     * Return pooled client, new client is created if there is none for the key.
+     */
+    static KieServicesClient getClient(Deployment deployment, ClientKey key, Supplier<KieServicesClient> clientFactory) {
+        Map<ClientKey, KieServicesClient> deploymentClients = clients.computeIfAbsent(deployment, d -> new ConcurrentHashMap<>());
+
+        // Clients of previous deployment URL aren't used anymore
+        deploymentClients.keySet().removeIf(pooledKey -> !pooledKey.url.equals(key.url));
+
+        return deploymentClients.computeIfAbsent(key, k -> clientFactory.get());
+    }
+
+    /**
+     * Remove all pooled clients of the deployment.
+     */
+    static void invalidate(Deployment deployment) {
+        clients.remove(deployment);
+    }
+
+    static class ClientKey {
+
+        private final String url;
+        private final String username;
+        private final String password;
+        private final long timeout;
+        private final MarshallingFormat marshallingFormat;
+        private final Set<Class<?>> extraClasses;
+
+        ClientKey(String url, String username, String password, long timeout, MarshallingFormat marshallingFormat, Set<Class<?>> extraClasses) {
+            this.url = url;
+            this.username = username;
+            this.password = password;
+            this.timeout = timeout;
+            this.marshallingFormat = marshallingFormat;
+            this.extraClasses = new HashSet<>(extraClasses);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof ClientKey)) {
+                return false;
+            }
+            ClientKey other = (ClientKey) obj;
+            return timeout == other.timeout && url.equals(other.url) && Objects.equals(username, other.username)
+                    && Objects.equals(password, other.password) && marshallingFormat == other.marshallingFormat
+                    && extraClasses.equals(other.extraClasses);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(url, username, password, timeout, marshallingFormat, extraClasses);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.cloud.common.report;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+import org.apache.commons.io.FileUtils;
+import org.kie.cloud.common.logs.InstanceLogUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Summary of the whole test run, written as CSV to instance logs directory and logged when JVM exits.
+ * Rows are sorted by the summary order, only the first rows are logged.
+ *
+ * @param <T> Type of summary rows.
+ */
+public abstract class RunSummary<T> {
+
+    private static final Logger logger = LoggerFactory.getLogger(RunSummary.class);
+
+    private final String fileName;
+    private final String csvHeader;
+    private final Comparator<T> order;
+    private final int loggedRows;
+
+    /**
+     * @param fileName Name of the CSV file in instance logs directory.
+     * @param csvHeader First line of the CSV file.
+     * @param order Order of rows in CSV file and log.
+     * @param loggedRows Number of first rows to be logged.
+     */
+    protected RunSummary(String fileName, String csvHeader, Comparator<T> order, int loggedRows) {
+        this.fileName = fileName;
+        this.csvHeader = csvHeader;
+        this.order = order;
+        this.loggedRows = loggedRows;
+    }
+
+    /**
+     * Write and log the summary when JVM exits.
+     *
+     * @param threadName Name of the shutdown hook thread.
+     */
+    public void writeOnExit(String threadName) {
+        Runtime.getRuntime().addShutdownHook(new Thread(this::write, threadName));
+    }
+
+    /**
+     * @return Rows of the summary, summary isn't written if there are no rows.
+     */
+    protected abstract Collection<T> getRows();
+
+    /**
+     * @return First line of the logged summary.
+     */
+    protected abstract String getLogHeader(List<T> rows);
+
+    protected abstract String toCsvRow(T row);
+
+    protected abstract String toLogRow(T row);
+
+    private void write() {
+        List<T> rows = new ArrayList<>(getRows());
+        if (rows.isEmpty()) {
+            return;
+        }
+        rows.sort(order);
+
+        try {
+            FileUtils.write(new File(InstanceLogUtil.getOutputDirectory(), fileName), toCsv(csvHeader, rows, this::toCsvRow), "UTF-8");
+        } catch (IOException e) {
+            logger.warn("Error writing summary " + fileName + ".", e);
+        }
+
+        StringBuilder log = new StringBuilder(getLogHeader(rows));
+        for (T row : rows.subList(0, Math.min(loggedRows, rows.size()))) {
+            log.append(String.format("%n  %s", toLogRow(row)));
+        }
+        logger.info(log.toString());
+    }
+
+    /**
+     * @return CSV with given header and one line per row.
+     */
+    public static <T> String toCsv(String header, List<T> rows, Function<T, String> csvRow) {
+        StringBuilder csv = new StringBuilder(header).append('\n');
+        for (T row : rows) {
+            csv.append(csvRow.apply(row)).append('\n');
+        }
+        return csv.toString();
+    }
+
+    public static String escapeCsv(String value) {
+        if (value.contains(",") || value.contains("\"")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.cloud.common.timeline;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.apache.commons.io.FileUtils;
+import org.kie.cloud.common.logs.InstanceLogUtil;
+import org.kie.cloud.common.report.RunSummary;
+
+/**
+ * Timeline of scenario deployment phases in one namespace. Framework phases are recorded as spans around deployment steps,
+ * phases derived from pod conditions and events are recorded with their OpenShift timestamps.
+ * Timeline is exported as JSON and CSV next to the instance logs and added to the summary of the whole test run.
+ */
+public class DeploymentTimeline {
+
+    public static final String FRAMEWORK_SOURCE = "framework";
+
+    private static final String TIMELINE_FILE_NAME = "timeline";
+    private static final String SUMMARY_FILE_NAME = "timeline-summary.csv";
+    private static final int SUMMARY_LOGGED_PHASES = 10;
+
+    private static final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+
+    private static final Map<String, DeploymentTimeline> timelines = new ConcurrentHashMap<>();
+    private static final Map<String, PhaseSummary> summary = new ConcurrentHashMap<>();
+
+    static {
+        new SummaryWriter().writeOnExit("deployment-timeline-summary");
+    }
+
+    private final String namespace;
+    private final List<TimelineEntry> entries = new ArrayList<>();
+
+    private DeploymentTimeline(String namespace) {
+        this.namespace = namespace;
+    }
+
+    /**
+     * @return Timeline of the namespace, created on first access.
+     */
+    public static DeploymentTimeline forNamespace(String namespace) {
+        return timelines.computeIfAbsent(namespace, DeploymentTimeline::new);
+    }
+
+    /**
+     * Start framework phase, phase ends when the span is closed.
+     *
+     * @param phase Phase name.
+     * @return Span to be closed once the phase is finished.
+     */
+    public Span span(String phase) {
+        return new Span(phase, Instant.now());
+    }
+
+    /**
+     * Record phase which already finished.
+     *
+     * @param phase Phase name.
+     * @param source Source of the phase, {@link #FRAMEWORK_SOURCE} or name of OpenShift resource the timestamps were taken from.
+     * @param start Phase start.
+     * @param end Phase end.
+     */
+    public synchronized void record(String phase, String source, Instant start, Instant end) {
+        entries.add(new TimelineEntry(phase, source, start, end));
+    }
+
+    /**
+     * Write timeline to JSON and CSV file in instance logs directory of the namespace and add its phases to the test run summary.
+     * Timeline is removed from the registry, later records for the namespace start a new timeline.
+     */
+    public void export() {
+        timelines.remove(namespace, this);
+
+        List<TimelineEntry> sortedEntries;
+        synchronized (this) {
+            sortedEntries = new ArrayList<>(entries);
+        }
+        sortedEntries.sort(Comparator.comparing((TimelineEntry e) -> e.start));
+        for (TimelineEntry entry : sortedEntries) {
+            summary.computeIfAbsent(entry.phase, PhaseSummary::new).add(entry.getDuration());
+        }
+
+        File outputDirectory = InstanceLogUtil.getOutputDirectory(namespace);
+        try {
+            FileUtils.write(new File(outputDirectory, TIMELINE_FILE_NAME + ".json"), toJson(sortedEntries), "UTF-8");
+            FileUtils.write(new File(outputDirectory, TIMELINE_FILE_NAME + ".csv"), toCsv(sortedEntries), "UTF-8");
+        } catch (IOException e) {
+            throw new RuntimeException("Error writing deployment timeline of namespace " + namespace, e);
+        }
+    }
+
+    private String toJson(List<TimelineEntry> sortedEntries) {
+        List<JsonPhase> phases = sortedEntries.stream().map(JsonPhase::new).collect(Collectors.toList());
+        return gson.toJson(new JsonTimeline(namespace, phases));
+    }
+
+    private String toCsv(List<TimelineEntry> sortedEntries) {
+        return RunSummary.toCsv("phase,source,start,end,durationMillis", sortedEntries, DeploymentTimeline::toCsvRow);
+    }
+
+    private static String toCsvRow(TimelineEntry entry) {
+        return RunSummary.escapeCsv(entry.phase) + ',' + RunSummary.escapeCsv(entry.source) + ',' + entry.start + ',' + entry.end + ',' + entry.getDuration().toMillis();
+    }
+
+    /**
+     * Running framework phase.
+     */
+    public class Span implements AutoCloseable {
+
+        private final String phase;
+        private final Instant start;
+
+        private Span(String phase, Instant start) {
+            this.phase = phase;
+            this.start = start;
+        }
+
+        @Override
+        public void close() {
+            record(phase, FRAMEWORK_SOURCE, start, Instant.now());
+        }
+    }
+
+    private static class TimelineEntry {
+
+        private final String phase;
+        private final String source;
+        private final Instant start;
+        private final Instant end;
+
+        private TimelineEntry(String phase, String source, Instant start, Instant end) {
+            this.phase = phase;
+            this.source = source;
+            this.start = start;
+            this.end = end;
+        }
+
+        private Duration getDuration() {
+            return Duration.between(start, end);
+        }
+    }
+
+    private static class JsonTimeline {
+
+        private final String namespace;
+        private final List<JsonPhase> phases;
+
+        private JsonTimeline(String namespace, List<JsonPhase> phases) {
+            this.namespace = namespace;
+            this.phases = phases;
+        }
+    }
+
+    private static class JsonPhase {
+
+        private final String phase;
+        private final String source;
+        private final String start;
+        private final String end;
+        private final long durationMillis;
+
+        private JsonPhase(TimelineEntry entry) {
+            this.phase = entry.phase;
+            this.source = entry.source;
+            this.start = entry.start.toString();
+            this.end = entry.end.toString();
+            this.durationMillis = entry.getDuration().toMillis();
+        }
+    }
+
+    /**
+     * Summary of phases of all timelines exported in this JVM, slowest phases are logged.
+     */
+    private static class SummaryWriter extends RunSummary<PhaseSummary> {
+
+        private SummaryWriter() {
+            super(SUMMARY_FILE_NAME, "phase,count,totalMillis,averageMillis,maxMillis", Comparator.comparing((PhaseSummary p) -> p.totalMillis).reversed(), SUMMARY_LOGGED_PHASES);
+        }
+
+        @Override
+        protected Collection<PhaseSummary> getRows() {
+            return summary.values();
+        }
+
+        @Override
+        protected String getLogHeader(List<PhaseSummary> rows) {
+            return "Slowest deployment phases by total time:";
+        }
+
+        @Override
+        protected String toCsvRow(PhaseSummary phase) {
+            return RunSummary.escapeCsv(phase.phase) + ',' + phase.count + ',' + phase.totalMillis + ',' + phase.totalMillis / phase.count + ',' + phase.maxMillis;
+        }
+
+        @Override
+        protected String toLogRow(PhaseSummary phase) {
+            return String.format("%s: total %d ms, count %d, max %d ms", phase.phase, phase.totalMillis, phase.count, phase.maxMillis);
+        }
+    }
+
+    private static class PhaseSummary {
+
+        private final String phase;
+        private int count = 0;
+        private long totalMillis = 0;
+        private long maxMillis = 0;
+
+        private PhaseSummary(String phase) {
+            this.phase = phase;
+        }
+
+        private synchronized void add(Duration duration) {
+            count++;
+            totalMillis += duration.toMillis();
+            maxMillis = Math.max(maxMillis, duration.toMillis());
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.cloud.common.logs;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class AhoCorasickMatcherTest {
+
+    @Test
+    public void testOverlappingTextsAreMatched() {
+        AhoCorasickMatcher matcher = new AhoCorasickMatcher(Arrays.asList("he", "she", "his", "hers"));
+        assertThat(countMatches(matcher, "ushers")).containsExactly(1, 1, 0, 1);
+        assertThat(countMatches(matcher, "she said his hers")).containsExactly(2, 1, 1, 1);
+    }
+
+    @Test
+    public void testRepeatedTextIsMatchedEveryTime() {
+        AhoCorasickMatcher matcher = new AhoCorasickMatcher(Arrays.asList("aa"));
+        assertThat(countMatches(matcher, "aaaa")).containsExactly(3);
+    }
+
+    @Test
+    public void testMultiByteTextIsMatched() {
+        AhoCorasickMatcher matcher = new AhoCorasickMatcher(Arrays.asList("\u010dau", "au"));
+        assertThat(countMatches(matcher, "ahoj \u010dau")).containsExactly(1, 1);
+    }
+
+    @Test
+    public void testEmptyTextIsRejected() {
+        Throwable thrown = catchThrowable(() -> new AhoCorasickMatcher(Arrays.asList("text", "")));
+        assertThat(thrown).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static int[] countMatches(AhoCorasickMatcher matcher, String content) {
+        int[] counts = new int[matcher.getTexts().size()];
+        int state = matcher.getInitialState();
+        for (byte b : content.getBytes(StandardCharsets.UTF_8)) {
+            state = matcher.next(state, b);
+            for (int match : matcher.getMatches(state)) {
+                counts[match]++;
+            }
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.cloud.common.logs;
+
+import java.util.UUID;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class InstanceLogUtilTest {
+
+    @Test
+    public void testNamespaceWithoutLeaseUsesNamespaceDirectory() {
+        String namespace = "project-" + UUID.randomUUID();
+
+        assertThat(InstanceLogUtil.getNamespaceDirectoryName(namespace)).isEqualTo(namespace);
+    }
+
+    @Test
+    public void testReusedNamespaceUsesDirectoryPerLease() {
+        String namespace = "project-" + UUID.randomUUID();
+
+        InstanceLogUtil.startNamespaceLease(namespace);
+        assertThat(InstanceLogUtil.getNamespaceDirectoryName(namespace)).isEqualTo(namespace);
+
+        InstanceLogUtil.startNamespaceLease(namespace);
+        assertThat(InstanceLogUtil.getNamespaceDirectoryName(namespace)).isEqualTo(namespace + "-lease-2");
+
+        InstanceLogUtil.startNamespaceLease(namespace);
+        assertThat(InstanceLogUtil.getNamespaceDirectoryName(namespace)).isEqualTo(namespace + "-lease-3");
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.cloud.common.logs;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+public class LogBufferTest {
+
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    @Test
+    public void testMatchesAreCountedIncrementally() {
+        LogBuffer logBuffer = new LogBuffer();
+        write(logBuffer, "INFO started\nERROR failed\n");
+        assertThat(logBuffer.countMatches("ERROR", "WARN")).containsExactly(entry("ERROR", 1L), entry("WARN", 0L));
+
+        write(logBuffer, "WARN slow\nERROR failed again\n");
+        assertThat(logBuffer.countMatches("ERROR", "WARN")).containsExactly(entry("ERROR", 2L), entry("WARN", 1L));
+        assertThat(logBuffer.countMatches("WARN")).containsExactly(entry("WARN", 1L));
+    }
+
+    @Test
+    public void testTextSpanningChunksIsMatched() {
+        LogBuffer logBuffer = new LogBuffer();
+        write(logBuffer, repeat('x', CHUNK_SIZE - 2));
+        write(logBuffer, "ERROR");
+        assertThat(logBuffer.size()).isEqualTo(CHUNK_SIZE + 3);
+        assertThat(logBuffer.countMatches("ERROR")).containsExactly(entry("ERROR", 1L));
+    }
+
+    @Test
+    public void testWaitForMatchReturnsOnceTextIsWritten() throws Exception {
+        LogBuffer logBuffer = new LogBuffer();
+        CompletableFuture<Boolean> matched = CompletableFuture.supplyAsync(() -> logBuffer.waitForMatch("started", Duration.ofSeconds(5)));
+        write(logBuffer, "server started\n");
+        assertThat(matched.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    public void testWaitForMatchReturnsFalseOnTimeoutOrLogEnd() {
+        LogBuffer logBuffer = new LogBuffer();
+        write(logBuffer, "server starting\n");
+        assertThat(logBuffer.waitForMatch("started", Duration.ofMillis(50))).isFalse();
+
+        logBuffer.close();
+        assertThat(logBuffer.isClosed()).isTrue();
+        assertThat(logBuffer.waitForMatch("started", Duration.ofMinutes(1))).isFalse();
+    }
+
+    @Test
+    public void testSearchedTextsAreMatchedInDroppedLog() {
+        LogBuffer logBuffer = new LogBuffer(CHUNK_SIZE);
+        assertThat(logBuffer.countMatches("ERROR")).containsExactly(entry("ERROR", 0L));
+
+        write(logBuffer, "ERROR WARN\n");
+        write(logBuffer, repeat('x', 3 * CHUNK_SIZE));
+        write(logBuffer, "ERROR\n");
+
+        assertThat(logBuffer.countMatches("ERROR")).containsExactly(entry("ERROR", 2L));
+        // First search for the text sees only the retained end of the log
+        assertThat(logBuffer.countMatches("WARN")).containsExactly(entry("WARN", 0L));
+        assertThat(logBuffer.size()).isEqualTo(3 * CHUNK_SIZE + 17);
+    }
+
+    private static void write(LogBuffer logBuffer, String content) {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        logBuffer.write(bytes, 0, bytes.length);
+    }
+
+    private static String repeat(char c, int count) {
+        char[] chars = new char[count];
+        Arrays.fill(chars, c);
+        return new String(chars);
+    }
+}
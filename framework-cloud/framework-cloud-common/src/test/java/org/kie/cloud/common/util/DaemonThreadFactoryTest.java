@@ -0,0 +1,36 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.cloud.common.util;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DaemonThreadFactoryTest {
+
+    @Test
+    public void testThreadsAreNumberedDaemons() {
+        DaemonThreadFactory threadFactory = new DaemonThreadFactory("worker");
+
+        Thread first = threadFactory.newThread(() -> {});
+        Thread second = threadFactory.newThread(() -> {});
+
+        assertThat(first.getName()).isEqualTo("worker-1");
+        assertThat(second.getName()).isEqualTo("worker-2");
+        assertThat(first.isDaemon()).isTrue();
+        assertThat(second.isDaemon()).isTrue();
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.cloud.inmemory;
+
+import org.kie.cloud.api.DeploymentScenarioBuilderFactory;
+import org.kie.cloud.api.scenario.builder.GenericScenarioBuilder;
+import org.kie.cloud.api.scenario.builder.KieServerWithExternalDatabaseScenarioBuilder;
+import org.kie.cloud.api.scenario.builder.WorkbenchRuntimeSmartRouterKieServerDatabaseScenarioBuilder;
+import org.kie.cloud.api.scenario.builder.WorkbenchWithKieServerScenarioBuilder;
+import org.kie.cloud.api.settings.builder.KieServerS2ISettingsBuilder;
+import org.kie.cloud.api.settings.builder.KieServerSettingsBuilder;
+import org.kie.cloud.api.settings.builder.SmartRouterSettingsBuilder;
+import org.kie.cloud.api.settings.builder.WorkbenchMonitoringSettingsBuilder;
+import org.kie.cloud.api.settings.builder.WorkbenchSettingsBuilder;
+import org.kie.cloud.inmemory.cluster.InMemoryCluster;
+import org.kie.cloud.inmemory.scenario.builder.GenericScenarioBuilderImpl;
+import org.kie.cloud.inmemory.scenario.builder.KieServerWithExternalDatabaseScenarioBuilderImpl;
+import org.kie.cloud.inmemory.scenario.builder.WorkbenchRuntimeSmartRouterKieServerDatabaseScenarioBuilderImpl;
+import org.kie.cloud.inmemory.scenario.builder.WorkbenchWithKieServerScenarioBuilderImpl;
+import org.kie.cloud.inmemory.settings.InMemorySettingsBuilder;
+
+/**
+ * Cloud API implementation simulating the cluster in memory, selected by <code>-Dcloud.api.implementation=inmemory</code>.
+ * Deployments aren't backed by running Workbench or Kie Server, the implementation is meant for testing and
+ * benchmarking of the framework itself.
+ */
+public class InMemoryDeploymentBuilderFactory implements DeploymentScenarioBuilderFactory {
+
+    private static final String CLOUD_API_IMPLEMENTATION_NAME = "inmemory";
+
+    private final InMemoryCluster cluster;
+
+    public InMemoryDeploymentBuilderFactory() {
+        this(InMemoryCluster.getInstance());
+    }
+
+    public InMemoryDeploymentBuilderFactory(InMemoryCluster cluster) {
+        this.cluster = cluster;
+    }
+
+    @Override
+    public String getCloudAPIImplementationName() {
+        return CLOUD_API_IMPLEMENTATION_NAME;
+    }
+
+    @Override
+    public WorkbenchWithKieServerScenarioBuilder getWorkbenchWithKieServerScenarioBuilder() {
+        return new WorkbenchWithKieServerScenarioBuilderImpl(cluster);
+    }
+
+    @Override
+    public WorkbenchRuntimeSmartRouterKieServerDatabaseScenarioBuilder getWorkbenchRuntimeSmartRouterKieServerDatabaseScenarioBuilder() {
+        return new WorkbenchRuntimeSmartRouterKieServerDatabaseScenarioBuilderImpl(cluster);
+    }
+
+    @Override
+    public KieServerWithExternalDatabaseScenarioBuilder getKieServerWithExternalDatabaseScenarioBuilder() {
+        return new KieServerWithExternalDatabaseScenarioBuilderImpl(cluster);
+    }
+
+    @Override
+    public GenericScenarioBuilder getGenericScenarioBuilder() {
+        return new GenericScenarioBuilderImpl(cluster);
+    }
+
+    @Override
+    public KieServerSettingsBuilder getKieServerSettingsBuilder() {
+        return new InMemorySettingsBuilder();
+    }
+
+    @Override
+    public KieServerS2ISettingsBuilder getKieServerS2ISettingsBuilder() {
+        return new InMemorySettingsBuilder();
+    }
+
+    @Override
+    public WorkbenchSettingsBuilder getWorkbenchSettingsBuilder() {
+        return new InMemorySettingsBuilder();
+    }
+
+    @Override
+    public WorkbenchMonitoringSettingsBuilder getWorkbenchMonitoringSettingsBuilder() {
+        return new InMemorySettingsBuilder();
+    }
+
+    @Override
+    public SmartRouterSettingsBuilder getSmartRouterSettingsBuilder() {
+        return new InMemorySettingsBuilder();
+    }
+
+    @Override
+    public void deleteNamespace(String namespace) {
+        cluster.deleteNamespace(namespace);
+    }
+}
@@ -0,0 +1,304 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+
+package org.kie.cloud.inmemory.cluster;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import org.kie.cloud.api.deployment.DeploymentTimeoutException;
+import org.kie.cloud.common.util.DaemonThreadFactory;
+import org.kie.cloud.inmemory.cluster.SimulatedPod.Phase;
+import org.kie.cloud.inmemory.constants.InMemoryConstants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Simulated cluster keeping namespaces, deployment configs, their pods and routes in memory.
+ * Deployment configs are reconciled like in OpenShift - missing pods are created right away, surplus pods are terminated.
+ * Pods go through pending, running and ready phases with configured delays, containers may fail and get restarted.
+ */
+public class InMemoryCluster {
+
+    private static final Logger logger = LoggerFactory.getLogger(InMemoryCluster.class);
+
+    private static final String ROUTING_SUBDOMAIN = ".inmemory.local";
+
+    private static InMemoryCluster instance;
+
+    private final Duration podStartDelay;
+    private final Duration podReadyDelay;
+    private final Duration podTerminationDelay;
+    private final double podFailureRate;
+
+    private final Map<String, Namespace> namespaces = new HashMap<>();
+    private final Random random = new Random();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("inmemory-cluster"));
+
+    public InMemoryCluster(Duration podStartDelay, Duration podReadyDelay, Duration podTerminationDelay, double podFailureRate) {
+        this.podStartDelay = podStartDelay;
+        this.podReadyDelay = podReadyDelay;
+        this.podTerminationDelay = podTerminationDelay;
+        this.podFailureRate = podFailureRate;
+    }
+
+    /**
+     * @return Cluster shared by all scenarios in this JVM, configured by {@link InMemoryConstants}.
+     */
+    public static synchronized InMemoryCluster getInstance() {
+        if (instance == null) {
+            instance = new InMemoryCluster(InMemoryConstants.getPodStartDelay(),
+                    InMemoryConstants.getPodReadyDelay(),
+                    InMemoryConstants.getPodTerminationDelay(),
+                    InMemoryConstants.getPodFailureRate());
+        }
+        return instance;
+    }
+
+    /**
+     * @return Name of created namespace.
+     */
+    public synchronized String createNamespace() {
+        String name = UUID.randomUUID().toString().substring(0, 4);
+        while (namespaces.containsKey(name)) {
+            name = UUID.randomUUID().toString().substring(0, 4);
+        }
+        namespaces.put(name, new Namespace());
+        logger.info("Created namespace " + name);
+        return name;
+    }
+
+    /**
+     * Delete namespace together with all its resources, pods are removed immediately.
+     */
+    public synchronized void deleteNamespace(String namespace) {
+        if (namespaces.remove(namespace) == null) {
+            throw new RuntimeException("Namespace " + namespace + " doesn't exist.");
+        }
+        logger.info("Deleted namespace " + namespace);
+        notifyAll();
+    }
+
+    public synchronized boolean namespaceExists(String namespace) {
+        return namespaces.containsKey(namespace);
+    }
+
+    /**
+     * Create deployment config with given number of replicas. Pods are started right away.
+     */
+    public synchronized void createDeploymentConfig(String namespace, String name, int replicas) {
+        Namespace ns = getNamespace(namespace);
+        if (ns.deploymentConfigs.containsKey(name)) {
+            throw new RuntimeException("Deployment config " + name + " already exists in namespace " + namespace);
+        }
+        ns.deploymentConfigs.put(name, new DeploymentConfig(name, replicas));
+        reconcile(namespace, ns.deploymentConfigs.get(name));
+    }
+
+    public synchronized boolean deploymentConfigExists(String namespace, String name) {
+        Namespace ns = namespaces.get(namespace);
+        return ns != null && ns.deploymentConfigs.containsKey(name);
+    }
+
+    public synchronized void scale(String namespace, String deploymentConfigName, int replicas) {
+        DeploymentConfig deploymentConfig = getDeploymentConfig(namespace, deploymentConfigName);
+        deploymentConfig.replicas = replicas;
+        reconcile(namespace, deploymentConfig);
+    }
+
+    /**
+     * @return Snapshot of all pods of the deployment config, including terminating ones.
+     */
+    public synchronized List<SimulatedPod> getPods(String namespace, String deploymentConfigName) {
+        return new ArrayList<>(getDeploymentConfig(namespace, deploymentConfigName).pods);
+    }
+
+    public synchronized Optional<SimulatedPod> getPod(String namespace, String podName) {
+        return findPod(namespace, podName);
+    }
+
+    /**
+     * Delete pod, the pod is terminated and replaced by a new pod of its deployment config.
+     */
+    public synchronized void deletePod(String namespace, String podName) {
+        SimulatedPod pod = findPod(namespace, podName).orElseThrow(() -> new RuntimeException("Pod " + podName + " doesn't exist in namespace " + namespace));
+        if (pod.getPhase() != Phase.TERMINATING) {
+            terminate(pod);
+            reconcile(namespace, getDeploymentConfig(namespace, pod.getDeploymentConfigName()));
+        }
+    }
+
+    /**
+     * Create route exposing a service.
+     *
+     * @return Host of the route.
+     */
+    public synchronized String createRoute(String namespace, String serviceName) {
+        String host = serviceName + "-" + namespace + ROUTING_SUBDOMAIN;
+        getNamespace(namespace).routes.put(serviceName, host);
+        return host;
+    }
+
+    public synchronized String getRouteHost(String namespace, String serviceName) {
+        String host = getNamespace(namespace).routes.get(serviceName);
+        if (host == null) {
+            throw new RuntimeException("Route " + serviceName + " doesn't exist in namespace " + namespace);
+        }
+        return host;
+    }
+
+    /**
+     * Wait until the deployment config has exactly the requested number of pods, all of them ready.
+     *
+     * @throws DeploymentTimeoutException If the deployment config isn't scaled in time.
+     */
+    public synchronized void waitForScale(String namespace, String deploymentConfigName, Duration timeout) {
+        Instant timeoutTime = Instant.now().plus(timeout);
+        try {
+            while (!isScaled(getDeploymentConfig(namespace, deploymentConfigName))) {
+                long remainingMillis = Duration.between(Instant.now(), timeoutTime).toMillis();
+                if (remainingMillis <= 0) {
+                    throw new DeploymentTimeoutException("Timeout while waiting for deployment config " + deploymentConfigName + " in namespace " + namespace
+                            + " to be scaled, current pods: " + getDeploymentConfig(namespace, deploymentConfigName).pods);
+                }
+                wait(remainingMillis);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for deployment config " + deploymentConfigName + " to be scaled.", e);
+        }
+    }
+
+    private boolean isScaled(DeploymentConfig deploymentConfig) {
+        return deploymentConfig.pods.size() == deploymentConfig.replicas && deploymentConfig.pods.stream().allMatch(p -> p.getPhase() == Phase.READY);
+    }
+
+    private void reconcile(String namespace, DeploymentConfig deploymentConfig) {
+        List<SimulatedPod> activePods = deploymentConfig.pods.stream().filter(p -> p.getPhase() != Phase.TERMINATING).collect(Collectors.toList());
+        for (int i = activePods.size(); i < deploymentConfig.replicas; i++) {
+            SimulatedPod pod = new SimulatedPod(deploymentConfig.name + "-1-" + UUID.randomUUID().toString().substring(0, 5), namespace, deploymentConfig.name);
+            pod.setPhase(Phase.PENDING, "Pod scheduled");
+            deploymentConfig.pods.add(pod);
+            schedule(pod, podStartDelay, this::startContainer);
+        }
+        if (activePods.size() > deploymentConfig.replicas) {
+            // Like replication controller, terminate pods which aren't ready first, then the newest ones
+            activePods.sort(Comparator.comparing((SimulatedPod p) -> p.getPhase() == Phase.READY).thenComparing(SimulatedPod::getCreationTime, Comparator.reverseOrder()));
+            activePods.subList(0, activePods.size() - deploymentConfig.replicas).forEach(this::terminate);
+        }
+        notifyAll();
+    }
+
+    private void startContainer(SimulatedPod pod) {
+        if (pod.getPhase() == Phase.PENDING || pod.getPhase() == Phase.FAILED) {
+            pod.setPhase(Phase.RUNNING, "Container started");
+            schedule(pod, podReadyDelay, this::checkReadiness);
+        }
+    }
+
+    private void checkReadiness(SimulatedPod pod) {
+        if (pod.getPhase() != Phase.RUNNING) {
+            return;
+        }
+        if (random.nextDouble() < podFailureRate) {
+            pod.setPhase(Phase.FAILED, "Container failed, restarting");
+            schedule(pod, podStartDelay, this::startContainer);
+        } else {
+            pod.setPhase(Phase.READY, "Pod is ready");
+        }
+    }
+
+    private void terminate(SimulatedPod pod) {
+        pod.setPhase(Phase.TERMINATING, "Pod terminating");
+        schedule(pod, podTerminationDelay, p -> {
+            Namespace ns = namespaces.get(p.getNamespace());
+            if (ns != null && ns.deploymentConfigs.containsKey(p.getDeploymentConfigName())) {
+                ns.deploymentConfigs.get(p.getDeploymentConfigName()).pods.remove(p);
+            }
+        });
+    }
+
+    /**
+     * Schedule pod state transition, transitions of pods whose namespace was deleted meanwhile are skipped.
+     */
+    private void schedule(SimulatedPod pod, Duration delay, Consumer<SimulatedPod> transition) {
+        scheduler.schedule(() -> {
+            synchronized (InMemoryCluster.this) {
+                if (findPod(pod.getNamespace(), pod.getName()).isPresent()) {
+                    transition.accept(pod);
+                    notifyAll();
+                }
+            }
+        }, delay.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private Optional<SimulatedPod> findPod(String namespace, String podName) {
+        Namespace ns = namespaces.get(namespace);
+        if (ns == null) {
+            return Optional.empty();
+        }
+        return ns.deploymentConfigs.values().stream()
+                .flatMap(dc -> dc.pods.stream())
+                .filter(p -> p.getName().equals(podName))
+                .findAny();
+    }
+
+    private Namespace getNamespace(String namespace) {
+        Namespace ns = namespaces.get(namespace);
+        if (ns == null) {
+            throw new RuntimeException("Namespace " + namespace + " doesn't exist.");
+        }
+        return ns;
+    }
+
+    private DeploymentConfig getDeploymentConfig(String namespace, String deploymentConfigName) {
+        DeploymentConfig deploymentConfig = getNamespace(namespace).deploymentConfigs.get(deploymentConfigName);
+        if (deploymentConfig == null) {
+            throw new RuntimeException("Deployment config " + deploymentConfigName + " doesn't exist in namespace " + namespace);
+        }
+        return deploymentConfig;
+    }
+
+    private static class Namespace {
+        private final Map<String, DeploymentConfig> deploymentConfigs = new LinkedHashMap<>();
+        private final Map<String, String> routes = new HashMap<>();
+    }
+
+    private static class DeploymentConfig {
+        private final String name;
+        private final List<SimulatedPod> pods = new ArrayList<>();
+        private int replicas;
+
+        private DeploymentConfig(String name, int replicas) {
+            this.name = name;
+            this.replicas = replicas;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+
+package org.kie.cloud.inmemory.cluster;
+
+import java.time.Instant;
+
+/**
+ * Pod simulated by {@link InMemoryCluster}. State of the pod is changed only by the cluster.
+ */
+public class SimulatedPod {
+
+    public enum Phase {
+        PENDING, RUNNING, READY, FAILED, TERMINATING
+    }
+
+    private final String name;
+    private final String namespace;
+    private final String deploymentConfigName;
+    private final Instant creationTime = Instant.now();
+    private StringBuilder log = new StringBuilder();
+    private String previousLog = "";
+
+    private volatile Phase phase = Phase.PENDING;
+    private volatile int restartCount = 0;
+
+    SimulatedPod(String name, String namespace, String deploymentConfigName) {
+        this.name = name;
+        this.namespace = namespace;
+        this.deploymentConfigName = deploymentConfigName;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getNamespace() {
+        return namespace;
+    }
+
+    public String getDeploymentConfigName() {
+        return deploymentConfigName;
+    }
+
+    public Instant getCreationTime() {
+        return creationTime;
+    }
+
+    public Phase getPhase() {
+        return phase;
+    }
+
+    public int getRestartCount() {
+        return restartCount;
+    }
+
+    public synchronized String getLog() {
+        return log.toString();
+    }
+
+    /**
+     * @return Log of the container which failed last time, empty if the container wasn't restarted yet.
+     */
+    public synchronized String getPreviousLog() {
+        return previousLog;
+    }
+
+    void setPhase(Phase phase, String logMessage) {
+        this.phase = phase;
+        synchronized (this) {
+            log.append(Instant.now()).append(' ').append(logMessage).append('\n');
+            if (phase == Phase.FAILED) {
+                // Failed container is restarted, new container starts with empty log
+                restartCount++;
+                previousLog = log.toString();
+                log = new StringBuilder();
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return name + " (" + phase + ")";
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+
+package org.kie.cloud.inmemory.constants;
+
+import java.time.Duration;
+
+import org.kie.cloud.api.constants.Constants;
+
+public class InMemoryConstants implements Constants {
+
+    /**
+     * Used Kie application name, same property as used by OpenShift implementation. Needed for naming of simulated services.
+     */
+    public static final String KIE_APP_NAME = "kie.app.name";
+    /**
+     * Time in milliseconds between creation of a simulated pod and start of its container.
+     */
+    public static final String POD_START_DELAY = "inmemory.pod.start.delay";
+    /**
+     * Time in milliseconds between start of a simulated container and the pod becoming ready.
+     */
+    public static final String POD_READY_DELAY = "inmemory.pod.ready.delay";
+    /**
+     * Time in milliseconds a deleted simulated pod stays terminating.
+     */
+    public static final String POD_TERMINATION_DELAY = "inmemory.pod.termination.delay";
+    /**
+     * Probability (0 - 1) that a started container fails before becoming ready. Failed containers are restarted.
+     */
+    public static final String POD_FAILURE_RATE = "inmemory.pod.failure.rate";
+    /**
+     * Time in milliseconds to wait for simulated deployment to be scaled.
+     */
+    public static final String DEPLOYMENT_TIMEOUT = "inmemory.deployment.timeout";
+
+    public static String getKieApplicationName() {
+        return System.getProperty(KIE_APP_NAME, "myapp");
+    }
+
+    public static Duration getPodStartDelay() {
+        return Duration.ofMillis(Long.parseLong(System.getProperty(POD_START_DELAY, "200")));
+    }
+
+    public static Duration getPodReadyDelay() {
+        return Duration.ofMillis(Long.parseLong(System.getProperty(POD_READY_DELAY, "500")));
+    }
+
+    public static Duration getPodTerminationDelay() {
+        return Duration.ofMillis(Long.parseLong(System.getProperty(POD_TERMINATION_DELAY, "100")));
+    }
+
+    public static double getPodFailureRate() {
+        return Double.parseDouble(System.getProperty(POD_FAILURE_RATE, "0"));
+    }
+
+    public static Duration getDeploymentTimeout() {
+        return Duration.ofMillis(Long.parseLong(System.getProperty(DEPLOYMENT_TIMEOUT, "60000")));
+    }
+}
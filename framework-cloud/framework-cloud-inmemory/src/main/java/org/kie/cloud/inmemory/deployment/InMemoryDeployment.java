@@ -0,0 +1,127 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+
+package org.kie.cloud.inmemory.deployment;
+
+import static java.util.stream.Collectors.toList;
+
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+import org.kie.cloud.api.deployment.Instance;
+import org.kie.cloud.common.deployment.AbstractDeployment;
+import org.kie.cloud.inmemory.cluster.InMemoryCluster;
+import org.kie.cloud.inmemory.constants.InMemoryConstants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public abstract class InMemoryDeployment extends AbstractDeployment {
+
+    private static final Logger logger = LoggerFactory.getLogger(InMemoryDeployment.class);
+
+    protected final InMemoryCluster cluster;
+    protected final String namespace;
+
+    protected InMemoryDeployment(InMemoryCluster cluster, String namespace) {
+        this.cluster = cluster;
+        this.namespace = namespace;
+    }
+
+    public abstract String getServiceName();
+
+    /**
+     * Create deployment config and routes of this deployment in the cluster.
+     */
+    public void create(int replicas) {
+        cluster.createDeploymentConfig(namespace, getServiceName(), replicas);
+        cluster.createRoute(namespace, getServiceName());
+    }
+
+    @Override
+    public String getNamespace() {
+        return namespace;
+    }
+
+    @Override
+    protected void scaleInstances(int instances) {
+        cluster.scale(namespace, getServiceName(), instances);
+    }
+
+    @Override
+    public void waitForScale() {
+        cluster.waitForScale(namespace, getServiceName(), InMemoryConstants.getDeploymentTimeout());
+    }
+
+    @Override
+    public List<Instance> getInstances() {
+        if (isReady()) {
+            return cluster.getPods(namespace, getServiceName()).stream()
+                    .map(pod -> new InMemoryInstance(cluster, namespace, pod.getName()))
+                    .collect(toList());
+        }
+        return Collections.emptyList();
+    }
+
+    @Override
+    public void deleteInstances(List<Instance> instances) {
+        for (Instance instance : instances) {
+            cluster.deletePod(namespace, instance.getName());
+        }
+    }
+
+    @Override
+    public boolean isReady() {
+        return cluster.deploymentConfigExists(namespace, getServiceName());
+    }
+
+    @Override
+    public void setRouterTimeout(Duration timeoutValue) {
+        logger.debug("Router timeout {} of simulated route {} is ignored.", timeoutValue, getServiceName());
+    }
+
+    protected URL getHttpRouteUrl(String serviceName) {
+        return toUrl(getRouteUri("http", serviceName, 80));
+    }
+
+    protected URL getHttpsRouteUrl(String serviceName) {
+        return toUrl(getRouteUri("https", serviceName, 443));
+    }
+
+    protected URI getWebSocketRouteUri(String serviceName) {
+        return getRouteUri("ws", serviceName, 80);
+    }
+
+    private URI getRouteUri(String protocol, String serviceName, int port) {
+        try {
+            return new URI(protocol + "://" + cluster.getRouteHost(namespace, serviceName) + ":" + port);
+        } catch (URISyntaxException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static URL toUrl(URI uri) {
+        try {
+            return uri.toURL();
+        } catch (MalformedURLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+
+package org.kie.cloud.inmemory.deployment;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import org.kie.cloud.api.deployment.CommandExecutionResult;
+import org.kie.cloud.api.deployment.Instance;
+import org.kie.cloud.common.logs.LogBuffer;
+import org.kie.cloud.inmemory.cluster.InMemoryCluster;
+import org.kie.cloud.inmemory.cluster.SimulatedPod;
+
+public class InMemoryInstance implements Instance {
+
+    private static final long LOG_POLL_INTERVAL = 100;
+
+    private final InMemoryCluster cluster;
+    private final String namespace;
+    private final String name;
+
+    public InMemoryInstance(InMemoryCluster cluster, String namespace, String name) {
+        this.cluster = cluster;
+        this.namespace = namespace;
+        this.name = name;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String getNamespace() {
+        return namespace;
+    }
+
+    /**
+     * Commands aren't executed in simulated pods, result contains empty output and successful exit code.
+     */
+    @Override
+    public CommandExecutionResult runCommand(String... command) {
+        CommandExecutionResult result = new CommandExecutionResult();
+        result.setOutput(new ByteArrayOutputStream());
+        result.setError(new ByteArrayOutputStream());
+        result.setExitCode(0);
+        return result;
+    }
+
+    /**
+     * Commands aren't executed in simulated pods, no output is produced and command finishes successfully right away.
+     */
+    @Override
+    public CompletableFuture<Integer> runCommandAsync(Duration timeout, Consumer<String> outputConsumer, Consumer<String> errorConsumer, String... command) {
+        return CompletableFuture.completedFuture(0);
+    }
+
+    @Override
+    public String getLogs() {
+        return cluster.getPod(namespace, name).map(SimulatedPod::getLog).orElse("");
+    }
+
+    /**
+     * Log of previous container is available once the simulated container failed and was restarted.
+     */
+    @Override
+    public void writeLogs(OutputStream output, boolean previous) {
+        String log = previous ? cluster.getPod(namespace, name).map(SimulatedPod::getPreviousLog).orElse("") : getLogs();
+        try {
+            output.write(log.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new RuntimeException("Error writing logs of simulated pod " + name, e);
+        }
+    }
+
+    /**
+     * Simulated pod logs are short, they are searched whole on every poll.
+     */
+    @Override
+    public boolean waitForLogMatch(String text, Duration timeout) {
+        Instant deadline = Instant.now().plus(timeout);
+        while (!getLogs().contains(text)) {
+            if (!Instant.now().isBefore(deadline)) {
+                return false;
+            }
+            try {
+                Thread.sleep(LOG_POLL_INTERVAL);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while waiting for log of simulated pod " + name, e);
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public Map<String, Long> countLogMatches(String... texts) {
+        try (LogBuffer logBuffer = new LogBuffer()) {
+            writeLogs(logBuffer, false);
+            return logBuffer.countMatches(texts);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+
+package org.kie.cloud.inmemory.deployment;
+
+import java.net.URL;
+
+import org.kie.cloud.api.deployment.KieServerDeployment;
+import org.kie.cloud.inmemory.cluster.InMemoryCluster;
+
+public class KieServerDeploymentImpl extends InMemoryDeployment implements KieServerDeployment {
+
+    private final String serviceName;
+    private final String secureServiceName;
+    private String username;
+    private String password;
+
+    public KieServerDeploymentImpl(InMemoryCluster cluster, String namespace, String applicationName) {
+        super(cluster, namespace);
+        this.serviceName = applicationName + "-execserv";
+        this.secureServiceName = "secure-" + applicationName + "-execserv";
+    }
+
+    @Override
+    public void create(int replicas) {
+        super.create(replicas);
+        cluster.createRoute(namespace, secureServiceName);
+    }
+
+    @Override public URL getUrl() {
+        return getHttpRouteUrl(serviceName);
+    }
+
+    @Override public URL getSecureUrl() {
+        return getHttpsRouteUrl(secureServiceName);
+    }
+
+    @Override public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    @Override public String getPassword() {
+        return password;
+    }
+
+    public void setPassword(String password) {
+        this.password = password;
+    }
+
+    @Override
+    public String getServiceName() {
+        return serviceName;
+    }
+}
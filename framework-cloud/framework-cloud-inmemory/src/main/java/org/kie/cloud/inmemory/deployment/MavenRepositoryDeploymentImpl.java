@@ -0,0 +1,49 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.cloud.inmemory.deployment;
+
+import java.net.URL;
+import java.util.Collections;
+import java.util.List;
+
+import org.kie.cloud.api.deployment.ArtifactTransfer;
+import org.kie.cloud.api.deployment.MavenRepositoryDeployment;
+import org.kie.cloud.inmemory.cluster.InMemoryCluster;
+
+/**
+ * Simulated Maven repository, it doesn't serve any artifacts so no transfers are recorded.
+ */
+public class MavenRepositoryDeploymentImpl extends InMemoryDeployment implements MavenRepositoryDeployment {
+
+    public MavenRepositoryDeploymentImpl(InMemoryCluster cluster, String namespace) {
+        super(cluster, namespace);
+    }
+
+    @Override
+    public URL getUrl() {
+        return getHttpRouteUrl(SERVICE_NAME);
+    }
+
+    @Override
+    public String getServiceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public List<ArtifactTransfer> getArtifactTransfers() {
+        return Collections.emptyList();
+    }
+}
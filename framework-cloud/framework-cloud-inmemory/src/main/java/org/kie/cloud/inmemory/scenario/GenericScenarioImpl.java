@@ -0,0 +1,151 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+
+package org.kie.cloud.inmemory.scenario;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.kie.cloud.api.deployment.Deployment;
+import org.kie.cloud.api.deployment.KieServerDeployment;
+import org.kie.cloud.api.deployment.MavenRepositoryDeployment;
+import org.kie.cloud.api.deployment.SmartRouterDeployment;
+import org.kie.cloud.api.deployment.WorkbenchDeployment;
+import org.kie.cloud.api.deployment.constants.DeploymentConstants;
+import org.kie.cloud.api.scenario.GenericScenario;
+import org.kie.cloud.api.settings.DeploymentSettings;
+import org.kie.cloud.inmemory.cluster.InMemoryCluster;
+import org.kie.cloud.inmemory.constants.InMemoryConstants;
+import org.kie.cloud.inmemory.deployment.KieServerDeploymentImpl;
+import org.kie.cloud.inmemory.deployment.MavenRepositoryDeploymentImpl;
+import org.kie.cloud.inmemory.deployment.SmartRouterDeploymentImpl;
+import org.kie.cloud.inmemory.deployment.WorkbenchDeploymentImpl;
+import org.kie.cloud.inmemory.settings.InMemoryDeploymentSettings;
+
+public class GenericScenarioImpl extends InMemoryScenario implements GenericScenario {
+
+    private final List<DeploymentSettings> kieServerSettingsList;
+    private final List<DeploymentSettings> workbenchSettingsList;
+    private final List<DeploymentSettings> monitoringSettingsList;
+    private final List<DeploymentSettings> smartRouterSettingsList;
+    private final boolean mavenRepository;
+
+    private final List<WorkbenchDeployment> workbenchDeployments = new ArrayList<>();
+    private final List<KieServerDeployment> kieServerDeployments = new ArrayList<>();
+    private final List<SmartRouterDeployment> smartRouterDeployments = new ArrayList<>();
+    private MavenRepositoryDeploymentImpl mavenRepositoryDeployment;
+
+    public GenericScenarioImpl(InMemoryCluster cluster, List<DeploymentSettings> kieServerSettingsList, List<DeploymentSettings> workbenchSettingsList, List<DeploymentSettings> monitoringSettingsList, List<DeploymentSettings> smartRouterSettingsList, boolean mavenRepository) {
+        super(cluster, flattenSettings(mavenRepository, kieServerSettingsList, workbenchSettingsList, monitoringSettingsList, smartRouterSettingsList));
+        this.kieServerSettingsList = kieServerSettingsList;
+        this.workbenchSettingsList = workbenchSettingsList;
+        this.monitoringSettingsList = monitoringSettingsList;
+        this.smartRouterSettingsList = smartRouterSettingsList;
+        this.mavenRepository = mavenRepository;
+    }
+
+    @Override
+    protected void createDeployments() {
+        workbenchDeployments.clear();
+        kieServerDeployments.clear();
+        smartRouterDeployments.clear();
+
+        if (mavenRepository) {
+            mavenRepositoryDeployment = new MavenRepositoryDeploymentImpl(cluster, namespace);
+            mavenRepositoryDeployment.create(1);
+        }
+        for (DeploymentSettings workbenchSettings : workbenchSettingsList) {
+            workbenchDeployments.add(createWorkbenchDeployment(workbenchSettings, WorkbenchDeploymentImpl.WORKBENCH_SERVICE_SUFFIX));
+        }
+        for (DeploymentSettings monitoringSettings : monitoringSettingsList) {
+            workbenchDeployments.add(createWorkbenchDeployment(monitoringSettings, WorkbenchDeploymentImpl.MONITORING_SERVICE_SUFFIX));
+        }
+        for (DeploymentSettings smartRouterSettings : smartRouterSettingsList) {
+            SmartRouterDeploymentImpl smartRouterDeployment = new SmartRouterDeploymentImpl(cluster, namespace, getApplicationName(smartRouterSettings));
+            smartRouterDeployment.create(1);
+            smartRouterDeployments.add(smartRouterDeployment);
+        }
+        for (DeploymentSettings kieServerSettings : kieServerSettingsList) {
+            KieServerDeploymentImpl kieServerDeployment = new KieServerDeploymentImpl(cluster, namespace, getApplicationName(kieServerSettings));
+            kieServerDeployment.setUsername(kieServerSettings.getEnvVariables().getOrDefault(InMemoryDeploymentSettings.KIE_SERVER_USER, DeploymentConstants.getKieServerUser()));
+            kieServerDeployment.setPassword(kieServerSettings.getEnvVariables().getOrDefault(InMemoryDeploymentSettings.KIE_SERVER_PWD, DeploymentConstants.getKieServerPassword()));
+            kieServerDeployment.create(1);
+            kieServerDeployments.add(kieServerDeployment);
+        }
+    }
+
+    private WorkbenchDeploymentImpl createWorkbenchDeployment(DeploymentSettings deploymentSettings, String serviceSuffix) {
+        WorkbenchDeploymentImpl workbenchDeployment = new WorkbenchDeploymentImpl(cluster, namespace, getApplicationName(deploymentSettings), serviceSuffix);
+        workbenchDeployment.setUsername(deploymentSettings.getEnvVariables().getOrDefault(InMemoryDeploymentSettings.KIE_ADMIN_USER, DeploymentConstants.getWorkbenchUser()));
+        workbenchDeployment.setPassword(deploymentSettings.getEnvVariables().getOrDefault(InMemoryDeploymentSettings.KIE_ADMIN_PWD, DeploymentConstants.getWorkbenchPassword()));
+        workbenchDeployment.create(1);
+        return workbenchDeployment;
+    }
+
+    private static String getApplicationName(DeploymentSettings deploymentSettings) {
+        return deploymentSettings.getEnvVariables().getOrDefault(InMemoryDeploymentSettings.APPLICATION_NAME, InMemoryConstants.getKieApplicationName());
+    }
+
+    @Override
+    public List<WorkbenchDeployment> getWorkbenchDeployments() {
+        return workbenchDeployments;
+    }
+
+    @Override
+    public List<KieServerDeployment> getKieServerDeployments() {
+        return kieServerDeployments;
+    }
+
+    @Override
+    public List<SmartRouterDeployment> getSmartRouterDeployments() {
+        return smartRouterDeployments;
+    }
+
+    @Override
+    public MavenRepositoryDeployment getMavenRepositoryDeployment() {
+        return mavenRepositoryDeployment;
+    }
+
+    @Override
+    public List<Deployment> getDeployments() {
+        List<Deployment> deployments = new ArrayList<>();
+        deployments.addAll(workbenchDeployments);
+        deployments.addAll(kieServerDeployments);
+        deployments.addAll(smartRouterDeployments);
+        if (mavenRepositoryDeployment != null) {
+            deployments.add(mavenRepositoryDeployment);
+        }
+        return deployments;
+    }
+
+    /**
+     * @return Environment variables of all settings prefixed by settings group and index, used for scenario fingerprint.
+     */
+    @SafeVarargs
+    private static Map<String, String> flattenSettings(boolean mavenRepository, List<DeploymentSettings>... settingsGroups) {
+        Map<String, String> flattenedSettings = new HashMap<>();
+        flattenedSettings.put("mavenRepository", Boolean.toString(mavenRepository));
+        for (int group = 0; group < settingsGroups.length; group++) {
+            for (int index = 0; index < settingsGroups[group].size(); index++) {
+                String prefix = group + "." + index + ".";
+                settingsGroups[group].get(index).getEnvVariables().forEach((key, value) -> flattenedSettings.put(prefix + key, value));
+            }
+        }
+        return flattenedSettings;
+    }
+}
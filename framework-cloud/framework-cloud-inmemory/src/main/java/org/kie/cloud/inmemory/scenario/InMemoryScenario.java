@@ -0,0 +1,87 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+
+package org.kie.cloud.inmemory.scenario;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import org.kie.cloud.api.deployment.Deployment;
+import org.kie.cloud.api.scenario.DeploymentScenario;
+import org.kie.cloud.common.logs.InstanceLogUtil;
+import org.kie.cloud.common.timeline.DeploymentTimeline;
+import org.kie.cloud.common.timeline.DeploymentTimeline.Span;
+import org.kie.cloud.inmemory.cluster.InMemoryCluster;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Scenario deployed to {@link InMemoryCluster}. All deployment configs are created first, then scenario waits until all of them are scaled.
+ */
+public abstract class InMemoryScenario implements DeploymentScenario {
+
+    private static final Logger logger = LoggerFactory.getLogger(InMemoryScenario.class);
+
+    protected final InMemoryCluster cluster;
+    protected final Map<String, String> envVariables;
+    protected String namespace;
+    private final String fingerprint;
+
+    protected InMemoryScenario(InMemoryCluster cluster, Map<String, String> envVariables) {
+        this.cluster = cluster;
+        this.envVariables = envVariables;
+        String fingerprintContent = getClass().getName() + new TreeMap<>(envVariables);
+        this.fingerprint = UUID.nameUUIDFromBytes(fingerprintContent.getBytes(StandardCharsets.UTF_8)).toString();
+    }
+
+    @Override
+    public String getNamespace() {
+        return namespace;
+    }
+
+    @Override
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    @Override
+    public void deploy() {
+        namespace = cluster.createNamespace();
+        try (Span span = DeploymentTimeline.forNamespace(namespace).span("scenario deployment")) {
+            createDeployments();
+            for (Deployment deployment : getDeployments()) {
+                deployment.waitForScale();
+            }
+        }
+        logger.info("Scenario {} deployed to namespace {}.", getClass().getSimpleName(), namespace);
+    }
+
+    /**
+     * Create deployments of the scenario in {@link #namespace}.
+     */
+    protected abstract void createDeployments();
+
+    @Override
+    public void undeploy() {
+        try (Span span = DeploymentTimeline.forNamespace(namespace).span("log collection")) {
+            InstanceLogUtil.writeDeploymentLogs(this);
+        }
+        cluster.deleteNamespace(namespace);
+        DeploymentTimeline.forNamespace(namespace).export();
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+
+package org.kie.cloud.inmemory.scenario;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.kie.cloud.api.deployment.Deployment;
+import org.kie.cloud.api.deployment.KieServerDeployment;
+import org.kie.cloud.api.scenario.KieServerWithExternalDatabaseScenario;
+import org.kie.cloud.inmemory.cluster.InMemoryCluster;
+import org.kie.cloud.inmemory.constants.InMemoryConstants;
+import org.kie.cloud.inmemory.deployment.KieServerDeploymentImpl;
+import org.kie.cloud.inmemory.settings.InMemoryDeploymentSettings;
+
+public class KieServerWithExternalDatabaseScenarioImpl extends InMemoryScenario implements KieServerWithExternalDatabaseScenario {
+
+    private KieServerDeploymentImpl kieServerDeployment;
+
+    public KieServerWithExternalDatabaseScenarioImpl(InMemoryCluster cluster, Map<String, String> envVariables) {
+        super(cluster, envVariables);
+    }
+
+    @Override
+    protected void createDeployments() {
+        kieServerDeployment = new KieServerDeploymentImpl(cluster, namespace, InMemoryConstants.getKieApplicationName());
+        kieServerDeployment.setUsername(envVariables.get(InMemoryDeploymentSettings.KIE_SERVER_USER));
+        kieServerDeployment.setPassword(envVariables.get(InMemoryDeploymentSettings.KIE_SERVER_PWD));
+        kieServerDeployment.create(1);
+    }
+
+    @Override
+    public KieServerDeployment getKieServerDeployment() {
+        return kieServerDeployment;
+    }
+
+    @Override
+    public List<Deployment> getDeployments() {
+        return Arrays.asList(kieServerDeployment);
+    }
+}
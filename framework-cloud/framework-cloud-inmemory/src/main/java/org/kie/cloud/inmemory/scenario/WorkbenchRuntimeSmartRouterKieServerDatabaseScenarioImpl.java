@@ -0,0 +1,93 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+
+package org.kie.cloud.inmemory.scenario;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.kie.cloud.api.deployment.DatabaseDeployment;
+import org.kie.cloud.api.deployment.Deployment;
+import org.kie.cloud.api.deployment.KieServerDeployment;
+import org.kie.cloud.api.deployment.SmartRouterDeployment;
+import org.kie.cloud.api.deployment.WorkbenchDeployment;
+import org.kie.cloud.api.scenario.WorkbenchRuntimeSmartRouterKieServerDatabaseScenario;
+import org.kie.cloud.inmemory.cluster.InMemoryCluster;
+import org.kie.cloud.inmemory.constants.InMemoryConstants;
+import org.kie.cloud.inmemory.deployment.DatabaseDeploymentImpl;
+import org.kie.cloud.inmemory.deployment.KieServerDeploymentImpl;
+import org.kie.cloud.inmemory.deployment.SmartRouterDeploymentImpl;
+import org.kie.cloud.inmemory.deployment.WorkbenchDeploymentImpl;
+import org.kie.cloud.inmemory.settings.InMemoryDeploymentSettings;
+
+public class WorkbenchRuntimeSmartRouterKieServerDatabaseScenarioImpl extends InMemoryScenario implements WorkbenchRuntimeSmartRouterKieServerDatabaseScenario {
+
+    private WorkbenchDeploymentImpl workbenchRuntimeDeployment;
+    private SmartRouterDeploymentImpl smartRouterDeployment;
+    private KieServerDeploymentImpl kieServerDeployment;
+    private DatabaseDeploymentImpl databaseDeployment;
+
+    public WorkbenchRuntimeSmartRouterKieServerDatabaseScenarioImpl(InMemoryCluster cluster, Map<String, String> envVariables) {
+        super(cluster, envVariables);
+    }
+
+    @Override
+    protected void createDeployments() {
+        String applicationName = InMemoryConstants.getKieApplicationName();
+
+        workbenchRuntimeDeployment = new WorkbenchDeploymentImpl(cluster, namespace, applicationName, WorkbenchDeploymentImpl.MONITORING_SERVICE_SUFFIX);
+        workbenchRuntimeDeployment.setUsername(envVariables.get(InMemoryDeploymentSettings.KIE_ADMIN_USER));
+        workbenchRuntimeDeployment.setPassword(envVariables.get(InMemoryDeploymentSettings.KIE_ADMIN_PWD));
+        workbenchRuntimeDeployment.create(1);
+
+        smartRouterDeployment = new SmartRouterDeploymentImpl(cluster, namespace, applicationName);
+        smartRouterDeployment.create(1);
+
+        kieServerDeployment = new KieServerDeploymentImpl(cluster, namespace, applicationName);
+        kieServerDeployment.setUsername(envVariables.get(InMemoryDeploymentSettings.KIE_SERVER_USER));
+        kieServerDeployment.setPassword(envVariables.get(InMemoryDeploymentSettings.KIE_SERVER_PWD));
+        kieServerDeployment.create(1);
+
+        databaseDeployment = new DatabaseDeploymentImpl(cluster, namespace, applicationName);
+        databaseDeployment.create(1);
+    }
+
+    @Override
+    public WorkbenchDeployment getWorkbenchRuntimeDeployment() {
+        return workbenchRuntimeDeployment;
+    }
+
+    @Override
+    public SmartRouterDeployment getSmartRouterDeployment() {
+        return smartRouterDeployment;
+    }
+
+    @Override
+    public KieServerDeployment getKieServerDeployment() {
+        return kieServerDeployment;
+    }
+
+    @Override
+    public DatabaseDeployment getDatabaseDeployment() {
+        return databaseDeployment;
+    }
+
+    @Override
+    public List<Deployment> getDeployments() {
+        return Arrays.asList(workbenchRuntimeDeployment, smartRouterDeployment, kieServerDeployment, databaseDeployment);
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.cloud.inmemory.scenario.builder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.kie.cloud.api.scenario.GenericScenario;
+import org.kie.cloud.api.scenario.builder.GenericScenarioBuilder;
+import org.kie.cloud.api.settings.DeploymentSettings;
+import org.kie.cloud.inmemory.cluster.InMemoryCluster;
+import org.kie.cloud.inmemory.scenario.GenericScenarioImpl;
+
+public class GenericScenarioBuilderImpl implements GenericScenarioBuilder {
+
+    private final InMemoryCluster cluster;
+
+    private final List<DeploymentSettings> kieServerSettingsList = new ArrayList<>();
+    private final List<DeploymentSettings> workbenchSettingsList = new ArrayList<>();
+    private final List<DeploymentSettings> monitoringSettingsList = new ArrayList<>();
+    private final List<DeploymentSettings> smartRouterSettingsList = new ArrayList<>();
+    private boolean mavenRepository;
+
+    public GenericScenarioBuilderImpl(InMemoryCluster cluster) {
+        this.cluster = cluster;
+    }
+
+    @Override
+    public GenericScenario build() {
+        return new GenericScenarioImpl(cluster, kieServerSettingsList, workbenchSettingsList, monitoringSettingsList, smartRouterSettingsList, mavenRepository);
+    }
+
+    @Override
+    public GenericScenarioBuilder withKieServer(DeploymentSettings kieServerSettings) {
+        kieServerSettingsList.add(kieServerSettings);
+        return this;
+    }
+
+    @Override
+    public GenericScenarioBuilder withKieServer(DeploymentSettings... kieServersSettings) {
+        kieServerSettingsList.addAll(Arrays.asList(kieServersSettings));
+        return this;
+    }
+
+    @Override
+    public GenericScenarioBuilder withWorkbench(DeploymentSettings workbenchSettings) {
+        workbenchSettingsList.add(workbenchSettings);
+        return this;
+    }
+
+    @Override
+    public GenericScenarioBuilder withMonitoring(DeploymentSettings workbenchSettings) {
+        monitoringSettingsList.add(workbenchSettings);
+        return this;
+    }
+
+    @Override
+    public GenericScenarioBuilder withSmartRouter(DeploymentSettings smartRouterSettings) {
+        smartRouterSettingsList.add(smartRouterSettings);
+        return this;
+    }
+
+    @Override
+    public GenericScenarioBuilder withMavenRepository() {
+        mavenRepository = true;
+        return this;
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.cloud.inmemory.scenario.builder;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.kie.cloud.api.deployment.constants.DeploymentConstants;
+import org.kie.cloud.api.scenario.WorkbenchRuntimeSmartRouterKieServerDatabaseScenario;
+import org.kie.cloud.api.scenario.builder.WorkbenchRuntimeSmartRouterKieServerDatabaseScenarioBuilder;
+import org.kie.cloud.inmemory.cluster.InMemoryCluster;
+import org.kie.cloud.inmemory.scenario.WorkbenchRuntimeSmartRouterKieServerDatabaseScenarioImpl;
+import org.kie.cloud.inmemory.settings.InMemoryDeploymentSettings;
+
+public class WorkbenchRuntimeSmartRouterKieServerDatabaseScenarioBuilderImpl implements WorkbenchRuntimeSmartRouterKieServerDatabaseScenarioBuilder {
+
+    private final InMemoryCluster cluster;
+    private final Map<String, String> envVariables = new HashMap<>();
+
+    public WorkbenchRuntimeSmartRouterKieServerDatabaseScenarioBuilderImpl(InMemoryCluster cluster) {
+        this.cluster = cluster;
+
+        // Same defaults as the OpenShift template, which doesn't allow to set Kie server username/password
+        envVariables.put(InMemoryDeploymentSettings.KIE_SERVER_USER, "executionUser");
+        envVariables.put(InMemoryDeploymentSettings.KIE_SERVER_PWD, "execution1!");
+        envVariables.put(InMemoryDeploymentSettings.KIE_ADMIN_USER, DeploymentConstants.getWorkbenchUser());
+        envVariables.put(InMemoryDeploymentSettings.KIE_ADMIN_PWD, DeploymentConstants.getWorkbenchPassword());
+    }
+
+    @Override
+    public WorkbenchRuntimeSmartRouterKieServerDatabaseScenario build() {
+        return new WorkbenchRuntimeSmartRouterKieServerDatabaseScenarioImpl(cluster, envVariables);
+    }
+
+    @Override
+    public WorkbenchRuntimeSmartRouterKieServerDatabaseScenarioBuilder withExternalMavenRepo(String repoUrl, String repoUserName, String repoPassword) {
+        envVariables.put(InMemoryDeploymentSettings.MAVEN_REPO_URL, repoUrl);
+        envVariables.put(InMemoryDeploymentSettings.MAVEN_REPO_USERNAME, repoUserName);
+        envVariables.put(InMemoryDeploymentSettings.MAVEN_REPO_PASSWORD, repoPassword);
+        return this;
+    }
+
+    @Override
+    public WorkbenchRuntimeSmartRouterKieServerDatabaseScenarioBuilder withSmartRouterId(String smartRouterId) {
+        envVariables.put(InMemoryDeploymentSettings.KIE_SERVER_ROUTER_ID, smartRouterId);
+        return this;
+    }
+}
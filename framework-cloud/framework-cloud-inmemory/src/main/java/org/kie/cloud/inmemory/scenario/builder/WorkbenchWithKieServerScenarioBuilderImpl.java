@@ -0,0 +1,54 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.cloud.inmemory.scenario.builder;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.kie.cloud.api.deployment.constants.DeploymentConstants;
+import org.kie.cloud.api.scenario.WorkbenchWithKieServerScenario;
+import org.kie.cloud.api.scenario.builder.WorkbenchWithKieServerScenarioBuilder;
+import org.kie.cloud.inmemory.cluster.InMemoryCluster;
+import org.kie.cloud.inmemory.scenario.WorkbenchWithKieServerScenarioImpl;
+import org.kie.cloud.inmemory.settings.InMemoryDeploymentSettings;
+
+public class WorkbenchWithKieServerScenarioBuilderImpl implements WorkbenchWithKieServerScenarioBuilder {
+
+    private final InMemoryCluster cluster;
+    private final Map<String, String> envVariables = new HashMap<>();
+
+    public WorkbenchWithKieServerScenarioBuilderImpl(InMemoryCluster cluster) {
+        this.cluster = cluster;
+
+        envVariables.put(InMemoryDeploymentSettings.KIE_SERVER_USER, DeploymentConstants.getKieServerUser());
+        envVariables.put(InMemoryDeploymentSettings.KIE_SERVER_PWD, DeploymentConstants.getKieServerPassword());
+        envVariables.put(InMemoryDeploymentSettings.KIE_ADMIN_USER, DeploymentConstants.getWorkbenchUser());
+        envVariables.put(InMemoryDeploymentSettings.KIE_ADMIN_PWD, DeploymentConstants.getWorkbenchPassword());
+    }
+
+    @Override
+    public WorkbenchWithKieServerScenario build() {
+        return new WorkbenchWithKieServerScenarioImpl(cluster, envVariables);
+    }
+
+    @Override
+    public WorkbenchWithKieServerScenarioBuilder withExternalMavenRepo(String repoUrl, String repoUserName, String repoPassword) {
+        envVariables.put(InMemoryDeploymentSettings.MAVEN_REPO_URL, repoUrl);
+        envVariables.put(InMemoryDeploymentSettings.MAVEN_REPO_USERNAME, repoUserName);
+        envVariables.put(InMemoryDeploymentSettings.MAVEN_REPO_PASSWORD, repoPassword);
+        return this;
+    }
+}
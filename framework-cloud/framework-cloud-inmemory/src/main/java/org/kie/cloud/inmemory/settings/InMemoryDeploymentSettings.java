@@ -0,0 +1,58 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+
+package org.kie.cloud.inmemory.settings;
+
+import java.net.URL;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.kie.cloud.api.settings.DeploymentSettings;
+
+/**
+ * Settings of simulated deployment. Environment variables use the same names as OpenShift template parameters.
+ */
+public class InMemoryDeploymentSettings implements DeploymentSettings {
+
+    public static final String APPLICATION_NAME = "APPLICATION_NAME";
+    public static final String KIE_ADMIN_USER = "KIE_ADMIN_USER";
+    public static final String KIE_ADMIN_PWD = "KIE_ADMIN_PWD";
+    public static final String KIE_SERVER_USER = "KIE_SERVER_USER";
+    public static final String KIE_SERVER_PWD = "KIE_SERVER_PWD";
+    public static final String KIE_SERVER_ROUTER_ID = "KIE_SERVER_ROUTER_ID";
+    public static final String MAVEN_REPO_URL = "MAVEN_REPO_URL";
+    public static final String MAVEN_REPO_USERNAME = "MAVEN_REPO_USERNAME";
+    public static final String MAVEN_REPO_PASSWORD = "MAVEN_REPO_PASSWORD";
+
+    private final Map<String, String> envVariables;
+
+    public InMemoryDeploymentSettings(Map<String, String> envVariables) {
+        this.envVariables = new HashMap<>(envVariables);
+    }
+
+    @Override
+    public Map<String, String> getEnvVariables() {
+        return envVariables;
+    }
+
+    /**
+     * @return Null, simulated deployments aren't created from deployment scripts.
+     */
+    @Override
+    public URL getDeploymentScriptUrl() {
+        return null;
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+
+package org.kie.cloud.inmemory.settings;
+
+import static org.kie.cloud.inmemory.settings.InMemoryDeploymentSettings.APPLICATION_NAME;
+import static org.kie.cloud.inmemory.settings.InMemoryDeploymentSettings.KIE_ADMIN_PWD;
+import static org.kie.cloud.inmemory.settings.InMemoryDeploymentSettings.KIE_ADMIN_USER;
+import static org.kie.cloud.inmemory.settings.InMemoryDeploymentSettings.KIE_SERVER_PWD;
+import static org.kie.cloud.inmemory.settings.InMemoryDeploymentSettings.KIE_SERVER_ROUTER_ID;
+import static org.kie.cloud.inmemory.settings.InMemoryDeploymentSettings.KIE_SERVER_USER;
+import static org.kie.cloud.inmemory.settings.InMemoryDeploymentSettings.MAVEN_REPO_PASSWORD;
+import static org.kie.cloud.inmemory.settings.InMemoryDeploymentSettings.MAVEN_REPO_URL;
+import static org.kie.cloud.inmemory.settings.InMemoryDeploymentSettings.MAVEN_REPO_USERNAME;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.kie.cloud.api.protocol.Protocol;
+import org.kie.cloud.api.settings.DeploymentSettings;
+import org.kie.cloud.api.settings.builder.KieServerS2ISettingsBuilder;
+import org.kie.cloud.api.settings.builder.KieServerSettingsBuilder;
+import org.kie.cloud.api.settings.builder.SmartRouterSettingsBuilder;
+import org.kie.cloud.api.settings.builder.WorkbenchMonitoringSettingsBuilder;
+import org.kie.cloud.api.settings.builder.WorkbenchSettingsBuilder;
+
+/**
+ * Settings builder for all simulated deployment types. Simulated deployments don't interpret the settings,
+ * settings are only recorded as environment variables so they are part of the scenario fingerprint.
+ */
+public class InMemorySettingsBuilder implements KieServerSettingsBuilder, KieServerS2ISettingsBuilder, WorkbenchSettingsBuilder,
+        WorkbenchMonitoringSettingsBuilder, SmartRouterSettingsBuilder {
+
+    private final Map<String, String> envVariables = new HashMap<>();
+
+    @Override
+    public DeploymentSettings build() {
+        return new InMemoryDeploymentSettings(envVariables);
+    }
+
+    @Override
+    public InMemorySettingsBuilder withApplicationName(String name) {
+        return with(APPLICATION_NAME, name);
+    }
+
+    @Override
+    public InMemorySettingsBuilder withAdminUser(String user, String password) {
+        return with(KIE_ADMIN_USER, user).with(KIE_ADMIN_PWD, password);
+    }
+
+    @Override
+    public InMemorySettingsBuilder withKieServerUser(String kieServerUser, String kieServerPwd) {
+        return with(KIE_SERVER_USER, kieServerUser).with(KIE_SERVER_PWD, kieServerPwd);
+    }
+
+    @Override
+    public InMemorySettingsBuilder withControllerUser(String controllerUser, String controllerPwd) {
+        return with("KIE_SERVER_CONTROLLER_USER", controllerUser).with("KIE_SERVER_CONTROLLER_PWD", controllerPwd);
+    }
+
+    @Override
+    public InMemorySettingsBuilder withControllerProtocol(Protocol protocol) {
+        return with("KIE_SERVER_CONTROLLER_PROTOCOL", protocol.name());
+    }
+
+    @Override
+    public InMemorySettingsBuilder withControllerConnection(String serviceName) {
+        return with("KIE_SERVER_CONTROLLER_SERVICE", serviceName);
+    }
+
+    @Override
+    public InMemorySettingsBuilder withControllerConnection(String url, String port) {
+        return with("KIE_SERVER_CONTROLLER_HOST", url).with("KIE_SERVER_CONTROLLER_PORT", port);
+    }
+
+    @Override
+    public InMemorySettingsBuilder withSmartRouterConnection(String url, String port) {
+        return with("KIE_SERVER_ROUTER_HOST", url).with("KIE_SERVER_ROUTER_PORT", port);
+    }
+
+    @Override
+    public InMemorySettingsBuilder withSmartRouterConnection(String serviceName) {
+        return with("KIE_SERVER_ROUTER_SERVICE", serviceName);
+    }
+
+    @Override
+    public InMemorySettingsBuilder withExternalDatabase() {
+        return with("KIE_SERVER_EXTERNAL_DATABASE", "true");
+    }
+
+    @Override
+    public InMemorySettingsBuilder withContainerDeployment(String kieContainerDeployment) {
+        return with("KIE_SERVER_CONTAINER_DEPLOYMENT", kieContainerDeployment);
+    }
+
+    @Override
+    public InMemorySettingsBuilder withSourceLocation(String gitRepoUrl, String gitReference, String gitContextDir) {
+        return with("SOURCE_REPOSITORY_URL", gitRepoUrl).with("SOURCE_REPOSITORY_REF", gitReference).with("CONTEXT_DIR", gitContextDir);
+    }
+
+    @Override
+    public InMemorySettingsBuilder withMavenRepoUrl(String url) {
+        return with(MAVEN_REPO_URL, url);
+    }
+
+    @Override
+    public InMemorySettingsBuilder withMavenRepoService(String serviceName, String path) {
+        return with("MAVEN_REPO_SERVICE", serviceName).with("MAVEN_REPO_PATH", path);
+    }
+
+    @Override
+    public InMemorySettingsBuilder withMavenRepoUser(String repoUser, String repoPassword) {
+        return with(MAVEN_REPO_USERNAME, repoUser).with(MAVEN_REPO_PASSWORD, repoPassword);
+    }
+
+    @Override
+    public InMemorySettingsBuilder withKieServerSyncDeploy(boolean syncDeploy) {
+        return with("KIE_SERVER_SYNC_DEPLOY", Boolean.toString(syncDeploy));
+    }
+
+    @Override
+    public InMemorySettingsBuilder withKieServerBypassAuthUser(boolean bypassAuth) {
+        return with("KIE_SERVER_BYPASS_AUTH_USER", Boolean.toString(bypassAuth));
+    }
+
+    @Override
+    public InMemorySettingsBuilder withDroolsServerFilterClasses(boolean droolsFilter) {
+        return with("DROOLS_SERVER_FILTER_CLASSES", Boolean.toString(droolsFilter));
+    }
+
+    @Override
+    public InMemorySettingsBuilder withSmartRouterID(String id) {
+        return with(KIE_SERVER_ROUTER_ID, id);
+    }
+
+    @Override
+    public InMemorySettingsBuilder withSmartRouterName(String name) {
+        return with("KIE_SERVER_ROUTER_NAME", name);
+    }
+
+    @Override
+    public InMemorySettingsBuilder withSmarRouterConfig(String host, String port) {
+        return with("KIE_SERVER_ROUTER_HOST", host).with("KIE_SERVER_ROUTER_PORT", port);
+    }
+
+    @Override
+    public InMemorySettingsBuilder withSmartRouterExternalUrl(String url) {
+        return with("KIE_SERVER_ROUTER_URL_EXTERNAL", url);
+    }
+
+    @Override
+    public InMemorySettingsBuilder withHostame(String http) {
+        return with("HOSTNAME_HTTP", http);
+    }
+
+    @Override
+    public InMemorySettingsBuilder withSecuredHostame(String https) {
+        return with("HOSTNAME_HTTPS", https);
+    }
+
+    private InMemorySettingsBuilder with(String envVariable, String value) {
+        envVariables.put(envVariable, value);
+        return this;
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+
+
+package org.kie.cloud.inmemory.cluster;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.Test;
+import org.kie.cloud.api.deployment.DeploymentTimeoutException;
+import org.kie.cloud.inmemory.cluster.SimulatedPod.Phase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class InMemoryClusterTest {
+
+    private static final Duration DELAY = Duration.ofMillis(20);
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+    private static final String DEPLOYMENT_CONFIG = "myapp-execserv";
+
+    @Test
+    public void testScaleUpAndDown() {
+        InMemoryCluster cluster = new InMemoryCluster(DELAY, DELAY, DELAY, 0);
+        String namespace = cluster.createNamespace();
+        cluster.createDeploymentConfig(namespace, DEPLOYMENT_CONFIG, 1);
+        cluster.waitForScale(namespace, DEPLOYMENT_CONFIG, TIMEOUT);
+
+        cluster.scale(namespace, DEPLOYMENT_CONFIG, 3);
+        cluster.waitForScale(namespace, DEPLOYMENT_CONFIG, TIMEOUT);
+        assertThat(cluster.getPods(namespace, DEPLOYMENT_CONFIG)).hasSize(3).extracting(SimulatedPod::getPhase).containsOnly(Phase.READY);
+
+        cluster.scale(namespace, DEPLOYMENT_CONFIG, 0);
+        cluster.waitForScale(namespace, DEPLOYMENT_CONFIG, TIMEOUT);
+        assertThat(cluster.getPods(namespace, DEPLOYMENT_CONFIG)).isEmpty();
+    }
+
+    @Test
+    public void testDeletedPodIsReplaced() {
+        InMemoryCluster cluster = new InMemoryCluster(DELAY, DELAY, DELAY, 0);
+        String namespace = cluster.createNamespace();
+        cluster.createDeploymentConfig(namespace, DEPLOYMENT_CONFIG, 1);
+        cluster.waitForScale(namespace, DEPLOYMENT_CONFIG, TIMEOUT);
+        String deletedPodName = cluster.getPods(namespace, DEPLOYMENT_CONFIG).get(0).getName();
+
+        cluster.deletePod(namespace, deletedPodName);
+        cluster.waitForScale(namespace, DEPLOYMENT_CONFIG, TIMEOUT);
+
+        List<SimulatedPod> pods = cluster.getPods(namespace, DEPLOYMENT_CONFIG);
+        assertThat(pods).hasSize(1);
+        assertThat(pods.get(0).getName()).isNotEqualTo(deletedPodName);
+    }
+
+    @Test
+    public void testFailingPodsTimeout() {
+        InMemoryCluster cluster = new InMemoryCluster(DELAY, DELAY, DELAY, 1);
+        String namespace = cluster.createNamespace();
+        cluster.createDeploymentConfig(namespace, DEPLOYMENT_CONFIG, 1);
+
+        Throwable thrown = catchThrowable(() -> cluster.waitForScale(namespace, DEPLOYMENT_CONFIG, Duration.ofMillis(300)));
+        assertThat(thrown).isInstanceOf(DeploymentTimeoutException.class);
+        assertThat(cluster.getPods(namespace, DEPLOYMENT_CONFIG).get(0).getRestartCount()).isPositive();
+    }
+}
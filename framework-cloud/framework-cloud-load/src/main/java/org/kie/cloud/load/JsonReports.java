@@ -0,0 +1,54 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.cloud.load;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.Instant;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.apache.commons.io.FileUtils;
+import org.kie.cloud.common.logs.InstanceLogUtil;
+
+/**
+ * Serialization of load reports to JSON files in instance log directory.
+ */
+class JsonReports {
+
+    private static final Gson gson = new GsonBuilder().setPrettyPrinting().serializeSpecialFloatingPointValues().create();
+
+    private JsonReports() {
+        // Util class
+    }
+
+    static String toJson(Object report) {
+        return gson.toJson(report);
+    }
+
+    /**
+     * @return Written file.
+     */
+    static File export(Object report, String namespace, String filePrefix, Instant startTime) {
+        File reportFile = new File(InstanceLogUtil.getOutputDirectory(namespace), filePrefix + startTime.toEpochMilli() + ".json");
+        try {
+            FileUtils.write(reportFile, toJson(report), "UTF-8");
+        } catch (IOException e) {
+            throw new RuntimeException("Error writing load report of namespace " + namespace, e);
+        }
+        return reportFile;
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.cloud.load;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.kie.cloud.api.deployment.KieServerDeployment;
+import org.kie.cloud.api.deployment.SmartRouterDeployment;
+import org.kie.cloud.common.provider.KieServerClientProvider;
+import org.kie.cloud.common.util.DaemonThreadFactory;
+import org.kie.cloud.load.operation.LoadOperation;
+import org.kie.cloud.load.operation.LoadOperation.Invocation;
+import org.kie.server.client.KieServicesClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Generates load against Kie server or Smart router from several worker threads. Every worker invokes operations from
+ * the mix one after another, optionally paced to reach target throughput.
+ */
+public class LoadGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadGenerator.class);
+
+
+    private final String namespace;
+    private final String target;
+    private final Supplier<KieServicesClient> clientSupplier;
+    private final LoadMix mix = new LoadMix();
+    private int threads = 1;
+    private Duration duration = Duration.ofMinutes(1);
+    private double targetThroughput;
+
+    private LoadGenerator(String namespace, String target, Supplier<KieServicesClient> clientSupplier) {
+        this.namespace = namespace;
+        this.target = target;
+        this.clientSupplier = clientSupplier;
+    }
+
+    public static LoadGenerator forKieServer(KieServerDeployment kieServerDeployment) {
+        return new LoadGenerator(kieServerDeployment.getNamespace(), kieServerDeployment.getUrl().toString(),
+                () -> KieServerClientProvider.getKieServerClient(kieServerDeployment));
+    }
+
+    public static LoadGenerator forSmartRouter(SmartRouterDeployment smartRouterDeployment, String userName, String password) {
+        return new LoadGenerator(smartRouterDeployment.getNamespace(), smartRouterDeployment.getUrl().toString(),
+                () -> KieServerClientProvider.getSmartRouterClient(smartRouterDeployment, userName, password));
+    }
+
+    /**
+     * @param operation Operation to be invoked.
+     * @param weight Relative weight of the operation in the mix.
+     */
+    public LoadGenerator withOperation(LoadOperation operation, int weight) {
+        mix.add(operation, weight);
+        return this;
+    }
+
+    public LoadGenerator withThreads(int threads) {
+        this.threads = threads;
+        return this;
+    }
+
+    public LoadGenerator withDuration(Duration duration) {
+        this.duration = duration;
+        return this;
+    }
+
+    /**
+     * Pace workers to reach target number of invocations per second in total. Latencies of paced invocations are
+     * corrected for coordinated omission, invocations delayed by slow responses are accounted for.
+     *
+     * @param targetThroughput Invocations per second, 0 means no pacing.
+     */
+    public LoadGenerator withTargetThroughput(double targetThroughput) {
+        this.targetThroughput = targetThroughput;
+        return this;
+    }
+
+    /**
+     * Run the load and wait until it finishes.
+     *
+     * @return Report of the run.
+     */
+    public LoadReport run() {
+        if (mix.isEmpty()) {
+            throw new IllegalStateException("No operation to be invoked.");
+        }
+        KieServicesClient client = clientSupplier.get();
+        long intervalNanos = targetThroughput > 0 ? (long) (threads * TimeUnit.SECONDS.toNanos(1) / targetThroughput) : 0;
+
+        logger.info("Generating load against {} from {} threads for {}.", target, threads, duration);
+        ExecutorService workerExecutorService = Executors.newFixedThreadPool(threads, new DaemonThreadFactory("load-worker"));
+
+        Instant startTime = Instant.now();
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        List<Map<String, OperationStatistics>> workerStatistics = new ArrayList<>();
+        try {
+            List<Future<Map<String, OperationStatistics>>> workers = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                // Paced workers are spread evenly over the interval
+                long firstInvocation = start + i * intervalNanos / threads;
+                workers.add(workerExecutorService.submit(() -> work(client, firstInvocation, end, intervalNanos)));
+            }
+            for (Future<Map<String, OperationStatistics>> worker : workers) {
+                workerStatistics.add(worker.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while generating load", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Error generating load", e.getCause());
+        } finally {
+            workerExecutorService.shutdownNow();
+        }
+        long elapsedNanos = System.nanoTime() - start;
+
+        return createReport(workerStatistics, startTime, elapsedNanos);
+    }
+
+    private Map<String, OperationStatistics> work(KieServicesClient client, long firstInvocation, long end, long intervalNanos) throws InterruptedException {
+        Map<String, OperationStatistics> statistics = new HashMap<>();
+        long nextInvocation = firstInvocation;
+        while (true) {
+            if (intervalNanos > 0) {
+                sleepUntil(nextInvocation);
+            }
+            if (System.nanoTime() >= end) {
+                return statistics;
+            }
+
+            LoadOperation operation = mix.next(ThreadLocalRandom.current());
+            OperationStatistics operationStatistics = statistics.computeIfAbsent(operation.getName(), n -> new OperationStatistics());
+            try {
+                Invocation invocation = operation.prepare(client);
+                long invocationStart = System.nanoTime();
+                invocation.invoke();
+                operationStatistics.recordSuccess(System.nanoTime() - invocationStart, intervalNanos);
+            } catch (Exception e) {
+                if (operationStatistics.getErrors() == 0) {
+                    logger.warn("Operation {} failed, further failures are just counted.", operation.getName(), e);
+                }
+                operationStatistics.recordError(e);
+            }
+            // Behind schedule invocations aren't skipped, they are invoked right away
+            nextInvocation += intervalNanos;
+        }
+    }
+
+    private LoadReport createReport(List<Map<String, OperationStatistics>> workerStatistics, Instant startTime, long elapsedNanos) {
+        double elapsedSeconds = elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1);
+        Map<String, OperationStatistics> mergedStatistics = new LinkedHashMap<>();
+        for (LoadOperation operation : mix.getOperations()) {
+            mergedStatistics.put(operation.getName(), new OperationStatistics());
+        }
+        OperationStatistics totalStatistics = new OperationStatistics();
+        for (Map<String, OperationStatistics> statistics : workerStatistics) {
+            statistics.forEach((name, operationStatistics) -> {
+                mergedStatistics.get(name).add(operationStatistics);
+                totalStatistics.add(operationStatistics);
+            });
+        }
+
+        Map<String, OperationReport> operationReports = new LinkedHashMap<>();
+        mergedStatistics.forEach((name, statistics) -> operationReports.put(name, new OperationReport(statistics, elapsedSeconds)));
+        OperationReport totalReport = new OperationReport(totalStatistics, elapsedSeconds);
+        logger.info("Load against {} finished, {} invocations per second, {} errors, p99 latency {} ms.", target,
+                String.format("%.1f", totalReport.getThroughput()), totalReport.getErrors(), totalReport.getLatencyP99());
+
+        return new LoadReport(namespace, target, threads, targetThroughput, startTime, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), operationReports, totalReport);
+    }
+
+    private static void sleepUntil(long nanoTime) throws InterruptedException {
+        long remainingNanos = nanoTime - System.nanoTime();
+        if (remainingNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(remainingNanos);
+        }
+    }
+}
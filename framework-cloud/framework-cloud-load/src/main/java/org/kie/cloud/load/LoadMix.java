@@ -0,0 +1,69 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.cloud.load;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.kie.cloud.load.operation.LoadOperation;
+
+/**
+ * Weighted mix of operations, each invocation picks operation randomly with probability given by its weight.
+ */
+public class LoadMix {
+
+    private final List<LoadOperation> operations = new ArrayList<>();
+    private final List<Integer> cumulativeWeights = new ArrayList<>();
+    private int totalWeight;
+
+    /**
+     * @param operation Operation to be added to the mix.
+     * @param weight Relative weight of the operation.
+     * @return This mix.
+     */
+    public LoadMix add(LoadOperation operation, int weight) {
+        if (weight <= 0) {
+            throw new IllegalArgumentException("Weight of operation " + operation.getName() + " has to be positive.");
+        }
+        totalWeight += weight;
+        operations.add(operation);
+        cumulativeWeights.add(totalWeight);
+        return this;
+    }
+
+    public List<LoadOperation> getOperations() {
+        return Collections.unmodifiableList(operations);
+    }
+
+    public boolean isEmpty() {
+        return operations.isEmpty();
+    }
+
+    /**
+     * @return Randomly picked operation.
+     */
+    public LoadOperation next(Random random) {
+        int value = random.nextInt(totalWeight);
+        for (int i = 0; i < operations.size(); i++) {
+            if (value < cumulativeWeights.get(i)) {
+                return operations.get(i);
+            }
+        }
+        throw new IllegalStateException("Operation mix is empty.");
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.cloud.load;
+
+import java.io.File;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Result of load generator run, can be exported as JSON.
+ */
+public class LoadReport {
+
+    private static final String REPORT_FILE_PREFIX = "load-report-";
+
+    private final String namespace;
+    private final String target;
+    private final int threads;
+    private final double targetThroughput;
+    private final String startTime;
+    private final long durationMillis;
+    private final Map<String, OperationReport> operations;
+    private final OperationReport total;
+
+    LoadReport(String namespace, String target, int threads, double targetThroughput, Instant startTime, long durationMillis,
+            Map<String, OperationReport> operations, OperationReport total) {
+        this.namespace = namespace;
+        this.target = target;
+        this.threads = threads;
+        this.targetThroughput = targetThroughput;
+        this.startTime = startTime.toString();
+        this.durationMillis = durationMillis;
+        this.operations = operations;
+        this.total = total;
+    }
+
+    public String getNamespace() {
+        return namespace;
+    }
+
+    /**
+     * @return URL of loaded Kie server or Smart router.
+     */
+    public String getTarget() {
+        return target;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * @return Requested invocations per second, 0 if invocations weren't paced.
+     */
+    public double getTargetThroughput() {
+        return targetThroughput;
+    }
+
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    /**
+     * @return Reports of operations by operation name.
+     */
+    public Map<String, OperationReport> getOperations() {
+        return Collections.unmodifiableMap(operations);
+    }
+
+    /**
+     * @return Report of all operations together.
+     */
+    public OperationReport getTotal() {
+        return total;
+    }
+
+    public String toJson() {
+        return JsonReports.toJson(this);
+    }
+
+    /**
+     * Write the report as JSON to instance log directory of the namespace.
+     *
+     * @return Written file.
+     */
+    public File export() {
+        return JsonReports.export(this, namespace, REPORT_FILE_PREFIX, Instant.parse(startTime));
+    }
+}
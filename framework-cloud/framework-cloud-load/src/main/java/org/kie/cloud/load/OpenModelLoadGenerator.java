@@ -0,0 +1,455 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.cloud.load;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.kie.cloud.api.deployment.KieServerDeployment;
+import org.kie.cloud.api.deployment.SmartRouterDeployment;
+import org.kie.cloud.common.provider.KieServerClientProvider;
+import org.kie.cloud.common.util.DaemonThreadFactory;
+import org.kie.cloud.load.operation.LoadOperation;
+import org.kie.cloud.load.operation.LoadOperation.Invocation;
+import org.kie.server.client.KieServicesClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Generates open model load against Kie server or Smart router. Requests are sent on a fixed schedule regardless of
+ * how fast responses come back, so latency measured from planned send time includes queueing delay at the given
+ * request rate. Load starts with warm-up, which isn't measured, followed by stages of increasing rate.
+ */
+public class OpenModelLoadGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(OpenModelLoadGenerator.class);
+
+    private static final double SLO_PERCENTILE = 99;
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+
+    private final String namespace;
+    private final String target;
+    private final Supplier<KieServicesClient> clientSupplier;
+    private final LoadMix mix = new LoadMix();
+    private final List<Stage> stages = new ArrayList<>();
+    private Stage warmUp;
+    private Duration settleTime = Duration.ZERO;
+    private Duration latencySlo = Duration.ofSeconds(1);
+    private boolean stopOnSloViolation = true;
+    private int maxConcurrency = 100;
+    private Duration drainTimeout = Duration.ofMinutes(1);
+
+    OpenModelLoadGenerator(String namespace, String target, Supplier<KieServicesClient> clientSupplier) {
+        this.namespace = namespace;
+        this.target = target;
+        this.clientSupplier = clientSupplier;
+    }
+
+    public static OpenModelLoadGenerator forKieServer(KieServerDeployment kieServerDeployment) {
+        return new OpenModelLoadGenerator(kieServerDeployment.getNamespace(), kieServerDeployment.getUrl().toString(),
+                () -> KieServerClientProvider.getKieServerClient(kieServerDeployment));
+    }
+
+    public static OpenModelLoadGenerator forSmartRouter(SmartRouterDeployment smartRouterDeployment, String userName, String password) {
+        return new OpenModelLoadGenerator(smartRouterDeployment.getNamespace(), smartRouterDeployment.getUrl().toString(),
+                () -> KieServerClientProvider.getSmartRouterClient(smartRouterDeployment, userName, password));
+    }
+
+    /**
+     * @param operation Operation to be invoked.
+     * @param weight Relative weight of the operation in the mix.
+     */
+    public OpenModelLoadGenerator withOperation(LoadOperation operation, int weight) {
+        mix.add(operation, weight);
+        return this;
+    }
+
+    /**
+     * Send requests before the first stage to let JIT compile hot paths of the server, warm-up isn't measured.
+     *
+     * @param rate Requests per second.
+     * @param duration Warm-up duration.
+     */
+    public OpenModelLoadGenerator withWarmUp(double rate, Duration duration) {
+        this.warmUp = new Stage(rate, duration);
+        return this;
+    }
+
+    /**
+     * Add measured stage, stages are executed in the order they were added.
+     *
+     * @param rate Requests per second.
+     * @param duration Stage duration including settle time.
+     */
+    public OpenModelLoadGenerator withStage(double rate, Duration duration) {
+        stages.add(new Stage(rate, duration));
+        return this;
+    }
+
+    /**
+     * Add stages with rate growing linearly from initial to final rate.
+     *
+     * @param fromRate Requests per second of the first stage.
+     * @param toRate Requests per second of the last stage.
+     * @param steps Number of stages.
+     * @param stageDuration Duration of every stage including settle time.
+     */
+    public OpenModelLoadGenerator withRampUp(double fromRate, double toRate, int steps, Duration stageDuration) {
+        if (steps < 1) {
+            throw new IllegalArgumentException("Ramp up needs at least one step.");
+        }
+        for (int i = 0; i < steps; i++) {
+            double rate = steps == 1 ? toRate : fromRate + (toRate - fromRate) * i / (steps - 1);
+            stages.add(new Stage(rate, stageDuration));
+        }
+        return this;
+    }
+
+    /**
+     * @param settleTime Beginning of every stage which isn't measured, lets the server adapt to the new rate.
+     */
+    public OpenModelLoadGenerator withSettleTime(Duration settleTime) {
+        this.settleTime = settleTime;
+        return this;
+    }
+
+    /**
+     * @param latencySlo Highest allowed 99th percentile of latency in a stage.
+     */
+    public OpenModelLoadGenerator withLatencySlo(Duration latencySlo) {
+        this.latencySlo = latencySlo;
+        return this;
+    }
+
+    /**
+     * @param stopOnSloViolation If true (default), stages following the first stage exceeding the SLO aren't executed.
+     */
+    public OpenModelLoadGenerator withStopOnSloViolation(boolean stopOnSloViolation) {
+        this.stopOnSloViolation = stopOnSloViolation;
+        return this;
+    }
+
+    /**
+     * @param maxConcurrency Number of worker threads, limits number of requests waiting for response at the same time.
+     * Requests planned while all workers are busy are queued and their waiting counts into latency.
+     */
+    public OpenModelLoadGenerator withMaxConcurrency(int maxConcurrency) {
+        this.maxConcurrency = maxConcurrency;
+        return this;
+    }
+
+    /**
+     * @param drainTimeout How long to wait for responses to requests sent in the last stage. Requests not sent before
+     * the timeout are counted as failed.
+     */
+    public OpenModelLoadGenerator withDrainTimeout(Duration drainTimeout) {
+        this.drainTimeout = drainTimeout;
+        return this;
+    }
+
+    /**
+     * Run the load and wait until responses to all sent requests are received.
+     *
+     * @return Report of the run.
+     */
+    public OpenModelLoadReport run() {
+        if (mix.isEmpty()) {
+            throw new IllegalStateException("No operation to be invoked.");
+        }
+        if (stages.isEmpty()) {
+            throw new IllegalStateException("No stage to be executed.");
+        }
+        KieServicesClient client = clientSupplier.get();
+
+        ThreadPoolExecutor workerExecutorService = new ThreadPoolExecutor(maxConcurrency, maxConcurrency, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+                new DaemonThreadFactory("open-load-worker"));
+        workerExecutorService.prestartAllCoreThreads();
+
+        Instant startTime = Instant.now();
+        List<StageStatistics> stageStatistics = new ArrayList<>();
+        try {
+            long phaseStart = System.nanoTime();
+            if (warmUp != null) {
+                logger.info("Warming up {} with {} requests per second for {}.", target, warmUp.rate, warmUp.duration);
+                phaseStart = dispatch(workerExecutorService, client, warmUp, phaseStart, null);
+            }
+            for (Stage stage : stages) {
+                logger.info("Sending {} requests per second to {} for {}.", stage.rate, target, stage.duration);
+                StageStatistics statistics = new StageStatistics(stage);
+                stageStatistics.add(statistics);
+                phaseStart = dispatch(workerExecutorService, client, stage, phaseStart, statistics);
+
+                if (stopOnSloViolation) {
+                    // Responses to latest requests may still be missing, wait until they either arrive or exceed the SLO
+                    statistics.awaitOutstandingRequests(phaseStart);
+                    if (!statistics.isWithinSlo()) {
+                        logger.info("Latency SLO exceeded at {} requests per second, following stages are skipped.", stage.rate);
+                        break;
+                    }
+                    // Next stage is planned from now, so requests aren't sent in a burst to catch up with the schedule
+                    phaseStart = System.nanoTime();
+                }
+            }
+            drain(workerExecutorService);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while generating load", e);
+        } finally {
+            workerExecutorService.shutdownNow();
+        }
+
+        return createReport(stageStatistics, startTime);
+    }
+
+    /**
+     * Send requests of the stage on schedule.
+     *
+     * @param statistics Where to record results, null if the stage isn't measured.
+     * @return Planned end of the stage.
+     */
+    private long dispatch(ExecutorService workerExecutorService, KieServicesClient client, Stage stage, long start, StageStatistics statistics) throws InterruptedException {
+        double intervalNanos = NANOS_PER_SECOND / stage.rate;
+        long end = start + stage.duration.toNanos();
+        long measurementStart = start + settleTime.toNanos();
+        for (long i = 0; ; i++) {
+            // Planned times are derived from the stage start, rounding errors don't accumulate
+            long plannedTime = start + (long) (i * intervalNanos);
+            if (plannedTime >= end) {
+                return end;
+            }
+            sleepUntil(plannedTime);
+            LoadOperation operation = mix.next(ThreadLocalRandom.current());
+            StageStatistics recordedStatistics = plannedTime >= measurementStart ? statistics : null;
+            if (recordedStatistics != null) {
+                recordedStatistics.plannedRequests++;
+            }
+            workerExecutorService.execute(new Request(client, operation, plannedTime, recordedStatistics));
+        }
+    }
+
+    private void drain(ThreadPoolExecutor workerExecutorService) throws InterruptedException {
+        workerExecutorService.shutdown();
+        if (!workerExecutorService.awaitTermination(drainTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            List<Runnable> unsentRequests = workerExecutorService.shutdownNow();
+            logger.warn("{} requests weren't sent in time, they are counted as failed.", unsentRequests.size());
+            for (Runnable unsentRequest : unsentRequests) {
+                ((Request) unsentRequest).recordUnsent();
+            }
+        }
+    }
+
+    private OpenModelLoadReport createReport(List<StageStatistics> stageStatistics, Instant startTime) {
+        List<StageReport> stageReports = new ArrayList<>();
+        double maxSustainableRate = 0;
+        boolean sloExceeded = false;
+        for (StageStatistics statistics : stageStatistics) {
+            StageReport stageReport = statistics.createReport();
+            stageReports.add(stageReport);
+            logger.info("Stage with {} requests per second finished, {} errors, p99 latency {} ms.", stageReport.getRate(),
+                    stageReport.getTotal().getErrors(), stageReport.getTotal().getLatencyP99());
+
+            sloExceeded |= !stageReport.isWithinSlo();
+            if (!sloExceeded) {
+                maxSustainableRate = Math.max(maxSustainableRate, stageReport.getRate());
+            }
+        }
+        logger.info("Highest rate within {} ms p99 latency SLO against {} is {} requests per second.", latencySlo.toMillis(), target, maxSustainableRate);
+
+        double warmUpRate = warmUp != null ? warmUp.rate : 0;
+        long warmUpMillis = warmUp != null ? warmUp.duration.toMillis() : 0;
+        return new OpenModelLoadReport(namespace, target, startTime, warmUpRate, warmUpMillis, latencySlo.toNanos() / NANOS_PER_MILLI,
+                stageReports, maxSustainableRate);
+    }
+
+    private static void sleepUntil(long nanoTime) throws InterruptedException {
+        long remainingNanos = nanoTime - System.nanoTime();
+        if (remainingNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(remainingNanos);
+        }
+    }
+
+    private static class Stage {
+
+        private final double rate;
+        private final Duration duration;
+
+        Stage(double rate, Duration duration) {
+            if (rate <= 0) {
+                throw new IllegalArgumentException("Rate has to be positive, was " + rate);
+            }
+            this.rate = rate;
+            this.duration = duration;
+        }
+    }
+
+    /**
+     * Statistics of one stage, recorded concurrently by worker threads.
+     */
+    private class StageStatistics {
+
+        private final Stage stage;
+        private final Map<String, OperationStatistics> operationStatistics = new LinkedHashMap<>();
+        private final AtomicLong maxSendDelayNanos = new AtomicLong();
+        // Written just by dispatching thread
+        private long plannedRequests;
+        // Guarded by this
+        private long completedRequests;
+
+        StageStatistics(Stage stage) {
+            this.stage = stage;
+            for (LoadOperation operation : mix.getOperations()) {
+                operationStatistics.put(operation.getName(), new OperationStatistics());
+            }
+        }
+
+        void recordSuccess(String operationName, long latencyNanos) {
+            OperationStatistics statistics = operationStatistics.get(operationName);
+            synchronized (statistics) {
+                // Latency is measured from planned send time, no coordinated omission correction is needed
+                statistics.recordSuccess(latencyNanos, 0);
+            }
+            requestCompleted();
+        }
+
+        void recordError(String operationName, Exception e) {
+            OperationStatistics statistics = operationStatistics.get(operationName);
+            synchronized (statistics) {
+                if (statistics.getErrors() == 0) {
+                    logger.warn("Operation {} failed, further failures in the stage are just counted.", operationName, e);
+                }
+                statistics.recordError(e);
+            }
+            requestCompleted();
+        }
+
+        void recordSendDelay(long sendDelayNanos) {
+            maxSendDelayNanos.accumulateAndGet(sendDelayNanos, Math::max);
+        }
+
+        /**
+         * Wait until all planned requests complete or latency SLO passes since the stage end. Requests still outstanding
+         * after that certainly exceed the SLO.
+         *
+         * @param stageEnd Planned end of the stage, all requests were planned before it.
+         */
+        synchronized void awaitOutstandingRequests(long stageEnd) throws InterruptedException {
+            long deadline = stageEnd + latencySlo.toNanos();
+            long remainingNanos = deadline - System.nanoTime();
+            while (completedRequests < plannedRequests && remainingNanos > 0) {
+                TimeUnit.NANOSECONDS.timedWait(this, remainingNanos);
+                remainingNanos = deadline - System.nanoTime();
+            }
+        }
+
+        boolean isWithinSlo() {
+            return isWithinSlo(total());
+        }
+
+        /**
+         * All planned requests are evaluated, failed and still outstanding requests are counted as exceeding the SLO.
+         * Failing fast doesn't make the rate sustainable.
+         */
+        private boolean isWithinSlo(OperationStatistics total) {
+            if (plannedRequests == 0) {
+                return false;
+            }
+            long withinSlo = total.getLatencies().getCountBetweenValues(0, latencySlo.toNanos());
+            long exceedingSlo = plannedRequests - withinSlo;
+            return exceedingSlo <= plannedRequests * (100 - SLO_PERCENTILE) / 100;
+        }
+
+        private synchronized void requestCompleted() {
+            completedRequests++;
+            notifyAll();
+        }
+
+        private OperationStatistics total() {
+            OperationStatistics total = new OperationStatistics();
+            for (OperationStatistics statistics : operationStatistics.values()) {
+                synchronized (statistics) {
+                    total.add(statistics);
+                }
+            }
+            return total;
+        }
+
+        StageReport createReport() {
+            double measurementSeconds = stage.duration.minus(settleTime).toNanos() / NANOS_PER_SECOND;
+            Map<String, OperationReport> operationReports = new LinkedHashMap<>();
+            operationStatistics.forEach((name, statistics) -> operationReports.put(name, new OperationReport(statistics, measurementSeconds)));
+            OperationStatistics total = total();
+            return new StageReport(stage.rate, (long) (measurementSeconds * 1000), plannedRequests, maxSendDelayNanos.get() / NANOS_PER_MILLI,
+                    isWithinSlo(total), operationReports, new OperationReport(total, measurementSeconds));
+        }
+    }
+
+    private class Request implements Runnable {
+
+        private final KieServicesClient client;
+        private final LoadOperation operation;
+        private final long plannedTime;
+        private final StageStatistics statistics;
+
+        Request(KieServicesClient client, LoadOperation operation, long plannedTime, StageStatistics statistics) {
+            this.client = client;
+            this.operation = operation;
+            this.plannedTime = plannedTime;
+            this.statistics = statistics;
+        }
+
+        @Override
+        public void run() {
+            long sendDelay = System.nanoTime() - plannedTime;
+            if (statistics != null) {
+                statistics.recordSendDelay(sendDelay);
+            }
+            try {
+                Invocation invocation = operation.prepare(client);
+                long invocationStart = System.nanoTime();
+                invocation.invoke();
+                if (statistics != null) {
+                    // Latency includes delay behind the plan, but not the preparation
+                    statistics.recordSuccess(operation.getName(), sendDelay + System.nanoTime() - invocationStart);
+                }
+            } catch (Exception e) {
+                if (statistics != null) {
+                    statistics.recordError(operation.getName(), e);
+                } else {
+                    logger.debug("Operation {} failed during warm-up.", operation.getName(), e);
+                }
+            }
+        }
+
+        void recordUnsent() {
+            if (statistics != null) {
+                statistics.recordError(operation.getName(), new IllegalStateException("Request wasn't sent before drain timeout."));
+            }
+        }
+    }
+}
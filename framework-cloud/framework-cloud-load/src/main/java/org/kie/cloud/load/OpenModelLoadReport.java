@@ -0,0 +1,105 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.cloud.load;
+
+import java.io.File;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Result of open model load generator run, can be exported as JSON.
+ */
+public class OpenModelLoadReport {
+
+    private static final String REPORT_FILE_PREFIX = "open-load-report-";
+
+    private final String namespace;
+    private final String target;
+    private final String startTime;
+    private final double warmUpRate;
+    private final long warmUpMillis;
+    private final double latencySloMillis;
+    private final List<StageReport> stages;
+    private final double maxSustainableRate;
+
+    OpenModelLoadReport(String namespace, String target, Instant startTime, double warmUpRate, long warmUpMillis,
+            double latencySloMillis, List<StageReport> stages, double maxSustainableRate) {
+        this.namespace = namespace;
+        this.target = target;
+        this.startTime = startTime.toString();
+        this.warmUpRate = warmUpRate;
+        this.warmUpMillis = warmUpMillis;
+        this.latencySloMillis = latencySloMillis;
+        this.stages = stages;
+        this.maxSustainableRate = maxSustainableRate;
+    }
+
+    public String getNamespace() {
+        return namespace;
+    }
+
+    /**
+     * @return URL of loaded Kie server or Smart router.
+     */
+    public String getTarget() {
+        return target;
+    }
+
+    public double getWarmUpRate() {
+        return warmUpRate;
+    }
+
+    public long getWarmUpMillis() {
+        return warmUpMillis;
+    }
+
+    /**
+     * @return Highest allowed 99th percentile of latency.
+     */
+    public double getLatencySloMillis() {
+        return latencySloMillis;
+    }
+
+    /**
+     * @return Reports of executed stages in execution order. Stages following the first stage exceeding the SLO are
+     * missing if the generator stops on SLO violation.
+     */
+    public List<StageReport> getStages() {
+        return Collections.unmodifiableList(stages);
+    }
+
+    /**
+     * @return Rate of the last stage within SLO before the first stage exceeding it, 0 if even the first stage
+     * exceeded the SLO.
+     */
+    public double getMaxSustainableRate() {
+        return maxSustainableRate;
+    }
+
+    public String toJson() {
+        return JsonReports.toJson(this);
+    }
+
+    /**
+     * Write the report as JSON to instance log directory of the namespace.
+     *
+     * @return Written file.
+     */
+    public File export() {
+        return JsonReports.export(this, namespace, REPORT_FILE_PREFIX, Instant.parse(startTime));
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.cloud.load;
+
+import java.util.concurrent.TimeUnit;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Throughput and latency of one operation, latencies are in milliseconds.
+ */
+public class OperationReport {
+
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final long count;
+    private final long errors;
+    private final double throughput;
+    private final double latencyMean;
+    private final double latencyP50;
+    private final double latencyP90;
+    private final double latencyP99;
+    private final double latencyP999;
+    private final double latencyMax;
+    private final String firstError;
+
+    OperationReport(OperationStatistics statistics, double elapsedSeconds) {
+        Histogram latencies = statistics.getLatencies();
+        this.count = statistics.getCount();
+        this.errors = statistics.getErrors();
+        this.throughput = elapsedSeconds > 0 ? count / elapsedSeconds : 0;
+        this.latencyMean = latencies.getMean() / NANOS_PER_MILLI;
+        this.latencyP50 = latencies.getValueAtPercentile(50) / NANOS_PER_MILLI;
+        this.latencyP90 = latencies.getValueAtPercentile(90) / NANOS_PER_MILLI;
+        this.latencyP99 = latencies.getValueAtPercentile(99) / NANOS_PER_MILLI;
+        this.latencyP999 = latencies.getValueAtPercentile(99.9) / NANOS_PER_MILLI;
+        this.latencyMax = latencies.getMaxValue() / NANOS_PER_MILLI;
+        this.firstError = statistics.getFirstError();
+    }
+
+    /**
+     * @return Number of successful invocations.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * @return Number of failed invocations.
+     */
+    public long getErrors() {
+        return errors;
+    }
+
+    /**
+     * @return Successful invocations per second.
+     */
+    public double getThroughput() {
+        return throughput;
+    }
+
+    public double getLatencyMean() {
+        return latencyMean;
+    }
+
+    public double getLatencyP50() {
+        return latencyP50;
+    }
+
+    public double getLatencyP90() {
+        return latencyP90;
+    }
+
+    public double getLatencyP99() {
+        return latencyP99;
+    }
+
+    public double getLatencyP999() {
+        return latencyP999;
+    }
+
+    public double getLatencyMax() {
+        return latencyMax;
+    }
+
+    /**
+     * @return Description of the first failure, null if there was none.
+     */
+    public String getFirstError() {
+        return firstError;
+    }
+}
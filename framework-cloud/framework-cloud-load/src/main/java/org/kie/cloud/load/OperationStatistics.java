@@ -0,0 +1,80 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.cloud.load;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Latency histogram and counters of one operation collected by one worker, merged once load finishes.
+ */
+class OperationStatistics {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    // Auto resizing, latency in nanoseconds
+    private final Histogram latencies = new Histogram(SIGNIFICANT_DIGITS);
+    private long count;
+    private long errors;
+    private String firstError;
+
+    /**
+     * Record latency of successful invocation.
+     *
+     * @param latencyNanos Invocation latency.
+     * @param expectedIntervalNanos Planned interval between invocations, used to correct coordinated omission. Zero
+     * if invocations aren't paced.
+     */
+    void recordSuccess(long latencyNanos, long expectedIntervalNanos) {
+        count++;
+        if (expectedIntervalNanos > 0) {
+            latencies.recordValueWithExpectedInterval(latencyNanos, expectedIntervalNanos);
+        } else {
+            latencies.recordValue(latencyNanos);
+        }
+    }
+
+    void recordError(Exception e) {
+        errors++;
+        if (firstError == null) {
+            firstError = String.valueOf(e);
+        }
+    }
+
+    void add(OperationStatistics other) {
+        latencies.add(other.latencies);
+        count += other.count;
+        errors += other.errors;
+        if (firstError == null) {
+            firstError = other.firstError;
+        }
+    }
+
+    Histogram getLatencies() {
+        return latencies;
+    }
+
+    long getCount() {
+        return count;
+    }
+
+    long getErrors() {
+        return errors;
+    }
+
+    String getFirstError() {
+        return firstError;
+    }
+}
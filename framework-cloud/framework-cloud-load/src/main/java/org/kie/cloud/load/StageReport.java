@@ -0,0 +1,95 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.cloud.load;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Result of one open model load stage. Latencies are measured from planned send time of the request, so they include
+ * queueing delay caused by the loaded server as well as by the generator itself.
+ */
+public class StageReport {
+
+    private final double rate;
+    private final long measurementMillis;
+    private final long plannedRequests;
+    private final double maxSendDelayMillis;
+    private final boolean withinSlo;
+    private final Map<String, OperationReport> operations;
+    private final OperationReport total;
+
+    StageReport(double rate, long measurementMillis, long plannedRequests, double maxSendDelayMillis, boolean withinSlo,
+            Map<String, OperationReport> operations, OperationReport total) {
+        this.rate = rate;
+        this.measurementMillis = measurementMillis;
+        this.plannedRequests = plannedRequests;
+        this.maxSendDelayMillis = maxSendDelayMillis;
+        this.withinSlo = withinSlo;
+        this.operations = operations;
+        this.total = total;
+    }
+
+    /**
+     * @return Planned requests per second.
+     */
+    public double getRate() {
+        return rate;
+    }
+
+    /**
+     * @return Length of measurement window, settle time at the beginning of the stage isn't included.
+     */
+    public long getMeasurementMillis() {
+        return measurementMillis;
+    }
+
+    /**
+     * @return Number of requests planned in measurement window.
+     */
+    public long getPlannedRequests() {
+        return plannedRequests;
+    }
+
+    /**
+     * @return Highest delay between planned and actual send time. Values close to latencies mean the generator
+     * itself is saturated, all its workers wait for responses.
+     */
+    public double getMaxSendDelayMillis() {
+        return maxSendDelayMillis;
+    }
+
+    /**
+     * @return True if 99th percentile of latency, failed requests counted as too slow, doesn't exceed the SLO.
+     */
+    public boolean isWithinSlo() {
+        return withinSlo;
+    }
+
+    /**
+     * @return Reports of operations by operation name.
+     */
+    public Map<String, OperationReport> getOperations() {
+        return Collections.unmodifiableMap(operations);
+    }
+
+    /**
+     * @return Report of all operations together.
+     */
+    public OperationReport getTotal() {
+        return total;
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.cloud.load.operation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.kie.server.api.exception.KieServicesException;
+import org.kie.server.api.model.instance.TaskSummary;
+import org.kie.server.client.KieServicesClient;
+import org.kie.server.client.UserTaskServicesClient;
+
+/**
+ * Completes one task the user is potential owner of. Concurrent workers pick random tasks from the first page of ready
+ * tasks and claim them, task claimed meanwhile by another worker is skipped. Claimed task is started and completed in one
+ * request, only this request is included in operation latency.
+ */
+public class CompleteTaskOperation implements LoadOperation {
+
+    private static final List<String> READY_STATUS = Collections.singletonList("Ready");
+    private static final int TASK_PAGE_SIZE = 20;
+    private static final int CLAIM_ATTEMPTS = 3;
+
+    private final String containerId;
+    private final String userId;
+
+    public CompleteTaskOperation(String containerId, String userId) {
+        this.containerId = containerId;
+        this.userId = userId;
+    }
+
+    @Override
+    public String getName() {
+        return "completeTask";
+    }
+
+    @Override
+    public void execute(KieServicesClient kieServicesClient) throws Exception {
+        prepare(kieServicesClient).invoke();
+    }
+
+    @Override
+    public Invocation prepare(KieServicesClient kieServicesClient) {
+        UserTaskServicesClient taskClient = kieServicesClient.getServicesClient(UserTaskServicesClient.class);
+        Long taskId = claimTask(taskClient);
+        return () -> taskClient.completeAutoProgress(containerId, taskId, userId, Collections.emptyMap());
+    }
+
+    private Long claimTask(UserTaskServicesClient taskClient) {
+        for (int attempt = 0; attempt < CLAIM_ATTEMPTS; attempt++) {
+            List<TaskSummary> tasks = new ArrayList<>(taskClient.findTasksAssignedAsPotentialOwner(userId, READY_STATUS, 0, TASK_PAGE_SIZE));
+            if (tasks.isEmpty()) {
+                break;
+            }
+            // Workers start with different tasks, so they rarely compete for the same one
+            Collections.shuffle(tasks, ThreadLocalRandom.current());
+            for (TaskSummary task : tasks) {
+                try {
+                    taskClient.claimTask(containerId, task.getId(), userId);
+                    return task.getId();
+                } catch (KieServicesException e) {
+                    // Task was claimed by another worker
+                }
+            }
+        }
+        throw new IllegalStateException("No task available for user " + userId);
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.cloud.load.operation;
+
+import org.kie.server.client.KieServicesClient;
+
+/**
+ * Operation invoked repeatedly by load generator workers. Operations are shared by all workers, so they have to be
+ * thread safe.
+ */
+public interface LoadOperation {
+
+    /**
+     * @return Operation name used in load report.
+     */
+    String getName();
+
+    /**
+     * Invoke the operation once.
+     *
+     * @param kieServicesClient Client connected to Kie server or Smart router.
+     * @throws Exception In case the operation fails, failure is counted as operation error.
+     */
+    void execute(KieServicesClient kieServicesClient) throws Exception;
+
+    /**
+     * Prepare one invocation of the operation, time spent in preparation isn't included in operation latency.
+     * By default there is nothing to prepare and the invocation executes the whole operation.
+     *
+     * @param kieServicesClient Client connected to Kie server or Smart router.
+     * @return Invocation to be timed.
+     * @throws Exception In case the preparation fails, failure is counted as operation error.
+     */
+    default Invocation prepare(KieServicesClient kieServicesClient) throws Exception {
+        return () -> execute(kieServicesClient);
+    }
+
+    /**
+     * Prepared invocation of the operation.
+     */
+    @FunctionalInterface
+    interface Invocation {
+
+        void invoke() throws Exception;
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.cloud.load.operation;
+
+import java.util.function.Supplier;
+
+import org.kie.api.command.Command;
+import org.kie.api.runtime.ExecutionResults;
+import org.kie.server.api.model.ServiceResponse;
+import org.kie.server.client.KieServicesClient;
+import org.kie.server.client.RuleServicesClient;
+
+/**
+ * Executes batch of rule commands, typically inserting facts and firing rules.
+ */
+public class RuleBatchOperation implements LoadOperation {
+
+    private final String containerId;
+    private final Supplier<Command<?>> batchSupplier;
+
+    /**
+     * @param containerId Container with the rules.
+     * @param batchSupplier Supplier of batch command, called for every execution so each batch can contain new facts.
+     */
+    public RuleBatchOperation(String containerId, Supplier<Command<?>> batchSupplier) {
+        this.containerId = containerId;
+        this.batchSupplier = batchSupplier;
+    }
+
+    @Override
+    public String getName() {
+        return "ruleBatch";
+    }
+
+    @Override
+    public void execute(KieServicesClient kieServicesClient) {
+        ServiceResponse<ExecutionResults> response = kieServicesClient.getServicesClient(RuleServicesClient.class)
+                .executeCommandsWithResults(containerId, batchSupplier.get());
+        if (response.getType() != ServiceResponse.ResponseType.SUCCESS) {
+            throw new IllegalStateException("Rule batch failed: " + response.getMsg());
+        }
+    }
+}
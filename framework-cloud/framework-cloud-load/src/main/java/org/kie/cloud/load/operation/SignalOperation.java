@@ -0,0 +1,49 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.cloud.load.operation;
+
+import org.kie.server.client.KieServicesClient;
+import org.kie.server.client.ProcessServicesClient;
+
+/**
+ * Sends signal to all process instances of the container waiting for it.
+ */
+public class SignalOperation implements LoadOperation {
+
+    private final String containerId;
+    private final String signalName;
+    private final Object event;
+
+    public SignalOperation(String containerId, String signalName) {
+        this(containerId, signalName, null);
+    }
+
+    public SignalOperation(String containerId, String signalName, Object event) {
+        this.containerId = containerId;
+        this.signalName = signalName;
+        this.event = event;
+    }
+
+    @Override
+    public String getName() {
+        return "signal " + signalName;
+    }
+
+    @Override
+    public void execute(KieServicesClient kieServicesClient) {
+        kieServicesClient.getServicesClient(ProcessServicesClient.class).signal(containerId, signalName, event);
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.cloud.load.operation;
+
+import java.util.Collections;
+import java.util.Map;
+
+import org.kie.server.client.KieServicesClient;
+import org.kie.server.client.ProcessServicesClient;
+
+/**
+ * Starts new process instance.
+ */
+public class StartProcessOperation implements LoadOperation {
+
+    private final String containerId;
+    private final String processId;
+    private final Map<String, Object> variables;
+
+    public StartProcessOperation(String containerId, String processId) {
+        this(containerId, processId, Collections.emptyMap());
+    }
+
+    public StartProcessOperation(String containerId, String processId, Map<String, Object> variables) {
+        this.containerId = containerId;
+        this.processId = processId;
+        this.variables = variables;
+    }
+
+    @Override
+    public String getName() {
+        return "startProcess " + processId;
+    }
+
+    @Override
+    public void execute(KieServicesClient kieServicesClient) {
+        kieServicesClient.getServicesClient(ProcessServicesClient.class).startProcess(containerId, processId, variables);
+    }
+}
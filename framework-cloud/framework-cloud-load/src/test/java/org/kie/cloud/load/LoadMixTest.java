@@ -0,0 +1,98 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.cloud.load;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Random;
+
+import org.junit.Test;
+import org.kie.cloud.load.operation.LoadOperation;
+import org.kie.server.client.KieServicesClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class LoadMixTest {
+
+    private static final LoadOperation FIRST = new NamedOperation("first");
+    private static final LoadOperation SECOND = new NamedOperation("second");
+
+    @Test
+    public void testOperationsArePickedByWeight() {
+        LoadMix mix = new LoadMix().add(FIRST, 1).add(SECOND, 3);
+        Random random = new SequenceRandom(0, 1, 2, 3);
+
+        assertThat(mix.next(random)).isSameAs(FIRST);
+        assertThat(mix.next(random)).isSameAs(SECOND);
+        assertThat(mix.next(random)).isSameAs(SECOND);
+        assertThat(mix.next(random)).isSameAs(SECOND);
+    }
+
+    @Test
+    public void testRandomValueIsBoundedByTotalWeight() {
+        LoadMix mix = new LoadMix().add(FIRST, 2).add(SECOND, 5);
+        SequenceRandom random = new SequenceRandom(6);
+
+        assertThat(mix.next(random)).isSameAs(SECOND);
+        assertThat(random.bound).isEqualTo(7);
+    }
+
+    @Test
+    public void testNonPositiveWeightIsRejected() {
+        LoadMix mix = new LoadMix();
+
+        assertThatThrownBy(() -> mix.add(FIRST, 0)).isInstanceOf(IllegalArgumentException.class).hasMessageContaining("first");
+        assertThat(mix.isEmpty()).isTrue();
+    }
+
+    /**
+     * Random returning given values, so every pick of the mix is known upfront.
+     */
+    private static class SequenceRandom extends Random {
+
+        private final Iterator<Integer> values;
+        private int bound;
+
+        SequenceRandom(Integer... values) {
+            this.values = Arrays.asList(values).iterator();
+        }
+
+        @Override
+        public int nextInt(int bound) {
+            this.bound = bound;
+            return values.next();
+        }
+    }
+
+    private static class NamedOperation implements LoadOperation {
+
+        private final String name;
+
+        NamedOperation(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public void execute(KieServicesClient kieServicesClient) {
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.cloud.load;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+import org.kie.cloud.load.operation.LoadOperation;
+import org.kie.server.client.KieServicesClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class OpenModelLoadGeneratorTest {
+
+    private static final Duration STAGE_DURATION = Duration.ofMillis(200);
+
+    @Test
+    public void testRampUpRateGrowsLinearly() {
+        OpenModelLoadReport report = createGenerator(new FakeOperation(0, false))
+                .withRampUp(10, 40, 4, STAGE_DURATION)
+                .withStopOnSloViolation(false)
+                .run();
+
+        assertThat(getRates(report)).containsExactly(10.0, 20.0, 30.0, 40.0);
+    }
+
+    @Test
+    public void testSingleStepRampUpUsesFinalRate() {
+        OpenModelLoadReport report = createGenerator(new FakeOperation(0, false))
+                .withRampUp(10, 40, 1, STAGE_DURATION)
+                .run();
+
+        assertThat(getRates(report)).containsExactly(40.0);
+    }
+
+    @Test
+    public void testRampUpWithoutStepsIsRejected() {
+        OpenModelLoadGenerator generator = createGenerator(new FakeOperation(0, false));
+
+        assertThatThrownBy(() -> generator.withRampUp(10, 40, 0, STAGE_DURATION)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testFastStageIsWithinSlo() {
+        OpenModelLoadReport report = createGenerator(new FakeOperation(0, false))
+                .withStage(50, STAGE_DURATION)
+                .withLatencySlo(Duration.ofSeconds(5))
+                .run();
+
+        assertThat(report.getStages()).hasSize(1);
+        assertThat(report.getStages().get(0).getPlannedRequests()).isEqualTo(10L);
+        assertThat(report.getStages().get(0).isWithinSlo()).isTrue();
+        assertThat(report.getMaxSustainableRate()).isEqualTo(50.0);
+    }
+
+    @Test
+    public void testSlowStageExceedsSloAndStopsLoad() {
+        OpenModelLoadReport report = createGenerator(new FakeOperation(50, false))
+                .withStage(50, STAGE_DURATION)
+                .withStage(100, STAGE_DURATION)
+                .withLatencySlo(Duration.ofMillis(5))
+                .run();
+
+        assertThat(getRates(report)).containsExactly(50.0);
+        assertThat(report.getStages().get(0).isWithinSlo()).isFalse();
+        assertThat(report.getMaxSustainableRate()).isEqualTo(0.0);
+    }
+
+    @Test
+    public void testFailedRequestsExceedSlo() {
+        OpenModelLoadReport report = createGenerator(new FakeOperation(0, true))
+                .withStage(50, STAGE_DURATION)
+                .withLatencySlo(Duration.ofSeconds(5))
+                .run();
+
+        assertThat(report.getStages().get(0).isWithinSlo()).isFalse();
+        assertThat(report.getStages().get(0).getTotal().getErrors()).isEqualTo(10L);
+    }
+
+    private static OpenModelLoadGenerator createGenerator(LoadOperation operation) {
+        // Fake operation doesn't use the client, no cluster is needed
+        return new OpenModelLoadGenerator("namespace", "fake-target", () -> null)
+                .withOperation(operation, 1)
+                .withMaxConcurrency(10);
+    }
+
+    private static List<Double> getRates(OpenModelLoadReport report) {
+        return report.getStages().stream().map(StageReport::getRate).collect(Collectors.toList());
+    }
+
+    private static class FakeOperation implements LoadOperation {
+
+        private final long latencyMillis;
+        private final boolean failing;
+
+        FakeOperation(long latencyMillis, boolean failing) {
+            this.latencyMillis = latencyMillis;
+            this.failing = failing;
+        }
+
+        @Override
+        public String getName() {
+            return "fake";
+        }
+
+        @Override
+        public void execute(KieServicesClient kieServicesClient) throws Exception {
+            Thread.sleep(latencyMillis);
+            if (failing) {
+                throw new IllegalStateException("Operation failed");
+            }
+        }
+    }
+}
@@ -15,11 +15,18 @@
 
 package org.kie.cloud.git.gitlab;
 
+import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.gitlab.api.GitlabAPI;
 import org.gitlab.api.models.GitlabProject;
 import org.gitlab.api.models.GitlabSession;
+import org.gitlab.api.models.GitlabUser;
 import org.kie.cloud.git.AbstractGitProvider;
 import org.kie.cloud.git.constants.GitConstants;
 import org.slf4j.Logger;
@@ -29,12 +36,20 @@ public class GitLabGitProvider extends AbstractGitProvider {
 
     private static final Logger logger = LoggerFactory.getLogger(GitLabGitProvider.class);
 
+    // Maximal page size accepted by GitLab
+    private static final int SEARCH_PAGE_SIZE = 100;
+
     private GitlabAPI gitLabApi;
+    private GitlabUser user;
+
+    // Projects created by this provider, so they don't have to be looked up in all projects visible to the user
+    private final Map<String, GitlabProject> projects = new ConcurrentHashMap<>();
 
     @Override
     public void createGitRepository(String repositoryName, String repositoryPath) {
         try {
-            GitlabProject gitLabProject = gitLabApi.createUserProject(gitLabApi.getUser().getId(), repositoryName, null, null, null, null, null, null, null, true, null, null);
+            GitlabProject gitLabProject = gitLabApi.createUserProject(user.getId(), repositoryName, null, null, null, null, null, null, null, true, null, null);
+            projects.put(repositoryName, gitLabProject);
             String httpUrl = gitLabProject.getHttpUrl();
 
             pushToGitRepository(httpUrl, repositoryPath);
@@ -47,11 +62,16 @@ public class GitLabGitProvider extends AbstractGitProvider {
     @Override
     public void deleteGitRepository(String repositoryName) {
         try {
-            for (GitlabProject project : gitLabApi.getProjects()) {
-                if (project.getName().equals(repositoryName)) {
-                    gitLabApi.deleteProject(project.getId());
-                }
+            GitlabProject project = findProject(repositoryName);
+            if (project == null) {
+                logger.debug("GitLab project {} not found, nothing to delete.", repositoryName);
+                return;
             }
+            gitLabApi.deleteProject(project.getId());
+            projects.remove(repositoryName);
+        } catch (FileNotFoundException e) {
+            // Indexed project was deleted meanwhile
+            projects.remove(repositoryName);
         } catch (IOException e) {
             logger.error("Error while deleting GitLab project " + repositoryName, e);
             throw new RuntimeException("Error while deleting GitLab project " + repositoryName, e);
@@ -61,10 +81,9 @@ public class GitLabGitProvider extends AbstractGitProvider {
     @Override
     public String getRepositoryUrl(String repositoryName) {
         try {
-            for (GitlabProject project : gitLabApi.getProjects()) {
-                if (project.getName().equals(repositoryName)) {
-                    return project.getHttpUrl();
-                }
+            GitlabProject project = findProject(repositoryName);
+            if (project != null) {
+                return project.getHttpUrl();
             }
         } catch (IOException e) {
             logger.error("Error while retrieving GitLab projects from " + repositoryName, e);
@@ -79,9 +98,62 @@ public class GitLabGitProvider extends AbstractGitProvider {
             GitlabSession session = GitlabAPI.connect(GitConstants.getGitLabUrl(), GitConstants.getGitLabUser(), GitConstants.getGitLabPassword());
             String privateToken = session.getPrivateToken();
             gitLabApi = GitlabAPI.connect(GitConstants.getGitLabUrl(), privateToken);
+            user = gitLabApi.getUser();
         } catch (IOException e) {
             logger.error("Error while initializing GitLab.", e);
             throw new RuntimeException("Error while initializing GitLab.", e);
         }
     }
+
+    /**
+     * Find project in the index, projects created outside of this provider instance are looked up by path in user
+     * namespace and then searched by name among projects owned by the user.
+     *
+     * @return Project or null if there is no project with such name.
+     */
+    private GitlabProject findProject(String repositoryName) throws IOException {
+        GitlabProject project = projects.get(repositoryName);
+        if (project == null) {
+            project = getUserProject(repositoryName);
+        }
+        if (project == null) {
+            project = searchProject(repositoryName);
+        }
+        if (project != null) {
+            projects.put(repositoryName, project);
+        }
+        return project;
+    }
+
+    private GitlabProject getUserProject(String repositoryName) throws IOException {
+        String projectPath = encode(user.getUsername() + "/" + repositoryName);
+        try {
+            return gitLabApi.retrieve().to(GitlabProject.URL + "/" + projectPath, GitlabProject.class);
+        } catch (FileNotFoundException e) {
+            return null;
+        }
+    }
+
+    private GitlabProject searchProject(String repositoryName) throws IOException {
+        String searchUrl = GitlabProject.URL + "?search=" + encode(repositoryName) + "&owned=true&per_page=" + SEARCH_PAGE_SIZE;
+        for (GitlabProject project : gitLabApi.retrieve().to(searchUrl, GitlabProject[].class)) {
+            // Projects are created in user namespace, owned projects of user groups are ignored
+            if (project.getName().equals(repositoryName) && project.getNamespace() != null
+                    && user.getUsername().equals(project.getNamespace().getPath())) {
+                return project;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Encode value as URL path segment or query parameter, space is encoded as %20 as GitLab doesn't decode '+' in path.
+     */
+    private static String encode(String value) {
+        try {
+            return URLEncoder.encode(value, StandardCharsets.UTF_8.name()).replace("+", "%20");
+        } catch (UnsupportedEncodingException e) {
+            throw new RuntimeException("Unable to encode " + value, e);
+        }
+    }
 }
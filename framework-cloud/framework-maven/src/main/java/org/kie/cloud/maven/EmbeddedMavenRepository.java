@@ -0,0 +1,200 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.cloud.maven;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.kie.cloud.api.deployment.ArtifactTransfer;
+import org.kie.cloud.api.deployment.ArtifactTransfer.Direction;
+import org.kie.cloud.common.util.DaemonThreadFactory;
+import org.kie.cloud.maven.constants.MavenConstants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Maven repository served over HTTP from this JVM, a low latency stand-in for remote repository. Artifacts are
+ * uploaded by HTTP PUT (used by maven-deploy-plugin) and stored in temporary directory, which is deleted once the
+ * repository is closed. All uploads and downloads are recorded with their timings.
+ */
+public class EmbeddedMavenRepository implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmbeddedMavenRepository.class);
+
+    private static final int HTTP_OK = 200;
+    private static final int HTTP_CREATED = 201;
+    private static final int HTTP_BAD_REQUEST = 400;
+    private static final int HTTP_NOT_FOUND = 404;
+    private static final int HTTP_BAD_METHOD = 405;
+    private static final int NO_RESPONSE_BODY = -1;
+
+
+    private final HttpServer server;
+    private final ExecutorService executorService;
+    private final Path directory;
+    private final URL url;
+    private final List<ArtifactTransfer> transfers = new ArrayList<>();
+
+    private EmbeddedMavenRepository(String host, int port) throws IOException {
+        directory = Files.createTempDirectory("embedded-maven-repository");
+        executorService = Executors.newCachedThreadPool(new DaemonThreadFactory("embedded-maven-repository"));
+        server = HttpServer.create(new InetSocketAddress(port), 0);
+        server.createContext("/", this::handle);
+        server.setExecutor(executorService);
+        server.start();
+        url = new URL("http", host, server.getAddress().getPort(), "/");
+    }
+
+    /**
+     * Start repository listening on port and advertised by host configured by {@link MavenConstants#MAVEN_REPO_EMBEDDED_HOST}
+     * and {@link MavenConstants#MAVEN_REPO_EMBEDDED_PORT}.
+     */
+    public static EmbeddedMavenRepository start() {
+        return start(MavenConstants.getMavenRepoEmbeddedHost(), MavenConstants.getMavenRepoEmbeddedPort());
+    }
+
+    /**
+     * @param host Host name used in repository URL, has to be resolvable by all clients of the repository.
+     * @param port Port to listen on, 0 to pick any free port.
+     */
+    public static EmbeddedMavenRepository start(String host, int port) {
+        try {
+            EmbeddedMavenRepository repository = new EmbeddedMavenRepository(host, port);
+            logger.info("Embedded Maven repository started at {}, artifacts are stored in {}.", repository.getUrl(), repository.getDirectory());
+            return repository;
+        } catch (IOException e) {
+            throw new RuntimeException("Error starting embedded Maven repository", e);
+        }
+    }
+
+    /**
+     * @return Repository URL, use it as repository URL of {@link MavenDeployer} and Kie server.
+     */
+    public URL getUrl() {
+        return url;
+    }
+
+    public File getDirectory() {
+        return directory.toFile();
+    }
+
+    /**
+     * @return Artifact uploads and downloads served so far, in order they finished.
+     */
+    public synchronized List<ArtifactTransfer> getArtifactTransfers() {
+        return new ArrayList<>(transfers);
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executorService.shutdownNow();
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        } catch (IOException e) {
+            logger.warn("Unable to delete directory {} of embedded Maven repository", directory, e);
+        }
+        logger.info("Embedded Maven repository at {} stopped.", url);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        long start = System.nanoTime();
+        try {
+            String path = exchange.getRequestURI().getPath();
+            Path file = directory.resolve(path.startsWith("/") ? path.substring(1) : path).normalize();
+            if (!file.startsWith(directory)) {
+                exchange.sendResponseHeaders(HTTP_BAD_REQUEST, NO_RESPONSE_BODY);
+                return;
+            }
+
+            switch (exchange.getRequestMethod()) {
+                case "PUT":
+                    long uploadedBytes = upload(exchange, file);
+                    record(exchange, Direction.UPLOAD, HTTP_CREATED, uploadedBytes, start);
+                    break;
+                case "GET":
+                case "HEAD":
+                    int status = Files.isRegularFile(file) ? HTTP_OK : HTTP_NOT_FOUND;
+                    long downloadedBytes = download(exchange, file, status);
+                    record(exchange, Direction.DOWNLOAD, status, downloadedBytes, start);
+                    break;
+                default:
+                    exchange.sendResponseHeaders(HTTP_BAD_METHOD, NO_RESPONSE_BODY);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private long upload(HttpExchange exchange, Path file) throws IOException {
+        Files.createDirectories(file.getParent());
+        // Written to temporary file first, so concurrent download never gets incomplete file
+        Path temporaryFile = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".part");
+        long bytes;
+        try (InputStream body = exchange.getRequestBody()) {
+            bytes = Files.copy(body, temporaryFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+        Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        exchange.sendResponseHeaders(HTTP_CREATED, NO_RESPONSE_BODY);
+        return bytes;
+    }
+
+    private long download(HttpExchange exchange, Path file, int status) throws IOException {
+        if (status != HTTP_OK) {
+            exchange.sendResponseHeaders(status, NO_RESPONSE_BODY);
+            return 0;
+        }
+        long size = Files.size(file);
+        if ("HEAD".equals(exchange.getRequestMethod())) {
+            exchange.getResponseHeaders().set("Content-Length", Long.toString(size));
+            exchange.sendResponseHeaders(status, NO_RESPONSE_BODY);
+            return 0;
+        }
+        exchange.sendResponseHeaders(status, size);
+        try (OutputStream body = exchange.getResponseBody()) {
+            return Files.copy(file, body);
+        }
+    }
+
+    private void record(HttpExchange exchange, Direction direction, int status, long bytes, long start) {
+        long durationMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        String path = exchange.getRequestURI().getPath().substring(1);
+        ArtifactTransfer transfer = new ArtifactTransfer(direction, path, status, bytes, durationMillis,
+                exchange.getRemoteAddress().getAddress().getHostAddress(), Instant.now());
+        logger.debug("Embedded Maven repository transfer: {}", transfer);
+        synchronized (this) {
+            transfers.add(transfer);
+        }
+    }
+}
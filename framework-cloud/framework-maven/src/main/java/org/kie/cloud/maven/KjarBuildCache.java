@@ -0,0 +1,293 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.cloud.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.maven.model.DeploymentRepository;
+import org.apache.maven.model.DistributionManagement;
+import org.apache.maven.model.Model;
+import org.apache.maven.model.io.xpp3.MavenXpp3Reader;
+import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
+import org.kie.cloud.maven.constants.MavenConstants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Cache of kjar builds. Build inputs are identified by hash of project sources (already filtered by resource
+ * processing), settings.xml and Maven arguments. Project with unchanged inputs isn't built and deployed again while its
+ * artifact is available in the target repository. Snapshot deployed by previous run may have been replaced since then
+ * by other sources with the same version, so snapshots are skipped only if they were deployed by this JVM.
+ */
+class KjarBuildCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(KjarBuildCache.class);
+
+    private static final String TARGET_DIRECTORY = "target";
+    private static final String POM_FILE = "pom.xml";
+    private static final String SNAPSHOT_SUFFIX = "-SNAPSHOT";
+    private static final int CONNECTION_TIMEOUT_MILLIS = 10_000;
+
+    // Input hashes of projects deployed during this JVM run, mapped to deployed artifact coordinates
+    private static final Map<String, String> deployedArtifacts = new ConcurrentHashMap<>();
+    private static final Map<String, Object> buildLocks = new ConcurrentHashMap<>();
+    private static final Map<String, Object> artifactLocks = new ConcurrentHashMap<>();
+
+    private KjarBuildCache() {
+        // Util class
+    }
+
+    /**
+     * @return Hex encoded SHA-256 hash of all build inputs.
+     */
+    static String computeInputHash(String basedir, List<String> mvnArgs, String settingsFile) {
+        MessageDigest digest = newDigest();
+        Path basePath = Paths.get(basedir);
+        Path targetPath = basePath.resolve(TARGET_DIRECTORY);
+        try (Stream<Path> files = Files.walk(basePath)) {
+            List<Path> sourceFiles = files.filter(Files::isRegularFile)
+                    .filter(file -> !file.startsWith(targetPath))
+                    .sorted()
+                    .collect(Collectors.toList());
+            for (Path sourceFile : sourceFiles) {
+                update(digest, basePath.relativize(sourceFile).toString().replace(File.separatorChar, '/'));
+                update(digest, sourceFile);
+            }
+            if (settingsFile != null && !settingsFile.isEmpty()) {
+                update(digest, Paths.get(settingsFile));
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Error computing hash of Maven project from basedir " + basedir, e);
+        }
+        update(digest, String.join(" ", mvnArgs));
+
+        StringBuilder hash = new StringBuilder();
+        for (byte b : digest.digest()) {
+            hash.append(String.format("%02x", b));
+        }
+        return hash.toString();
+    }
+
+    /**
+     * Builds of projects with the same inputs have to be serialized, so the project is built just once.
+     */
+    static Object getBuildLock(String inputHash) {
+        return buildLocks.computeIfAbsent(inputHash, h -> new Object());
+    }
+
+    /**
+     * Deployments of projects with the same groupId and artifactId update the same maven-metadata.xml, so they have to
+     * be serialized even if the projects have different versions.
+     */
+    static Object getArtifactLock(String basedir) {
+        Model model = readModel(basedir);
+        return artifactLocks.computeIfAbsent(getGroupId(model) + ":" + model.getArtifactId(), k -> new Object());
+    }
+
+    /**
+     * @param repositoryUrl Repository the project is deployed to, null for repository defined by the project.
+     * @return True if the project was deployed by this JVM or, for release versions, by previous run with artifact still
+     * being available in target repository.
+     */
+    static boolean isDeployed(String basedir, String inputHash, String repositoryUrl) {
+        boolean deployedByThisJvm = deployedArtifacts.containsKey(inputHash);
+        // Repositories given explicitly are often temporary, artifact is looked up even if this JVM deployed it
+        if (repositoryUrl == null && deployedByThisJvm) {
+            return true;
+        }
+        if (!getRecordFile(inputHash).isFile()) {
+            return false;
+        }
+
+        Model model = readModel(basedir);
+        if (!deployedByThisJvm && getVersion(model).endsWith(SNAPSHOT_SUFFIX)) {
+            logger.debug("Snapshot of Maven project from basedir '{}' wasn't deployed by this run, it is deployed again.", basedir);
+            return false;
+        }
+        URL artifactUrl = getArtifactUrl(model, repositoryUrl);
+        if (artifactUrl == null || !exists(artifactUrl)) {
+            logger.debug("Artifact of Maven project from basedir '{}' isn't available in target repository anymore.", basedir);
+            return false;
+        }
+        deployedArtifacts.put(inputHash, getCoordinates(model));
+        return true;
+    }
+
+    /**
+     * Record successful deployment of the project.
+     */
+    static void recordDeployment(String basedir, String inputHash) {
+        String coordinates = getCoordinates(readModel(basedir));
+        // Deployment replaced artifacts built from different inputs with the same coordinates
+        deployedArtifacts.values().removeIf(coordinates::equals);
+        deployedArtifacts.put(inputHash, coordinates);
+
+        File recordFile = getRecordFile(inputHash);
+        try {
+            Files.createDirectories(recordFile.getParentFile().toPath());
+            try (Stream<Path> recordFiles = Files.list(recordFile.getParentFile().toPath())) {
+                for (Path otherRecordFile : recordFiles.collect(Collectors.toList())) {
+                    if (coordinates.equals(new String(Files.readAllBytes(otherRecordFile), StandardCharsets.UTF_8))) {
+                        Files.deleteIfExists(otherRecordFile);
+                    }
+                }
+            }
+            Files.write(recordFile.toPath(), coordinates.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            // Record just saves next run from building the project again
+            logger.warn("Unable to write build cache record {}", recordFile, e);
+        }
+    }
+
+    /**
+     * @return Coordinates of artifacts deployed during this JVM run, including artifacts found deployed by previous
+     * runs.
+     */
+    static Collection<String> getDeployedArtifacts() {
+        return Collections.unmodifiableCollection(deployedArtifacts.values());
+    }
+
+    private static File getRecordFile(String inputHash) {
+        return new File(MavenConstants.getKjarsBuildCacheDir(), inputHash);
+    }
+
+    private static Model readModel(String basedir) {
+        try (Reader pomReader = Files.newBufferedReader(Paths.get(basedir, POM_FILE), StandardCharsets.UTF_8)) {
+            return new MavenXpp3Reader().read(pomReader);
+        } catch (IOException | XmlPullParserException e) {
+            throw new RuntimeException("Error reading pom.xml of Maven project from basedir " + basedir, e);
+        }
+    }
+
+    private static String getGroupId(Model model) {
+        return model.getGroupId() != null ? model.getGroupId() : model.getParent().getGroupId();
+    }
+
+    private static String getVersion(Model model) {
+        return model.getVersion() != null ? model.getVersion() : model.getParent().getVersion();
+    }
+
+    private static String getCoordinates(Model model) {
+        return getGroupId(model) + ":" + model.getArtifactId() + ":" + getVersion(model);
+    }
+
+    /**
+     * @return URL of a file present in target repository once the artifact is deployed, null if there is no target
+     * repository.
+     */
+    private static URL getArtifactUrl(Model model, String repositoryUrl) {
+        String version = getVersion(model);
+        boolean snapshot = version.endsWith(SNAPSHOT_SUFFIX);
+        if (repositoryUrl == null) {
+            repositoryUrl = getDistributionRepositoryUrl(model, snapshot);
+        }
+        if (repositoryUrl == null) {
+            return null;
+        }
+
+        // Snapshots are deployed with timestamp, their metadata lists the latest one
+        String artifactPath = getGroupId(model).replace('.', '/') + "/" + model.getArtifactId() + "/" + version + "/"
+                + (snapshot ? "maven-metadata.xml" : model.getArtifactId() + "-" + version + ".pom");
+        try {
+            return new URL(repositoryUrl.endsWith("/") ? repositoryUrl + artifactPath : repositoryUrl + "/" + artifactPath);
+        } catch (IOException e) {
+            logger.warn("Invalid URL of target repository {}", repositoryUrl, e);
+            return null;
+        }
+    }
+
+    private static String getDistributionRepositoryUrl(Model model, boolean snapshot) {
+        DistributionManagement distributionManagement = model.getDistributionManagement();
+        if (distributionManagement == null) {
+            return null;
+        }
+        DeploymentRepository repository = snapshot && distributionManagement.getSnapshotRepository() != null
+                ? distributionManagement.getSnapshotRepository() : distributionManagement.getRepository();
+        return repository != null ? repository.getUrl() : null;
+    }
+
+    private static boolean exists(URL artifactUrl) {
+        try {
+            URLConnection connection = artifactUrl.openConnection();
+            connection.setConnectTimeout(CONNECTION_TIMEOUT_MILLIS);
+            connection.setReadTimeout(CONNECTION_TIMEOUT_MILLIS);
+            if (connection instanceof HttpURLConnection) {
+                HttpURLConnection httpConnection = (HttpURLConnection) connection;
+                httpConnection.setRequestMethod("HEAD");
+                String user = MavenConstants.getMavenRepoUser();
+                if (user != null && !user.isEmpty()) {
+                    String credentials = user + ":" + MavenConstants.getMavenRepoPassword();
+                    httpConnection.setRequestProperty("Authorization", "Basic " + Base64.getEncoder().encodeToString(credentials.getBytes(StandardCharsets.UTF_8)));
+                }
+                try {
+                    return httpConnection.getResponseCode() == HttpURLConnection.HTTP_OK;
+                } finally {
+                    httpConnection.disconnect();
+                }
+            }
+            try (InputStream artifact = connection.getInputStream()) {
+                return true;
+            }
+        } catch (IOException e) {
+            logger.debug("Artifact {} isn't available.", artifactUrl, e);
+            return false;
+        }
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("SHA-256 isn't supported", e);
+        }
+    }
+
+    private static void update(MessageDigest digest, String text) {
+        digest.update(text.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    private static void update(MessageDigest digest, Path file) throws IOException {
+        byte[] buffer = new byte[8192];
+        try (InputStream input = new DigestInputStream(Files.newInputStream(file), digest)) {
+            while (input.read(buffer) != -1) {
+                // Digest is updated by the stream
+            }
+        }
+        digest.update((byte) 0);
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.cloud.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.kie.cloud.common.util.DaemonThreadFactory;
+import org.kie.cloud.maven.constants.MavenConstants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Builds and deploys several kjars at once. Every build runs Maven in a forked JVM with its own working directory and
+ * system properties, so builds don't share global state of the JVM running the tests. Builds are cached the same way
+ * as by {@link MavenDeployer}.
+ * <p>
+ * Deploying a project rewrites maven-metadata.xml of its groupId and artifactId in both local and target repository.
+ * Projects sharing groupId and artifactId (e.g. different versions of the same kjar) are therefore built one after
+ * another, each such build occupies a build thread while waiting for the previous one.
+ */
+public class KjarBuildService {
+
+    private static final Logger logger = LoggerFactory.getLogger(KjarBuildService.class);
+
+    private static final String MAVEN_CLI_CLASS = "org.apache.maven.cli.MavenCli";
+    private static final long BUILD_TIMEOUT_MINUTES = 10;
+    private static final int LOG_TAIL_LINES = 50;
+    // Properties of this JVM influencing the build, passed to forked builds
+    private static final List<String> FORWARDED_PROPERTIES = Arrays.asList("maven.repo.local", "http.proxyHost", "http.proxyPort",
+            "https.proxyHost", "https.proxyPort", "http.nonProxyHosts");
+
+    private static final ExecutorService buildExecutorService = Executors.newFixedThreadPool(MavenConstants.getKjarsBuildThreads(), new DaemonThreadFactory("kjar-build"));
+
+    private KjarBuildService() {
+        // Util class
+    }
+
+    /**
+     * Build the Maven project and deploy it to target repository in background.
+     *
+     * @return Future completed once the project is deployed.
+     */
+    public static CompletableFuture<Void> buildAndDeploy(String basedir) {
+        return buildAndDeployTo(null, basedir);
+    }
+
+    /**
+     * Build the Maven projects and deploy them to target repository in background, projects are built concurrently.
+     *
+     * @return Future completed once all projects are deployed, completed exceptionally if any build fails.
+     */
+    public static CompletableFuture<Void> buildAndDeploy(String... basedirs) {
+        return buildAndDeployTo(null, basedirs);
+    }
+
+    /**
+     * Build the Maven projects and deploy them to given repository in background, projects are built concurrently.
+     *
+     * @param repositoryUrl Repository to deploy to, null for repository defined by the projects.
+     * @return Future completed once all projects are deployed, completed exceptionally if any build fails.
+     * @see MavenDeployer#buildAndDeployMavenProject(String, String)
+     */
+    public static CompletableFuture<Void> buildAndDeployTo(String repositoryUrl, String... basedirs) {
+        CompletableFuture<?>[] builds = Arrays.stream(basedirs)
+                .map(basedir -> CompletableFuture.runAsync(() -> MavenDeployer.buildAndDeploy(basedir, repositoryUrl, KjarBuildService::runForkedBuild), buildExecutorService))
+                .toArray(CompletableFuture<?>[]::new);
+        return CompletableFuture.allOf(builds);
+    }
+
+    private static void runForkedBuild(String basedir, List<String> mvnArgs) {
+        logger.debug("Building and deploying Maven project from basedir '{}' in forked JVM.", basedir);
+        List<String> command = new ArrayList<>();
+        command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add("-Dmaven.multiModuleProjectDirectory=" + basedir); // required by MavenCli 3.3.0+
+        for (String property : FORWARDED_PROPERTIES) {
+            if (System.getProperty(property) != null) {
+                command.add("-D" + property + "=" + System.getProperty(property));
+            }
+        }
+        command.add(MAVEN_CLI_CLASS);
+        command.addAll(mvnArgs);
+
+        File buildLog = null;
+        try {
+            buildLog = File.createTempFile("kjar-build-", ".log");
+            Process process = new ProcessBuilder(command)
+                    .directory(new File(basedir))
+                    .redirectErrorStream(true)
+                    .redirectOutput(buildLog)
+                    .start();
+            if (!process.waitFor(BUILD_TIMEOUT_MINUTES, TimeUnit.MINUTES)) {
+                process.destroyForcibly();
+                throw new RuntimeException("Maven project from basedir " + basedir + " wasn't built in " + BUILD_TIMEOUT_MINUTES + " minutes, see " + buildLog);
+            }
+            if (process.exitValue() != 0) {
+                throw new RuntimeException("Error while building Maven project from basedir " + basedir + ". Return code=" + process.exitValue()
+                        + ", build log " + buildLog + " ends with:" + System.lineSeparator() + getLogTail(buildLog));
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Error running Maven build of project from basedir " + basedir, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while building Maven project from basedir " + basedir, e);
+        }
+
+        // Log of failed build is kept for investigation
+        buildLog.delete();
+        logger.debug("Maven project from basedir '{}' successfully built and deployed!", basedir);
+    }
+
+    private static String getLogTail(File buildLog) throws IOException {
+        List<String> lines = Files.readAllLines(buildLog.toPath(), StandardCharsets.UTF_8);
+        return String.join(System.lineSeparator(), lines.subList(Math.max(0, lines.size() - LOG_TAIL_LINES), lines.size()));
+    }
+}
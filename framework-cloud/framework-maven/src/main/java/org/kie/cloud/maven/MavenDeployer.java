@@ -17,9 +17,12 @@ package org.kie.cloud.maven;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.function.BiConsumer;
 
 import org.apache.maven.cli.MavenCli;
+import org.kie.cloud.maven.constants.MavenConstants;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -27,16 +30,36 @@ public class MavenDeployer {
 
     private static final Logger logger = LoggerFactory.getLogger(MavenDeployer.class);
 
+    private static final String ALTERNATIVE_REPOSITORY_ID = "kie-cloud-repository";
+
+    // Maven embedded in this JVM relies on global system property and thread context classloader
+    private static final Object IN_PROCESS_BUILD_LOCK = new Object();
+
+    /**
+     * Build the Maven project and deploy it to target repository. Build is skipped if the project with the same
+     * sources and settings was already deployed and its artifact is still available, see
+     * {@link MavenConstants#KJARS_BUILD_CACHE}. Use {@link KjarBuildService} to build several projects concurrently.
+     */
     public static void buildAndDeployMavenProject(String basedir) {
-        String buildSettings = System.getProperty("kjars.build.settings.xml");
+        buildAndDeploy(basedir, null, MavenDeployer::runMavenBuild);
+    }
 
-        // need to backup (and later restore) the current class loader, because the Maven/Plexus does some classloader
-        // magic which then results in CNFE in RestEasy client
-        // run the Maven build which will create the kjar. The kjar is then either installed or deployed to local and
-        // remote repo
-        logger.debug("Building and deploying Maven project from basedir '{}'.", basedir);
-        ClassLoader classLoaderBak = Thread.currentThread().getContextClassLoader();
-        System.setProperty("maven.multiModuleProjectDirectory", basedir); // required by MavenCli 3.3.0+
+    /**
+     * Build the Maven project and deploy it to given repository instead of repository defined by the project, for
+     * example to {@link EmbeddedMavenRepository} or to Maven repository deployed in scenario namespace.
+     *
+     * @param repositoryUrl URL of repository accepting artifact uploads.
+     */
+    public static void buildAndDeployMavenProject(String basedir, String repositoryUrl) {
+        buildAndDeploy(basedir, repositoryUrl, MavenDeployer::runMavenBuild);
+    }
+
+    /**
+     * @param repositoryUrl Repository to deploy to, null for repository defined by the project.
+     * @param mavenBuild Runs Maven build with arguments in the basedir.
+     */
+    static void buildAndDeploy(String basedir, String repositoryUrl, BiConsumer<String, List<String>> mavenBuild) {
+        String buildSettings = System.getProperty("kjars.build.settings.xml");
 
         List<String> mvnArgs = new ArrayList<String>(Arrays.asList("-B", "-e", "clean", "deploy"));;
 
@@ -46,10 +69,59 @@ public class MavenDeployer {
             mvnArgs.add(buildSettings);
         }
 
-        MavenCli cli = new MavenCli();
-        int mvnRunResult = cli.doMain(mvnArgs.toArray(new String[mvnArgs.size()]), basedir, System.out, System.err);
+        if (repositoryUrl != null) {
+            mvnArgs.add("-DaltDeploymentRepository=" + ALTERNATIVE_REPOSITORY_ID + "::default::" + repositoryUrl);
+        }
+
+        if (!MavenConstants.isKjarsBuildCacheEnabled()) {
+            runArtifactBuild(basedir, mvnArgs, mavenBuild);
+            return;
+        }
 
-        Thread.currentThread().setContextClassLoader(classLoaderBak);
+        String inputHash = KjarBuildCache.computeInputHash(basedir, mvnArgs, buildSettings);
+        synchronized (KjarBuildCache.getBuildLock(inputHash)) {
+            if (KjarBuildCache.isDeployed(basedir, inputHash, repositoryUrl)) {
+                logger.debug("Maven project from basedir '{}' is already deployed, build is skipped.", basedir);
+                return;
+            }
+            runArtifactBuild(basedir, mvnArgs, mavenBuild);
+            KjarBuildCache.recordDeployment(basedir, inputHash);
+        }
+    }
+
+    /**
+     * Run the build while holding lock of its artifact, so concurrent deployments of the same artifact don't overwrite
+     * each other's maven-metadata.xml whichever build strategy is used.
+     */
+    private static void runArtifactBuild(String basedir, List<String> mvnArgs, BiConsumer<String, List<String>> mavenBuild) {
+        synchronized (KjarBuildCache.getArtifactLock(basedir)) {
+            mavenBuild.accept(basedir, mvnArgs);
+        }
+    }
+
+    /**
+     * @return Coordinates (groupId:artifactId:version) of artifacts deployed or found deployed by this JVM.
+     */
+    public static Collection<String> getDeployedArtifacts() {
+        return KjarBuildCache.getDeployedArtifacts();
+    }
+
+    private static void runMavenBuild(String basedir, List<String> mvnArgs) {
+        // need to backup (and later restore) the current class loader, because the Maven/Plexus does some classloader
+        // magic which then results in CNFE in RestEasy client
+        // run the Maven build which will create the kjar. The kjar is then either installed or deployed to local and
+        // remote repo
+        logger.debug("Building and deploying Maven project from basedir '{}'.", basedir);
+        int mvnRunResult;
+        synchronized (IN_PROCESS_BUILD_LOCK) {
+            ClassLoader classLoaderBak = Thread.currentThread().getContextClassLoader();
+            System.setProperty("maven.multiModuleProjectDirectory", basedir); // required by MavenCli 3.3.0+
+
+            MavenCli cli = new MavenCli();
+            mvnRunResult = cli.doMain(mvnArgs.toArray(new String[mvnArgs.size()]), basedir, System.out, System.err);
+
+            Thread.currentThread().setContextClassLoader(classLoaderBak);
+        }
 
         if (mvnRunResult != 0) {
             throw new RuntimeException("Error while building Maven project from basedir " + basedir +
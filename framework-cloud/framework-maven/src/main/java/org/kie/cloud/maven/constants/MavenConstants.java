@@ -22,6 +22,27 @@ public class MavenConstants implements Constants {
     public static final String MAVEN_REPO_URL = "maven.repo.url";
     public static final String MAVEN_REPO_USERNAME = "maven.repo.username";
     public static final String MAVEN_REPO_PASSWORD = "maven.repo.password";
+    /**
+     * Host name used in URL of EmbeddedMavenRepository, has to be resolvable by Kie servers resolving artifacts from it.
+     */
+    public static final String MAVEN_REPO_EMBEDDED_HOST = "maven.repo.embedded.host";
+    /**
+     * Port of EmbeddedMavenRepository, any free port is used by default.
+     */
+    public static final String MAVEN_REPO_EMBEDDED_PORT = "maven.repo.embedded.port";
+
+    /**
+     * Set to false to build and deploy kjars every time, even if the same sources were already deployed.
+     */
+    public static final String KJARS_BUILD_CACHE = "kjars.build.cache";
+    /**
+     * Directory keeping records of deployed kjars between test runs.
+     */
+    public static final String KJARS_BUILD_CACHE_DIR = "kjars.build.cache.dir";
+    /**
+     * Maximal number of kjars built at the same time by KjarBuildService.
+     */
+    public static final String KJARS_BUILD_THREADS = "kjars.build.threads";
 
     public static String getMavenRepoUrl() {
         return System.getProperty(MAVEN_REPO_URL);
@@ -34,4 +55,24 @@ public class MavenConstants implements Constants {
     public static String getMavenRepoPassword() {
         return System.getProperty(MAVEN_REPO_PASSWORD);
     }
+
+    public static String getMavenRepoEmbeddedHost() {
+        return System.getProperty(MAVEN_REPO_EMBEDDED_HOST, "localhost");
+    }
+
+    public static int getMavenRepoEmbeddedPort() {
+        return Integer.parseInt(System.getProperty(MAVEN_REPO_EMBEDDED_PORT, "0"));
+    }
+
+    public static boolean isKjarsBuildCacheEnabled() {
+        return Boolean.parseBoolean(System.getProperty(KJARS_BUILD_CACHE, "true"));
+    }
+
+    public static String getKjarsBuildCacheDir() {
+        return System.getProperty(KJARS_BUILD_CACHE_DIR, System.getProperty("java.io.tmpdir") + "/kjars-build-cache");
+    }
+
+    public static int getKjarsBuildThreads() {
+        return Integer.parseInt(System.getProperty(KJARS_BUILD_THREADS, "4"));
+    }
 }
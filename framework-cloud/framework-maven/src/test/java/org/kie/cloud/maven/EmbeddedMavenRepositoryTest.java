@@ -0,0 +1,153 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.cloud.maven;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.cloud.api.deployment.ArtifactTransfer;
+import org.kie.cloud.api.deployment.ArtifactTransfer.Direction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EmbeddedMavenRepositoryTest {
+
+    private static final String JAR_PATH = "org/kie/kjar/1.0/kjar-1.0.jar";
+    private static final byte[] JAR_CONTENT = "kjar content".getBytes(StandardCharsets.UTF_8);
+    private static final long TRANSFER_TIMEOUT_MILLIS = 5_000;
+
+    private EmbeddedMavenRepository repository;
+
+    @Before
+    public void setUp() {
+        repository = EmbeddedMavenRepository.start("localhost", 0);
+    }
+
+    @After
+    public void tearDown() {
+        if (repository != null) {
+            repository.close();
+        }
+    }
+
+    @Test
+    public void testUploadedArtifactIsDownloaded() throws Exception {
+        assertThat(put(JAR_PATH, JAR_CONTENT)).isEqualTo(HttpURLConnection.HTTP_CREATED);
+        assertThat(new File(repository.getDirectory(), JAR_PATH)).exists();
+
+        HttpURLConnection connection = open(JAR_PATH);
+        assertThat(connection.getResponseCode()).isEqualTo(HttpURLConnection.HTTP_OK);
+        assertThat(read(connection)).isEqualTo(JAR_CONTENT);
+
+        List<ArtifactTransfer> transfers = awaitArtifactTransfers(2);
+        assertThat(transfers.get(0).getDirection()).isEqualTo(Direction.UPLOAD);
+        assertThat(transfers.get(0).getPath()).isEqualTo(JAR_PATH);
+        assertThat(transfers.get(0).getBytes()).isEqualTo((long) JAR_CONTENT.length);
+        assertThat(transfers.get(1).getDirection()).isEqualTo(Direction.DOWNLOAD);
+        assertThat(transfers.get(1).isSuccessful()).isTrue();
+        assertThat(transfers.get(1).getBytes()).isEqualTo((long) JAR_CONTENT.length);
+    }
+
+    @Test
+    public void testUploadReplacesArtifact() throws IOException {
+        put(JAR_PATH, "old content".getBytes(StandardCharsets.UTF_8));
+        put(JAR_PATH, JAR_CONTENT);
+
+        assertThat(read(open(JAR_PATH))).isEqualTo(JAR_CONTENT);
+    }
+
+    @Test
+    public void testMissingArtifactIsNotFound() throws Exception {
+        HttpURLConnection connection = open(JAR_PATH);
+
+        assertThat(connection.getResponseCode()).isEqualTo(HttpURLConnection.HTTP_NOT_FOUND);
+        List<ArtifactTransfer> transfers = awaitArtifactTransfers(1);
+        assertThat(transfers.get(0).getDirection()).isEqualTo(Direction.DOWNLOAD);
+        assertThat(transfers.get(0).isSuccessful()).isFalse();
+    }
+
+    @Test
+    public void testPathOutsideOfRepositoryIsRejected() throws IOException {
+        assertThat(put("../outside.jar", JAR_CONTENT)).isEqualTo(HttpURLConnection.HTTP_BAD_REQUEST);
+        assertThat(new File(repository.getDirectory().getParentFile(), "outside.jar")).doesNotExist();
+        assertThat(repository.getArtifactTransfers()).isEmpty();
+    }
+
+    @Test
+    public void testRepositoryDirectoryIsDeletedOnClose() throws IOException {
+        put(JAR_PATH, JAR_CONTENT);
+        File directory = repository.getDirectory();
+
+        repository.close();
+        repository = null;
+
+        assertThat(directory).doesNotExist();
+    }
+
+    /**
+     * Transfer is recorded once the response is sent, so client may get the response before the transfer is recorded.
+     */
+    private List<ArtifactTransfer> awaitArtifactTransfers(int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TRANSFER_TIMEOUT_MILLIS;
+        List<ArtifactTransfer> transfers = repository.getArtifactTransfers();
+        while (transfers.size() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+            transfers = repository.getArtifactTransfers();
+        }
+        assertThat(transfers).hasSize(count);
+        return transfers;
+    }
+
+    private int put(String path, byte[] content) throws IOException {
+        HttpURLConnection connection = open(path);
+        connection.setRequestMethod("PUT");
+        connection.setDoOutput(true);
+        try (OutputStream body = connection.getOutputStream()) {
+            body.write(content);
+        }
+        try {
+            return connection.getResponseCode();
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    private HttpURLConnection open(String path) throws IOException {
+        return (HttpURLConnection) new URL(repository.getUrl(), path).openConnection();
+    }
+
+    private static byte[] read(HttpURLConnection connection) throws IOException {
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        try (InputStream body = connection.getInputStream()) {
+            byte[] buffer = new byte[1024];
+            int read;
+            while ((read = body.read(buffer)) != -1) {
+                content.write(buffer, 0, read);
+            }
+        }
+        return content.toByteArray();
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.cloud.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.kie.cloud.maven.constants.MavenConstants;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class KjarBuildCacheTest {
+
+    private static final List<String> MVN_ARGS = Arrays.asList("clean", "deploy");
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private String originalCacheDir;
+    private File repository;
+
+    @Before
+    public void setUp() throws IOException {
+        originalCacheDir = System.getProperty(MavenConstants.KJARS_BUILD_CACHE_DIR);
+        System.setProperty(MavenConstants.KJARS_BUILD_CACHE_DIR, temporaryFolder.newFolder("cache").getAbsolutePath());
+        repository = temporaryFolder.newFolder("repository");
+    }
+
+    @After
+    public void tearDown() {
+        if (originalCacheDir == null) {
+            System.clearProperty(MavenConstants.KJARS_BUILD_CACHE_DIR);
+        } else {
+            System.setProperty(MavenConstants.KJARS_BUILD_CACHE_DIR, originalCacheDir);
+        }
+    }
+
+    @Test
+    public void testInputHashIsStableForSameInputs() throws IOException {
+        File project = createProject("1.0.0");
+
+        String hash = KjarBuildCache.computeInputHash(project.getAbsolutePath(), MVN_ARGS, null);
+
+        assertThat(hash).hasSize(64);
+        assertThat(KjarBuildCache.computeInputHash(project.getAbsolutePath(), MVN_ARGS, null)).isEqualTo(hash);
+    }
+
+    @Test
+    public void testInputHashChangesWithSources() throws IOException {
+        File project = createProject("1.0.0");
+        String hash = KjarBuildCache.computeInputHash(project.getAbsolutePath(), MVN_ARGS, null);
+
+        write(new File(project, "src/main/resources/rules.drl"), "rule \"changed\" end");
+
+        assertThat(KjarBuildCache.computeInputHash(project.getAbsolutePath(), MVN_ARGS, null)).isNotEqualTo(hash);
+    }
+
+    @Test
+    public void testInputHashChangesWithMavenArguments() throws IOException {
+        File project = createProject("1.0.0");
+        String hash = KjarBuildCache.computeInputHash(project.getAbsolutePath(), MVN_ARGS, null);
+
+        List<String> otherArgs = Arrays.asList("clean", "deploy", "-DskipTests");
+        assertThat(KjarBuildCache.computeInputHash(project.getAbsolutePath(), otherArgs, null)).isNotEqualTo(hash);
+    }
+
+    @Test
+    public void testInputHashIgnoresTargetDirectory() throws IOException {
+        File project = createProject("1.0.0");
+        String hash = KjarBuildCache.computeInputHash(project.getAbsolutePath(), MVN_ARGS, null);
+
+        write(new File(project, "target/classes/rules.drl"), "rule \"compiled\" end");
+
+        assertThat(KjarBuildCache.computeInputHash(project.getAbsolutePath(), MVN_ARGS, null)).isEqualTo(hash);
+    }
+
+    @Test
+    public void testReleaseIsDeployedWhileAvailableInRepository() throws IOException {
+        File project = createProject("1.0.0");
+        String basedir = project.getAbsolutePath();
+        String hash = KjarBuildCache.computeInputHash(basedir, MVN_ARGS, null);
+        String repositoryUrl = repository.toURI().toString();
+        assertThat(KjarBuildCache.isDeployed(basedir, hash, repositoryUrl)).isFalse();
+
+        KjarBuildCache.recordDeployment(basedir, hash);
+        assertThat(KjarBuildCache.isDeployed(basedir, hash, repositoryUrl)).isFalse();
+
+        File deployedPom = deployPom(project, "1.0.0");
+        assertThat(KjarBuildCache.isDeployed(basedir, hash, repositoryUrl)).isTrue();
+
+        Files.delete(deployedPom.toPath());
+        assertThat(KjarBuildCache.isDeployed(basedir, hash, repositoryUrl)).isFalse();
+    }
+
+    @Test
+    public void testSnapshotRecordedByPreviousRunIsNotDeployed() throws IOException {
+        File project = createProject("1.0.0-SNAPSHOT");
+        String basedir = project.getAbsolutePath();
+        String hash = KjarBuildCache.computeInputHash(basedir, MVN_ARGS, null);
+        // Record left by previous run, snapshot may have been replaced in repository since then
+        File recordFile = new File(MavenConstants.getKjarsBuildCacheDir(), hash);
+        write(recordFile, "org.kie.cloud.test:" + project.getName() + ":1.0.0-SNAPSHOT");
+        write(new File(repository, getArtifactPath(project, "1.0.0-SNAPSHOT") + "maven-metadata.xml"), "<metadata/>");
+
+        assertThat(KjarBuildCache.isDeployed(basedir, hash, repository.toURI().toString())).isFalse();
+        assertThat(KjarBuildCache.isDeployed(basedir, hash, null)).isFalse();
+    }
+
+    @Test
+    public void testSnapshotDeployedByThisJvmIsDeployed() throws IOException {
+        File project = createProject("1.0.0-SNAPSHOT");
+        String basedir = project.getAbsolutePath();
+        String hash = KjarBuildCache.computeInputHash(basedir, MVN_ARGS, null);
+
+        KjarBuildCache.recordDeployment(basedir, hash);
+
+        assertThat(KjarBuildCache.isDeployed(basedir, hash, null)).isTrue();
+        assertThat(KjarBuildCache.getDeployedArtifacts()).contains("org.kie.cloud.test:" + project.getName() + ":1.0.0-SNAPSHOT");
+    }
+
+    @Test
+    public void testArtifactLockIsSharedByVersions() throws IOException {
+        File project = createProject("1.0.0-SNAPSHOT");
+        File otherVersion = temporaryFolder.newFolder("other-version");
+        write(new File(otherVersion, "pom.xml"), new String(Files.readAllBytes(new File(project, "pom.xml").toPath()), StandardCharsets.UTF_8)
+                .replace("1.0.0-SNAPSHOT", "1.0.1-SNAPSHOT"));
+        File otherArtifact = createProject("1.0.0-SNAPSHOT");
+
+        Object lock = KjarBuildCache.getArtifactLock(project.getAbsolutePath());
+
+        assertThat(KjarBuildCache.getArtifactLock(otherVersion.getAbsolutePath())).isSameAs(lock);
+        assertThat(KjarBuildCache.getArtifactLock(otherArtifact.getAbsolutePath())).isNotSameAs(lock);
+    }
+
+    /**
+     * Creates project with unique artifactId, deployed artifacts are kept in static state shared by all tests.
+     */
+    private File createProject(String version) throws IOException {
+        String artifactId = "project-" + UUID.randomUUID();
+        File project = temporaryFolder.newFolder(artifactId);
+        write(new File(project, "pom.xml"), "<project>\n"
+                + "  <modelVersion>4.0.0</modelVersion>\n"
+                + "  <groupId>org.kie.cloud.test</groupId>\n"
+                + "  <artifactId>" + artifactId + "</artifactId>\n"
+                + "  <version>" + version + "</version>\n"
+                + "</project>\n");
+        write(new File(project, "src/main/resources/rules.drl"), "rule \"original\" end");
+        return project;
+    }
+
+    private File deployPom(File project, String version) throws IOException {
+        File deployedPom = new File(repository, getArtifactPath(project, version) + project.getName() + "-" + version + ".pom");
+        write(deployedPom, "<project/>");
+        return deployedPom;
+    }
+
+    private static String getArtifactPath(File project, String version) {
+        return "org/kie/cloud/test/" + project.getName() + "/" + version + "/";
+    }
+
+    private static void write(File file, String content) throws IOException {
+        Files.createDirectories(file.getParentFile().toPath());
+        Files.write(file.toPath(), Collections.singletonList(content), StandardCharsets.UTF_8);
+    }
+}
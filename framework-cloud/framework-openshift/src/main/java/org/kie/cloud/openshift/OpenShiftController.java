@@ -16,28 +16,75 @@
 package org.kie.cloud.openshift;
 
 import java.io.Closeable;
+import java.io.IOException;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
-import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
+import io.fabric8.kubernetes.client.BaseClient;
 import io.fabric8.kubernetes.client.Config;
 import io.fabric8.kubernetes.client.ConfigBuilder;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.openshift.client.DefaultOpenShiftClient;
 import io.fabric8.openshift.client.OpenShiftClient;
+import okhttp3.HttpUrl;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import org.kie.cloud.common.timeline.DeploymentTimeline;
+import org.kie.cloud.common.timeline.DeploymentTimeline.Span;
+import org.kie.cloud.openshift.cache.NamespaceResourceCache;
+import org.kie.cloud.openshift.client.RateLimitingInterceptor;
+import org.kie.cloud.openshift.client.SingleFlightInterceptor;
+import org.kie.cloud.openshift.constants.OpenShiftConstants;
+import org.kie.cloud.openshift.logs.PodLogFollower;
+import org.kie.cloud.openshift.metrics.ApiMetricsInterceptor;
 import org.kie.cloud.openshift.resource.OpenShiftResourceConstants;
 import org.kie.cloud.openshift.resource.Project;
 import org.kie.cloud.openshift.resource.impl.ProjectImpl;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class OpenShiftController implements Closeable {
 
+    private static final Logger logger = LoggerFactory.getLogger(OpenShiftController.class);
+
+    private static final String PROJECT_ACTIVE_PHASE = "Active";
+
+    private static final MediaType JSON_MEDIA_TYPE = MediaType.parse("application/json");
+    private static final String BACKGROUND_DELETE_OPTIONS = "{\"kind\":\"DeleteOptions\",\"apiVersion\":\"v1\",\"propagationPolicy\":\"Background\"}";
+
+    // Shared by clients of all controllers, so the request rate is limited per JVM
+    private static RateLimitingInterceptor rateLimitingInterceptor;
+
     private OpenShiftClient client;
 
+    // Projects known to exist, removed when deleted through this controller
+    private final Set<String> existingProjects = ConcurrentHashMap.newKeySet();
+
+    private final Map<String, NamespaceResourceCache> resourceCaches = new ConcurrentHashMap<>();
+    private final Set<String> resourceCacheDisabledNamespaces = ConcurrentHashMap.newKeySet();
+
+    // Pod log followers by namespace and pod name
+    private final Map<String, Map<String, PodLogFollower>> logFollowers = new ConcurrentHashMap<>();
+
     /**
      * Create OpenShift controller using values defined by syst. properties.
      * @see https://github.com/fabric8io/kubernetes-client
      */
     public OpenShiftController() {
-        client = new DefaultOpenShiftClient();
+        client = withInterceptors(new DefaultOpenShiftClient());
     }
 
     /**
@@ -52,7 +99,16 @@ public class OpenShiftController implements Closeable {
         System.setProperty(Config.KUBERNETES_TRUST_CERT_SYSTEM_PROPERTY, "true");
 
         Config config = new ConfigBuilder().withMasterUrl(openShiftMasterUrl).withUsername(username).withPassword(password).build();
-        client = new DefaultOpenShiftClient(config);
+        client = withInterceptors(new DefaultOpenShiftClient(config));
+    }
+
+    /**
+     * Create OpenShift controller using provided client configuration, for example configuration of client connected to mock server.
+     *
+     * @param config OpenShift client configuration.
+     */
+    public OpenShiftController(Config config) {
+        client = withInterceptors(new DefaultOpenShiftClient(config));
     }
 
     /**
@@ -61,17 +117,21 @@ public class OpenShiftController implements Closeable {
      * @param projectName OpenShift project name.
      */
     public Project createProject(String projectName) {
-        client.projectrequests().createNew()
-                .withNewMetadata()
-                    .withName(projectName)
-                .endMetadata()
-                .withDescription("New project " + projectName)
-                .withDisplayName(projectName)
-            .done();
+        try (Span span = DeploymentTimeline.forNamespace(projectName).span("project creation")) {
+            client.projectrequests().createNew()
+                    .withNewMetadata()
+                        .withName(projectName)
+                    .endMetadata()
+                    .withDescription("New project " + projectName)
+                    .withDisplayName(projectName)
+                .done();
 
-        waitForProjectCreation(projectName);
+            waitForProjectCreation(projectName);
+        }
+        existingProjects.add(projectName);
+        refreshProjectExpiration(projectName);
 
-        return new ProjectImpl(client, projectName);
+        return new ProjectImpl(this, projectName);
     }
 
     /**
@@ -81,13 +141,82 @@ public class OpenShiftController implements Closeable {
      * @return Open Openshift project
      */
     public Project getProject(String projectName) {
-        Project project = new ProjectImpl(client, projectName);
-        List<io.fabric8.openshift.api.model.Project> projectList = client.projects().list().getItems();
-        if (projectList.stream().anyMatch(p -> p.getMetadata().getName().equals(projectName)) == false) {
-            throw new RuntimeException(String.format("Project with name %s not found", projectName));
+        if (!existingProjects.contains(projectName)) {
+            if (getOpenShiftProject(projectName) == null) {
+                throw new RuntimeException(String.format("Project with name %s not found", projectName));
+            }
+            existingProjects.add(projectName);
         }
 
-        return project;
+        return new ProjectImpl(this, projectName);
+    }
+
+    /**
+     * Delete OpenShift project.
+     *
+     * @param projectName OpenShift project name.
+     */
+    public void deleteProject(String projectName) {
+        forgetProject(projectName);
+        client.projects().withName(projectName).delete();
+    }
+
+    /**
+     * Delete OpenShift project with background propagation, OpenShift responds once the project is marked for deletion
+     * and its resources are removed by garbage collector afterwards.
+     *
+     * @param projectName OpenShift project name.
+     */
+    public void deleteProjectInBackground(String projectName) {
+        forgetProject(projectName);
+
+        HttpUrl projectUrl = HttpUrl.get(client.getOpenshiftUrl()).newBuilder().addPathSegment("projects").addPathSegment(projectName).build();
+        Request request = new Request.Builder()
+                .url(projectUrl)
+                .delete(RequestBody.create(JSON_MEDIA_TYPE, BACKGROUND_DELETE_OPTIONS))
+                .build();
+        try (Response response = ((BaseClient) client).getHttpClient().newCall(request).execute()) {
+            // Not found means the project is deleted already
+            if (!response.isSuccessful() && response.code() != 404) {
+                throw new KubernetesClientException("Project " + projectName + " cannot be deleted: " + response.code() + " " + response.message(),
+                        response.code(), null);
+            }
+        } catch (IOException e) {
+            throw new KubernetesClientException("Error while deleting project " + projectName, e);
+        }
+    }
+
+    /**
+     * Release all state kept for the project by this controller, such as resource cache.
+     *
+     * @param projectName OpenShift project name.
+     */
+    public void forgetProject(String projectName) {
+        existingProjects.remove(projectName);
+
+        NamespaceResourceCache resourceCache = resourceCaches.remove(projectName);
+        if (resourceCache != null) {
+            resourceCache.close();
+        }
+
+        Map<String, PodLogFollower> projectLogFollowers = logFollowers.remove(projectName);
+        if (projectLogFollowers != null) {
+            projectLogFollowers.values().forEach(PodLogFollower::close);
+        }
+    }
+
+    /**
+     * Return current phase of OpenShift project, such as "Active" or "Terminating".
+     *
+     * @param projectName OpenShift project name.
+     * @return Project phase or empty Optional if project doesn't exist.
+     */
+    public Optional<String> getProjectPhase(String projectName) {
+        io.fabric8.openshift.api.model.Project project = getOpenShiftProject(projectName);
+        if (project == null) {
+            return Optional.empty();
+        }
+        return Optional.of(project.getStatus() != null && project.getStatus().getPhase() != null ? project.getStatus().getPhase() : "");
     }
 
     /**
@@ -97,23 +226,115 @@ public class OpenShiftController implements Closeable {
         return client;
     }
 
+    /**
+     * Return cache of resources for the namespace. The cache is created on first access and closed when the project is deleted.
+     *
+     * @param namespace Namespace name.
+     * @return Resource cache or empty Optional if cache is disabled for the namespace.
+     */
+    public Optional<NamespaceResourceCache> getResourceCache(String namespace) {
+        if (resourceCacheDisabledNamespaces.contains(namespace) || OpenShiftConstants.isResourceCacheDisabled(namespace)) {
+            return Optional.empty();
+        }
+        return Optional.of(resourceCaches.compute(namespace, (n, cache) -> cache == null || cache.isClosed() ? new NamespaceResourceCache(client, n) : cache));
+    }
+
+    /**
+     * Disable resource cache for the namespace, all reads will go directly to OpenShift.
+     *
+     * @param namespace Namespace name.
+     */
+    public void disableResourceCache(String namespace) {
+        resourceCacheDisabledNamespaces.add(namespace);
+        NamespaceResourceCache resourceCache = resourceCaches.remove(namespace);
+        if (resourceCache != null) {
+            resourceCache.close();
+        }
+    }
+
+    /**
+     * Return follower of the pod log. Log is followed since first access until the project is deleted or forgotten.
+     *
+     * @param namespace Namespace name.
+     * @param podName Pod name.
+     * @return Pod log follower.
+     */
+    public PodLogFollower getLogFollower(String namespace, String podName) {
+        Map<String, PodLogFollower> projectLogFollowers = logFollowers.computeIfAbsent(namespace, n -> new ConcurrentHashMap<>());
+        PodLogFollower logFollower = projectLogFollowers.computeIfAbsent(podName, p -> new PodLogFollower(client, namespace, p));
+        // Started outside of the map, waiting for the existing log doesn't block access to followers of other pods
+        try {
+            logFollower.start();
+        } catch (RuntimeException e) {
+            projectLogFollowers.remove(podName, logFollower);
+            throw e;
+        }
+        return logFollower;
+    }
+
     @Override
     public void close() {
+        resourceCaches.values().forEach(NamespaceResourceCache::close);
+        resourceCaches.clear();
+        logFollowers.values().forEach(projectLogFollowers -> projectLogFollowers.values().forEach(PodLogFollower::close));
+        logFollowers.clear();
         if (client != null) {
             client.close();
         }
     }
 
     /**
-     * Wait until project is created.
+     * Wait until project is created and active.
      *
      * @param projectName Project to be created
      */
     private void waitForProjectCreation(String projectName) {
         Instant timeoutTime = Instant.now().plus(OpenShiftResourceConstants.PROJECT_CREATION_TIMEOUT, ChronoUnit.MILLIS);
+        // Completed with true once project is active, with false if watch is closed prematurely
+        CompletableFuture<Boolean> projectActive = new CompletableFuture<>();
+
+        Watcher<io.fabric8.openshift.api.model.Project> projectWatcher = new Watcher<io.fabric8.openshift.api.model.Project>() {
+
+            @Override
+            public void eventReceived(Action action, io.fabric8.openshift.api.model.Project project) {
+                if (isProjectActive(project)) {
+                    projectActive.complete(true);
+                }
+            }
+
+            @Override
+            public void onClose(KubernetesClientException cause) {
+                projectActive.complete(false);
+            }
+        };
+
+        try (Watch watch = client.projects().withName(projectName).watch(projectWatcher)) {
+            // Project may have become active before the watch was opened
+            if (isProjectActive(getOpenShiftProject(projectName))) {
+                return;
+            }
+            long remainingMillis = Math.max(0, timeoutTime.toEpochMilli() - Instant.now().toEpochMilli());
+            if (projectActive.get(remainingMillis, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+            logger.info("Watch of project {} was closed, waiting for project creation by polling.", projectName);
+        } catch (KubernetesClientException e) {
+            logger.info("Project {} cannot be watched, waiting for project creation by polling.", projectName, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for project " + projectName + " to be created.", e);
+        } catch (TimeoutException e) {
+            throw new RuntimeException("Timeout while waiting for project " + projectName + " to be created.", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Error while waiting for project " + projectName + " to be created: " + e.getCause().getMessage(), e.getCause());
+        }
+
+        waitForProjectCreationByPolling(projectName, timeoutTime);
+    }
+
+    private void waitForProjectCreationByPolling(String projectName, Instant timeoutTime) {
         while (Instant.now().isBefore(timeoutTime)) {
-            List<io.fabric8.openshift.api.model.Project> projectList = client.projects().list().getItems();
-            if (projectList.stream().anyMatch(p -> p.getMetadata().getName().equals(projectName))) {
+            if (isProjectActive(getOpenShiftProject(projectName))) {
                 return;
             }
 
@@ -127,4 +348,64 @@ public class OpenShiftController implements Closeable {
 
         throw new RuntimeException("Timeout while waiting for project " + projectName + " to be created.");
     }
+
+    /**
+     * Label project with expiration time computed from {@link OpenShiftConstants#NAMESPACE_TTL}, so it is deleted by
+     * {@link org.kie.cloud.openshift.scenario.util.NamespaceReaper} of any test run if this run crashes before deleting it.
+     * Labeling namespaces requires additional permissions, projects without the label are just never deleted as expired.
+     *
+     * @param projectName OpenShift project name.
+     */
+    public void refreshProjectExpiration(String projectName) {
+        long expirationTime = Instant.now().plus(OpenShiftConstants.getNamespaceTtl(), ChronoUnit.MINUTES).getEpochSecond();
+        try {
+            client.namespaces().withName(projectName).edit()
+                    .editMetadata()
+                        .addToLabels(OpenShiftResourceConstants.PROJECT_EXPIRATION_LABEL, String.valueOf(expirationTime))
+                    .endMetadata()
+                .done();
+        } catch (KubernetesClientException e) {
+            logger.debug("Project {} cannot be labeled with its expiration time.", projectName, e);
+        }
+    }
+
+    /**
+     * @return Project or null if project doesn't exist. OpenShift responds with Forbidden for projects which don't exist or aren't accessible by user.
+     */
+    private io.fabric8.openshift.api.model.Project getOpenShiftProject(String projectName) {
+        try {
+            return client.projects().withName(projectName).get();
+        } catch (KubernetesClientException e) {
+            if (e.getCode() == 403) {
+                return null;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * @return Client sharing configuration and connection pool with the given client. Identical concurrent reads are coalesced,
+     * requests are rate limited and every request sent to OpenShift is recorded to API call metrics.
+     */
+    private static OpenShiftClient withInterceptors(DefaultOpenShiftClient client) {
+        OkHttpClient.Builder httpClientBuilder = client.getHttpClient().newBuilder();
+        if (OpenShiftConstants.isClientCoalescingEnabled()) {
+            httpClientBuilder.addInterceptor(new SingleFlightInterceptor());
+        }
+        httpClientBuilder.addInterceptor(getRateLimitingInterceptor());
+        httpClientBuilder.addInterceptor(new ApiMetricsInterceptor());
+        return new DefaultOpenShiftClient(httpClientBuilder.build(), client.getConfiguration());
+    }
+
+    private static synchronized RateLimitingInterceptor getRateLimitingInterceptor() {
+        if (rateLimitingInterceptor == null) {
+            rateLimitingInterceptor = new RateLimitingInterceptor(OpenShiftConstants.getClientQps(), OpenShiftConstants.getClientBurst(),
+                    OpenShiftConstants.getClientThrottlingRetries(), OpenShiftConstants.getClientThrottlingBackoff());
+        }
+        return rateLimitingInterceptor;
+    }
+
+    private static boolean isProjectActive(io.fabric8.openshift.api.model.Project project) {
+        return project != null && project.getStatus() != null && PROJECT_ACTIVE_PHASE.equals(project.getStatus().getPhase());
+    }
 }
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.cloud.openshift.cache;
+
+import java.io.Closeable;
+import java.util.List;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.Service;
+import io.fabric8.openshift.api.model.DeploymentConfig;
+import io.fabric8.openshift.api.model.Route;
+import io.fabric8.openshift.client.OpenShiftClient;
+
+/**
+ * Cache of pods, services, routes and deployment configs in one namespace.
+ * Content of the cache is kept up to date by OpenShift watches, newer resource versions replace older ones.
+ * Note that changes done in OpenShift are visible in cache after their watch event is delivered.
+ */
+public class NamespaceResourceCache implements Closeable {
+
+    private final String namespace;
+
+    private final ResourceStore<Pod> pods;
+    private final ResourceStore<Service> services;
+    private final ResourceStore<Route> routes;
+    private final ResourceStore<DeploymentConfig> deploymentConfigs;
+
+    private volatile boolean closed = false;
+
+    public NamespaceResourceCache(OpenShiftClient client, String namespace) {
+        this.namespace = namespace;
+
+        pods = new ResourceStore<>("pods in namespace " + namespace,
+                watcher -> client.pods().inNamespace(namespace).watch(watcher),
+                () -> client.pods().inNamespace(namespace).list().getItems(),
+                name -> client.pods().inNamespace(namespace).withName(name).get());
+        services = new ResourceStore<>("services in namespace " + namespace,
+                watcher -> client.services().inNamespace(namespace).watch(watcher),
+                () -> client.services().inNamespace(namespace).list().getItems(),
+                name -> client.services().inNamespace(namespace).withName(name).get());
+        routes = new ResourceStore<>("routes in namespace " + namespace,
+                watcher -> client.routes().inNamespace(namespace).watch(watcher),
+                () -> client.routes().inNamespace(namespace).list().getItems(),
+                name -> client.routes().inNamespace(namespace).withName(name).get());
+        deploymentConfigs = new ResourceStore<>("deployment configs in namespace " + namespace,
+                watcher -> client.deploymentConfigs().inNamespace(namespace).watch(watcher),
+                () -> client.deploymentConfigs().inNamespace(namespace).list().getItems(),
+                name -> client.deploymentConfigs().inNamespace(namespace).withName(name).get());
+    }
+
+    public String getNamespace() {
+        return namespace;
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * @return Pods having label with specified value.
+     */
+    public List<Pod> getPods(String labelName, String labelValue) {
+        return pods.list(p -> hasLabel(p, labelName, labelValue));
+    }
+
+    /**
+     * Store pods having the label as retrieved from OpenShift, so result of scaling is visible before watch events arrive.
+     */
+    public void updatePods(String labelName, String labelValue, List<Pod> currentPods) {
+        pods.replace(p -> hasLabel(p, labelName, labelValue), currentPods);
+    }
+
+    /**
+     * @return Service with given name or null if service doesn't exist.
+     */
+    public Service getService(String serviceName) {
+        return services.get(serviceName);
+    }
+
+    public List<Service> getServices() {
+        return services.list(s -> true);
+    }
+
+    /**
+     * Remove service deleted in OpenShift, so the deletion is visible before watch event arrives.
+     */
+    public void evictService(String serviceName) {
+        services.remove(serviceName);
+    }
+
+    /**
+     * @return Route with given name or null if route doesn't exist.
+     */
+    public Route getRoute(String routeName) {
+        return routes.get(routeName);
+    }
+
+    public List<Route> getRoutes() {
+        return routes.list(r -> true);
+    }
+
+    /**
+     * Store route returned by OpenShift as response to creation request, so the route is visible before watch event arrives.
+     */
+    public void updateRoute(Route route) {
+        routes.update(route);
+    }
+
+    /**
+     * Remove route deleted in OpenShift, so the deletion is visible before watch event arrives.
+     */
+    public void evictRoute(String routeName) {
+        routes.remove(routeName);
+    }
+
+    /**
+     * @return Deployment config with given name or null if deployment config doesn't exist.
+     */
+    public DeploymentConfig getDeploymentConfig(String deploymentConfigName) {
+        return deploymentConfigs.get(deploymentConfigName);
+    }
+
+    /**
+     * Store deployment config returned by OpenShift as response to modification request, so the change is visible before watch event arrives.
+     */
+    public void updateDeploymentConfig(DeploymentConfig deploymentConfig) {
+        deploymentConfigs.update(deploymentConfig);
+    }
+
+    /**
+     * Remove deployment config deleted in OpenShift, so the deletion is visible before watch event arrives.
+     */
+    public void evictDeploymentConfig(String deploymentConfigName) {
+        deploymentConfigs.remove(deploymentConfigName);
+    }
+
+    private static boolean hasLabel(Pod pod, String labelName, String labelValue) {
+        return pod.getMetadata().getLabels() != null && labelValue.equals(pod.getMetadata().getLabels().get(labelName));
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        pods.close();
+        services.close();
+        routes.close();
+        deploymentConfigs.close();
+    }
+}
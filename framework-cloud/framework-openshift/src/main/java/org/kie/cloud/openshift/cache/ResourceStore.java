@@ -0,0 +1,274 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.cloud.openshift.cache;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Local copy of one resource type in a namespace, kept up to date by OpenShift watch.
+ * Store is started lazily on first read. If the watch is closed by server then store is resynchronized on next read.
+ * Deleted resources are remembered with their last known version, so stale reads and events can't bring them back.
+ *
+ * @param <T> Resource type.
+ */
+class ResourceStore<T extends HasMetadata> {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResourceStore.class);
+
+    private final String description;
+    private final Function<Watcher<T>, Watch> watchOpener;
+    private final Supplier<List<T>> resourceLister;
+    private final Function<String, T> resourceGetter;
+
+    private final Map<String, T> resources = new HashMap<>();
+    // Names of deleted resources mapped to their last known resource version, null if the version isn't known
+    private final Map<String, String> deletedResources = new HashMap<>();
+    private Watch watch;
+    private int watchGeneration = 0;
+    private boolean synced = false;
+    private boolean closed = false;
+
+    ResourceStore(String description, Function<Watcher<T>, Watch> watchOpener, Supplier<List<T>> resourceLister, Function<String, T> resourceGetter) {
+        this.description = description;
+        this.watchOpener = watchOpener;
+        this.resourceLister = resourceLister;
+        this.resourceGetter = resourceGetter;
+    }
+
+    /**
+     * Return resource with given name. If resource isn't in the store yet (watch event may not have arrived yet) then it is retrieved from OpenShift.
+     *
+     * @param name Resource name.
+     * @return Resource or null if resource doesn't exist.
+     */
+    T get(String name) {
+        synchronized (this) {
+            ensureSynced();
+            T resource = resources.get(name);
+            if (resource != null || closed || deletedResources.containsKey(name)) {
+                return resource;
+            }
+        }
+
+        T resource = resourceGetter.apply(name);
+        if (resource != null) {
+            update(resource);
+        }
+        return resource;
+    }
+
+    synchronized List<T> list(Predicate<T> filter) {
+        ensureSynced();
+        if (closed) {
+            return new ArrayList<>();
+        }
+        List<T> filteredResources = new ArrayList<>();
+        for (T resource : resources.values()) {
+            if (filter.test(resource)) {
+                filteredResources.add(resource);
+            }
+        }
+        return filteredResources;
+    }
+
+    /**
+     * Store resource returned by OpenShift as response to modification request. Resource is stored only if it is newer
+     * than the stored or deleted one. Resource marked for deletion is treated as deleted.
+     */
+    synchronized void update(T resource) {
+        String name = resource.getMetadata().getName();
+        String resourceVersion = resource.getMetadata().getResourceVersion();
+        T storedResource = resources.get(name);
+        if (storedResource != null && isOlder(resourceVersion, storedResource.getMetadata().getResourceVersion())) {
+            return;
+        }
+        if (deletedResources.containsKey(name) && !isNewer(resourceVersion, deletedResources.get(name))) {
+            return;
+        }
+        if (resource.getMetadata().getDeletionTimestamp() != null) {
+            resources.remove(name);
+            deletedResources.put(name, resourceVersion);
+            return;
+        }
+        resources.put(name, resource);
+        deletedResources.remove(name);
+    }
+
+    /**
+     * Remove resource deleted by this client, so it isn't returned before its watch event arrives.
+     */
+    synchronized void remove(String name) {
+        T storedResource = resources.remove(name);
+        String lastVersion = storedResource != null ? storedResource.getMetadata().getResourceVersion() : null;
+        // Keep the newest known version if the resource is already marked as deleted
+        if (!deletedResources.containsKey(name) || lastVersion != null) {
+            deletedResources.put(name, lastVersion);
+        }
+    }
+
+    /**
+     * Replace resources matching the filter by resources listed directly from OpenShift, used to make result of a
+     * modification visible before its watch events arrive. Matching resources missing in the list are removed.
+     */
+    synchronized void replace(Predicate<T> filter, List<T> currentResources) {
+        if (!synced) {
+            // Store is loaded from OpenShift on next read anyway
+            return;
+        }
+        Set<String> currentNames = new HashSet<>();
+        for (T resource : currentResources) {
+            currentNames.add(resource.getMetadata().getName());
+            update(resource);
+        }
+        List<String> removedNames = new ArrayList<>();
+        for (T resource : resources.values()) {
+            if (filter.test(resource) && !currentNames.contains(resource.getMetadata().getName())) {
+                removedNames.add(resource.getMetadata().getName());
+            }
+        }
+        for (String name : removedNames) {
+            remove(name);
+        }
+    }
+
+    private synchronized void eventReceived(int generation, Watcher.Action action, T resource) {
+        if (generation != watchGeneration) {
+            return;
+        }
+        String name = resource.getMetadata().getName();
+        switch (action) {
+            case ADDED:
+            case MODIFIED:
+                update(resource);
+                break;
+            case DELETED:
+                resources.remove(name);
+                deletedResources.put(name, resource.getMetadata().getResourceVersion());
+                break;
+            default:
+                logger.warn("Received {} event for {} {}, cache will be resynchronized on next access.", action, description, name);
+                synced = false;
+        }
+    }
+
+    private synchronized void watchClosed(int generation, KubernetesClientException cause) {
+        if (generation != watchGeneration) {
+            return;
+        }
+        if (cause != null) {
+            logger.info("Watch of {} was closed, cache will be resynchronized on next access.", description, cause);
+        }
+        synced = false;
+        watch = null;
+    }
+
+    synchronized void close() {
+        closed = true;
+        synced = false;
+        resources.clear();
+        deletedResources.clear();
+        closeWatch();
+    }
+
+    private void ensureSynced() {
+        if (synced || closed) {
+            return;
+        }
+        closeWatch();
+        resources.clear();
+
+        // Watch is opened before listing so no change between list and watch gets lost
+        watch = watchOpener.apply(new StoreWatcher(++watchGeneration));
+        Set<String> listedNames = new HashSet<>();
+        for (T resource : resourceLister.get()) {
+            listedNames.add(resource.getMetadata().getName());
+            // Resource deleted by this client may still be listed until its deletion finishes
+            update(resource);
+        }
+        // Resources missing in the list are gone, their deletion doesn't have to be remembered anymore
+        deletedResources.keySet().retainAll(listedNames);
+        synced = true;
+    }
+
+    private void closeWatch() {
+        if (watch != null) {
+            Watch currentWatch = watch;
+            watch = null;
+            watchGeneration++;
+            currentWatch.close();
+        }
+    }
+
+    /**
+     * Watcher bound to one watch, events of already closed watches are ignored.
+     */
+    private class StoreWatcher implements Watcher<T> {
+
+        private final int generation;
+
+        private StoreWatcher(int generation) {
+            this.generation = generation;
+        }
+
+        @Override
+        public void eventReceived(Action action, T resource) {
+            ResourceStore.this.eventReceived(generation, action, resource);
+        }
+
+        @Override
+        public void onClose(KubernetesClientException cause) {
+            watchClosed(generation, cause);
+        }
+    }
+
+    private static boolean isOlder(String resourceVersion, String storedVersion) {
+        try {
+            return Long.parseLong(resourceVersion) < Long.parseLong(storedVersion);
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * @return True if the version is newer than the version of deleted resource. Any version is newer than unknown
+     * one, unparsable versions are never newer as deleted resource can't be told apart from the recreated one.
+     */
+    private static boolean isNewer(String resourceVersion, String deletedVersion) {
+        if (deletedVersion == null) {
+            return true;
+        }
+        try {
+            return Long.parseLong(resourceVersion) > Long.parseLong(deletedVersion);
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.cloud.openshift.client;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Limit rate of OpenShift API requests by token bucket and retry requests throttled by the server.
+ * Throttled requests are retried after delay requested by Retry-After header, or after exponential backoff with jitter.
+ */
+public class RateLimitingInterceptor implements Interceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitingInterceptor.class);
+
+    private static final int TOO_MANY_REQUESTS = 429;
+    private static final String RETRY_AFTER_HEADER = "Retry-After";
+    private static final long MAX_BACKOFF_MILLIS = 30_000L;
+
+    private final double qps;
+    private final int burst;
+    private final int retries;
+    private final long backoffMillis;
+
+    private double tokens;
+    private long lastRefillNanos = System.nanoTime();
+
+    /**
+     * @param qps Average number of requests per second, 0 or less disables the limit.
+     * @param burst Number of requests which can be sent at once.
+     * @param retries Number of retries of throttled requests.
+     * @param backoffMillis Initial delay before retry of throttled request.
+     */
+    public RateLimitingInterceptor(double qps, int burst, int retries, long backoffMillis) {
+        this.qps = qps;
+        this.burst = Math.max(1, burst);
+        this.retries = retries;
+        this.backoffMillis = backoffMillis;
+        this.tokens = this.burst;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        for (int attempt = 0; ; attempt++) {
+            acquirePermit();
+            Response response = chain.proceed(request);
+            if (response.code() != TOO_MANY_REQUESTS || attempt >= retries) {
+                return response;
+            }
+
+            long delayMillis = getRetryDelay(response, attempt);
+            logger.debug("Request {} {} throttled, retrying in {} ms.", request.method(), request.url().encodedPath(), delayMillis);
+            response.close();
+            sleep(delayMillis);
+        }
+    }
+
+    private void acquirePermit() throws InterruptedIOException {
+        if (qps <= 0) {
+            return;
+        }
+        sleep(TimeUnit.NANOSECONDS.toMillis(reservePermit()));
+    }
+
+    /**
+     * Take one token, the bucket may go into debt which is paid by waiting.
+     *
+     * @return Time in nanoseconds to wait before the request can be sent.
+     */
+    private synchronized long reservePermit() {
+        long now = System.nanoTime();
+        tokens = Math.min(burst, tokens + (now - lastRefillNanos) * qps / TimeUnit.SECONDS.toNanos(1));
+        lastRefillNanos = now;
+        tokens--;
+        return tokens >= 0 ? 0 : (long) (-tokens / qps * TimeUnit.SECONDS.toNanos(1));
+    }
+
+    private long getRetryDelay(Response response, int attempt) {
+        String retryAfter = response.header(RETRY_AFTER_HEADER);
+        if (retryAfter != null) {
+            try {
+                return Math.min(MAX_BACKOFF_MILLIS, TimeUnit.SECONDS.toMillis(Long.parseLong(retryAfter.trim())));
+            } catch (NumberFormatException e) {
+                logger.debug("Retry-After header '{}' isn't a number of seconds, using backoff.", retryAfter);
+            }
+        }
+        long backoff = Math.min(MAX_BACKOFF_MILLIS, backoffMillis << Math.min(attempt, 16));
+        // Jitter spreads retries of concurrently throttled requests
+        return backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+    }
+
+    private static void sleep(long millis) throws InterruptedIOException {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting to send OpenShift API request.");
+        }
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.cloud.openshift.client;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+/**
+ * Coalesce identical reads sent concurrently into one OpenShift API request. The first caller sends the request,
+ * callers arriving while the request is in flight wait for it and get a copy of its response.
+ * Only reads of a single named resource are coalesced, lists, watches, logs and other subresources are sent as they are.
+ * Response is shared only if it is JSON of known and limited size, otherwise waiting callers send their own request.
+ */
+public class SingleFlightInterceptor implements Interceptor {
+
+    private static final String UPGRADE_HEADER = "Upgrade";
+    private static final String NAMESPACES_SEGMENT = "namespaces";
+    private static final String JSON_SUBTYPE = "json";
+    private static final long MAX_BUFFERED_BODY_BYTES = 1024 * 1024;
+
+    private final Map<String, CompletableFuture<BufferedResponse>> inFlightRequests = new ConcurrentHashMap<>();
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        if (!isCoalescable(request)) {
+            return chain.proceed(request);
+        }
+
+        String key = request.url().toString();
+        CompletableFuture<BufferedResponse> newFlight = new CompletableFuture<>();
+        CompletableFuture<BufferedResponse> inFlight = inFlightRequests.putIfAbsent(key, newFlight);
+        if (inFlight != null) {
+            BufferedResponse sharedResponse = awaitResponse(inFlight);
+            return sharedResponse != null ? sharedResponse.toResponse(request) : chain.proceed(request);
+        }
+
+        try {
+            Response response = chain.proceed(request);
+            if (!isBufferable(response)) {
+                // Waiting callers send their own request
+                newFlight.complete(null);
+                return response;
+            }
+            BufferedResponse bufferedResponse = new BufferedResponse(response);
+            newFlight.complete(bufferedResponse);
+            return bufferedResponse.toResponse(request);
+        } catch (IOException | RuntimeException e) {
+            newFlight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightRequests.remove(key, newFlight);
+        }
+    }
+
+    private static boolean isCoalescable(Request request) {
+        return "GET".equals(request.method())
+                && request.header(UPGRADE_HEADER) == null
+                && !Boolean.parseBoolean(request.url().queryParameter("watch"))
+                && !Boolean.parseBoolean(request.url().queryParameter("follow"))
+                && isNamedResource(request.url().pathSegments());
+    }
+
+    /**
+     * @return True if path points to a single resource, for example /api/v1/namespaces/myproject/pods/mypod.
+     * Lists such as /api/v1/namespaces/myproject/pods and subresources such as /api/v1/namespaces/myproject/pods/mypod/log return false.
+     */
+    static boolean isNamedResource(List<String> pathSegments) {
+        int apiPrefixLength;
+        if (pathSegments.size() > 0 && ("api".equals(pathSegments.get(0)) || "oapi".equals(pathSegments.get(0)))) {
+            apiPrefixLength = 2;
+        } else if (pathSegments.size() > 0 && "apis".equals(pathSegments.get(0))) {
+            apiPrefixLength = 3;
+        } else {
+            return false;
+        }
+        if (pathSegments.size() < apiPrefixLength) {
+            return false;
+        }
+
+        List<String> resourcePath = pathSegments.subList(apiPrefixLength, pathSegments.size());
+        if (resourcePath.size() > 2 && NAMESPACES_SEGMENT.equals(resourcePath.get(0))) {
+            resourcePath = resourcePath.subList(2, resourcePath.size());
+        }
+        return resourcePath.size() == 2 && !resourcePath.get(1).isEmpty();
+    }
+
+    private static boolean isBufferable(Response response) {
+        ResponseBody body = response.body();
+        if (body == null) {
+            return true;
+        }
+        MediaType contentType = body.contentType();
+        long contentLength = body.contentLength();
+        return contentType != null && JSON_SUBTYPE.equals(contentType.subtype())
+                && contentLength >= 0 && contentLength <= MAX_BUFFERED_BODY_BYTES;
+    }
+
+    private static BufferedResponse awaitResponse(CompletableFuture<BufferedResponse> inFlight) throws IOException {
+        try {
+            return inFlight.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for coalesced OpenShift API request.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw new IOException("Coalesced OpenShift API request failed.", e.getCause());
+            }
+            throw new RuntimeException("Coalesced OpenShift API request failed.", e.getCause());
+        }
+    }
+
+    /**
+     * Response with body read into memory, so it can be handed to several callers.
+     */
+    private static class BufferedResponse {
+
+        private final Response response;
+        private final MediaType contentType;
+        private final byte[] body;
+
+        private BufferedResponse(Response response) throws IOException {
+            this.response = response;
+            try (ResponseBody responseBody = response.body()) {
+                this.contentType = responseBody != null ? responseBody.contentType() : null;
+                this.body = responseBody != null ? responseBody.bytes() : new byte[0];
+            }
+        }
+
+        private Response toResponse(Request request) {
+            return response.newBuilder()
+                    .request(request)
+                    .body(ResponseBody.create(contentType, body))
+                    .build();
+        }
+    }
+}
@@ -15,6 +15,7 @@
 
 package org.kie.cloud.openshift.constants;
 
+import java.util.Arrays;
 import java.util.Optional;
 
 import org.kie.cloud.api.constants.Constants;
@@ -29,6 +30,67 @@ public class OpenShiftConstants implements Constants {
      * Project name prefix - to simplify identification of projects created in OpenShift.
      */
     public static final String NAMESPACE_PREFIX = "openshift.namespace.prefix";
+    /**
+     * Number of projects prepared in background with secrets and image streams, scenarios lease projects from this pool. Pool is disabled by default.
+     */
+    public static final String NAMESPACE_POOL_SIZE = "openshift.namespace.pool.size";
+    /**
+     * If true then released pooled projects are scrubbed and returned to the pool, otherwise they are deleted and replaced by new projects.
+     */
+    public static final String NAMESPACE_POOL_SCRUB = "openshift.namespace.pool.scrub";
+    /**
+     * Comma separated list of namespaces which read resources directly from OpenShift instead of the watch based cache, "*" disables cache for all namespaces.
+     */
+    public static final String RESOURCE_CACHE_DISABLED_NAMESPACES = "openshift.resource.cache.disabled.namespaces";
+    /**
+     * Set to false to download and parse templates and resource lists for every scenario.
+     */
+    public static final String TEMPLATE_CACHE_ENABLED = "kie.template.cache.enabled";
+    /**
+     * Directory where downloaded templates and resource lists are cached, shared between test runs.
+     */
+    public static final String TEMPLATE_CACHE_DIRECTORY = "kie.template.cache.directory";
+    /**
+     * Maximal number of scenario deployment steps (template processing, waiting for deployments) executed concurrently.
+     */
+    public static final String SCENARIO_DEPLOYMENT_THREADS = "openshift.scenario.deployment.threads";
+    /**
+     * If true then scenarios are undeployed by deleting their project right away, without scaling deployments down.
+     * Deletion is confirmed by background reaper which also deletes expired projects left by previous runs.
+     */
+    public static final String UNDEPLOY_FAST = "openshift.undeploy.fast";
+    /**
+     * Time to live of created projects in minutes. Projects are labeled with their expiration time, expired projects are deleted by the reaper.
+     */
+    public static final String NAMESPACE_TTL = "openshift.namespace.ttl";
+    /**
+     * Maximal average number of OpenShift API requests per second sent by this JVM, 0 disables the limit.
+     */
+    public static final String CLIENT_QPS = "openshift.client.qps";
+    /**
+     * Number of OpenShift API requests which can be sent at once above the average rate.
+     */
+    public static final String CLIENT_BURST = "openshift.client.burst";
+    /**
+     * Number of retries of OpenShift API requests throttled by the server (responded with 429).
+     */
+    public static final String CLIENT_THROTTLING_RETRIES = "openshift.client.throttling.retries";
+    /**
+     * Initial delay in milliseconds before retrying a throttled request, doubled with every retry. Retry-After header sent by the server takes precedence.
+     */
+    public static final String CLIENT_THROTTLING_BACKOFF = "openshift.client.throttling.backoff";
+    /**
+     * If true then identical reads sent concurrently share one OpenShift API request.
+     */
+    public static final String CLIENT_COALESCING_ENABLED = "openshift.client.coalescing.enabled";
+    /**
+     * Maximal time in seconds to wait until router starts serving routes of a deployment, deployment fails if any route isn't served in time.
+     */
+    public static final String ROUTER_EXPOSURE_TIMEOUT = "openshift.router.exposure.timeout";
+    /**
+     * Image of Maven repository deployed in scenario namespace, has to be nginx image running as non root user with WebDAV module.
+     */
+    public static final String MAVEN_REPOSITORY_IMAGE = "openshift.maven.repository.image";
     /**
      * Property name to configure Openshift router timeout.
      */
@@ -110,4 +172,65 @@ public class OpenShiftConstants implements Constants {
     public static String getKieApplicationName() {
         return System.getProperty(KIE_APP_NAME);
     }
+
+    public static int getNamespacePoolSize() {
+        return Integer.parseInt(System.getProperty(NAMESPACE_POOL_SIZE, "0"));
+    }
+
+    public static boolean isNamespacePoolScrubEnabled() {
+        return Boolean.parseBoolean(System.getProperty(NAMESPACE_POOL_SCRUB, "false"));
+    }
+
+    public static boolean isTemplateCacheEnabled() {
+        return Boolean.parseBoolean(System.getProperty(TEMPLATE_CACHE_ENABLED, "true"));
+    }
+
+    public static String getTemplateCacheDirectory() {
+        return System.getProperty(TEMPLATE_CACHE_DIRECTORY, System.getProperty("java.io.tmpdir") + "/kie-cloud-template-cache");
+    }
+
+    public static int getScenarioDeploymentThreads() {
+        return Integer.parseInt(System.getProperty(SCENARIO_DEPLOYMENT_THREADS, "4"));
+    }
+
+    public static boolean isResourceCacheDisabled(String namespace) {
+        String disabledNamespaces = System.getProperty(RESOURCE_CACHE_DISABLED_NAMESPACES, "");
+        return Arrays.stream(disabledNamespaces.split(",")).map(String::trim).anyMatch(n -> n.equals("*") || n.equals(namespace));
+    }
+
+    public static boolean isFastUndeployEnabled() {
+        return Boolean.parseBoolean(System.getProperty(UNDEPLOY_FAST, "false"));
+    }
+
+    public static int getNamespaceTtl() {
+        return Integer.parseInt(System.getProperty(NAMESPACE_TTL, "240"));
+    }
+
+    public static double getClientQps() {
+        return Double.parseDouble(System.getProperty(CLIENT_QPS, "50"));
+    }
+
+    public static int getClientBurst() {
+        return Integer.parseInt(System.getProperty(CLIENT_BURST, "100"));
+    }
+
+    public static int getClientThrottlingRetries() {
+        return Integer.parseInt(System.getProperty(CLIENT_THROTTLING_RETRIES, "5"));
+    }
+
+    public static long getClientThrottlingBackoff() {
+        return Long.parseLong(System.getProperty(CLIENT_THROTTLING_BACKOFF, "500"));
+    }
+
+    public static boolean isClientCoalescingEnabled() {
+        return Boolean.parseBoolean(System.getProperty(CLIENT_COALESCING_ENABLED, "true"));
+    }
+
+    public static long getRouterExposureTimeout() {
+        return Long.parseLong(System.getProperty(ROUTER_EXPOSURE_TIMEOUT, "120"));
+    }
+
+    public static String getMavenRepositoryImage() {
+        return System.getProperty(MAVEN_REPOSITORY_IMAGE, "docker.io/nginxinc/nginx-unprivileged:stable");
+    }
 }
@@ -15,7 +15,10 @@
 
 package org.kie.cloud.openshift.deployment;
 
+import java.net.URI;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.kie.cloud.api.deployment.KieServerDeployment;
 
@@ -80,7 +83,16 @@ public class KieServerDeploymentImpl extends OpenShiftDeployment implements KieS
     @Override public void waitForScale() {
         openShiftController.getProject(namespace).getService(getServiceName()).getDeploymentConfig().waitUntilAllPodsAreReady();
         if (openShiftController.getProject(namespace).getService(getServiceName()).getDeploymentConfig().podsNumber() > 0) {
-            RouterUtil.waitForRouter(getUrl());
+            waitForRouter();
         }
     }
+
+    @Override protected List<URI> getRouteUris() {
+        List<URI> routeUris = new ArrayList<>();
+        routeUris.add(toUri(getUrl()));
+        if (hasRoute(secureServiceName)) {
+            routeUris.add(toUri(getSecureUrl()));
+        }
+        return routeUris;
+    }
 }
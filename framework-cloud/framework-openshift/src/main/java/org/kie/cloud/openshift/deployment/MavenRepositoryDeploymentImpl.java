@@ -0,0 +1,129 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.cloud.openshift.deployment;
+
+import java.net.URI;
+import java.net.URL;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.kie.cloud.api.deployment.ArtifactTransfer;
+import org.kie.cloud.api.deployment.ArtifactTransfer.Direction;
+import org.kie.cloud.api.deployment.Instance;
+import org.kie.cloud.api.deployment.MavenRepositoryDeployment;
+import org.kie.cloud.openshift.util.LineOutputStream;
+
+/**
+ * Maven repository served by nginx with WebDAV module. Artifact transfers are parsed from nginx access log.
+ */
+public class MavenRepositoryDeploymentImpl extends OpenShiftDeployment implements MavenRepositoryDeployment {
+
+    // Line format is defined by log_format in maven-repository.yaml template
+    private static final String TRANSFER_LOG_PREFIX = "transfer ";
+    private static final int TRANSFER_LOG_FIELDS = 9;
+    private static final String NOT_AVAILABLE = "-";
+
+    private URL url;
+
+    @Override
+    public URL getUrl() {
+        if (url == null) {
+            url = getHttpRouteUrl(getServiceName());
+        }
+        return url;
+    }
+
+    @Override
+    public String getServiceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void waitForScale() {
+        openShiftController.getProject(namespace).getService(getServiceName()).getDeploymentConfig().waitUntilAllPodsAreReady();
+        if (openShiftController.getProject(namespace).getService(getServiceName()).getDeploymentConfig().podsNumber() > 0) {
+            waitForRouter();
+        }
+    }
+
+    @Override
+    public List<ArtifactTransfer> getArtifactTransfers() {
+        List<ArtifactTransfer> transfers = new ArrayList<>();
+        for (Instance instance : getInstances()) {
+            // Access log grows with every transfer, it is parsed line by line instead of being loaded into memory
+            try (LineOutputStream output = new LineOutputStream(line -> {
+                ArtifactTransfer transfer = parseTransfer(line);
+                if (transfer != null) {
+                    transfers.add(transfer);
+                }
+            })) {
+                instance.writeLogs(output, false);
+            }
+        }
+        transfers.sort(Comparator.comparing(ArtifactTransfer::getTime));
+        return transfers;
+    }
+
+    @Override
+    protected List<URI> getRouteUris() {
+        return Collections.singletonList(toUri(getUrl()));
+    }
+
+    /**
+     * @return Transfer logged on the line, null if the line doesn't log artifact upload or download.
+     */
+    static ArtifactTransfer parseTransfer(String line) {
+        if (!line.startsWith(TRANSFER_LOG_PREFIX)) {
+            return null;
+        }
+        String[] fields = line.trim().split(" ");
+        if (fields.length != TRANSFER_LOG_FIELDS) {
+            return null;
+        }
+
+        Direction direction;
+        String bytes;
+        switch (fields[1]) {
+            case "PUT":
+                direction = Direction.UPLOAD;
+                bytes = fields[5];
+                break;
+            case "GET":
+            case "HEAD":
+                direction = Direction.DOWNLOAD;
+                bytes = fields[4];
+                break;
+            default:
+                return null;
+        }
+
+        try {
+            String path = fields[2].startsWith("/") ? fields[2].substring(1) : fields[2];
+            long durationMillis = (long) (Double.parseDouble(fields[6]) * TimeUnit.SECONDS.toMillis(1));
+            Instant time = OffsetDateTime.parse(fields[8]).toInstant();
+            return new ArtifactTransfer(direction, path, Integer.parseInt(fields[3]), NOT_AVAILABLE.equals(bytes) ? 0 : Long.parseLong(bytes),
+                    durationMillis, fields[7], time);
+        } catch (NumberFormatException | DateTimeParseException e) {
+            return null;
+        }
+    }
+}
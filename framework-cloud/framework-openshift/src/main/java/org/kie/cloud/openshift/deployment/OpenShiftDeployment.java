@@ -21,20 +21,21 @@ import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import io.fabric8.kubernetes.api.model.Pod;
 import java.time.Duration;
-import org.kie.cloud.api.deployment.Deployment;
 import org.kie.cloud.api.deployment.Instance;
+import org.kie.cloud.common.deployment.AbstractDeployment;
+import org.kie.cloud.common.timeline.DeploymentTimeline;
+import org.kie.cloud.common.timeline.DeploymentTimeline.Span;
 import org.kie.cloud.openshift.OpenShiftController;
 import org.kie.cloud.openshift.constants.OpenShiftConstants;
 import org.kie.cloud.openshift.resource.OpenShiftResourceConstants;
 import org.kie.cloud.openshift.resource.Service;
 
-public abstract class OpenShiftDeployment implements Deployment {
+public abstract class OpenShiftDeployment extends AbstractDeployment {
 
     protected OpenShiftController openShiftController;
     protected String namespace;
@@ -56,11 +57,6 @@ public abstract class OpenShiftDeployment implements Deployment {
         this.namespace = namespace;
     }
 
-    @Override
-    public void deleteInstances(Instance... instance) {
-        deleteInstances(Arrays.asList(instance));
-    }
-
     @Override
     public void deleteInstances(List<Instance> instances) {
         for (Instance instance : instances) {
@@ -71,7 +67,7 @@ public abstract class OpenShiftDeployment implements Deployment {
     public abstract String getServiceName();
 
     @Override
-    public void scale(int instances) {
+    protected void scaleInstances(int instances) {
         openShiftController.getProject(namespace).getService(getServiceName()).getDeploymentConfig().scalePods(instances);
     }
 
@@ -89,7 +85,9 @@ public abstract class OpenShiftDeployment implements Deployment {
     public List<Instance> getInstances() {
         if (isReady()) {
             String deploymentConfigName = openShiftController.getProject(namespace).getService(getServiceName()).getDeploymentConfig().getName();
-            List<Pod> pods = openShiftController.getClient().pods().inNamespace(namespace).withLabel(OpenShiftResourceConstants.DEPLOYMENT_CONFIG_LABEL, deploymentConfigName).list().getItems();
+            List<Pod> pods = openShiftController.getResourceCache(namespace)
+                    .map(cache -> cache.getPods(OpenShiftResourceConstants.DEPLOYMENT_CONFIG_LABEL, deploymentConfigName))
+                    .orElseGet(() -> openShiftController.getClient().pods().inNamespace(namespace).withLabel(OpenShiftResourceConstants.DEPLOYMENT_CONFIG_LABEL, deploymentConfigName).list().getItems());
 
             List<Instance> instances = pods.stream().map((pod) -> {
                 return createInstance(pod);
@@ -114,6 +112,39 @@ public abstract class OpenShiftDeployment implements Deployment {
                 .done();
     }
 
+    /**
+     * Wait until router serves all routes of the deployment.
+     */
+    protected void waitForRouter() {
+        List<URI> routeUris = getRouteUris();
+        try (Span span = DeploymentTimeline.forNamespace(namespace).span("router exposure " + getServiceName())) {
+            RouterProber.waitForRoutes(namespace, getServiceName(), routeUris);
+        }
+    }
+
+    /**
+     * @return URIs of all routes exposing the deployment.
+     */
+    protected List<URI> getRouteUris() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * @return True if service exists and is exposed by a route.
+     */
+    protected boolean hasRoute(String serviceName) {
+        Service service = openShiftController.getProject(namespace).getService(serviceName);
+        return service != null && service.getRoute() != null;
+    }
+
+    protected static URI toUri(URL url) {
+        try {
+            return url.toURI();
+        } catch (URISyntaxException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     private Instance createInstance(Pod pod) {
         OpenShiftInstance instance = new OpenShiftInstance();
         instance.setOpenShiftController(openShiftController);
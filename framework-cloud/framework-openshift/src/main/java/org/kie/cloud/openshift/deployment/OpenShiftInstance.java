@@ -15,9 +15,25 @@
  */
 package org.kie.cloud.openshift.deployment;
 
+import static org.kie.cloud.openshift.util.CommandUtil.runCommandAsyncImpl;
 import static org.kie.cloud.openshift.util.CommandUtil.runCommandImpl;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import io.fabric8.kubernetes.api.model.DoneablePod;
+import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.dsl.PodResource;
+import org.apache.commons.io.IOUtils;
 import org.kie.cloud.api.deployment.CommandExecutionResult;
 import org.kie.cloud.api.deployment.Instance;
 import org.kie.cloud.openshift.OpenShiftController;
@@ -62,6 +78,11 @@ public class OpenShiftInstance implements Instance {
         return runCommandImpl(openShiftController.getClient().pods().inNamespace(namespace).withName(name), command);
     }
 
+    @Override
+    public CompletableFuture<Integer> runCommandAsync(Duration timeout, Consumer<String> outputConsumer, Consumer<String> errorConsumer, String... command) {
+        return runCommandAsyncImpl(openShiftController.getClient().pods().inNamespace(namespace).withName(name), timeout, outputConsumer, errorConsumer, command);
+    }
+
     @Override
     public String getLogs() {
         try {
@@ -71,4 +92,38 @@ public class OpenShiftInstance implements Instance {
             return "";
         }
     }
+
+    @Override
+    public void writeLogs(OutputStream output, boolean previous) {
+        PodResource<Pod, DoneablePod> pod = openShiftController.getClient().pods().inNamespace(namespace).withName(name);
+        try {
+            if (previous && !isRestarted(pod.get())) {
+                return;
+            }
+            try (Reader logReader = previous ? pod.terminated().getLogReader() : pod.getLogReader()) {
+                Writer writer = new OutputStreamWriter(output, StandardCharsets.UTF_8);
+                IOUtils.copy(logReader, writer);
+                writer.flush();
+            }
+        } catch (KubernetesClientException e) {
+            logger.info("Exception while retrieving OpenShift log for pod with name " + name, e);
+        } catch (IOException e) {
+            throw new RuntimeException("Error writing OpenShift log for pod with name " + name, e);
+        }
+    }
+
+    @Override
+    public boolean waitForLogMatch(String text, Duration timeout) {
+        return openShiftController.getLogFollower(namespace, name).getLogBuffer().waitForMatch(text, timeout);
+    }
+
+    @Override
+    public Map<String, Long> countLogMatches(String... texts) {
+        return openShiftController.getLogFollower(namespace, name).getLogBuffer().countMatches(texts);
+    }
+
+    private static boolean isRestarted(Pod pod) {
+        return pod != null && pod.getStatus() != null && pod.getStatus().getContainerStatuses() != null
+                && pod.getStatus().getContainerStatuses().stream().anyMatch(status -> status.getRestartCount() != null && status.getRestartCount() > 0);
+    }
 }
@@ -0,0 +1,274 @@
+/*
+ * Copyright 2017 JBoss by Red Hat.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.cloud.openshift.deployment;
+
+import static java.util.stream.Collectors.toList;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import javax.net.ssl.SSLContext;
+
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.NoopHostnameVerifier;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.ssl.SSLContextBuilder;
+import org.apache.http.util.EntityUtils;
+import org.kie.cloud.api.deployment.DeploymentTimeoutException;
+import org.kie.cloud.common.timeline.DeploymentTimeline;
+import org.kie.cloud.common.util.DaemonThreadFactory;
+import org.kie.cloud.openshift.constants.OpenShiftConstants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Waits until OpenShift router starts serving routes. All routes are probed concurrently using shared pooled HTTP client.
+ */
+public class RouterProber {
+
+    private static final Logger logger = LoggerFactory.getLogger(RouterProber.class);
+
+    private static final int ROUTER_CODE = 503;
+    private static final String ROUTER_MESSAGE = "The application is currently not serving requests at this endpoint. It may not have been started or is still starting.";
+    private static final String ROUTER_SOURCE = "router";
+
+    private static final long INITIAL_PROBE_DELAY = 100;
+    private static final long MAX_PROBE_DELAY = 2000;
+    private static final double PROBE_DELAY_MULTIPLIER = 1.5;
+    private static final int PROBE_TIMEOUT = 10000;
+
+    // Probes mostly sleep between requests so number of threads isn't limited
+    private static final ExecutorService probeExecutorService = Executors.newCachedThreadPool(new DaemonThreadFactory("router-probe"));
+
+    // Routes are exposed with self signed certificates, connections are kept alive between probes
+    private static final CloseableHttpClient httpClient = createHttpClient();
+
+    private RouterProber() {
+        // Util class
+    }
+
+    /**
+     * Wait until router serves all routes. Routes are probed by requests to the root of their host and port,
+     * so routes sharing host and port, such as HTTP and websocket route of the same service, are probed once.
+     *
+     * @param namespace Namespace the routes belong to, time each route took to be served is recorded to its deployment timeline.
+     * @param serviceName Name of the service exposed by the routes, used as timeline phase name.
+     * @param routeUris URIs of routes to be probed.
+     * @throws DeploymentTimeoutException In case any route isn't served in time defined by {@link OpenShiftConstants#ROUTER_EXPOSURE_TIMEOUT}.
+     */
+    public static void waitForRoutes(String namespace, String serviceName, Collection<URI> routeUris) {
+        Instant deadline = Instant.now().plusSeconds(OpenShiftConstants.getRouterExposureTimeout());
+
+        Set<URI> probeUris = routeUris.stream()
+                                      .filter(Objects::nonNull)
+                                      .map(RouterProber::toProbeUri)
+                                      .collect(LinkedHashSet::new, Set::add, Set::addAll);
+
+        List<CompletableFuture<RouteExposure>> probes = probeUris.stream()
+                                                                 .map(uri -> CompletableFuture.supplyAsync(() -> probe(uri, deadline), probeExecutorService))
+                                                                 .collect(toList());
+
+        List<String> notServedRoutes = probes.stream()
+                                             .map(RouterProber::join)
+                                             .filter(exposure -> !exposure.isServed())
+                                             .map(exposure -> exposure.getUri().toString())
+                                             .collect(toList());
+        if (!notServedRoutes.isEmpty()) {
+            throw new DeploymentTimeoutException("Router didn't start serving routes " + notServedRoutes + " in namespace " + namespace
+                    + " within " + OpenShiftConstants.getRouterExposureTimeout() + " seconds.");
+        }
+
+        DeploymentTimeline timeline = DeploymentTimeline.forNamespace(namespace);
+        for (CompletableFuture<RouteExposure> probe : probes) {
+            RouteExposure exposure = probe.join();
+            timeline.record("route serving " + serviceName, ROUTER_SOURCE, exposure.getUnavailableSince(), exposure.getServedAt());
+            logger.info("Route {} served after {} ms and {} probes.", exposure.getUri(),
+                    Duration.between(exposure.getUnavailableSince(), exposure.getServedAt()).toMillis(), exposure.getProbes());
+        }
+    }
+
+    private static RouteExposure probe(URI uri, Instant deadline) {
+        RouteExposure exposure = new RouteExposure(uri);
+        long delay = INITIAL_PROBE_DELAY;
+        ProbeResult lastResult = null;
+
+        while (true) {
+            ProbeResult result = probeOnce(uri);
+            exposure.probed(result);
+            if (result == ProbeResult.SERVED) {
+                return exposure;
+            }
+
+            // Probe more often once route state changes, for example when DNS record appears and router starts answering
+            delay = result == lastResult ? Math.min(MAX_PROBE_DELAY, (long) (delay * PROBE_DELAY_MULTIPLIER)) : INITIAL_PROBE_DELAY;
+            lastResult = result;
+
+            long remainingMillis = deadline.toEpochMilli() - Instant.now().toEpochMilli();
+            if (remainingMillis <= 0) {
+                logger.error("Router didn't start serving route {}, last probe result was {}.", uri, result);
+                return exposure;
+            }
+
+            try {
+                Thread.sleep(Math.min(delay, remainingMillis));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while waiting for router to serve route " + uri, e);
+            }
+        }
+    }
+
+    private static ProbeResult probeOnce(URI uri) {
+        HttpGet request = new HttpGet(uri);
+        try (CloseableHttpResponse response = httpClient.execute(request)) {
+            // Response body is always consumed so connection can be reused by next probe
+            String responseContent = response.getEntity() == null ? "" : EntityUtils.toString(response.getEntity(), "UTF-8");
+            if (response.getStatusLine().getStatusCode() == ROUTER_CODE && responseContent.contains(ROUTER_MESSAGE)) {
+                return ProbeResult.NOT_SERVED;
+            }
+            return ProbeResult.SERVED;
+        } catch (IOException e) {
+            // Route host may not be resolvable yet or router isn't reachable
+            logger.debug("Route {} isn't reachable.", uri, e);
+            return ProbeResult.UNREACHABLE;
+        }
+    }
+
+    /**
+     * @return URI in form scheme://host:port/ with websocket schemes replaced by HTTP ones and explicit port.
+     */
+    private static URI toProbeUri(URI uri) {
+        boolean secure = "https".equals(uri.getScheme()) || "wss".equals(uri.getScheme());
+        int port = uri.getPort() != -1 ? uri.getPort() : (secure ? 443 : 80);
+        try {
+            return new URI(secure ? "https" : "http", null, uri.getHost(), port, "/", null, null);
+        } catch (URISyntaxException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static RouteExposure join(CompletableFuture<RouteExposure> probe) {
+        try {
+            return probe.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+    }
+
+    private static CloseableHttpClient createHttpClient() {
+        SSLContext sslContext;
+        try {
+            sslContext = new SSLContextBuilder().loadTrustMaterial(null, (chain, authType) -> true).build();
+        } catch (GeneralSecurityException e) {
+            throw new RuntimeException("Error creating SSL context for router probes", e);
+        }
+        Registry<ConnectionSocketFactory> socketFactoryRegistry = RegistryBuilder.<ConnectionSocketFactory> create()
+                .register("http", PlainConnectionSocketFactory.getSocketFactory())
+                .register("https", new SSLConnectionSocketFactory(sslContext, NoopHostnameVerifier.INSTANCE))
+                .build();
+
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(socketFactoryRegistry, null, null, null, 30, TimeUnit.SECONDS);
+        connectionManager.setMaxTotal(100);
+        connectionManager.setDefaultMaxPerRoute(10);
+
+        RequestConfig requestConfig = RequestConfig.custom()
+                                                   .setConnectTimeout(PROBE_TIMEOUT)
+                                                   .setConnectionRequestTimeout(PROBE_TIMEOUT)
+                                                   .setSocketTimeout(PROBE_TIMEOUT)
+                                                   .build();
+
+        // Redirects, for example to Workbench login page, mean route is served already
+        return HttpClients.custom()
+                          .setConnectionManager(connectionManager)
+                          .setDefaultRequestConfig(requestConfig)
+                          .disableRedirectHandling()
+                          .disableCookieManagement()
+                          .build();
+    }
+
+    private enum ProbeResult {
+        SERVED, NOT_SERVED, UNREACHABLE
+    }
+
+    private static class RouteExposure {
+
+        private final URI uri;
+        private final Instant firstProbe = Instant.now();
+        private Instant unavailableSince;
+        private Instant servedAt;
+        private int probes;
+
+        RouteExposure(URI uri) {
+            this.uri = uri;
+        }
+
+        void probed(ProbeResult result) {
+            probes++;
+            if (result == ProbeResult.SERVED) {
+                servedAt = Instant.now();
+            } else if (result == ProbeResult.NOT_SERVED && unavailableSince == null) {
+                unavailableSince = Instant.now();
+            }
+        }
+
+        URI getUri() {
+            return uri;
+        }
+
+        boolean isServed() {
+            return servedAt != null;
+        }
+
+        /**
+         * @return Time when router first responded that route isn't served, time of first probe if route was served or unreachable right away.
+         */
+        Instant getUnavailableSince() {
+            return unavailableSince != null ? unavailableSince : firstProbe;
+        }
+
+        Instant getServedAt() {
+            return servedAt;
+        }
+
+        int getProbes() {
+            return probes;
+        }
+    }
+}
@@ -15,7 +15,10 @@
 
 package org.kie.cloud.openshift.deployment;
 
+import java.net.URI;
 import java.net.URL;
+import java.util.Collections;
+import java.util.List;
 
 import org.kie.cloud.api.deployment.SmartRouterDeployment;
 
@@ -44,7 +47,11 @@ public class SmartRouterDeploymentImpl extends OpenShiftDeployment implements Sm
     @Override public void waitForScale() {
         openShiftController.getProject(namespace).getService(getServiceName()).getDeploymentConfig().waitUntilAllPodsAreReady();
         if (openShiftController.getProject(namespace).getService(getServiceName()).getDeploymentConfig().podsNumber() > 0) {
-            RouterUtil.waitForRouter(getUrl());
+            waitForRouter();
         }
     }
+
+    @Override protected List<URI> getRouteUris() {
+        return Collections.singletonList(toUri(getUrl()));
+    }
 }
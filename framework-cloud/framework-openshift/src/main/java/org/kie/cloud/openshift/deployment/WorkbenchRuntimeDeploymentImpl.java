@@ -17,6 +17,8 @@ package org.kie.cloud.openshift.deployment;
 
 import java.net.URI;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.kie.cloud.api.deployment.WorkbenchDeployment;
 
@@ -88,7 +90,17 @@ public class WorkbenchRuntimeDeploymentImpl extends OpenShiftDeployment implemen
     @Override public void waitForScale() {
         openShiftController.getProject(namespace).getService(getServiceName()).getDeploymentConfig().waitUntilAllPodsAreReady();
         if (openShiftController.getProject(namespace).getService(getServiceName()).getDeploymentConfig().podsNumber() > 0) {
-            RouterUtil.waitForRouter(getUrl());
+            waitForRouter();
         }
     }
+
+    @Override protected List<URI> getRouteUris() {
+        List<URI> routeUris = new ArrayList<>();
+        routeUris.add(toUri(getUrl()));
+        routeUris.add(getWebSocketUri());
+        if (hasRoute(secureServiceName)) {
+            routeUris.add(toUri(getSecureUrl()));
+        }
+        return routeUris;
+    }
 }
@@ -0,0 +1,223 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.cloud.openshift.logs;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import io.fabric8.kubernetes.api.model.ContainerStatus;
+import io.fabric8.kubernetes.api.model.DoneablePod;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.dsl.LogWatch;
+import io.fabric8.kubernetes.client.dsl.PodResource;
+import io.fabric8.openshift.client.OpenShiftClient;
+import org.apache.commons.io.IOUtils;
+import org.kie.cloud.common.logs.LogBuffer;
+import org.kie.cloud.common.util.DaemonThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Follows pod log in background and keeps it in {@link LogBuffer}. Log is read by single followed request from its start,
+ * when the container restarts the log of the new container is followed too. Log is followed since {@link #start()}
+ * until the pod terminates or the follower is closed.
+ */
+public class PodLogFollower implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(PodLogFollower.class);
+
+    // Existing log is sent at once, follower is created once no more log arrives for this period
+    private static final long INITIAL_LOG_QUIET_PERIOD_MILLIS = 200L;
+    private static final long INITIAL_LOG_TIMEOUT_MILLIS = 5000L;
+    private static final long RESTART_CHECK_INTERVAL_MILLIS = 1000L;
+    private static final String SUCCEEDED_PHASE = "Succeeded";
+    private static final String FAILED_PHASE = "Failed";
+
+    // Followers mostly wait for new log lines so number of threads isn't limited
+    private static final ExecutorService followerExecutorService = Executors.newCachedThreadPool(new DaemonThreadFactory("pod-log-follower"));
+
+    private final String podName;
+    private final PodResource<Pod, DoneablePod> pod;
+    private final LogBuffer logBuffer = new LogBuffer();
+    private final Object startLock = new Object();
+    private volatile LogWatch logWatch;
+    private volatile boolean started;
+    private volatile boolean closed;
+
+    /**
+     * Create follower, the log isn't requested until the follower is started.
+     */
+    public PodLogFollower(OpenShiftClient client, String namespace, String podName) {
+        this.podName = podName;
+        this.pod = client.pods().inNamespace(namespace).withName(podName);
+    }
+
+    /**
+     * Start following the log and wait until the log existing so far is received. Concurrent callers wait for the same
+     * start, further calls return immediately.
+     */
+    public void start() {
+        synchronized (startLock) {
+            if (started || closed) {
+                return;
+            }
+            int restartCount = getRestartCount(pod.get());
+            LogWatch initialLogWatch;
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                try {
+                    logWatch = pod.watchLog();
+                } catch (KubernetesClientException e) {
+                    logBuffer.close();
+                    throw new RuntimeException("Error loading log of pod " + podName, e);
+                }
+                initialLogWatch = logWatch;
+            }
+            followerExecutorService.submit(() -> follow(initialLogWatch, restartCount));
+            awaitInitialLog();
+            started = true;
+        }
+    }
+
+    public LogBuffer getLogBuffer() {
+        return logBuffer;
+    }
+
+    /**
+     * @return True if new log lines are still received.
+     */
+    public boolean isFollowing() {
+        return !logBuffer.isClosed();
+    }
+
+    @Override
+    public synchronized void close() {
+        closed = true;
+        if (logWatch != null) {
+            logWatch.close();
+        }
+        logBuffer.close();
+    }
+
+    private void follow(LogWatch initialLogWatch, int initialRestartCount) {
+        try {
+            LogWatch currentLogWatch = initialLogWatch;
+            int restartCount = initialRestartCount;
+            while (currentLogWatch != null) {
+                try (InputStream log = currentLogWatch.getOutput()) {
+                    IOUtils.copy(log, logBuffer);
+                } catch (IOException e) {
+                    logger.debug("Log of pod {} isn't followed anymore.", podName, e);
+                } finally {
+                    currentLogWatch.close();
+                }
+
+                restartCount = waitForRestart(restartCount);
+                currentLogWatch = restartCount >= 0 ? reconnect() : null;
+            }
+        } finally {
+            logBuffer.close();
+        }
+    }
+
+    /**
+     * Log stream ends once the container terminates, wait until it is restarted.
+     *
+     * @return Restart count of the restarted container, -1 if pod terminated or the follower was closed.
+     */
+    private int waitForRestart(int previousRestartCount) {
+        while (!closed) {
+            Pod currentPod;
+            try {
+                currentPod = pod.get();
+            } catch (KubernetesClientException e) {
+                logger.debug("Error checking restart of pod {}.", podName, e);
+                currentPod = null;
+            }
+            if (currentPod == null || currentPod.getMetadata().getDeletionTimestamp() != null || isTerminated(currentPod)) {
+                return -1;
+            }
+            int restartCount = getRestartCount(currentPod);
+            if (restartCount > previousRestartCount && isRunning(currentPod)) {
+                logger.debug("Container of pod {} restarted, following log of the new container.", podName);
+                return restartCount;
+            }
+            try {
+                TimeUnit.MILLISECONDS.sleep(RESTART_CHECK_INTERVAL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    private synchronized LogWatch reconnect() {
+        if (closed) {
+            return null;
+        }
+        try {
+            logWatch = pod.watchLog();
+            return logWatch;
+        } catch (KubernetesClientException e) {
+            logger.debug("Error following log of restarted pod {}.", podName, e);
+            return null;
+        }
+    }
+
+    /**
+     * Wait until log existing before the follower was created is received, so searches see it.
+     */
+    private void awaitInitialLog() {
+        long deadline = System.currentTimeMillis() + INITIAL_LOG_TIMEOUT_MILLIS;
+        long previousSize = -1;
+        while (!logBuffer.isClosed() && logBuffer.size() != previousSize && System.currentTimeMillis() < deadline) {
+            previousSize = logBuffer.size();
+            try {
+                TimeUnit.MILLISECONDS.sleep(INITIAL_LOG_QUIET_PERIOD_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while loading log of pod " + podName, e);
+            }
+        }
+    }
+
+    private static int getRestartCount(Pod pod) {
+        List<ContainerStatus> containerStatuses = pod != null && pod.getStatus() != null ? pod.getStatus().getContainerStatuses() : null;
+        if (containerStatuses == null) {
+            return 0;
+        }
+        return containerStatuses.stream().mapToInt(status -> status.getRestartCount() != null ? status.getRestartCount() : 0).sum();
+    }
+
+    private static boolean isRunning(Pod pod) {
+        List<ContainerStatus> containerStatuses = pod.getStatus() != null ? pod.getStatus().getContainerStatuses() : null;
+        return containerStatuses != null && containerStatuses.stream().allMatch(status -> status.getState() != null && status.getState().getRunning() != null);
+    }
+
+    private static boolean isTerminated(Pod pod) {
+        String phase = pod.getStatus() != null ? pod.getStatus().getPhase() : null;
+        return SUCCEEDED_PHASE.equals(phase) || FAILED_PHASE.equals(phase);
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.cloud.openshift.metrics;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.kie.cloud.common.metrics.ApiCallMetrics;
+
+/**
+ * Record every OpenShift API call to {@link ApiCallMetrics}, calls are identified by verb, resource type and the calling framework method.
+ */
+public class ApiMetricsInterceptor implements Interceptor {
+
+    private static final String FRAMEWORK_PACKAGE = "org.kie.cloud.";
+    private static final String NAMESPACES_SEGMENT = "namespaces";
+    private static final String UNKNOWN = "unknown";
+
+    // Framework classes found on the stack, mapped to true if they are interceptors
+    private static final Map<String, Boolean> interceptorClasses = new ConcurrentHashMap<>();
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        // Resolved before the call, so the stack trace contains the calling framework method
+        String caller = getCaller();
+        long startNanos = System.nanoTime();
+        int statusCode = 0;
+        long responseBytes = -1;
+        try {
+            Response response = chain.proceed(request);
+            statusCode = response.code();
+            if (response.body() != null) {
+                responseBytes = response.body().contentLength();
+            }
+            return response;
+        } finally {
+            Duration latency = Duration.ofNanos(System.nanoTime() - startNanos);
+            ResourcePath resourcePath = new ResourcePath(request.url().pathSegments());
+            String verb = getVerb(request, resourcePath);
+            ApiCallMetrics.record(resourcePath.namespace, verb, resourcePath.resourceType, caller, latency, statusCode, responseBytes);
+        }
+    }
+
+    private static String getVerb(Request request, ResourcePath resourcePath) {
+        switch (request.method()) {
+            case "GET":
+                if (Boolean.parseBoolean(request.url().queryParameter("watch"))) {
+                    return "watch";
+                }
+                return resourcePath.named ? "get" : "list";
+            case "POST":
+                return "create";
+            case "PUT":
+                return "update";
+            case "PATCH":
+                return "patch";
+            case "DELETE":
+                return "delete";
+            default:
+                return request.method().toLowerCase();
+        }
+    }
+
+    /**
+     * @return First framework method on the stack outside of interceptors, in form SimpleClassName.method.
+     */
+    private static String getCaller() {
+        for (StackTraceElement element : Thread.currentThread().getStackTrace()) {
+            String className = element.getClassName();
+            if (className.startsWith(FRAMEWORK_PACKAGE) && !interceptorClasses.computeIfAbsent(className, ApiMetricsInterceptor::isInterceptor)) {
+                return className.substring(className.lastIndexOf('.') + 1) + "." + element.getMethodName();
+            }
+        }
+        return UNKNOWN;
+    }
+
+    /**
+     * @return True if the class or its enclosing class (for lambdas and anonymous classes) is an interceptor.
+     */
+    private static boolean isInterceptor(String className) {
+        try {
+            Class<?> clazz = Class.forName(className, false, ApiMetricsInterceptor.class.getClassLoader());
+            for (; clazz != null; clazz = clazz.getEnclosingClass()) {
+                if (Interceptor.class.isAssignableFrom(clazz)) {
+                    return true;
+                }
+            }
+            return false;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * Parsed API path such as /api/v1/namespaces/{namespace}/pods/{name}/log or /apis/{group}/{version}/{resource}/{name}.
+     */
+    private static class ResourcePath {
+
+        private String namespace = ApiCallMetrics.CLUSTER_NAMESPACE;
+        private String resourceType = UNKNOWN;
+        private boolean named = false;
+
+        private ResourcePath(List<String> segments) {
+            // Skip "api"/"oapi" and version, "apis" has additional group segment
+            int index = !segments.isEmpty() && "apis".equals(segments.get(0)) ? 3 : 2;
+            if (index + 1 < segments.size() && NAMESPACES_SEGMENT.equals(segments.get(index))) {
+                namespace = segments.get(index + 1);
+                index += 2;
+                // Namespace itself is requested
+                if (index >= segments.size()) {
+                    resourceType = NAMESPACES_SEGMENT;
+                    named = true;
+                    return;
+                }
+            }
+            if (index < segments.size()) {
+                resourceType = segments.get(index);
+                named = index + 1 < segments.size() && !segments.get(index + 1).isEmpty();
+                if (index + 2 < segments.size()) {
+                    resourceType += "/" + segments.get(index + 2);
+                }
+            }
+        }
+    }
+}
@@ -19,6 +19,11 @@ public class OpenShiftResourceConstants {
 
     // Project constants
     public static final long PROJECT_CREATION_TIMEOUT = 60 * 1000L; // 1 minute
+    public static final long PROJECT_DELETION_CHECK_INTERVAL = 10 * 1000L; // 10 seconds
+    public static final int PROJECT_DELETION_ATTEMPTS = 3;
+    public static final String PROJECT_EXPIRATION_LABEL = "kie-cloud-expiration";
+    // Label of all resources created from templates, such resources are removed when pooled project is scrubbed
+    public static final String TEMPLATE_RESOURCE_LABEL = "kie-cloud-template-resource";
 
     // Service constants
     public static final String EAP_DEFAULT_PROTOCOL = "TCP";
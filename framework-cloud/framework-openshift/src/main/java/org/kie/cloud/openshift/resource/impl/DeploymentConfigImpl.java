@@ -15,27 +15,40 @@
 
 package org.kie.cloud.openshift.resource.impl;
 
-import java.util.Calendar;
-import java.util.List;
-import java.util.concurrent.TimeUnit;
+import java.time.Instant;
 
-import io.fabric8.kubernetes.api.model.Pod;
-import io.fabric8.kubernetes.client.KubernetesClientTimeoutException;
+import io.fabric8.kubernetes.client.Watch;
 import io.fabric8.openshift.client.OpenShiftClient;
 import org.kie.cloud.api.deployment.DeploymentTimeoutException;
+import org.kie.cloud.common.timeline.DeploymentTimeline;
+import org.kie.cloud.common.timeline.DeploymentTimeline.Span;
+import org.kie.cloud.openshift.cache.NamespaceResourceCache;
 import org.kie.cloud.openshift.resource.DeploymentConfig;
 import org.kie.cloud.openshift.resource.OpenShiftResourceConstants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class DeploymentConfigImpl implements DeploymentConfig {
 
+    private static final Logger logger = LoggerFactory.getLogger(DeploymentConfigImpl.class);
+
     private OpenShiftClient client;
     private String projectName;
     private String deploymentConfigName;
+    private NamespaceResourceCache resourceCache;
 
     public DeploymentConfigImpl(OpenShiftClient client, String projectName, String deploymentConfigName) {
+        this(client, projectName, deploymentConfigName, null);
+    }
+
+    /**
+     * @param resourceCache Cache used for reading project resources, can be null to read resources directly from OpenShift.
+     */
+    public DeploymentConfigImpl(OpenShiftClient client, String projectName, String deploymentConfigName, NamespaceResourceCache resourceCache) {
         this.client = client;
         this.projectName = projectName;
         this.deploymentConfigName = deploymentConfigName;
+        this.resourceCache = resourceCache;
     }
 
     @Override
@@ -44,56 +57,65 @@ public class DeploymentConfigImpl implements DeploymentConfig {
     }
 
     @Override public int podsNumber() {
+        if (resourceCache != null && !resourceCache.isClosed()) {
+            return resourceCache.getDeploymentConfig(deploymentConfigName).getSpec().getReplicas().intValue();
+        }
         return client.deploymentConfigs().inNamespace(projectName).withName(deploymentConfigName).get().getSpec().getReplicas().intValue();
     }
 
     @Override
     public void delete() {
         client.deploymentConfigs().inNamespace(projectName).withName(deploymentConfigName).delete();
+        if (resourceCache != null) {
+            resourceCache.evictDeploymentConfig(deploymentConfigName);
+        }
     }
 
     @Override
     public void scalePods(int numberOfPods) {
-        client.deploymentConfigs().inNamespace(projectName).withName(deploymentConfigName).scale(numberOfPods, true);
+        io.fabric8.openshift.api.model.DeploymentConfig deploymentConfig = client.deploymentConfigs().inNamespace(projectName).withName(deploymentConfigName).scale(numberOfPods, true);
+        if (resourceCache != null && deploymentConfig != null) {
+            resourceCache.updateDeploymentConfig(deploymentConfig);
+        }
         // Wait flag while scaling of deployment config doesn't seem to work correctly, use own waiting functionality
         waitUntilAllPodsAreReady();
     }
 
     @Override
     public void waitUntilAllPodsAreReady() throws DeploymentTimeoutException {
-        waitUntilAllPodsAreStarted();
-        waitUntilAllPodsAreRunning();
+        try (Span span = DeploymentTimeline.forNamespace(projectName).span("pods ready " + deploymentConfigName)) {
+            waitUntilAllPodsAreReadyImpl();
+        }
     }
 
-    private void waitUntilAllPodsAreStarted() throws DeploymentTimeoutException {
-        long timeoutTime = Calendar.getInstance().getTimeInMillis() + OpenShiftResourceConstants.DEPLOYMENT_PODS_TERMINATION_TIMEOUT;
-        int expectedPods = client.deploymentConfigs().inNamespace(projectName).withName(deploymentConfigName).get().getSpec().getReplicas().intValue();
+    private void waitUntilAllPodsAreReadyImpl() {
+        Instant timeoutTime = Instant.now().plusMillis(OpenShiftResourceConstants.DEPLOYMENT_PODS_TERMINATION_TIMEOUT + OpenShiftResourceConstants.PODS_START_TO_READY_TIMEOUT);
+        PodReadinessWatcher podReadinessWatcher = new PodReadinessWatcher(deploymentConfigName);
 
-        while(Calendar.getInstance().getTimeInMillis() < timeoutTime) {
-            if(client.pods().inNamespace(projectName).withLabel(OpenShiftResourceConstants.DEPLOYMENT_CONFIG_LABEL, deploymentConfigName).list().getItems().size() == expectedPods) {
-                return;
-            }
-
-            try {
-                Thread.sleep(1000);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                throw new RuntimeException("Interrupted while waiting for pods to start.", e);
-            }
-        }
-        throw new DeploymentTimeoutException("Timeout while waiting for pods to start.");
-    }
+        while (true) {
+            podReadinessWatcher.reset();
+            // Watches are opened before reading so no change between read and watch gets lost. Deployment config is watched
+            // as it can be scaled while waiting, it is read directly as cached one may not reflect recent scaling yet.
+            try (Watch deploymentConfigWatch = client.deploymentConfigs().inNamespace(projectName).withName(deploymentConfigName).watch(podReadinessWatcher.getDeploymentConfigWatcher());
+                    Watch podWatch = client.pods().inNamespace(projectName).withLabel(OpenShiftResourceConstants.DEPLOYMENT_CONFIG_LABEL, deploymentConfigName).watch(podReadinessWatcher)) {
+                io.fabric8.openshift.api.model.DeploymentConfig deploymentConfig = client.deploymentConfigs().inNamespace(projectName).withName(deploymentConfigName).get();
+                if (deploymentConfig == null) {
+                    throw new RuntimeException("Deployment config '" + deploymentConfigName + "' doesn't exist in project " + projectName + ".");
+                }
+                podReadinessWatcher.updateDeploymentConfig(deploymentConfig);
+                podReadinessWatcher.initialize(client.pods().inNamespace(projectName).withLabel(OpenShiftResourceConstants.DEPLOYMENT_CONFIG_LABEL, deploymentConfigName).list().getItems());
 
-    private void waitUntilAllPodsAreRunning() throws DeploymentTimeoutException {
-        List<Pod> pods = client.pods().inNamespace(projectName).withLabel(OpenShiftResourceConstants.DEPLOYMENT_CONFIG_LABEL, deploymentConfigName).list().getItems();
-        for(Pod pod : pods) {
-            try {
-                client.pods().inNamespace(projectName).withName(pod.getMetadata().getName()).waitUntilReady(OpenShiftResourceConstants.PODS_START_TO_READY_TIMEOUT, TimeUnit.MILLISECONDS);
+                if (podReadinessWatcher.waitUntilAllPodsAreReady(timeoutTime)) {
+                    // Instances read right after scaling see the new pods even if cache watch is behind
+                    if (resourceCache != null && !resourceCache.isClosed()) {
+                        resourceCache.updatePods(OpenShiftResourceConstants.DEPLOYMENT_CONFIG_LABEL, deploymentConfigName, podReadinessWatcher.getPods());
+                    }
+                    return;
+                }
+                logger.info("Watch of deployment config {} or its pods was closed, reopening.", deploymentConfigName);
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
-                throw new RuntimeException("Interrupted while waiting for pod '" + pod.getMetadata().getName() + "' to be ready.", e);
-            } catch (KubernetesClientTimeoutException e) {
-                throw new DeploymentTimeoutException("Timeout while waiting for pod '" + pod.getMetadata().getName() + "' to be ready.", e);
+                throw new RuntimeException("Interrupted while waiting for pods of deployment config '" + deploymentConfigName + "' to be ready.", e);
             }
         }
     }
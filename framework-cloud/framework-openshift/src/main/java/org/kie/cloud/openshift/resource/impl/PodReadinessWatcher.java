@@ -0,0 +1,265 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.cloud.openshift.resource.impl;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodCondition;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.openshift.api.model.DeploymentConfig;
+import org.kie.cloud.api.deployment.DeploymentTimeoutException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Tracks pods of one deployment config using events received from OpenShift watch.
+ * Pods are considered ready once the number of pods matches expected replica count and all of them have Ready condition.
+ * Terminating pods aren't counted. Expected replica count follows the deployment config, see {@link #getDeploymentConfigWatcher()}.
+ */
+public class PodReadinessWatcher implements Watcher<Pod> {
+
+    private static final Logger logger = LoggerFactory.getLogger(PodReadinessWatcher.class);
+
+    private static final String POD_READY_CONDITION = "Ready";
+    private static final String CONDITION_STATUS_TRUE = "True";
+
+    private final String deploymentConfigName;
+    private final Watcher<DeploymentConfig> deploymentConfigWatcher = new DeploymentConfigWatcher();
+    private final Instant startTime = Instant.now();
+
+    // Unknown until the deployment config is provided
+    private int expectedPods = -1;
+    private String deploymentConfigVersion;
+
+    private final Map<String, Pod> pods = new HashMap<>();
+    private final Set<String> deletedPods = new HashSet<>();
+    // Pods whose readiness was already logged
+    private final Set<String> readyPods = new HashSet<>();
+    private boolean watchClosed = false;
+
+    public PodReadinessWatcher(String deploymentConfigName) {
+        this.deploymentConfigName = deploymentConfigName;
+    }
+
+    /**
+     * @return Watcher of the deployment config, keeps expected pod count equal to its replica count while the deployment
+     * config is scaled during waiting.
+     */
+    public Watcher<DeploymentConfig> getDeploymentConfigWatcher() {
+        return deploymentConfigWatcher;
+    }
+
+    /**
+     * Set expected pod count to replica count of the deployment config. Versions older than already known one are ignored.
+     *
+     * @param deploymentConfig Deployment config whose pods are tracked.
+     */
+    public synchronized void updateDeploymentConfig(DeploymentConfig deploymentConfig) {
+        String resourceVersion = deploymentConfig.getMetadata().getResourceVersion();
+        if (deploymentConfigVersion != null && isOlder(resourceVersion, deploymentConfigVersion)) {
+            return;
+        }
+        deploymentConfigVersion = resourceVersion;
+        int replicas = deploymentConfig.getSpec().getReplicas().intValue();
+        if (expectedPods >= 0 && replicas != expectedPods) {
+            logger.info("Deployment config {} was scaled from {} to {} replicas while waiting for its pods.", deploymentConfigName, expectedPods, replicas);
+        }
+        expectedPods = replicas;
+        notifyAll();
+    }
+
+    /**
+     * Seed watcher state with pods retrieved by list request. Pods which were already updated or deleted by watch events are skipped.
+     *
+     * @param podList Pods belonging to the deployment config.
+     */
+    public synchronized void initialize(List<Pod> podList) {
+        for (Pod pod : podList) {
+            if (!deletedPods.contains(pod.getMetadata().getName())) {
+                updatePod(pod);
+            }
+        }
+        notifyAll();
+    }
+
+    /**
+     * Drop all tracked pods, used before the watch is reopened.
+     */
+    public synchronized void reset() {
+        pods.clear();
+        deletedPods.clear();
+        watchClosed = false;
+    }
+
+    @Override
+    public synchronized void eventReceived(Action action, Pod pod) {
+        String podName = pod.getMetadata().getName();
+        switch (action) {
+            case ADDED:
+            case MODIFIED:
+                updatePod(pod);
+                break;
+            case DELETED:
+                pods.remove(podName);
+                deletedPods.add(podName);
+                break;
+            default:
+                logger.warn("Received {} event for pod {} of deployment config {}.", action, podName, deploymentConfigName);
+        }
+        notifyAll();
+    }
+
+    @Override
+    public synchronized void onClose(KubernetesClientException cause) {
+        if (cause != null) {
+            logger.warn("Watch of pods for deployment config {} was closed unexpectedly.", deploymentConfigName, cause);
+        }
+        markWatchClosed();
+    }
+
+    private synchronized void markWatchClosed() {
+        watchClosed = true;
+        notifyAll();
+    }
+
+    /**
+     * Block until all expected pods are ready.
+     *
+     * @param timeoutTime Time when waiting ends with exception.
+     * @return True if all pods are ready, false if the watch was closed before pods became ready.
+     * @throws DeploymentTimeoutException In case pods didn't become ready before timeout.
+     * @throws InterruptedException If waiting thread was interrupted.
+     */
+    public synchronized boolean waitUntilAllPodsAreReady(Instant timeoutTime) throws DeploymentTimeoutException, InterruptedException {
+        while (!areAllPodsReady()) {
+            if (watchClosed) {
+                return false;
+            }
+            long remainingMillis = Duration.between(Instant.now(), timeoutTime).toMillis();
+            if (remainingMillis <= 0) {
+                throw new DeploymentTimeoutException("Timeout while waiting for pods of deployment config " + deploymentConfigName + " to be ready. Expected "
+                        + expectedPods + " ready pods, current pods: " + pods.keySet());
+            }
+            wait(remainingMillis);
+        }
+        logger.info("All {} pods of deployment config {} are ready after {} ms.", expectedPods, deploymentConfigName, Duration.between(startTime, Instant.now()).toMillis());
+        return true;
+    }
+
+    /**
+     * @return Pods known to the watcher, including terminating ones.
+     */
+    public synchronized List<Pod> getPods() {
+        return new ArrayList<>(pods.values());
+    }
+
+    private boolean areAllPodsReady() {
+        List<Pod> activePods = pods.values().stream().filter(pod -> !isTerminating(pod)).collect(Collectors.toList());
+        return activePods.size() == expectedPods && activePods.stream().allMatch(PodReadinessWatcher::isPodReady);
+    }
+
+    private void updatePod(Pod pod) {
+        String podName = pod.getMetadata().getName();
+        Pod knownPod = pods.get(podName);
+        if (knownPod != null && isOlder(pod.getMetadata().getResourceVersion(), knownPod.getMetadata().getResourceVersion())) {
+            return;
+        }
+        pods.put(podName, pod);
+
+        if (isPodReady(pod) && readyPods.add(podName)) {
+            Duration timeToReady = getTimeToReady(pod);
+            logger.info("Pod {} of deployment config {} is ready, time to ready {} ms.", podName, deploymentConfigName, timeToReady.toMillis());
+        }
+    }
+
+    private Duration getTimeToReady(Pod pod) {
+        String creationTimestamp = pod.getMetadata().getCreationTimestamp();
+        String readyTimestamp = getReadyCondition(pod).getLastTransitionTime();
+        if (creationTimestamp != null && readyTimestamp != null) {
+            try {
+                return Duration.between(Instant.parse(creationTimestamp), Instant.parse(readyTimestamp));
+            } catch (DateTimeParseException e) {
+                logger.debug("Unable to parse timestamps of pod {}.", pod.getMetadata().getName(), e);
+            }
+        }
+        // Timestamps not available, measure time since the waiting started
+        return Duration.between(startTime, Instant.now());
+    }
+
+    private static boolean isTerminating(Pod pod) {
+        return pod.getMetadata().getDeletionTimestamp() != null;
+    }
+
+    private static boolean isOlder(String resourceVersion, String knownVersion) {
+        try {
+            return Long.parseLong(resourceVersion) < Long.parseLong(knownVersion);
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Watcher of the deployment config sharing state with the pod watcher, closing of either watch means both are reopened.
+     */
+    private class DeploymentConfigWatcher implements Watcher<DeploymentConfig> {
+
+        @Override
+        public void eventReceived(Action action, DeploymentConfig deploymentConfig) {
+            switch (action) {
+                case ADDED:
+                case MODIFIED:
+                    updateDeploymentConfig(deploymentConfig);
+                    break;
+                default:
+                    logger.warn("Received {} event for deployment config {}.", action, deploymentConfigName);
+            }
+        }
+
+        @Override
+        public void onClose(KubernetesClientException cause) {
+            if (cause != null) {
+                logger.warn("Watch of deployment config {} was closed unexpectedly.", deploymentConfigName, cause);
+            }
+            markWatchClosed();
+        }
+    }
+
+    static boolean isPodReady(Pod pod) {
+        PodCondition readyCondition = getReadyCondition(pod);
+        return readyCondition != null && CONDITION_STATUS_TRUE.equals(readyCondition.getStatus());
+    }
+
+    private static PodCondition getReadyCondition(Pod pod) {
+        if (pod.getStatus() == null || pod.getStatus().getConditions() == null) {
+            return null;
+        }
+        return pod.getStatus().getConditions().stream()
+                .filter(c -> POD_READY_CONDITION.equals(c.getType()))
+                .findAny()
+                .orElse(null);
+    }
+}
@@ -22,24 +22,33 @@ import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.IntOrString;
 import io.fabric8.kubernetes.api.model.KubernetesList;
 import io.fabric8.kubernetes.api.model.ServiceBuilder;
 import io.fabric8.kubernetes.api.model.ServicePort;
 import io.fabric8.openshift.client.OpenShiftClient;
+import org.kie.cloud.common.timeline.DeploymentTimeline;
+import org.kie.cloud.common.timeline.DeploymentTimeline.Span;
+import org.kie.cloud.openshift.OpenShiftController;
+import org.kie.cloud.openshift.cache.NamespaceResourceCache;
 import org.kie.cloud.openshift.resource.OpenShiftResourceConstants;
 import org.kie.cloud.openshift.resource.Project;
 import org.kie.cloud.openshift.resource.Route;
 import org.kie.cloud.openshift.resource.Service;
+import org.kie.cloud.openshift.template.ResourceDocumentCache;
 
 public class ProjectImpl implements Project {
 
+    private OpenShiftController openShiftController;
     private OpenShiftClient client;
     private String projectName;
+    private NamespaceResourceCache resourceCache;
 
     private static String defaultRoutingSubdomain = null;
 
@@ -48,6 +57,16 @@ public class ProjectImpl implements Project {
         this.projectName = projectName;
     }
 
+    /**
+     * Create project reading its resources through resource cache of the controller (if enabled).
+     */
+    public ProjectImpl(OpenShiftController openShiftController, String projectName) {
+        this.openShiftController = openShiftController;
+        this.client = openShiftController.getClient();
+        this.projectName = projectName;
+        this.resourceCache = openShiftController.getResourceCache(projectName).orElse(null);
+    }
+
     @Override
     public String getName() {
         return projectName;
@@ -55,7 +74,11 @@ public class ProjectImpl implements Project {
 
     @Override
     public void delete() {
-        client.projects().withName(projectName).delete();
+        if (openShiftController != null) {
+            openShiftController.deleteProject(projectName);
+        } else {
+            client.projects().withName(projectName).delete();
+        }
     }
 
     @Override
@@ -80,7 +103,7 @@ public class ProjectImpl implements Project {
                     .endSpec()
                 .build());
 
-        return new ServiceImpl(client, projectName, service);
+        return new ServiceImpl(client, projectName, service, resourceCache);
     }
 
     private ServicePort createServicePort(int port, String protocol) {
@@ -91,36 +114,51 @@ public class ProjectImpl implements Project {
 
     @Override
     public List<Service> getServices() {
-        return client.services().inNamespace(projectName).list().getItems().stream()
-                .map(n -> new ServiceImpl(client, projectName, n.getMetadata().getName()))
+        List<io.fabric8.kubernetes.api.model.Service> services = isResourceCacheAvailable() ? resourceCache.getServices() : client.services().inNamespace(projectName).list().getItems();
+        return services.stream()
+                .map(n -> new ServiceImpl(client, projectName, n.getMetadata().getName(), resourceCache))
                 .collect(Collectors.toList());
     }
 
     @Override
     public Service getService(String serviceName) {
-        io.fabric8.kubernetes.api.model.Service service = client.services().inNamespace(projectName).withName(serviceName).get();
+        io.fabric8.kubernetes.api.model.Service service = isResourceCacheAvailable() ? resourceCache.getService(serviceName) : client.services().inNamespace(projectName).withName(serviceName).get();
         if(service != null) {
-            return new ServiceImpl(client, projectName, serviceName);
+            return new ServiceImpl(client, projectName, serviceName, resourceCache);
         }
         return null;
     }
 
     @Override
     public void processTemplateAndCreateResources(URL templateUrl, Map<String, String> envVariables) {
-        KubernetesList resourceList = client.templates().inNamespace(projectName).load(templateUrl).process(envVariables);
-        client.lists().inNamespace(projectName).create(resourceList);
+        String templateName = templateUrl.getPath().substring(templateUrl.getPath().lastIndexOf('/') + 1);
+        try (Span span = DeploymentTimeline.forNamespace(projectName).span("template processing " + templateName)) {
+            InputStream templateInputStream = ResourceDocumentCache.getInstance().getTemplate(templateUrl, client);
+            KubernetesList resourceList = client.templates().inNamespace(projectName).load(templateInputStream).process(envVariables);
+            client.lists().inNamespace(projectName).create(labelTemplateResources(resourceList));
+        }
     }
 
     @Override
     public void processTemplateAndCreateResources(InputStream templateInputStream, Map<String, String> envVariables) {
         KubernetesList resourceList = client.templates().inNamespace(projectName).load(templateInputStream).process(envVariables);
-        client.lists().inNamespace(projectName).create(resourceList);
+        client.lists().inNamespace(projectName).create(labelTemplateResources(resourceList));
+    }
+
+    private static KubernetesList labelTemplateResources(KubernetesList resourceList) {
+        for (HasMetadata resource : resourceList.getItems()) {
+            if (resource.getMetadata().getLabels() == null) {
+                resource.getMetadata().setLabels(new HashMap<>());
+            }
+            resource.getMetadata().getLabels().put(OpenShiftResourceConstants.TEMPLATE_RESOURCE_LABEL, "true");
+        }
+        return resourceList;
     }
 
     @Override
     public void createResources(String resourceUrl) {
         try {
-            KubernetesList resourceList = client.lists().inNamespace(projectName).load(new URL(resourceUrl)).get();
+            KubernetesList resourceList = ResourceDocumentCache.getInstance().getResourceList(new URL(resourceUrl), client);
             client.lists().inNamespace(projectName).create(resourceList);
         } catch (MalformedURLException e) {
             throw new RuntimeException("Malformed resource URL", e);
@@ -135,6 +173,13 @@ public class ProjectImpl implements Project {
 
     @Override
     public String getDefaultRoutingSubdomain() {
+        // Synchronized as deployments may resolve their URLs concurrently
+        synchronized (ProjectImpl.class) {
+            return getDefaultRoutingSubdomainImpl();
+        }
+    }
+
+    private String getDefaultRoutingSubdomainImpl() {
         if (defaultRoutingSubdomain == null) {
             final String tempServiceName = "temp-service";
             Service tempService = createService(tempServiceName);
@@ -149,4 +194,8 @@ public class ProjectImpl implements Project {
         }
         return defaultRoutingSubdomain;
     }
+
+    private boolean isResourceCacheAvailable() {
+        return resourceCache != null && !resourceCache.isClosed();
+    }
 }
@@ -18,6 +18,7 @@ package org.kie.cloud.openshift.resource.impl;
 import java.util.List;
 
 import io.fabric8.openshift.client.OpenShiftClient;
+import org.kie.cloud.openshift.cache.NamespaceResourceCache;
 import org.kie.cloud.openshift.resource.Route;
 
 public class RouteImpl implements Route {
@@ -25,26 +26,52 @@ public class RouteImpl implements Route {
     private OpenShiftClient client;
     private String projectName;
     private String serviceName;
+    private NamespaceResourceCache resourceCache;
 
     public RouteImpl(OpenShiftClient client, String projectName, String serviceName) {
+        this(client, projectName, serviceName, null);
+    }
+
+    /**
+     * @param resourceCache Cache used for reading project resources, can be null to read resources directly from OpenShift.
+     */
+    public RouteImpl(OpenShiftClient client, String projectName, String serviceName, NamespaceResourceCache resourceCache) {
         this.client = client;
         this.projectName = projectName;
         this.serviceName = serviceName;
+        this.resourceCache = resourceCache;
     }
 
     @Override
     public String getRouteHost() {
-        List<io.fabric8.openshift.api.model.Route> routes = client.routes().inNamespace(projectName).list().getItems();
+        String routeHost = null;
+        if (resourceCache != null && !resourceCache.isClosed()) {
+            routeHost = findRouteHost(resourceCache.getRoutes());
+        }
+        if (routeHost == null) {
+            // Route may be created recently and its watch event not delivered yet
+            routeHost = findRouteHost(client.routes().inNamespace(projectName).list().getItems());
+        }
+        if (routeHost == null) {
+            throw new RuntimeException(String.format("Route for service '%s' not found.", serviceName));
+        }
+        return routeHost;
+    }
+
+    private String findRouteHost(List<io.fabric8.openshift.api.model.Route> routes) {
         for(io.fabric8.openshift.api.model.Route route : routes) {
             if(route.getSpec().getTo().getName().equals(serviceName)) {
                 return route.getSpec().getHost();
             }
         }
-        throw new RuntimeException(String.format("Route for service '%s' not found.", serviceName));
+        return null;
     }
 
     @Override
     public void delete() {
         client.routes().inNamespace(projectName).withName(serviceName).delete();
+        if (resourceCache != null) {
+            resourceCache.evictRoute(serviceName);
+        }
     }
 }
@@ -28,6 +28,7 @@ import io.fabric8.openshift.api.model.DeploymentConfigBuilder;
 import io.fabric8.openshift.api.model.DeploymentTriggerPolicyBuilder;
 import io.fabric8.openshift.api.model.RouteBuilder;
 import io.fabric8.openshift.client.OpenShiftClient;
+import org.kie.cloud.openshift.cache.NamespaceResourceCache;
 import org.kie.cloud.openshift.resource.OpenShiftResourceConstants;
 import org.kie.cloud.openshift.resource.Service;
 
@@ -36,11 +37,20 @@ public class ServiceImpl implements Service {
     private OpenShiftClient client;
     private String projectName;
     private String serviceName;
+    private NamespaceResourceCache resourceCache;
 
     public ServiceImpl(OpenShiftClient client, String projectName, String serviceName) {
+        this(client, projectName, serviceName, null);
+    }
+
+    /**
+     * @param resourceCache Cache used for reading project resources, can be null to read resources directly from OpenShift.
+     */
+    public ServiceImpl(OpenShiftClient client, String projectName, String serviceName, NamespaceResourceCache resourceCache) {
         this.client = client;
         this.projectName = projectName;
         this.serviceName = serviceName;
+        this.resourceCache = resourceCache;
     }
 
     @Override
@@ -51,6 +61,9 @@ public class ServiceImpl implements Service {
     @Override
     public void delete() {
         client.services().inNamespace(projectName).withName(serviceName).delete();
+        if (resourceCache != null) {
+            resourceCache.evictService(serviceName);
+        }
     }
 
     @Override
@@ -103,7 +116,7 @@ public class ServiceImpl implements Service {
             throw new RuntimeException("Interrupted while waiting for deployment to become ready.", e);
         }
 
-        return new DeploymentConfigImpl(client, projectName, serviceName);
+        return new DeploymentConfigImpl(client, projectName, serviceName, resourceCache);
     }
 
     private List<EnvVar> convertEnvVariables(Map<String, String> envVariables) {
@@ -117,9 +130,9 @@ public class ServiceImpl implements Service {
 
     @Override
     public DeploymentConfigImpl getDeploymentConfig() {
-        io.fabric8.openshift.api.model.DeploymentConfig deploymentConfig = client.deploymentConfigs().inNamespace(projectName).withName(serviceName).get();
+        io.fabric8.openshift.api.model.DeploymentConfig deploymentConfig = isResourceCacheAvailable() ? resourceCache.getDeploymentConfig(serviceName) : client.deploymentConfigs().inNamespace(projectName).withName(serviceName).get();
         if(deploymentConfig != null) {
-            return new DeploymentConfigImpl(client, projectName, serviceName);
+            return new DeploymentConfigImpl(client, projectName, serviceName, resourceCache);
         }
         return null;
     }
@@ -131,7 +144,7 @@ public class ServiceImpl implements Service {
 
     @Override
     public RouteImpl createRoute(String route) {
-        client.routes().inNamespace(projectName).create(
+        io.fabric8.openshift.api.model.Route createdRoute = client.routes().inNamespace(projectName).create(
                 new RouteBuilder()
                 .withNewMetadata()
                     .withName(serviceName)
@@ -146,16 +159,23 @@ public class ServiceImpl implements Service {
                     .withHost(route)
                 .endSpec()
                 .build());
+        if (isResourceCacheAvailable() && createdRoute != null) {
+            resourceCache.updateRoute(createdRoute);
+        }
 
-        return new RouteImpl(client, projectName, serviceName);
+        return new RouteImpl(client, projectName, serviceName, resourceCache);
     }
 
     @Override
     public RouteImpl getRoute() {
-        io.fabric8.openshift.api.model.Route route = client.routes().inNamespace(projectName).withName(serviceName).get();
+        io.fabric8.openshift.api.model.Route route = isResourceCacheAvailable() ? resourceCache.getRoute(serviceName) : client.routes().inNamespace(projectName).withName(serviceName).get();
         if(route != null) {
-            return new RouteImpl(client, projectName, serviceName);
+            return new RouteImpl(client, projectName, serviceName, resourceCache);
         }
         return null;
     }
+
+    private boolean isResourceCacheAvailable() {
+        return resourceCache != null && !resourceCache.isClosed();
+    }
 }
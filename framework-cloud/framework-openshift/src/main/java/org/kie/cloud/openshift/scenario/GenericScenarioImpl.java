@@ -15,28 +15,39 @@
  */
 package org.kie.cloud.openshift.scenario;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
 
 import org.kie.cloud.api.deployment.Deployment;
 import org.kie.cloud.api.deployment.KieServerDeployment;
+import org.kie.cloud.api.deployment.MavenRepositoryDeployment;
 import org.kie.cloud.api.deployment.SmartRouterDeployment;
 import org.kie.cloud.api.deployment.WorkbenchDeployment;
 import org.kie.cloud.api.deployment.constants.DeploymentConstants;
 import org.kie.cloud.api.scenario.GenericScenario;
 import org.kie.cloud.api.settings.DeploymentSettings;
 import org.kie.cloud.common.logs.InstanceLogUtil;
+import org.kie.cloud.common.metrics.ApiCallMetrics;
+import org.kie.cloud.common.timeline.DeploymentTimeline;
+import org.kie.cloud.common.timeline.DeploymentTimeline.Span;
 import org.kie.cloud.openshift.OpenShiftController;
 import org.kie.cloud.openshift.constants.OpenShiftConstants;
 import org.kie.cloud.openshift.constants.OpenShiftTemplateConstants;
 import org.kie.cloud.openshift.deployment.KieServerDeploymentImpl;
+import org.kie.cloud.openshift.deployment.MavenRepositoryDeploymentImpl;
 import org.kie.cloud.openshift.deployment.SmartRouterDeploymentImpl;
 import org.kie.cloud.openshift.deployment.WorkbenchDeploymentImpl;
 import org.kie.cloud.openshift.deployment.WorkbenchRuntimeDeploymentImpl;
 import org.kie.cloud.openshift.resource.Project;
+import org.kie.cloud.openshift.scenario.util.DeploymentTaskGraph;
+import org.kie.cloud.openshift.scenario.util.PodTimelineCollector;
+import org.kie.cloud.openshift.scenario.util.ProjectUtils;
+import org.kie.cloud.openshift.scenario.util.ScenarioFingerprint;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -48,26 +59,46 @@ public class GenericScenarioImpl implements GenericScenario {
     private List<WorkbenchDeployment> workbenchDeployments;
     private List<KieServerDeployment> kieServerDeployments;
     private List<SmartRouterDeployment> smartRouterDeployments;
+    private MavenRepositoryDeploymentImpl mavenRepositoryDeployment;
 
     private List<DeploymentSettings> kieServerSettingsList;
     private List<DeploymentSettings> workbenchSettingsList;
     private List<DeploymentSettings> monitoringSettingsList;
     private List<DeploymentSettings> smartRouterSettingsList;
+    private final boolean mavenRepository;
+
+    private final String fingerprint;
+
+    private static final String MAVEN_REPOSITORY_TEMPLATE = "/templates/maven-repository.yaml";
+    private static final String MAVEN_REPOSITORY_TASK = "maven-repository";
 
     private static final Logger logger = LoggerFactory.getLogger(GenericScenarioImpl.class);
 
-    public GenericScenarioImpl(OpenShiftController openshiftController, List<DeploymentSettings> kieServerSettingsList, List<DeploymentSettings> workbenchSettingsList, List<DeploymentSettings> monitoringSettingsList, List<DeploymentSettings> smartRouterSettingsList) {
+    public GenericScenarioImpl(OpenShiftController openshiftController, List<DeploymentSettings> kieServerSettingsList, List<DeploymentSettings> workbenchSettingsList, List<DeploymentSettings> monitoringSettingsList, List<DeploymentSettings> smartRouterSettingsList, boolean mavenRepository) {
         this.openshiftController = openshiftController;
         this.kieServerSettingsList = kieServerSettingsList;
         this.workbenchSettingsList = workbenchSettingsList;
         this.monitoringSettingsList = monitoringSettingsList;
         this.smartRouterSettingsList = smartRouterSettingsList;
+        this.mavenRepository = mavenRepository;
+        this.fingerprint = new ScenarioFingerprint(getClass())
+                .addDeploymentSettings("kieServer", kieServerSettingsList)
+                .addDeploymentSettings("workbench", workbenchSettingsList)
+                .addDeploymentSettings("monitoring", monitoringSettingsList)
+                .addDeploymentSettings("smartRouter", smartRouterSettingsList)
+                .addEnvVariables(Collections.singletonMap("mavenRepository", Boolean.toString(mavenRepository)))
+                .build();
 
         workbenchDeployments = new ArrayList<>();
         kieServerDeployments = new ArrayList<>();
         smartRouterDeployments = new ArrayList<>();
     }
 
+    @Override
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
     @Override
     public List<WorkbenchDeployment> getWorkbenchDeployments() {
         return workbenchDeployments;
@@ -83,6 +114,11 @@ public class GenericScenarioImpl implements GenericScenario {
         return smartRouterDeployments;
     }
 
+    @Override
+    public MavenRepositoryDeployment getMavenRepositoryDeployment() {
+        return mavenRepositoryDeployment;
+    }
+
     @Override
     public String getNamespace() {
         return projectName;
@@ -90,48 +126,58 @@ public class GenericScenarioImpl implements GenericScenario {
 
     @Override
     public void deploy() {
-        // OpenShift restriction: Hostname must be shorter than 63 characters
-        projectName = UUID.randomUUID().toString().substring(0, 4);
-        OpenShiftConstants.getNamespacePrefix().ifPresent(p -> projectName = p + "-" + projectName);
-
-        logger.info("Generated project name is " + projectName);
-
-        logger.info("Creating project " + projectName);
-        Project project = openshiftController.createProject(projectName);
-
-        logger.info("Creating secrets from " + OpenShiftConstants.getKieAppSecret());
-        project.createResources(OpenShiftConstants.getKieAppSecret());
-
-        logger.info("Creating image streams from " + OpenShiftConstants.getKieImageStreams());
-        project.createResources(OpenShiftConstants.getKieImageStreams());
+        Project project = ProjectUtils.createProject(openshiftController);
+        projectName = project.getName();
+
+        // Templates are independent, every deployment waits just for its own template
+        DeploymentTaskGraph deploymentGraph = new DeploymentTaskGraph(projectName);
+        int templateIndex = 0;
+
+        if (mavenRepository) {
+            mavenRepositoryDeployment = createMavenRepositoryDeployment(projectName);
+            deploymentGraph.addTask(MAVEN_REPOSITORY_TASK + " template", () -> deployMavenRepositoryTemplate(project));
+            deploymentGraph.addTask(MAVEN_REPOSITORY_TASK + " ready", () -> {
+                logger.info("Waiting for " + MAVEN_REPOSITORY_TASK + " deployment to become ready.");
+                mavenRepositoryDeployment.waitForScale();
+            }, MAVEN_REPOSITORY_TASK + " template");
+        }
 
         for (DeploymentSettings workbenchSettings : workbenchSettingsList) {
-            deployTemplateWithSettings(project, workbenchSettings);
-            workbenchDeployments.add(createWorkbenchDeployment(projectName, workbenchSettings));
+            WorkbenchDeployment workbenchDeployment = createWorkbenchDeployment(projectName, workbenchSettings);
+            workbenchDeployments.add(workbenchDeployment);
+            addTemplateAndWaitTasks(deploymentGraph, project, workbenchSettings, "workbench-" + templateIndex++, workbenchDeployment);
         }
 
         for (DeploymentSettings monitoringSettings : monitoringSettingsList) {
-            deployTemplateWithSettings(project, monitoringSettings);
-            workbenchDeployments.add(createWorkbenchMonitoringDeployment(projectName, monitoringSettings));
+            WorkbenchDeployment monitoringDeployment = createWorkbenchMonitoringDeployment(projectName, monitoringSettings);
+            workbenchDeployments.add(monitoringDeployment);
+            addTemplateAndWaitTasks(deploymentGraph, project, monitoringSettings, "monitoring-" + templateIndex++, monitoringDeployment);
         }
 
         for (DeploymentSettings smartRouterSettings : smartRouterSettingsList) {
-            deployTemplateWithSettings(project, smartRouterSettings);
             smartRouterDeployments.add(createSmartRouterDeployment(projectName, smartRouterSettings));
+            addTemplateAndWaitTasks(deploymentGraph, project, smartRouterSettings, "smartrouter-" + templateIndex++, null);
         }
 
         for (DeploymentSettings kieServerSettings : kieServerSettingsList) {
-            deployTemplateWithSettings(project, kieServerSettings);
-            kieServerDeployments.add(createKieServerDeployment(projectName, kieServerSettings));
+            KieServerDeployment kieServerDeployment = createKieServerDeployment(projectName, kieServerSettings);
+            kieServerDeployments.add(kieServerDeployment);
+            // Kie server pods get environment variables of Maven repository service only if it exists when they start
+            String[] kieServerDependencies = mavenRepository ? new String[] {MAVEN_REPOSITORY_TASK + " template"} : new String[0];
+            addTemplateAndWaitTasks(deploymentGraph, project, kieServerSettings, "kieserver-" + templateIndex++, kieServerDeployment, kieServerDependencies);
         }
 
-        logger.info("Waiting for Workbench deployment to become ready.");
-        for (WorkbenchDeployment workbenchDeployment : workbenchDeployments) {
-            workbenchDeployment.waitForScale();
-        }
-        logger.info("Waiting for Kie server deployment to become ready.");
-        for (KieServerDeployment kieServerDeployment : kieServerDeployments) {
-            kieServerDeployment.waitForScale();
+        deploymentGraph.execute();
+    }
+
+    private void addTemplateAndWaitTasks(DeploymentTaskGraph deploymentGraph, Project project, DeploymentSettings deploymentSettings, String taskName, Deployment deployment, String... templateDependencies) {
+        String templateTaskName = taskName + " template";
+        deploymentGraph.addTask(templateTaskName, () -> deployTemplateWithSettings(project, deploymentSettings), templateDependencies);
+        if (deployment != null) {
+            deploymentGraph.addTask(taskName + " ready", () -> {
+                logger.info("Waiting for " + taskName + " deployment to become ready.");
+                deployment.waitForScale();
+            }, templateTaskName);
         }
     }
 
@@ -143,19 +189,39 @@ public class GenericScenarioImpl implements GenericScenario {
         project.processTemplateAndCreateResources(deploymentSettings.getDeploymentScriptUrl(), envVariables);
     }
 
+    private void deployMavenRepositoryTemplate(Project project) {
+        Map<String, String> envVariables = new HashMap<>();
+        envVariables.put("SERVICE_NAME", MavenRepositoryDeployment.SERVICE_NAME);
+        envVariables.put("IMAGE", OpenShiftConstants.getMavenRepositoryImage());
+
+        logger.info("Processing template and creating resources from " + MAVEN_REPOSITORY_TEMPLATE);
+        try (InputStream template = GenericScenarioImpl.class.getResourceAsStream(MAVEN_REPOSITORY_TEMPLATE)) {
+            project.processTemplateAndCreateResources(template, envVariables);
+        } catch (IOException e) {
+            throw new RuntimeException("Error reading template " + MAVEN_REPOSITORY_TEMPLATE, e);
+        }
+    }
+
     @Override
     public void undeploy() {
-        InstanceLogUtil.writeDeploymentLogs(this);
+        // Pod conditions and events are collected before pods are scaled down
+        PodTimelineCollector.collect(openshiftController.getClient(), projectName);
+        try (Span span = DeploymentTimeline.forNamespace(projectName).span("log collection")) {
+            InstanceLogUtil.writeDeploymentLogs(this);
+        }
 
-        for (Deployment deployment : getDeployments()) {
-            if (deployment != null && deployment.isReady()) {
-                deployment.scale(0);
-                deployment.waitForScale();
+        if (!OpenShiftConstants.isFastUndeployEnabled()) {
+            for (Deployment deployment : getDeployments()) {
+                if (deployment != null && deployment.isReady()) {
+                    deployment.scale(0);
+                    deployment.waitForScale();
+                }
             }
         }
 
-        Project project = openshiftController.getProject(projectName);
-        project.delete();
+        ProjectUtils.deleteProject(openshiftController, projectName);
+        DeploymentTimeline.forNamespace(projectName).export();
+        ApiCallMetrics.forNamespace(projectName).export();
 
     }
 
@@ -165,6 +231,9 @@ public class GenericScenarioImpl implements GenericScenario {
         deployments.addAll(workbenchDeployments);
         deployments.addAll(kieServerDeployments);
         deployments.addAll(smartRouterDeployments);
+        if (mavenRepositoryDeployment != null) {
+            deployments.add(mavenRepositoryDeployment);
+        }
         return deployments;
     }
 
@@ -201,6 +270,14 @@ public class GenericScenarioImpl implements GenericScenario {
         return monitoringDeployment;
     }
 
+    private MavenRepositoryDeploymentImpl createMavenRepositoryDeployment(String namespace) {
+        MavenRepositoryDeploymentImpl repositoryDeployment = new MavenRepositoryDeploymentImpl();
+        repositoryDeployment.setOpenShiftController(openshiftController);
+        repositoryDeployment.setNamespace(namespace);
+
+        return repositoryDeployment;
+    }
+
     private SmartRouterDeployment createSmartRouterDeployment(String namespace, DeploymentSettings deploymentSettings) {
         SmartRouterDeploymentImpl smartRouterDeployment = new SmartRouterDeploymentImpl();
         smartRouterDeployment.setOpenShiftController(openshiftController);
@@ -16,6 +16,7 @@
 package org.kie.cloud.openshift.scenario;
 
 import static org.kie.cloud.openshift.scenario.util.ProjectUtils.createProject;
+import static org.kie.cloud.openshift.scenario.util.ProjectUtils.deleteProject;
 
 import java.util.Arrays;
 import java.util.List;
@@ -26,11 +27,16 @@ import org.kie.cloud.api.deployment.KieServerDeployment;
 import org.kie.cloud.api.deployment.constants.DeploymentConstants;
 import org.kie.cloud.api.scenario.KieServerWithExternalDatabaseScenario;
 import org.kie.cloud.common.logs.InstanceLogUtil;
+import org.kie.cloud.common.metrics.ApiCallMetrics;
+import org.kie.cloud.common.timeline.DeploymentTimeline;
+import org.kie.cloud.common.timeline.DeploymentTimeline.Span;
 import org.kie.cloud.openshift.OpenShiftController;
 import org.kie.cloud.openshift.constants.OpenShiftConstants;
 import org.kie.cloud.openshift.constants.OpenShiftTemplateConstants;
 import org.kie.cloud.openshift.deployment.KieServerDeploymentImpl;
 import org.kie.cloud.openshift.resource.Project;
+import org.kie.cloud.openshift.scenario.util.PodTimelineCollector;
+import org.kie.cloud.openshift.scenario.util.ScenarioFingerprint;
 import org.kie.cloud.openshift.template.OpenShiftTemplate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -41,12 +47,15 @@ public class KieServerWithExternalDatabaseScenarioImpl implements KieServerWithE
     private KieServerDeploymentImpl kieServerDeployment;
     private Project project;
     private Map<String, String> envVariables;
+    private final String fingerprint;
 
     private static final Logger logger = LoggerFactory.getLogger(KieServerWithExternalDatabaseScenario.class);
 
     public KieServerWithExternalDatabaseScenarioImpl(OpenShiftController openShiftController, Map<String, String> envVariables) {
         this.openshiftController = openShiftController;
         this.envVariables = envVariables;
+        // Computed upfront as environment variables are modified during deployment
+        this.fingerprint = new ScenarioFingerprint(getClass()).addEnvVariables(envVariables).build();
     }
 
     @Override public KieServerDeployment getKieServerDeployment() {
@@ -57,6 +66,10 @@ public class KieServerWithExternalDatabaseScenarioImpl implements KieServerWithE
         return project.getName();
     }
 
+    @Override public String getFingerprint() {
+        return fingerprint;
+    }
+
     @Override public void deploy() {
         project = createProject(openshiftController);
 
@@ -77,16 +90,23 @@ public class KieServerWithExternalDatabaseScenarioImpl implements KieServerWithE
     }
 
     @Override public void undeploy() {
-        InstanceLogUtil.writeDeploymentLogs(this);
+        PodTimelineCollector.collect(openshiftController.getClient(), project.getName());
+        try (Span span = DeploymentTimeline.forNamespace(project.getName()).span("log collection")) {
+            InstanceLogUtil.writeDeploymentLogs(this);
+        }
 
-        for(Deployment deployment : getDeployments()) {
-            if(deployment != null && deployment.isReady()) {
-                deployment.scale(0);
-                deployment.waitForScale();
+        if (!OpenShiftConstants.isFastUndeployEnabled()) {
+            for(Deployment deployment : getDeployments()) {
+                if(deployment != null && deployment.isReady()) {
+                    deployment.scale(0);
+                    deployment.waitForScale();
+                }
             }
         }
 
-        project.delete();
+        deleteProject(openshiftController, project.getName());
+        DeploymentTimeline.forNamespace(project.getName()).export();
+        ApiCallMetrics.forNamespace(project.getName()).export();
     }
 
     public OpenShiftController getOpenshiftController() {
@@ -19,7 +19,6 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
 
 import org.kie.cloud.api.deployment.DatabaseDeployment;
 import org.kie.cloud.api.deployment.Deployment;
@@ -29,7 +28,10 @@ import org.kie.cloud.api.deployment.WorkbenchDeployment;
 import org.kie.cloud.api.deployment.constants.DeploymentConstants;
 import org.kie.cloud.api.scenario.WorkbenchRuntimeSmartRouterKieServerDatabaseScenario;
 import org.kie.cloud.common.logs.InstanceLogUtil;
+import org.kie.cloud.common.metrics.ApiCallMetrics;
 import org.kie.cloud.common.provider.KieServerControllerClientProvider;
+import org.kie.cloud.common.timeline.DeploymentTimeline;
+import org.kie.cloud.common.timeline.DeploymentTimeline.Span;
 import org.kie.cloud.openshift.OpenShiftController;
 import org.kie.cloud.openshift.constants.OpenShiftConstants;
 import org.kie.cloud.openshift.constants.OpenShiftTemplateConstants;
@@ -38,6 +40,10 @@ import org.kie.cloud.openshift.deployment.KieServerDeploymentImpl;
 import org.kie.cloud.openshift.deployment.SmartRouterDeploymentImpl;
 import org.kie.cloud.openshift.deployment.WorkbenchRuntimeDeploymentImpl;
 import org.kie.cloud.openshift.resource.Project;
+import org.kie.cloud.openshift.scenario.util.DeploymentTaskGraph;
+import org.kie.cloud.openshift.scenario.util.PodTimelineCollector;
+import org.kie.cloud.openshift.scenario.util.ProjectUtils;
+import org.kie.cloud.openshift.scenario.util.ScenarioFingerprint;
 import org.kie.cloud.openshift.template.OpenShiftTemplate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -52,12 +58,15 @@ public class WorkbenchRuntimeSmartRouterKieServerDatabaseScenarioImpl implements
     private DatabaseDeploymentImpl databaseDeployment;
 
     private Map<String, String> envVariables;
+    private final String fingerprint;
 
     private static final Logger logger = LoggerFactory.getLogger(WorkbenchRuntimeSmartRouterKieServerDatabaseScenarioImpl.class);
 
     public WorkbenchRuntimeSmartRouterKieServerDatabaseScenarioImpl(OpenShiftController openShiftController, Map<String, String> envVariables) {
         this.openshiftController = openShiftController;
         this.envVariables = envVariables;
+        // Computed upfront as environment variables are modified during deployment
+        this.fingerprint = new ScenarioFingerprint(getClass()).addEnvVariables(envVariables).build();
     }
 
     @Override
@@ -66,58 +75,61 @@ public class WorkbenchRuntimeSmartRouterKieServerDatabaseScenarioImpl implements
     }
 
     @Override
-    public void deploy() {
-        // OpenShift restriction: Hostname must be shorter than 63 characters
-        projectName = UUID.randomUUID().toString().substring(0, 4);
-        OpenShiftConstants.getNamespacePrefix().ifPresent(p -> projectName = p + "-" + projectName);
-
-        logger.info("Generated project name is " + projectName);
+    public String getFingerprint() {
+        return fingerprint;
+    }
 
-        logger.info("Creating project " + projectName);
-        Project project = openshiftController.createProject(projectName);
+    @Override
+    public void deploy() {
+        Project project = ProjectUtils.createProject(openshiftController);
+        projectName = project.getName();
 
         workbenchRuntimeDeployment = createWorkbenchRuntimeDeployment(projectName);
         smartRouterDeployment = createSmartRouterDeployment(projectName);
         kieServerDeployment = createKieServerDeployment(projectName);
         databaseDeployment = createDatabaseDeployment(projectName);
 
-        logger.info("Creating secrets from " + OpenShiftConstants.getKieAppSecret());
-        project.createResources(OpenShiftConstants.getKieAppSecret());
-
-        logger.info("Creating image streams from " + OpenShiftConstants.getKieImageStreams());
-        project.createResources(OpenShiftConstants.getKieImageStreams());
-
-        logger.info("Processing template and creating resources from " + OpenShiftTemplate.CONSOLE_SMARTROUTER.getTemplateUrl().toString());
-        Map<String, String> consoleSmartRouterEnvVariables = new HashMap<String, String>(envVariables);
-        consoleSmartRouterEnvVariables.put(OpenShiftTemplateConstants.IMAGE_STREAM_NAMESPACE, projectName);
-        consoleSmartRouterEnvVariables.put(OpenShiftTemplateConstants.KIE_SERVER_CONTROLLER_HOST, workbenchRuntimeDeployment.getUrl().getHost());
-        consoleSmartRouterEnvVariables.put(OpenShiftTemplateConstants.KIE_SERVER_CONTROLLER_PORT, Integer.toString(workbenchRuntimeDeployment.getUrl().getPort()));
-        project.processTemplateAndCreateResources(OpenShiftTemplate.CONSOLE_SMARTROUTER.getTemplateUrl(), consoleSmartRouterEnvVariables);
-
-        logger.info("Processing template and creating resources from " + OpenShiftTemplate.KIE_SERVER_S2I.getTemplateUrl().toString());
-        Map<String, String> kieServerEnvVariables = new HashMap<String, String>(envVariables);
-        kieServerEnvVariables.put(OpenShiftTemplateConstants.IMAGE_STREAM_NAMESPACE, projectName);
-        kieServerEnvVariables.put(OpenShiftTemplateConstants.KIE_SERVER_HOST, kieServerDeployment.getUrl().getHost());
-        kieServerEnvVariables.put(OpenShiftTemplateConstants.KIE_SERVER_PORT, Integer.toString(kieServerDeployment.getUrl().getPort()));
-        kieServerEnvVariables.put(OpenShiftTemplateConstants.KIE_SERVER_ROUTER_HOST, smartRouterDeployment.getUrl().getHost());
-        kieServerEnvVariables.put(OpenShiftTemplateConstants.KIE_SERVER_ROUTER_PORT, Integer.toString(smartRouterDeployment.getUrl().getPort()));
-        kieServerEnvVariables.put(OpenShiftTemplateConstants.KIE_SERVER_CONTROLLER_HOST, workbenchRuntimeDeployment.getUrl().getHost());
-        kieServerEnvVariables.put(OpenShiftTemplateConstants.KIE_SERVER_CONTROLLER_PORT, Integer.toString(workbenchRuntimeDeployment.getUrl().getPort()));
-        kieServerEnvVariables.put(OpenShiftTemplateConstants.KIE_SERVER_CONTROLLER_USER, workbenchRuntimeDeployment.getUsername());
-        kieServerEnvVariables.put(OpenShiftTemplateConstants.KIE_SERVER_CONTROLLER_PWD, workbenchRuntimeDeployment.getPassword());
-        project.processTemplateAndCreateResources(OpenShiftTemplate.KIE_SERVER_S2I.getTemplateUrl(), kieServerEnvVariables);
-
-        logger.info("Waiting for Workbench deployment to become ready.");
-        workbenchRuntimeDeployment.waitForScale();
-
-        logger.info("Waiting for Smart router deployment to become ready.");
-        smartRouterDeployment.waitForScale();
-
-        logger.info("Waiting for Kie server deployment to become ready.");
-        kieServerDeployment.waitForScale();
-
-        logger.info("Waiting for Kie server and Smart router to register itself to the Workbench.");
-        KieServerControllerClientProvider.waitForServerTemplateCreation(workbenchRuntimeDeployment, 2);
+        new DeploymentTaskGraph(projectName)
+                .addTask("console and smart router template", () -> {
+                    logger.info("Processing template and creating resources from " + OpenShiftTemplate.CONSOLE_SMARTROUTER.getTemplateUrl().toString());
+                    Map<String, String> consoleSmartRouterEnvVariables = new HashMap<String, String>(envVariables);
+                    consoleSmartRouterEnvVariables.put(OpenShiftTemplateConstants.IMAGE_STREAM_NAMESPACE, projectName);
+                    consoleSmartRouterEnvVariables.put(OpenShiftTemplateConstants.KIE_SERVER_CONTROLLER_HOST, workbenchRuntimeDeployment.getUrl().getHost());
+                    consoleSmartRouterEnvVariables.put(OpenShiftTemplateConstants.KIE_SERVER_CONTROLLER_PORT, Integer.toString(workbenchRuntimeDeployment.getUrl().getPort()));
+                    project.processTemplateAndCreateResources(OpenShiftTemplate.CONSOLE_SMARTROUTER.getTemplateUrl(), consoleSmartRouterEnvVariables);
+                })
+                // Kie server needs controller and router URLs, these are available once their routes are created
+                .addTask("kie server template", () -> {
+                    logger.info("Processing template and creating resources from " + OpenShiftTemplate.KIE_SERVER_S2I.getTemplateUrl().toString());
+                    Map<String, String> kieServerEnvVariables = new HashMap<String, String>(envVariables);
+                    kieServerEnvVariables.put(OpenShiftTemplateConstants.IMAGE_STREAM_NAMESPACE, projectName);
+                    kieServerEnvVariables.put(OpenShiftTemplateConstants.KIE_SERVER_HOST, kieServerDeployment.getUrl().getHost());
+                    kieServerEnvVariables.put(OpenShiftTemplateConstants.KIE_SERVER_PORT, Integer.toString(kieServerDeployment.getUrl().getPort()));
+                    kieServerEnvVariables.put(OpenShiftTemplateConstants.KIE_SERVER_ROUTER_HOST, smartRouterDeployment.getUrl().getHost());
+                    kieServerEnvVariables.put(OpenShiftTemplateConstants.KIE_SERVER_ROUTER_PORT, Integer.toString(smartRouterDeployment.getUrl().getPort()));
+                    kieServerEnvVariables.put(OpenShiftTemplateConstants.KIE_SERVER_CONTROLLER_HOST, workbenchRuntimeDeployment.getUrl().getHost());
+                    kieServerEnvVariables.put(OpenShiftTemplateConstants.KIE_SERVER_CONTROLLER_PORT, Integer.toString(workbenchRuntimeDeployment.getUrl().getPort()));
+                    kieServerEnvVariables.put(OpenShiftTemplateConstants.KIE_SERVER_CONTROLLER_USER, workbenchRuntimeDeployment.getUsername());
+                    kieServerEnvVariables.put(OpenShiftTemplateConstants.KIE_SERVER_CONTROLLER_PWD, workbenchRuntimeDeployment.getPassword());
+                    project.processTemplateAndCreateResources(OpenShiftTemplate.KIE_SERVER_S2I.getTemplateUrl(), kieServerEnvVariables);
+                }, "console and smart router template")
+                .addTask("workbench ready", () -> {
+                    logger.info("Waiting for Workbench deployment to become ready.");
+                    workbenchRuntimeDeployment.waitForScale();
+                }, "console and smart router template")
+                .addTask("smart router ready", () -> {
+                    logger.info("Waiting for Smart router deployment to become ready.");
+                    smartRouterDeployment.waitForScale();
+                }, "console and smart router template")
+                .addTask("kie server ready", () -> {
+                    logger.info("Waiting for Kie server deployment to become ready.");
+                    kieServerDeployment.waitForScale();
+                }, "kie server template")
+                .addTask("server templates registered", () -> {
+                    logger.info("Waiting for Kie server and Smart router to register itself to the Workbench.");
+                    KieServerControllerClientProvider.waitForServerTemplateCreation(workbenchRuntimeDeployment, 2);
+                }, "workbench ready", "smart router ready", "kie server ready")
+                .execute();
 
         // TODO: temporary disabled due to Kie server S2I workaround
 //        logger.info("Waiting for Database deployment to become ready.");
@@ -126,17 +138,23 @@ public class WorkbenchRuntimeSmartRouterKieServerDatabaseScenarioImpl implements
 
     @Override
     public void undeploy() {
-        InstanceLogUtil.writeDeploymentLogs(this);
+        PodTimelineCollector.collect(openshiftController.getClient(), projectName);
+        try (Span span = DeploymentTimeline.forNamespace(projectName).span("log collection")) {
+            InstanceLogUtil.writeDeploymentLogs(this);
+        }
 
-        for(Deployment deployment : getDeployments()) {
-            if(deployment != null && deployment.isReady()) {
-                deployment.scale(0);
-                deployment.waitForScale();
+        if (!OpenShiftConstants.isFastUndeployEnabled()) {
+            for(Deployment deployment : getDeployments()) {
+                if(deployment != null && deployment.isReady()) {
+                    deployment.scale(0);
+                    deployment.waitForScale();
+                }
             }
         }
 
-        Project project = openshiftController.getProject(projectName);
-        project.delete();
+        ProjectUtils.deleteProject(openshiftController, projectName);
+        DeploymentTimeline.forNamespace(projectName).export();
+        ApiCallMetrics.forNamespace(projectName).export();
     }
 
     public OpenShiftController getOpenshiftController() {
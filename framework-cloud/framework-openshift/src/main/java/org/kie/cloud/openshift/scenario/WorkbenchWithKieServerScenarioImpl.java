@@ -19,7 +19,6 @@ import java.time.Instant;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
 
 import org.kie.cloud.api.deployment.DatabaseDeployment;
 import org.kie.cloud.api.deployment.Deployment;
@@ -28,7 +27,10 @@ import org.kie.cloud.api.deployment.WorkbenchDeployment;
 import org.kie.cloud.api.deployment.constants.DeploymentConstants;
 import org.kie.cloud.api.scenario.WorkbenchWithKieServerScenario;
 import org.kie.cloud.common.logs.InstanceLogUtil;
+import org.kie.cloud.common.metrics.ApiCallMetrics;
 import org.kie.cloud.common.provider.KieServerControllerClientProvider;
+import org.kie.cloud.common.timeline.DeploymentTimeline;
+import org.kie.cloud.common.timeline.DeploymentTimeline.Span;
 import org.kie.cloud.openshift.OpenShiftController;
 import org.kie.cloud.openshift.constants.OpenShiftConstants;
 import org.kie.cloud.openshift.constants.OpenShiftTemplateConstants;
@@ -36,6 +38,10 @@ import org.kie.cloud.openshift.deployment.DatabaseDeploymentImpl;
 import org.kie.cloud.openshift.deployment.KieServerDeploymentImpl;
 import org.kie.cloud.openshift.deployment.WorkbenchDeploymentImpl;
 import org.kie.cloud.openshift.resource.Project;
+import org.kie.cloud.openshift.scenario.util.DeploymentTaskGraph;
+import org.kie.cloud.openshift.scenario.util.PodTimelineCollector;
+import org.kie.cloud.openshift.scenario.util.ProjectUtils;
+import org.kie.cloud.openshift.scenario.util.ScenarioFingerprint;
 import org.kie.cloud.openshift.template.OpenShiftTemplate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -49,12 +55,15 @@ public class WorkbenchWithKieServerScenarioImpl implements WorkbenchWithKieServe
     private DatabaseDeploymentImpl databaseDeployment;
 
     private Map<String, String> envVariables;
+    private final String fingerprint;
 
     private static final Logger logger = LoggerFactory.getLogger(WorkbenchWithKieServerScenarioImpl.class);
 
     public WorkbenchWithKieServerScenarioImpl(OpenShiftController openShiftController, Map<String, String> envVariables) {
         this.openshiftController = openShiftController;
         this.envVariables = envVariables;
+        // Computed upfront as environment variables are modified during deployment
+        this.fingerprint = new ScenarioFingerprint(getClass()).addEnvVariables(envVariables).build();
     }
 
     @Override
@@ -63,21 +72,14 @@ public class WorkbenchWithKieServerScenarioImpl implements WorkbenchWithKieServe
     }
 
     @Override
-    public void deploy() {
-        // OpenShift restriction: Hostname must be shorter than 63 characters
-        projectName = UUID.randomUUID().toString().substring(0, 4);
-        OpenShiftConstants.getNamespacePrefix().ifPresent(p -> projectName = p + "-" + projectName);
-
-        logger.info("Generated project name is " + projectName);
-
-        logger.info("Creating project " + projectName);
-        Project project = openshiftController.createProject(projectName);
-
-        logger.info("Creating secrets from " + OpenShiftConstants.getKieAppSecret());
-        project.createResources(OpenShiftConstants.getKieAppSecret());
+    public String getFingerprint() {
+        return fingerprint;
+    }
 
-        logger.info("Creating image streams from " + OpenShiftConstants.getKieImageStreams());
-        project.createResources(OpenShiftConstants.getKieImageStreams());
+    @Override
+    public void deploy() {
+        Project project = ProjectUtils.createProject(openshiftController);
+        projectName = project.getName();
 
         logger.info("Processing template and creating resources from " + OpenShiftTemplate.WORKBENCH_KIE_SERVER_DATABASE.getTemplateUrl().toString());
         envVariables.put(OpenShiftTemplateConstants.IMAGE_STREAM_NAMESPACE, projectName);
@@ -104,35 +106,49 @@ public class WorkbenchWithKieServerScenarioImpl implements WorkbenchWithKieServe
         databaseDeployment.setNamespace(projectName);
         databaseDeployment.setApplicationName(OpenShiftConstants.getKieApplicationName());
 
-        logger.info("Waiting for Workbench deployment to become ready.");
-        workbenchDeployment.waitForScale();
-
-        logger.info("Waiting for Kie server deployment to become ready.");
-        kieServerDeployment.waitForScale();
-
-        logger.info("Waiting for Kie server to register itself to the Workbench.");
-        KieServerControllerClientProvider.waitForServerTemplateCreation(workbenchDeployment, 1);
-
-        logger.info("Waiting for Database deployment to become ready.");
-        databaseDeployment.waitForScale();
-
-        // Used to track persistent volume content due to issues with volume cleanup
-        storeProjectInfoToPersistentVolume(workbenchDeployment, "/opt/eap/standalone/data/bpmsuite");
+        new DeploymentTaskGraph(projectName)
+                .addTask("workbench ready", () -> {
+                    logger.info("Waiting for Workbench deployment to become ready.");
+                    workbenchDeployment.waitForScale();
+                })
+                .addTask("kie server ready", () -> {
+                    logger.info("Waiting for Kie server deployment to become ready.");
+                    kieServerDeployment.waitForScale();
+                })
+                .addTask("database ready", () -> {
+                    logger.info("Waiting for Database deployment to become ready.");
+                    databaseDeployment.waitForScale();
+                })
+                .addTask("server template registered", () -> {
+                    logger.info("Waiting for Kie server to register itself to the Workbench.");
+                    KieServerControllerClientProvider.waitForServerTemplateCreation(workbenchDeployment, 1);
+                }, "workbench ready", "kie server ready")
+                .addTask("project info stored", () -> {
+                    // Used to track persistent volume content due to issues with volume cleanup
+                    storeProjectInfoToPersistentVolume(workbenchDeployment, "/opt/eap/standalone/data/bpmsuite");
+                }, "workbench ready")
+                .execute();
     }
 
     @Override
     public void undeploy() {
-        InstanceLogUtil.writeDeploymentLogs(this);
+        PodTimelineCollector.collect(openshiftController.getClient(), projectName);
+        try (Span span = DeploymentTimeline.forNamespace(projectName).span("log collection")) {
+            InstanceLogUtil.writeDeploymentLogs(this);
+        }
 
-        for(Deployment deployment : getDeployments()) {
-            if(deployment != null && deployment.isReady()) {
-                deployment.scale(0);
-                deployment.waitForScale();
+        if (!OpenShiftConstants.isFastUndeployEnabled()) {
+            for(Deployment deployment : getDeployments()) {
+                if(deployment != null && deployment.isReady()) {
+                    deployment.scale(0);
+                    deployment.waitForScale();
+                }
             }
         }
 
-        Project project = openshiftController.getProject(projectName);
-        project.delete();
+        ProjectUtils.deleteProject(openshiftController, projectName);
+        DeploymentTimeline.forNamespace(projectName).export();
+        ApiCallMetrics.forNamespace(projectName).export();
     }
 
     public OpenShiftController getOpenshiftController() {
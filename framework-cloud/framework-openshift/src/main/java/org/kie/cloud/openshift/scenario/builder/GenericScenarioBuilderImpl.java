@@ -33,6 +33,7 @@ public class GenericScenarioBuilderImpl implements GenericScenarioBuilder {
     private List<DeploymentSettings> workbenchSettingsList;
     private List<DeploymentSettings> monitoringSettingsList;
     private List<DeploymentSettings> smartRouterSettingsList;
+    private boolean mavenRepository;
 
     public GenericScenarioBuilderImpl(OpenShiftController openShiftController) {
         this.openshiftController = openShiftController;
@@ -44,7 +45,7 @@ public class GenericScenarioBuilderImpl implements GenericScenarioBuilder {
 
     @Override
     public GenericScenario build() {
-        return new GenericScenarioImpl(openshiftController, kieServerSettingsList, workbenchSettingsList, monitoringSettingsList, smartRouterSettingsList);
+        return new GenericScenarioImpl(openshiftController, kieServerSettingsList, workbenchSettingsList, monitoringSettingsList, smartRouterSettingsList, mavenRepository);
     }
 
     @Override
@@ -77,4 +78,9 @@ public class GenericScenarioBuilderImpl implements GenericScenarioBuilder {
         return this;
     }
 
+    @Override
+    public GenericScenarioBuilder withMavenRepository() {
+        mavenRepository = true;
+        return this;
+    }
 }
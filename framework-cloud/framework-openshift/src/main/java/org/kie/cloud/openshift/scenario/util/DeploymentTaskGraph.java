@@ -0,0 +1,141 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.cloud.openshift.scenario.util;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.kie.cloud.common.timeline.DeploymentTimeline;
+import org.kie.cloud.common.timeline.DeploymentTimeline.Span;
+import org.kie.cloud.common.util.DaemonThreadFactory;
+import org.kie.cloud.openshift.constants.OpenShiftConstants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executes scenario deployment steps concurrently. Every step starts as soon as all steps it depends on are finished.
+ * If any step fails then steps which didn't start yet are skipped and the failure is rethrown from {@link #execute()}.
+ * Every step is recorded in {@link DeploymentTimeline} of the namespace.
+ */
+public class DeploymentTaskGraph {
+
+    private static final Logger logger = LoggerFactory.getLogger(DeploymentTaskGraph.class);
+
+    private final String name;
+    private final Map<String, Task> tasks = new LinkedHashMap<>();
+
+    /**
+     * @param name Name of namespace the steps are deployed to.
+     */
+    public DeploymentTaskGraph(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Add deployment step.
+     *
+     * @param taskName Unique step name, used in logs and for referencing the step as a dependency.
+     * @param action Step action.
+     * @param dependencies Names of steps which must finish before this step starts. These steps must be already added.
+     * @return This graph.
+     */
+    public DeploymentTaskGraph addTask(String taskName, Runnable action, String... dependencies) {
+        if (tasks.containsKey(taskName)) {
+            throw new IllegalArgumentException("Task " + taskName + " is already defined.");
+        }
+        for (String dependency : dependencies) {
+            if (!tasks.containsKey(dependency)) {
+                throw new IllegalArgumentException("Task " + taskName + " depends on unknown task " + dependency + ".");
+            }
+        }
+        tasks.put(taskName, new Task(DeploymentTimeline.forNamespace(name), taskName, action, dependencies));
+        return this;
+    }
+
+    /**
+     * Execute all steps and wait until they are finished.
+     */
+    public void execute() {
+        Instant startTime = Instant.now();
+        ExecutorService executorService = Executors.newFixedThreadPool(OpenShiftConstants.getScenarioDeploymentThreads(), new DaemonThreadFactory("deployment-" + name));
+        try {
+            Map<String, CompletableFuture<Void>> futures = new LinkedHashMap<>();
+            for (Task task : tasks.values()) {
+                CompletableFuture<?>[] dependencyFutures = new CompletableFuture<?>[task.dependencies.length];
+                for (int i = 0; i < task.dependencies.length; i++) {
+                    dependencyFutures[i] = futures.get(task.dependencies[i]);
+                }
+                futures.put(task.name, CompletableFuture.allOf(dependencyFutures).thenRunAsync(task::run, executorService));
+            }
+
+            // Fail fast, don't wait for independent steps once any step fails
+            CompletableFuture<Void> firstFailure = new CompletableFuture<>();
+            futures.values().forEach(f -> f.whenComplete((result, throwable) -> {
+                if (throwable != null) {
+                    firstFailure.completeExceptionally(throwable);
+                }
+            }));
+
+            try {
+                CompletableFuture.anyOf(CompletableFuture.allOf(futures.values().toArray(new CompletableFuture<?>[0])), firstFailure).join();
+            } catch (CompletionException e) {
+                Throwable cause = e;
+                while (cause instanceof CompletionException && cause.getCause() != null) {
+                    cause = cause.getCause();
+                }
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw new RuntimeException("Deployment of " + name + " failed.", cause);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+        logger.info("Deployment of {} finished in {} ms.", name, Duration.between(startTime, Instant.now()).toMillis());
+    }
+
+    private static class Task {
+
+        private final DeploymentTimeline timeline;
+        private final String name;
+        private final Runnable action;
+        private final String[] dependencies;
+
+        private Task(DeploymentTimeline timeline, String name, Runnable action, String[] dependencies) {
+            this.timeline = timeline;
+            this.name = name;
+            this.action = action;
+            this.dependencies = dependencies;
+        }
+
+        private void run() {
+            Instant startTime = Instant.now();
+            try (Span span = timeline.span("deployment step " + name)) {
+                action.run();
+            }
+            logger.info("Deployment step '{}' finished in {} ms.", name, Duration.between(startTime, Instant.now()).toMillis());
+        }
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.cloud.openshift.scenario.util;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import io.fabric8.openshift.api.model.Project;
+import org.kie.cloud.common.util.DaemonThreadFactory;
+import org.kie.cloud.openshift.OpenShiftController;
+import org.kie.cloud.openshift.constants.OpenShiftConstants;
+import org.kie.cloud.openshift.resource.OpenShiftResourceConstants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Deletes projects in background so undeploy doesn't wait for project deletion.
+ * Reaper periodically checks that deleted projects are gone and requests deletion again if project isn't terminating,
+ * delay between deletion requests of a project doubles with every attempt.
+ * When started, reaper also deletes projects whose expiration label is in the past, see {@link OpenShiftResourceConstants#PROJECT_EXPIRATION_LABEL}.
+ */
+public class NamespaceReaper {
+
+    private static final Logger logger = LoggerFactory.getLogger(NamespaceReaper.class);
+
+    private static final String PROJECT_TERMINATING_PHASE = "Terminating";
+
+    private static NamespaceReaper instance;
+
+    private final OpenShiftController openShiftController;
+    private final Map<String, PendingDeletion> pendingProjects = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService executorService;
+
+    private NamespaceReaper(OpenShiftController openShiftController) {
+        this.openShiftController = openShiftController;
+        this.executorService = Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("namespace-reaper"));
+
+        executorService.submit(this::deleteExpiredProjects);
+        executorService.scheduleWithFixedDelay(this::checkPendingProjects, OpenShiftResourceConstants.PROJECT_DELETION_CHECK_INTERVAL,
+                OpenShiftResourceConstants.PROJECT_DELETION_CHECK_INTERVAL, TimeUnit.MILLISECONDS);
+        Runtime.getRuntime().addShutdownHook(new Thread(this::reportPendingProjects, "namespace-reaper-report"));
+    }
+
+    public static synchronized NamespaceReaper getInstance() {
+        if (instance == null) {
+            OpenShiftController reaperController = new OpenShiftController(OpenShiftConstants.getOpenShiftUrl(),
+                    OpenShiftConstants.getOpenShiftUserName(),
+                    OpenShiftConstants.getOpenShiftPassword());
+            instance = new NamespaceReaper(reaperController);
+        }
+        return instance;
+    }
+
+    /**
+     * Request project deletion and return immediately, deletion is confirmed in background.
+     *
+     * @param projectName Name of project to be deleted.
+     */
+    public void delete(String projectName) {
+        pendingProjects.put(projectName, new PendingDeletion());
+        executorService.submit(() -> requestDeletion(projectName));
+    }
+
+    private void requestDeletion(String projectName) {
+        PendingDeletion pendingDeletion = pendingProjects.get(projectName);
+        if (pendingDeletion == null) {
+            return;
+        }
+        pendingDeletion.attempts++;
+        // Check interval, then twice as long etc.
+        long backoff = OpenShiftResourceConstants.PROJECT_DELETION_CHECK_INTERVAL << (pendingDeletion.attempts - 1);
+        pendingDeletion.nextAttempt = Instant.now().plusMillis(backoff);
+        try {
+            logger.info("Deleting project " + projectName + ".");
+            openShiftController.deleteProjectInBackground(projectName);
+        } catch (Exception e) {
+            logger.warn("Error while deleting project " + projectName + ", deletion will be retried.", e);
+        }
+    }
+
+    private void checkPendingProjects() {
+        for (Map.Entry<String, PendingDeletion> pendingProject : pendingProjects.entrySet()) {
+            String projectName = pendingProject.getKey();
+            PendingDeletion pendingDeletion = pendingProject.getValue();
+            try {
+                Optional<String> projectPhase = openShiftController.getProjectPhase(projectName);
+                if (!projectPhase.isPresent()) {
+                    logger.debug("Project {} is deleted.", projectName);
+                    pendingProjects.remove(projectName);
+                } else if (!PROJECT_TERMINATING_PHASE.equals(projectPhase.get()) && Instant.now().isAfter(pendingDeletion.nextAttempt)) {
+                    if (pendingDeletion.attempts < OpenShiftResourceConstants.PROJECT_DELETION_ATTEMPTS) {
+                        requestDeletion(projectName);
+                    } else {
+                        logger.error("Project " + projectName + " wasn't deleted after " + pendingDeletion.attempts + " attempts, giving up.");
+                        pendingProjects.remove(projectName);
+                    }
+                }
+            } catch (Exception e) {
+                logger.warn("Error while checking deletion of project " + projectName + ".", e);
+            }
+        }
+    }
+
+    private void deleteExpiredProjects() {
+        try {
+            long now = Instant.now().getEpochSecond();
+            for (Project project : openShiftController.getClient().projects().withLabel(OpenShiftResourceConstants.PROJECT_EXPIRATION_LABEL).list().getItems()) {
+                String projectName = project.getMetadata().getName();
+                String expirationTime = project.getMetadata().getLabels().get(OpenShiftResourceConstants.PROJECT_EXPIRATION_LABEL);
+                try {
+                    if (Long.parseLong(expirationTime) < now && !pendingProjects.containsKey(projectName)) {
+                        logger.info("Project " + projectName + " expired, deleting it.");
+                        delete(projectName);
+                    }
+                } catch (NumberFormatException e) {
+                    logger.warn("Project " + projectName + " has invalid expiration label " + expirationTime + ".");
+                }
+            }
+        } catch (Exception e) {
+            logger.warn("Error while looking for expired projects.", e);
+        }
+    }
+
+    private void reportPendingProjects() {
+        if (!pendingProjects.isEmpty()) {
+            logger.info("Deletion of projects " + pendingProjects.keySet() + " wasn't confirmed yet, they will be deleted by OpenShift or as expired projects by next run.");
+        }
+    }
+
+    private static class PendingDeletion {
+
+        // Accessed by reaper thread only
+        private int attempts = 0;
+        private Instant nextAttempt = Instant.now();
+    }
+}
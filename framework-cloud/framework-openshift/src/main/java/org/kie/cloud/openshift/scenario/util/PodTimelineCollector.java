@@ -0,0 +1,134 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.cloud.openshift.scenario.util;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import io.fabric8.kubernetes.api.model.ContainerStatus;
+import io.fabric8.kubernetes.api.model.Event;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodCondition;
+import io.fabric8.openshift.client.OpenShiftClient;
+import org.kie.cloud.common.timeline.DeploymentTimeline;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Adds pod lifecycle phases to deployment timeline. Phases are derived from pod conditions, container states and pod events:
+ * <ul>
+ * <li>pod scheduling - pod creation to PodScheduled condition</li>
+ * <li>image pull - first Pulling event to last Pulled event</li>
+ * <li>container start - PodScheduled condition to start of the last container</li>
+ * <li>pod readiness - start of the last container to Ready condition</li>
+ * </ul>
+ */
+public class PodTimelineCollector {
+
+    private static final Logger logger = LoggerFactory.getLogger(PodTimelineCollector.class);
+
+    private static final String POD_KIND = "Pod";
+    private static final String POD_SCHEDULED_CONDITION = "PodScheduled";
+    private static final String POD_READY_CONDITION = "Ready";
+    private static final String PULLING_EVENT = "Pulling";
+    private static final String PULLED_EVENT = "Pulled";
+
+    public static void collect(OpenShiftClient client, String namespace) {
+        try {
+            DeploymentTimeline timeline = DeploymentTimeline.forNamespace(namespace);
+
+            // Pod name -> first Pulling and last Pulled event timestamp
+            Map<String, Instant> pullStarts = new HashMap<>();
+            Map<String, Instant> pullEnds = new HashMap<>();
+            for (Event event : client.events().inNamespace(namespace).list().getItems()) {
+                if (event.getInvolvedObject() == null || !POD_KIND.equals(event.getInvolvedObject().getKind())) {
+                    continue;
+                }
+                String podName = event.getInvolvedObject().getName();
+                if (PULLING_EVENT.equals(event.getReason())) {
+                    parse(event.getFirstTimestamp()).ifPresent(t -> pullStarts.merge(podName, t, (a, b) -> a.isBefore(b) ? a : b));
+                } else if (PULLED_EVENT.equals(event.getReason())) {
+                    parse(event.getLastTimestamp()).ifPresent(t -> pullEnds.merge(podName, t, (a, b) -> a.isAfter(b) ? a : b));
+                }
+            }
+
+            for (Pod pod : client.pods().inNamespace(namespace).list().getItems()) {
+                String podName = pod.getMetadata().getName();
+                Optional<Instant> created = parse(pod.getMetadata().getCreationTimestamp());
+                Optional<Instant> scheduled = getConditionTime(pod, POD_SCHEDULED_CONDITION);
+                Optional<Instant> containersStarted = getContainersStartTime(pod);
+                Optional<Instant> ready = getConditionTime(pod, POD_READY_CONDITION);
+
+                recordPhase(timeline, "pod scheduling", podName, created, scheduled);
+                recordPhase(timeline, "image pull", podName, Optional.ofNullable(pullStarts.get(podName)), Optional.ofNullable(pullEnds.get(podName)));
+                recordPhase(timeline, "container start", podName, scheduled, containersStarted);
+                recordPhase(timeline, "pod readiness", podName, containersStarted, ready);
+            }
+        } catch (Exception e) {
+            // Timeline is diagnostic only, never fail undeploy because of it
+            logger.warn("Error while collecting pod timeline of namespace " + namespace, e);
+        }
+    }
+
+    private static void recordPhase(DeploymentTimeline timeline, String phase, String podName, Optional<Instant> start, Optional<Instant> end) {
+        if (start.isPresent() && end.isPresent() && !end.get().isBefore(start.get())) {
+            timeline.record(phase, "pod/" + podName, start.get(), end.get());
+        }
+    }
+
+    private static Optional<Instant> getConditionTime(Pod pod, String conditionType) {
+        if (pod.getStatus() == null || pod.getStatus().getConditions() == null) {
+            return Optional.empty();
+        }
+        for (PodCondition condition : pod.getStatus().getConditions()) {
+            if (conditionType.equals(condition.getType()) && "True".equals(condition.getStatus())) {
+                return parse(condition.getLastTransitionTime());
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static Optional<Instant> getContainersStartTime(Pod pod) {
+        if (pod.getStatus() == null || pod.getStatus().getContainerStatuses() == null) {
+            return Optional.empty();
+        }
+        Instant lastStart = null;
+        for (ContainerStatus containerStatus : pod.getStatus().getContainerStatuses()) {
+            if (containerStatus.getState() == null || containerStatus.getState().getRunning() == null) {
+                return Optional.empty();
+            }
+            Optional<Instant> start = parse(containerStatus.getState().getRunning().getStartedAt());
+            if (start.isPresent() && (lastStart == null || start.get().isAfter(lastStart))) {
+                lastStart = start.get();
+            }
+        }
+        return Optional.ofNullable(lastStart);
+    }
+
+    private static Optional<Instant> parse(String timestamp) {
+        if (timestamp == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Instant.parse(timestamp));
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+}
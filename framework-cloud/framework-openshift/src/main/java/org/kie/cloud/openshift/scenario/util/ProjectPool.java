@@ -0,0 +1,217 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.cloud.openshift.scenario.util;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import io.fabric8.openshift.client.OpenShiftClient;
+import org.kie.cloud.common.logs.InstanceLogUtil;
+import org.kie.cloud.common.util.DaemonThreadFactory;
+import org.kie.cloud.openshift.OpenShiftController;
+import org.kie.cloud.openshift.constants.OpenShiftConstants;
+import org.kie.cloud.openshift.resource.OpenShiftResourceConstants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Pool of projects prepared in background, every pooled project already contains secrets and image streams.
+ * Released projects are either deleted (and replaced by a new project) or scrubbed and returned to the pool, see {@link OpenShiftConstants#NAMESPACE_POOL_SCRUB}.
+ * Expiration label of pooled and leased projects is refreshed periodically, so they aren't deleted as expired projects while in use.
+ * Projects left in the pool are deleted on JVM shutdown.
+ */
+public class ProjectPool {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProjectPool.class);
+
+    private static ProjectPool instance;
+
+    private final OpenShiftController openShiftController;
+    private final int poolSize;
+    private final BlockingQueue<String> readyProjects = new LinkedBlockingQueue<>();
+    private final Set<String> leasedProjects = ConcurrentHashMap.newKeySet();
+    private final ExecutorService executorService;
+    private final ScheduledExecutorService expirationExecutorService;
+
+    private ProjectPool(OpenShiftController openShiftController, int poolSize) {
+        this.openShiftController = openShiftController;
+        this.poolSize = poolSize;
+        this.executorService = Executors.newFixedThreadPool(poolSize, new DaemonThreadFactory("namespace-pool"));
+
+        this.expirationExecutorService = Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("namespace-pool-expiration"));
+
+        for (int i = 0; i < poolSize; i++) {
+            executorService.submit(this::provisionProject);
+        }
+        // Refreshed in half of TTL, so the label is renewed before it expires
+        long refreshInterval = TimeUnit.MINUTES.toSeconds(OpenShiftConstants.getNamespaceTtl()) / 2;
+        expirationExecutorService.scheduleWithFixedDelay(this::refreshProjectExpirations, refreshInterval, refreshInterval, TimeUnit.SECONDS);
+        Runtime.getRuntime().addShutdownHook(new Thread(this::deleteReadyProjects, "namespace-pool-cleanup"));
+    }
+
+    public static boolean isEnabled() {
+        return OpenShiftConstants.getNamespacePoolSize() > 0;
+    }
+
+    public static synchronized ProjectPool getInstance() {
+        if (instance == null) {
+            OpenShiftController poolController = new OpenShiftController(OpenShiftConstants.getOpenShiftUrl(),
+                    OpenShiftConstants.getOpenShiftUserName(),
+                    OpenShiftConstants.getOpenShiftPassword());
+            instance = new ProjectPool(poolController, OpenShiftConstants.getNamespacePoolSize());
+        }
+        return instance;
+    }
+
+    /**
+     * Lease prepared project from the pool. If no project is prepared yet then new project is created directly.
+     *
+     * @return Name of leased project.
+     */
+    public String lease() {
+        String projectName = readyProjects.poll();
+        if (projectName != null) {
+            logger.info("Leased project " + projectName + " from namespace pool.");
+            openShiftController.refreshProjectExpiration(projectName);
+            // Keep the pool full
+            executorService.submit(this::provisionProject);
+        } else {
+            logger.info("No prepared project available in namespace pool, creating new project.");
+            projectName = ProjectUtils.createAndPrepareProject(openShiftController).getName();
+        }
+        leasedProjects.add(projectName);
+        InstanceLogUtil.startNamespaceLease(projectName);
+        return projectName;
+    }
+
+    /**
+     * @return True if project was leased from this pool and wasn't released yet.
+     */
+    public boolean isLeased(String projectName) {
+        return leasedProjects.contains(projectName);
+    }
+
+    /**
+     * Release leased project. Project is processed asynchronously.
+     *
+     * @param projectName Name of leased project.
+     */
+    public void release(String projectName) {
+        if (!leasedProjects.remove(projectName)) {
+            throw new IllegalArgumentException("Project " + projectName + " isn't leased from namespace pool.");
+        }
+
+        if (OpenShiftConstants.isNamespacePoolScrubEnabled()) {
+            executorService.submit(() -> scrubAndReturnProject(projectName));
+        } else {
+            executorService.submit(() -> deleteProject(projectName));
+        }
+    }
+
+    private void provisionProject() {
+        try {
+            String projectName = ProjectUtils.createAndPrepareProject(openShiftController).getName();
+            readyProjects.offer(projectName);
+            logger.info("Project " + projectName + " added to namespace pool.");
+        } catch (Exception e) {
+            logger.error("Error while preparing project for namespace pool.", e);
+        }
+    }
+
+    private void scrubAndReturnProject(String projectName) {
+        try {
+            logger.info("Scrubbing project " + projectName + " before returning it to namespace pool.");
+            OpenShiftClient client = openShiftController.getClient();
+            // Secrets and image streams of the pool are kept, everything created by templates is removed
+            client.deploymentConfigs().inNamespace(projectName).delete();
+            client.replicationControllers().inNamespace(projectName).delete();
+            client.buildConfigs().inNamespace(projectName).delete();
+            client.builds().inNamespace(projectName).delete();
+            client.routes().inNamespace(projectName).delete();
+            client.services().inNamespace(projectName).delete();
+            client.pods().inNamespace(projectName).delete();
+            client.persistentVolumeClaims().inNamespace(projectName).delete();
+            client.configMaps().inNamespace(projectName).withLabel(OpenShiftResourceConstants.TEMPLATE_RESOURCE_LABEL).delete();
+            client.secrets().inNamespace(projectName).withLabel(OpenShiftResourceConstants.TEMPLATE_RESOURCE_LABEL).delete();
+            client.serviceAccounts().inNamespace(projectName).withLabel(OpenShiftResourceConstants.TEMPLATE_RESOURCE_LABEL).delete();
+            client.roleBindings().inNamespace(projectName).withLabel(OpenShiftResourceConstants.TEMPLATE_RESOURCE_LABEL).delete();
+            client.imageStreams().inNamespace(projectName).withLabel(OpenShiftResourceConstants.TEMPLATE_RESOURCE_LABEL).delete();
+
+            waitUntilProjectIsEmpty(client, projectName);
+
+            if (readyProjects.size() < poolSize) {
+                openShiftController.refreshProjectExpiration(projectName);
+                readyProjects.offer(projectName);
+                logger.info("Project " + projectName + " returned to namespace pool.");
+            } else {
+                deleteProject(projectName);
+            }
+        } catch (Exception e) {
+            logger.warn("Error while scrubbing project " + projectName + ", deleting it.", e);
+            deleteProject(projectName);
+        }
+    }
+
+    private void waitUntilProjectIsEmpty(OpenShiftClient client, String projectName) throws InterruptedException {
+        Instant timeoutTime = Instant.now().plusMillis(OpenShiftResourceConstants.DEPLOYMENT_PODS_TERMINATION_TIMEOUT);
+        while (Instant.now().isBefore(timeoutTime)) {
+            if (client.pods().inNamespace(projectName).list().getItems().isEmpty() &&
+                    client.persistentVolumeClaims().inNamespace(projectName).list().getItems().isEmpty()) {
+                return;
+            }
+            Thread.sleep(1000L);
+        }
+        throw new RuntimeException("Timeout while waiting for project " + projectName + " to be scrubbed.");
+    }
+
+    private void refreshProjectExpirations() {
+        List<String> projectNames = new ArrayList<>(readyProjects);
+        projectNames.addAll(leasedProjects);
+        for (String projectName : projectNames) {
+            try {
+                openShiftController.refreshProjectExpiration(projectName);
+            } catch (Exception e) {
+                logger.warn("Error while refreshing expiration of project " + projectName + ".", e);
+            }
+        }
+    }
+
+    private void deleteProject(String projectName) {
+        try {
+            openShiftController.deleteProject(projectName);
+        } catch (Exception e) {
+            logger.warn("Error while deleting project " + projectName + " from namespace pool.", e);
+        }
+    }
+
+    private void deleteReadyProjects() {
+        List<String> projectNames = new ArrayList<>();
+        readyProjects.drainTo(projectNames);
+        for (String projectName : projectNames) {
+            logger.info("Deleting unused project " + projectName + " from namespace pool.");
+            deleteProject(projectName);
+        }
+    }
+}
@@ -27,7 +27,34 @@ public class ProjectUtils {
 
     private static final Logger logger = LoggerFactory.getLogger(ProjectUtils.class);
 
+    /**
+     * Create project containing secrets and image streams. Project is leased from namespace pool if the pool is enabled.
+     */
     public static Project createProject(OpenShiftController openshiftController) {
+        if (ProjectPool.isEnabled()) {
+            return openshiftController.getProject(ProjectPool.getInstance().lease());
+        }
+        return createAndPrepareProject(openshiftController);
+    }
+
+    /**
+     * Delete project created by {@link #createProject(OpenShiftController)}. Projects leased from namespace pool are released back to the pool.
+     * If fast undeploy is enabled then project is deleted in background by {@link NamespaceReaper}.
+     */
+    public static void deleteProject(OpenShiftController openshiftController, String projectName) {
+        if (ProjectPool.isEnabled() && ProjectPool.getInstance().isLeased(projectName)) {
+            openshiftController.forgetProject(projectName);
+            ProjectPool.getInstance().release(projectName);
+        } else if (OpenShiftConstants.isFastUndeployEnabled()) {
+            openshiftController.forgetProject(projectName);
+            NamespaceReaper.getInstance().delete(projectName);
+        } else {
+            openshiftController.deleteProject(projectName);
+        }
+    }
+
+    static Project createAndPrepareProject(OpenShiftController openshiftController) {
+        // OpenShift restriction: Hostname must be shorter than 63 characters
         String projectName = UUID.randomUUID().toString().substring(0, 4);
         if (OpenShiftConstants.getNamespacePrefix().isPresent()) {
             projectName = OpenShiftConstants.getNamespacePrefix().get() + "-" + projectName;
@@ -38,11 +65,16 @@ public class ProjectUtils {
         logger.info("Creating project " + projectName);
         Project project = openshiftController.createProject(projectName);
 
-        logger.info("Creating secrets from " + OpenShiftConstants.getKieAppSecret());
-        project.createResources(OpenShiftConstants.getKieAppSecret());
-
-        logger.info("Creating image streams from " + OpenShiftConstants.getKieImageStreams());
-        project.createResources(OpenShiftConstants.getKieImageStreams());
+        new DeploymentTaskGraph(projectName)
+                .addTask("secrets", () -> {
+                    logger.info("Creating secrets from " + OpenShiftConstants.getKieAppSecret());
+                    project.createResources(OpenShiftConstants.getKieAppSecret());
+                })
+                .addTask("image streams", () -> {
+                    logger.info("Creating image streams from " + OpenShiftConstants.getKieImageStreams());
+                    project.createResources(OpenShiftConstants.getKieImageStreams());
+                })
+                .execute();
 
         return project;
     }
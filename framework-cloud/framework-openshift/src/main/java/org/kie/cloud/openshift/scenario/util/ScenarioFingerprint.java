@@ -0,0 +1,65 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.cloud.openshift.scenario.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.kie.cloud.api.settings.DeploymentSettings;
+
+/**
+ * Builder of scenario fingerprints. Scenarios built with equal settings have equal fingerprint, so a deployed scenario can be shared between tests.
+ */
+public class ScenarioFingerprint {
+
+    private final StringBuilder content = new StringBuilder();
+
+    public ScenarioFingerprint(Class<?> scenarioClass) {
+        content.append(scenarioClass.getName()).append('\n');
+    }
+
+    public ScenarioFingerprint addEnvVariables(Map<String, String> envVariables) {
+        // Sorted so the fingerprint doesn't depend on map iteration order
+        new TreeMap<>(envVariables).forEach((key, value) -> content.append(key).append('=').append(value).append('\n'));
+        return this;
+    }
+
+    public ScenarioFingerprint addDeploymentSettings(String settingsGroup, Iterable<DeploymentSettings> deploymentSettingsList) {
+        for (DeploymentSettings deploymentSettings : deploymentSettingsList) {
+            content.append(settingsGroup).append(':').append(deploymentSettings.getDeploymentScriptUrl()).append('\n');
+            addEnvVariables(deploymentSettings.getEnvVariables());
+        }
+        return this;
+    }
+
+    /**
+     * @return SHA-256 hash of added settings.
+     */
+    public String build() {
+        try {
+            StringBuilder hash = new StringBuilder();
+            for (byte b : MessageDigest.getInstance("SHA-256").digest(content.toString().getBytes(StandardCharsets.UTF_8))) {
+                hash.append(String.format("%02x", b));
+            }
+            return hash.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("SHA-256 algorithm not available.", e);
+        }
+    }
+}
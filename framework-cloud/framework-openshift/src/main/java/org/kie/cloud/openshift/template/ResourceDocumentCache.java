@@ -0,0 +1,245 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.cloud.openshift.template;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.fabric8.kubernetes.api.model.KubernetesList;
+import io.fabric8.openshift.api.model.Template;
+import io.fabric8.openshift.client.OpenShiftClient;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.kie.cloud.openshift.constants.OpenShiftConstants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Cache of template and resource list documents referenced by URL.
+ * Documents are stored on disk addressed by their content hash, HTTP documents are revalidated using ETag and Last-Modified headers once per JVM.
+ * Parsed templates and resource lists are kept in memory serialized to JSON, so later scenarios skip both the download
+ * and the parsing of the original document while every caller gets its own copy.
+ */
+public class ResourceDocumentCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResourceDocumentCache.class);
+
+    private static final String INDEX_DIRECTORY = "index";
+    private static final String CONTENT_DIRECTORY = "content";
+    private static final String URL_KEY = "url";
+    private static final String ETAG_KEY = "etag";
+    private static final String LAST_MODIFIED_KEY = "lastModified";
+    private static final String CONTENT_HASH_KEY = "contentHash";
+
+    private static final ResourceDocumentCache INSTANCE = new ResourceDocumentCache();
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    // URL -> content hash of document validated in this JVM
+    private final Map<String, String> validatedDocuments = new ConcurrentHashMap<>();
+    // Content hash -> parsed template or resource list serialized to JSON
+    private final Map<String, byte[]> templates = new ConcurrentHashMap<>();
+    private final Map<String, byte[]> resourceLists = new ConcurrentHashMap<>();
+
+    private ResourceDocumentCache() {
+    }
+
+    public static ResourceDocumentCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * @param templateUrl URL of the template.
+     * @param client Client used for parsing the template.
+     * @return Input stream with the parsed template serialized to JSON, ready to be processed.
+     */
+    public InputStream getTemplate(URL templateUrl, OpenShiftClient client) {
+        if (!OpenShiftConstants.isTemplateCacheEnabled()) {
+            return openStream(templateUrl);
+        }
+        String contentHash = getDocumentHash(templateUrl);
+        byte[] templateJson = getOrLoad(templates, contentHash, hash -> {
+            Template template = client.templates().load(new ByteArrayInputStream(readContent(hash))).get();
+            return toJson(template, templateUrl);
+        });
+        return new ByteArrayInputStream(templateJson);
+    }
+
+    /**
+     * @param resourceUrl URL of the resource list.
+     * @param client Client used for parsing the resource list.
+     * @return Parsed resource list, every call returns new instance which can be modified by the caller.
+     */
+    public KubernetesList getResourceList(URL resourceUrl, OpenShiftClient client) {
+        if (!OpenShiftConstants.isTemplateCacheEnabled()) {
+            return client.lists().load(resourceUrl).get();
+        }
+        String contentHash = getDocumentHash(resourceUrl);
+        byte[] resourceListJson = getOrLoad(resourceLists, contentHash, hash -> {
+            KubernetesList resourceList = client.lists().load(new ByteArrayInputStream(readContent(hash))).get();
+            return toJson(resourceList, resourceUrl);
+        });
+        return client.lists().load(new ByteArrayInputStream(resourceListJson)).get();
+    }
+
+    /**
+     * @return Hash of current document content, document is downloaded or revalidated if it wasn't validated in this JVM yet.
+     */
+    private String getDocumentHash(URL url) {
+        return getOrLoad(validatedDocuments, url.toString(), u -> {
+            try {
+                return fetchDocument(url);
+            } catch (IOException e) {
+                throw new RuntimeException("Error while fetching document from " + url, e);
+            }
+        });
+    }
+
+    /**
+     * Value is loaded outside of the map, so slow download or parsing doesn't block access to other keys. Concurrent
+     * callers may load the same value, the first stored one is used.
+     */
+    private static <T> T getOrLoad(Map<String, T> cache, String key, Function<String, T> loader) {
+        T value = cache.get(key);
+        if (value == null) {
+            T loadedValue = loader.apply(key);
+            value = cache.putIfAbsent(key, loadedValue);
+            if (value == null) {
+                value = loadedValue;
+            }
+        }
+        return value;
+    }
+
+    private byte[] toJson(Object document, URL url) {
+        try {
+            return objectMapper.writeValueAsBytes(document);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Error while serializing document from " + url, e);
+        }
+    }
+
+    private String fetchDocument(URL url) throws IOException {
+        File indexFile = new File(getCacheDirectory(INDEX_DIRECTORY), hash(url.toString().getBytes(StandardCharsets.UTF_8)) + ".properties");
+        Properties index = new Properties();
+        if (indexFile.isFile()) {
+            try (InputStream indexStream = new FileInputStream(indexFile)) {
+                index.load(indexStream);
+            }
+        }
+        String cachedContentHash = index.getProperty(CONTENT_HASH_KEY);
+        boolean cachedContentAvailable = cachedContentHash != null && getContentFile(cachedContentHash).isFile();
+
+        URLConnection connection = url.openConnection();
+        if (connection instanceof HttpURLConnection && cachedContentAvailable) {
+            if (index.getProperty(ETAG_KEY) != null) {
+                connection.setRequestProperty("If-None-Match", index.getProperty(ETAG_KEY));
+            }
+            if (index.getProperty(LAST_MODIFIED_KEY) != null) {
+                connection.setRequestProperty("If-Modified-Since", index.getProperty(LAST_MODIFIED_KEY));
+            }
+            if (((HttpURLConnection) connection).getResponseCode() == HttpURLConnection.HTTP_NOT_MODIFIED) {
+                logger.debug("Document {} not modified, using cached content.", url);
+                return cachedContentHash;
+            }
+        }
+
+        byte[] content;
+        try (InputStream inputStream = connection.getInputStream()) {
+            content = IOUtils.toByteArray(inputStream);
+        }
+        String contentHash = hash(content);
+        File contentFile = getContentFile(contentHash);
+        if (!contentFile.isFile()) {
+            // Write to temporary file first so concurrently running JVMs never read partial content
+            File tempFile = File.createTempFile(contentHash, ".tmp", contentFile.getParentFile());
+            FileUtils.writeByteArrayToFile(tempFile, content);
+            if (!tempFile.renameTo(contentFile)) {
+                FileUtils.deleteQuietly(tempFile);
+            }
+        }
+
+        index.clear();
+        index.setProperty(URL_KEY, url.toString());
+        index.setProperty(CONTENT_HASH_KEY, contentHash);
+        if (connection.getHeaderField("ETag") != null) {
+            index.setProperty(ETAG_KEY, connection.getHeaderField("ETag"));
+        }
+        if (connection.getHeaderField("Last-Modified") != null) {
+            index.setProperty(LAST_MODIFIED_KEY, connection.getHeaderField("Last-Modified"));
+        }
+        try (OutputStream indexStream = new FileOutputStream(indexFile)) {
+            index.store(indexStream, null);
+        }
+        logger.debug("Document {} downloaded and cached with hash {}.", url, contentHash);
+        return contentHash;
+    }
+
+    private byte[] readContent(String contentHash) {
+        try {
+            return FileUtils.readFileToByteArray(getContentFile(contentHash));
+        } catch (IOException e) {
+            throw new RuntimeException("Error while reading cached document " + contentHash, e);
+        }
+    }
+
+    private File getContentFile(String contentHash) {
+        return new File(getCacheDirectory(CONTENT_DIRECTORY), contentHash);
+    }
+
+    private File getCacheDirectory(String subdirectory) {
+        File directory = new File(OpenShiftConstants.getTemplateCacheDirectory(), subdirectory);
+        directory.mkdirs();
+        return directory;
+    }
+
+    private static InputStream openStream(URL url) {
+        try {
+            return url.openStream();
+        } catch (IOException e) {
+            throw new RuntimeException("Error while fetching document from " + url, e);
+        }
+    }
+
+    private static String hash(byte[] content) {
+        try {
+            StringBuilder hash = new StringBuilder();
+            for (byte b : MessageDigest.getInstance("SHA-256").digest(content)) {
+                hash.append(String.format("%02x", b));
+            }
+            return hash.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("SHA-256 algorithm not available.", e);
+        }
+    }
+}
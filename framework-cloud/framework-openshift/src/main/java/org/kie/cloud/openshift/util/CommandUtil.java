@@ -16,14 +16,48 @@
 package org.kie.cloud.openshift.util;
 
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
 
 import io.fabric8.kubernetes.api.model.DoneablePod;
 import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.Status;
+import io.fabric8.kubernetes.api.model.StatusCause;
+import io.fabric8.kubernetes.client.dsl.ExecListener;
 import io.fabric8.kubernetes.client.dsl.ExecWatch;
 import io.fabric8.kubernetes.client.dsl.PodResource;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import okhttp3.Response;
 import org.kie.cloud.api.deployment.CommandExecutionResult;
+import org.kie.cloud.common.util.DaemonThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class CommandUtil {
+
+    private static final Logger logger = LoggerFactory.getLogger(CommandUtil.class);
+
+    // Commands run by Instance#runCommand are expected to be short, timeout just prevents blocking forever
+    private static final Duration COMMAND_TIMEOUT = Duration.ofMinutes(5);
+
+    private static final String STATUS_SUCCESS = "Success";
+    private static final String EXIT_CODE_CAUSE = "ExitCode";
+
+    private static final ScheduledExecutorService timeoutExecutorService = Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("command-timeout"));
+
+    /**
+     * Run command in the pod and wait until it finishes.
+     */
     public static CommandExecutionResult runCommandImpl(PodResource<Pod, DoneablePod> pod, String... command) {
         ByteArrayOutputStream output = new ByteArrayOutputStream();
         ByteArrayOutputStream error = new ByteArrayOutputStream();
@@ -32,11 +66,95 @@ public class CommandUtil {
         commandExecutionResult.setOutput(output);
         commandExecutionResult.setError(error);
 
+        try {
+            commandExecutionResult.setExitCode(execute(pod, COMMAND_TIMEOUT, output, error, command).get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while running command " + Arrays.toString(command), e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Error running command " + Arrays.toString(command), e.getCause());
+        }
+
+        return commandExecutionResult;
+    }
+
+    /**
+     * Run command in the pod, output is passed to consumers line by line.
+     *
+     * @return Future completed with exit code of the command once all output is passed to consumers.
+     */
+    public static CompletableFuture<Integer> runCommandAsyncImpl(PodResource<Pod, DoneablePod> pod, Duration timeout, Consumer<String> outputConsumer, Consumer<String> errorConsumer, String... command) {
+        LineOutputStream output = new LineOutputStream(outputConsumer);
+        LineOutputStream error = new LineOutputStream(errorConsumer);
+
+        return execute(pod, timeout, output, error, command).whenComplete((exitCode, throwable) -> {
+            output.close();
+            error.close();
+        });
+    }
+
+    private static CompletableFuture<Integer> execute(PodResource<Pod, DoneablePod> pod, Duration timeout, OutputStream output, OutputStream error, String... command) {
+        CompletableFuture<Integer> exitCode = new CompletableFuture<>();
+        // Kubernetes reports command status to the error channel once the command finishes
+        ByteArrayOutputStream errorChannel = new ByteArrayOutputStream();
+
         ExecWatch execWatch = pod
                 .writingOutput(output)
                 .writingError(error)
+                .writingErrorChannel(errorChannel)
+                .usingListener(new ExecListener() {
+
+                    @Override
+                    public void onOpen(Response response) {
+                    }
+
+                    @Override
+                    public void onFailure(Throwable t, Response response) {
+                        exitCode.completeExceptionally(t);
+                    }
+
+                    @Override
+                    public void onClose(int code, String reason) {
+                        exitCode.complete(parseExitCode(errorChannel.toString()));
+                    }
+                })
                 .exec(command);
 
-        return commandExecutionResult;
+        ScheduledFuture<?> timeoutTask = timeoutExecutorService.schedule(() -> {
+            exitCode.completeExceptionally(new TimeoutException("Command " + Arrays.toString(command) + " didn't finish in " + timeout.toMillis() + " ms."));
+        }, timeout.toMillis(), TimeUnit.MILLISECONDS);
+
+        // Closing the watch terminates the command if it is still running
+        return exitCode.whenComplete((code, throwable) -> {
+            timeoutTask.cancel(false);
+            execWatch.close();
+        });
+    }
+
+    /**
+     * @return Exit code of the command or null if status isn't reported by the server.
+     */
+    private static Integer parseExitCode(String statusJson) {
+        if (statusJson.trim().isEmpty()) {
+            return null;
+        }
+        try {
+            Status status = Serialization.jsonMapper().readValue(statusJson, Status.class);
+            if (STATUS_SUCCESS.equals(status.getStatus())) {
+                return 0;
+            }
+            if (status.getDetails() != null && status.getDetails().getCauses() != null) {
+                for (StatusCause cause : status.getDetails().getCauses()) {
+                    if (EXIT_CODE_CAUSE.equals(cause.getReason())) {
+                        return Integer.valueOf(cause.getMessage());
+                    }
+                }
+            }
+            logger.warn("Command failed without exit code: {}", status.getMessage());
+            return null;
+        } catch (IOException | NumberFormatException e) {
+            logger.warn("Unable to parse command status {}", statusJson, e);
+            return null;
+        }
     }
 }
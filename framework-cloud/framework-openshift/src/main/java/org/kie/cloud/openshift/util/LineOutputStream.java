@@ -0,0 +1,119 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.cloud.openshift.util;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Output stream passing written content to consumer line by line. Only the line being written is buffered, lines longer
+ * than the maximal length are passed to the consumer in several parts. Content is decoded as UTF-8, long lines are split
+ * between characters so no part ends with an incomplete multi-byte character.
+ */
+public class LineOutputStream extends OutputStream {
+
+    private static final int DEFAULT_MAX_LINE_LENGTH = 64 * 1024;
+
+    private final Consumer<String> lineConsumer;
+    private final int maxLineLength;
+
+    private byte[] buffer = new byte[256];
+    private int length;
+
+    public LineOutputStream(Consumer<String> lineConsumer) {
+        this(lineConsumer, DEFAULT_MAX_LINE_LENGTH);
+    }
+
+    public LineOutputStream(Consumer<String> lineConsumer, int maxLineLength) {
+        this.lineConsumer = lineConsumer;
+        this.maxLineLength = maxLineLength;
+    }
+
+    @Override
+    public synchronized void write(int b) {
+        if (b == '\n') {
+            emitLine();
+            return;
+        }
+        if (length == maxLineLength) {
+            emitLinePart();
+        }
+        if (length == buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.min(buffer.length * 2, maxLineLength));
+        }
+        buffer[length++] = (byte) b;
+    }
+
+    @Override
+    public synchronized void write(byte[] b, int off, int len) {
+        for (int i = off; i < off + len; i++) {
+            write(b[i]);
+        }
+    }
+
+    /**
+     * Pass the last unterminated line to the consumer.
+     */
+    @Override
+    public synchronized void close() {
+        if (length > 0) {
+            emitLine();
+        }
+    }
+
+    private void emitLine() {
+        int lineLength = length > 0 && buffer[length - 1] == '\r' ? length - 1 : length;
+        String line = new String(buffer, 0, lineLength, StandardCharsets.UTF_8);
+        length = 0;
+        lineConsumer.accept(line);
+    }
+
+    /**
+     * Pass full buffer to the consumer, except for the last character if it isn't complete yet.
+     */
+    private void emitLinePart() {
+        int lastCharacterStart = length - 1;
+        while (lastCharacterStart > 0 && isContinuationByte(buffer[lastCharacterStart])) {
+            lastCharacterStart--;
+        }
+        int partLength = lastCharacterStart > 0 && lastCharacterStart + getCharacterLength(buffer[lastCharacterStart]) > length ? lastCharacterStart : length;
+
+        String part = new String(buffer, 0, partLength, StandardCharsets.UTF_8);
+        System.arraycopy(buffer, partLength, buffer, 0, length - partLength);
+        length -= partLength;
+        lineConsumer.accept(part);
+    }
+
+    private static boolean isContinuationByte(byte b) {
+        return (b & 0xC0) == 0x80;
+    }
+
+    /**
+     * @return Number of bytes of UTF-8 character starting with the lead byte.
+     */
+    private static int getCharacterLength(byte leadByte) {
+        if ((leadByte & 0xE0) == 0xC0) {
+            return 2;
+        } else if ((leadByte & 0xF0) == 0xE0) {
+            return 3;
+        } else if ((leadByte & 0xF8) == 0xF0) {
+            return 4;
+        }
+        return 1;
+    }
+}
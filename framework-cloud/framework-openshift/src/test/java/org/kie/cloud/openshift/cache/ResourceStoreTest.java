@@ -0,0 +1,219 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.cloud.openshift.cache;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import io.fabric8.kubernetes.api.model.ObjectMeta;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.Watcher.Action;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ResourceStoreTest {
+
+    private final List<Watcher<Pod>> watchers = new ArrayList<>();
+    private int closedWatches = 0;
+    private int listCalls = 0;
+    private final List<String> getCalls = new ArrayList<>();
+
+    // Resources returned by the fake server
+    private final Map<String, Pod> serverPods = new HashMap<>();
+
+    private final ResourceStore<Pod> store = new ResourceStore<>("pods in test namespace",
+            watcher -> {
+                watchers.add(watcher);
+                return new Watch() {
+                    @Override
+                    public void close() {
+                        closedWatches++;
+                    }
+                };
+            },
+            () -> {
+                listCalls++;
+                return new ArrayList<>(serverPods.values());
+            },
+            name -> {
+                getCalls.add(name);
+                return serverPods.get(name);
+            });
+
+    @Test
+    public void testStoreIsLoadedOnFirstRead() {
+        serverOnly(pod("first", "1"), pod("second", "2"));
+
+        assertThat(store.get("first").getMetadata().getResourceVersion()).isEqualTo("1");
+        assertThat(names(store.list(p -> true))).containsOnly("first", "second");
+
+        assertThat(listCalls).isEqualTo(1);
+        assertThat(watchers).hasSize(1);
+        assertThat(getCalls).isEmpty();
+    }
+
+    @Test
+    public void testWatchEventsUpdateStore() {
+        serverOnly(pod("first", "1"));
+        store.get("first");
+
+        event(Action.MODIFIED, pod("first", "3"));
+        assertThat(store.get("first").getMetadata().getResourceVersion()).isEqualTo("3");
+
+        // Delayed event of older version doesn't replace the newer one
+        event(Action.MODIFIED, pod("first", "2"));
+        assertThat(store.get("first").getMetadata().getResourceVersion()).isEqualTo("3");
+
+        event(Action.ADDED, pod("second", "4"));
+        event(Action.DELETED, pod("first", "5"));
+        assertThat(names(store.list(p -> true))).containsOnly("second");
+    }
+
+    @Test
+    public void testMissingResourceIsRetrievedDirectly() {
+        assertThat(store.list(p -> true)).isEmpty();
+        serverPods.put("created", pod("created", "2"));
+
+        assertThat(store.get("created")).isNotNull();
+        assertThat(store.get("created")).isNotNull();
+        assertThat(getCalls).containsExactly("created");
+    }
+
+    @Test
+    public void testRemovedResourceIsNotReturned() {
+        serverOnly(pod("first", "1"));
+        store.get("first");
+
+        store.remove("first");
+
+        assertThat(store.get("first")).isNull();
+        assertThat(store.list(p -> true)).isEmpty();
+        // Resource is still returned by server until its deletion finishes, but it isn't retrieved again
+        assertThat(getCalls).isEmpty();
+    }
+
+    @Test
+    public void testRemovedResourceIsNotRestoredByStaleEvents() {
+        serverOnly(pod("first", "1"));
+        store.get("first");
+        store.remove("first");
+
+        event(Action.MODIFIED, pod("first", "1"));
+        assertThat(store.get("first")).isNull();
+
+        event(Action.ADDED, pod("first", "7"));
+        assertThat(store.get("first").getMetadata().getResourceVersion()).isEqualTo("7");
+    }
+
+    @Test
+    public void testRemovedResourceIsNotRestoredByResync() {
+        serverOnly(pod("first", "1"), pod("second", "2"));
+        store.get("first");
+        store.remove("first");
+
+        watchers.get(0).onClose(new KubernetesClientException("watch expired"));
+
+        assertThat(names(store.list(p -> true))).containsOnly("second");
+        assertThat(listCalls).isEqualTo(2);
+        assertThat(watchers).hasSize(2);
+    }
+
+    @Test
+    public void testResourceMarkedForDeletionIsTreatedAsDeleted() {
+        serverOnly(pod("first", "1"));
+        store.get("first");
+
+        Pod terminatingPod = pod("first", "2");
+        terminatingPod.getMetadata().setDeletionTimestamp("2017-11-20T10:15:30Z");
+        event(Action.MODIFIED, terminatingPod);
+
+        assertThat(store.get("first")).isNull();
+        assertThat(getCalls).isEmpty();
+    }
+
+    @Test
+    public void testStoreIsResynchronizedAfterWatchIsClosed() {
+        serverOnly(pod("first", "1"));
+        store.get("first");
+
+        Watcher<Pod> closedWatcher = watchers.get(0);
+        closedWatcher.onClose(new KubernetesClientException("watch expired"));
+        serverOnly(pod("second", "2"));
+
+        assertThat(names(store.list(p -> true))).containsOnly("second");
+        assertThat(listCalls).isEqualTo(2);
+
+        // Events of the closed watch are ignored
+        closedWatcher.eventReceived(Action.ADDED, pod("third", "3"));
+        assertThat(names(store.list(p -> true))).containsOnly("second");
+    }
+
+    @Test
+    public void testReplaceRemovesMissingMatchingResources() {
+        serverOnly(pod("first", "1"), pod("second", "2"), pod("other", "3"));
+        store.get("first");
+
+        store.replace(p -> !p.getMetadata().getName().equals("other"), Arrays.asList(pod("second", "4")));
+
+        assertThat(names(store.list(p -> true))).containsOnly("second", "other");
+        assertThat(store.get("second").getMetadata().getResourceVersion()).isEqualTo("4");
+        assertThat(store.get("first")).isNull();
+    }
+
+    @Test
+    public void testClosedStoreIsEmpty() {
+        serverOnly(pod("first", "1"));
+        store.get("first");
+
+        store.close();
+
+        assertThat(store.list(p -> true)).isEmpty();
+        assertThat(closedWatches).isEqualTo(1);
+        assertThat(getCalls).isEmpty();
+    }
+
+    private void serverOnly(Pod... pods) {
+        serverPods.clear();
+        for (Pod pod : pods) {
+            serverPods.put(pod.getMetadata().getName(), pod);
+        }
+    }
+
+    private void event(Action action, Pod pod) {
+        watchers.get(watchers.size() - 1).eventReceived(action, pod);
+    }
+
+    private static Pod pod(String name, String resourceVersion) {
+        ObjectMeta metadata = new ObjectMeta();
+        metadata.setName(name);
+        metadata.setResourceVersion(resourceVersion);
+        Pod pod = new Pod();
+        pod.setMetadata(metadata);
+        return pod;
+    }
+
+    private static List<String> names(List<Pod> pods) {
+        return pods.stream().map(p -> p.getMetadata().getName()).collect(Collectors.toList());
+    }
+}
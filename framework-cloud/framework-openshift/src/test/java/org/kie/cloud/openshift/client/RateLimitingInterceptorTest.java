@@ -0,0 +1,94 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.cloud.openshift.client;
+
+import java.io.IOException;
+
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RateLimitingInterceptorTest {
+
+    private static final int TOO_MANY_REQUESTS = 429;
+
+    private MockWebServer server;
+
+    @Before
+    public void startServer() throws IOException {
+        server = new MockWebServer();
+        server.start();
+    }
+
+    @After
+    public void stopServer() throws IOException {
+        server.shutdown();
+    }
+
+    @Test
+    public void testThrottledRequestIsRetried() throws IOException {
+        server.enqueue(new MockResponse().setResponseCode(TOO_MANY_REQUESTS).addHeader("Retry-After", "0"));
+        server.enqueue(new MockResponse().setBody("ok"));
+
+        try (Response response = get(new RateLimitingInterceptor(0, 1, 3, 10))) {
+            assertThat(response.code()).isEqualTo(200);
+            assertThat(response.body().string()).isEqualTo("ok");
+        }
+        assertThat(server.getRequestCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void testThrottledResponseIsReturnedWhenRetriesAreExhausted() throws IOException {
+        server.enqueue(new MockResponse().setResponseCode(TOO_MANY_REQUESTS));
+        server.enqueue(new MockResponse().setResponseCode(TOO_MANY_REQUESTS));
+        server.enqueue(new MockResponse().setBody("ok"));
+
+        try (Response response = get(new RateLimitingInterceptor(0, 1, 1, 10))) {
+            assertThat(response.code()).isEqualTo(TOO_MANY_REQUESTS);
+        }
+        assertThat(server.getRequestCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void testRequestsOverBurstAreDelayed() throws IOException {
+        RateLimitingInterceptor interceptor = new RateLimitingInterceptor(10, 2, 0, 10);
+        for (int i = 0; i < 4; i++) {
+            server.enqueue(new MockResponse().setBody("ok"));
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 4; i++) {
+            get(interceptor).close();
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // Two requests fit into the burst, the other two wait for 100 ms each
+        assertThat(elapsedMillis).isGreaterThanOrEqualTo(180);
+        assertThat(server.getRequestCount()).isEqualTo(4);
+    }
+
+    private Response get(RateLimitingInterceptor interceptor) throws IOException {
+        OkHttpClient client = new OkHttpClient.Builder().addInterceptor(interceptor).build();
+        return client.newCall(new Request.Builder().url(server.url("/api/v1/namespaces/myproject/pods")).build()).execute();
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.cloud.openshift.client;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SingleFlightInterceptorTest {
+
+    private static final String POD_PATH = "/api/v1/namespaces/myproject/pods/mypod";
+    private static final String POD_JSON = "{\"kind\":\"Pod\",\"metadata\":{\"name\":\"mypod\"}}";
+    // Time for the second caller to join the request in flight
+    private static final long JOIN_DELAY_MILLIS = 200;
+
+    private final CountDownLatch responseReleased = new CountDownLatch(1);
+
+    private MockWebServer server;
+    private OkHttpClient client;
+
+    @Before
+    public void startServer() throws IOException {
+        server = new MockWebServer();
+        server.start();
+        client = new OkHttpClient.Builder().addInterceptor(new SingleFlightInterceptor()).build();
+    }
+
+    @After
+    public void stopServer() throws IOException {
+        responseReleased.countDown();
+        server.shutdown();
+    }
+
+    @Test
+    public void testConcurrentReadsOfNamedResourceAreCoalesced() throws Exception {
+        server.setDispatcher(new BlockingDispatcher(() -> jsonResponse(POD_JSON)));
+
+        CompletableFuture<String> firstBody = getAsync(POD_PATH);
+        server.takeRequest();
+        CompletableFuture<String> secondBody = getAsync(POD_PATH);
+        Thread.sleep(JOIN_DELAY_MILLIS);
+        responseReleased.countDown();
+
+        assertThat(firstBody.get(5, TimeUnit.SECONDS)).isEqualTo(POD_JSON);
+        assertThat(secondBody.get(5, TimeUnit.SECONDS)).isEqualTo(POD_JSON);
+        assertThat(server.getRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testResponseOfUnknownLengthIsNotShared() throws Exception {
+        server.setDispatcher(new BlockingDispatcher(() -> new MockResponse().addHeader("Content-Type", "application/json").setChunkedBody(POD_JSON, 8)));
+
+        CompletableFuture<String> firstBody = getAsync(POD_PATH);
+        server.takeRequest();
+        CompletableFuture<String> secondBody = getAsync(POD_PATH);
+        Thread.sleep(JOIN_DELAY_MILLIS);
+        responseReleased.countDown();
+
+        assertThat(firstBody.get(5, TimeUnit.SECONDS)).isEqualTo(POD_JSON);
+        assertThat(secondBody.get(5, TimeUnit.SECONDS)).isEqualTo(POD_JSON);
+        assertThat(server.getRequestCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void testConcurrentLogReadsAreNotCoalesced() throws Exception {
+        server.setDispatcher(new BlockingDispatcher(() -> new MockResponse().setBody("log line")));
+
+        CompletableFuture<String> firstBody = getAsync(POD_PATH + "/log");
+        server.takeRequest();
+        CompletableFuture<String> secondBody = getAsync(POD_PATH + "/log");
+        server.takeRequest(5, TimeUnit.SECONDS);
+        responseReleased.countDown();
+
+        assertThat(firstBody.get(5, TimeUnit.SECONDS)).isEqualTo("log line");
+        assertThat(secondBody.get(5, TimeUnit.SECONDS)).isEqualTo("log line");
+        assertThat(server.getRequestCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void testIsNamedResource() {
+        assertThat(isNamedResource("/api/v1/namespaces/myproject/pods/mypod")).isTrue();
+        assertThat(isNamedResource("/oapi/v1/namespaces/myproject/routes/myroute")).isTrue();
+        assertThat(isNamedResource("/apis/apps.openshift.io/v1/namespaces/myproject/deploymentconfigs/mydc")).isTrue();
+        assertThat(isNamedResource("/api/v1/namespaces/myproject")).isTrue();
+        assertThat(isNamedResource("/oapi/v1/projects/myproject")).isTrue();
+
+        assertThat(isNamedResource("/api/v1/namespaces/myproject/pods")).isFalse();
+        assertThat(isNamedResource("/api/v1/namespaces/myproject/pods/mypod/log")).isFalse();
+        assertThat(isNamedResource("/api/v1/namespaces/myproject/pods/mypod/exec")).isFalse();
+        assertThat(isNamedResource("/api/v1/namespaces")).isFalse();
+        assertThat(isNamedResource("/version")).isFalse();
+    }
+
+    private static boolean isNamedResource(String path) {
+        return SingleFlightInterceptor.isNamedResource(Arrays.asList(path.substring(1).split("/")));
+    }
+
+    private static MockResponse jsonResponse(String body) {
+        return new MockResponse().addHeader("Content-Type", "application/json").setBody(body);
+    }
+
+    private CompletableFuture<String> getAsync(String path) {
+        return CompletableFuture.supplyAsync(() -> {
+            try (Response response = client.newCall(new Request.Builder().url(server.url(path)).build()).execute()) {
+                return response.body().string();
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+    }
+
+    /**
+     * Holds responses until the test releases them, so concurrent requests overlap.
+     */
+    private class BlockingDispatcher extends Dispatcher {
+
+        private final Supplier<MockResponse> response;
+
+        private BlockingDispatcher(Supplier<MockResponse> response) {
+            this.response = response;
+        }
+
+        @Override
+        public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+            responseReleased.await(5, TimeUnit.SECONDS);
+            return response.get();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.cloud.openshift.deployment;
+
+import java.time.Instant;
+
+import org.junit.Test;
+import org.kie.cloud.api.deployment.ArtifactTransfer;
+import org.kie.cloud.api.deployment.ArtifactTransfer.Direction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MavenRepositoryDeploymentImplTest {
+
+    @Test
+    public void testUploadIsParsed() {
+        ArtifactTransfer transfer = MavenRepositoryDeploymentImpl.parseTransfer(
+                "transfer PUT /org/kie/kjar/1.0/kjar-1.0.jar 201 0 2048 0.015 10.128.0.5 2017-11-20T10:15:30+00:00");
+
+        assertThat(transfer).isNotNull();
+        assertThat(transfer.getDirection()).isEqualTo(Direction.UPLOAD);
+        assertThat(transfer.getPath()).isEqualTo("org/kie/kjar/1.0/kjar-1.0.jar");
+        assertThat(transfer.getStatus()).isEqualTo(201);
+        assertThat(transfer.getBytes()).isEqualTo(2048L);
+        assertThat(transfer.getDurationMillis()).isEqualTo(15L);
+        assertThat(transfer.getClient()).isEqualTo("10.128.0.5");
+        assertThat(transfer.getTime()).isEqualTo(Instant.parse("2017-11-20T10:15:30Z"));
+    }
+
+    @Test
+    public void testDownloadIsParsed() {
+        ArtifactTransfer transfer = MavenRepositoryDeploymentImpl.parseTransfer(
+                "transfer GET /org/kie/kjar/1.0/kjar-1.0.pom 200 512 - 0.002 10.128.0.7 2017-11-20T11:15:30+01:00");
+
+        assertThat(transfer).isNotNull();
+        assertThat(transfer.getDirection()).isEqualTo(Direction.DOWNLOAD);
+        assertThat(transfer.getBytes()).isEqualTo(512L);
+        assertThat(transfer.isSuccessful()).isTrue();
+        assertThat(transfer.getTime()).isEqualTo(Instant.parse("2017-11-20T10:15:30Z"));
+    }
+
+    @Test
+    public void testMissingArtifactIsParsedAsUnsuccessfulDownload() {
+        ArtifactTransfer transfer = MavenRepositoryDeploymentImpl.parseTransfer(
+                "transfer HEAD /org/kie/kjar/1.1/kjar-1.1.pom 404 - - 0.000 10.128.0.7 2017-11-20T10:15:30+00:00");
+
+        assertThat(transfer).isNotNull();
+        assertThat(transfer.getBytes()).isEqualTo(0L);
+        assertThat(transfer.isSuccessful()).isFalse();
+    }
+
+    @Test
+    public void testOtherLinesAreIgnored() {
+        assertThat(MavenRepositoryDeploymentImpl.parseTransfer("2017/11/20 10:15:30 [notice] 1#1: start worker processes")).isNull();
+        assertThat(MavenRepositoryDeploymentImpl.parseTransfer(
+                "transfer DELETE /org/kie/kjar/1.0/kjar-1.0.jar 204 0 - 0.001 10.128.0.5 2017-11-20T10:15:30+00:00")).isNull();
+        assertThat(MavenRepositoryDeploymentImpl.parseTransfer("transfer GET /org/kie/kjar/1.0/kjar-1.0.jar 200")).isNull();
+        assertThat(MavenRepositoryDeploymentImpl.parseTransfer(
+                "transfer GET /org/kie/kjar/1.0/kjar-1.0.jar 200 512 - slow 10.128.0.7 2017-11-20T10:15:30+00:00")).isNull();
+    }
+}
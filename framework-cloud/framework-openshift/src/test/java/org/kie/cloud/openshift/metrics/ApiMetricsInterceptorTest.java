@@ -0,0 +1,78 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.cloud.openshift.metrics;
+
+import java.io.IOException;
+
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.cloud.common.metrics.ApiCallMetrics;
+import org.kie.cloud.openshift.client.RateLimitingInterceptor;
+import org.kie.cloud.openshift.client.SingleFlightInterceptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ApiMetricsInterceptorTest {
+
+    private static final String NAMESPACE = "api-metrics-interceptor-test";
+    private static final String POD_JSON = "{\"kind\":\"Pod\",\"metadata\":{\"name\":\"mypod\"}}";
+
+    private MockWebServer server;
+    private OkHttpClient client;
+
+    @Before
+    public void startServer() throws IOException {
+        server = new MockWebServer();
+        server.start();
+        // Same interceptor order as OpenShift clients created by OpenShiftController
+        client = new OkHttpClient.Builder()
+                .addInterceptor(new SingleFlightInterceptor())
+                .addInterceptor(new RateLimitingInterceptor(100, 10, 0, 0))
+                .addInterceptor(new ApiMetricsInterceptor())
+                .build();
+    }
+
+    @After
+    public void stopServer() throws IOException {
+        server.shutdown();
+    }
+
+    @Test
+    public void testCallIsAttributedToFrameworkMethodBehindInterceptors() throws IOException {
+        server.enqueue(new MockResponse().addHeader("Content-Type", "application/json").setBody(POD_JSON));
+
+        getPod();
+
+        ApiCallMetrics metrics = ApiCallMetrics.forNamespace(NAMESPACE);
+        assertThat(metrics.getCallCount("ApiMetricsInterceptorTest.getPod")).isEqualTo(1L);
+        assertThat(metrics.getCallCount("RateLimitingInterceptor.intercept")).isEqualTo(0L);
+        assertThat(metrics.getCallCount("SingleFlightInterceptor.intercept")).isEqualTo(0L);
+        assertThat(metrics.getCallCount()).isEqualTo(1L);
+    }
+
+    private void getPod() throws IOException {
+        Request request = new Request.Builder().url(server.url("/api/v1/namespaces/" + NAMESPACE + "/pods/mypod")).build();
+        try (Response response = client.newCall(request).execute()) {
+            assertThat(response.body().string()).isEqualTo(POD_JSON);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.cloud.openshift.resource.impl;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+
+import io.fabric8.kubernetes.api.model.ObjectMeta;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodCondition;
+import io.fabric8.kubernetes.api.model.PodStatus;
+import io.fabric8.kubernetes.client.Watcher.Action;
+import io.fabric8.openshift.api.model.DeploymentConfig;
+import io.fabric8.openshift.api.model.DeploymentConfigSpec;
+import org.junit.Test;
+import org.kie.cloud.api.deployment.DeploymentTimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class PodReadinessWatcherTest {
+
+    private static final String DEPLOYMENT_CONFIG_NAME = "kie-server";
+    private static final long SHORT_TIMEOUT_MILLIS = 100;
+
+    private final PodReadinessWatcher watcher = new PodReadinessWatcher(DEPLOYMENT_CONFIG_NAME);
+
+    @Test
+    public void testPodsAreReadyWhenReadyCountMatchesReplicas() throws Exception {
+        watcher.updateDeploymentConfig(deploymentConfig("1", 2));
+        watcher.initialize(Arrays.asList(readyPod("first", "1"), readyPod("second", "2")));
+
+        assertThat(watcher.waitUntilAllPodsAreReady(shortTimeout())).isTrue();
+    }
+
+    @Test
+    public void testScaleUpDuringWaitIsFollowed() throws Exception {
+        watcher.updateDeploymentConfig(deploymentConfig("1", 1));
+        watcher.initialize(Collections.singletonList(readyPod("first", "1")));
+
+        watcher.getDeploymentConfigWatcher().eventReceived(Action.MODIFIED, deploymentConfig("2", 2));
+        assertThatThrownBy(() -> watcher.waitUntilAllPodsAreReady(shortTimeout())).isInstanceOf(DeploymentTimeoutException.class);
+
+        watcher.eventReceived(Action.ADDED, readyPod("second", "3"));
+        assertThat(watcher.waitUntilAllPodsAreReady(shortTimeout())).isTrue();
+    }
+
+    @Test
+    public void testScaleDownDuringWaitIsFollowed() throws Exception {
+        watcher.updateDeploymentConfig(deploymentConfig("1", 2));
+        watcher.initialize(Collections.singletonList(readyPod("first", "1")));
+
+        watcher.getDeploymentConfigWatcher().eventReceived(Action.MODIFIED, deploymentConfig("2", 1));
+
+        assertThat(watcher.waitUntilAllPodsAreReady(shortTimeout())).isTrue();
+    }
+
+    @Test
+    public void testOlderDeploymentConfigIsIgnored() throws Exception {
+        watcher.updateDeploymentConfig(deploymentConfig("5", 1));
+        watcher.initialize(Collections.singletonList(readyPod("first", "1")));
+
+        watcher.getDeploymentConfigWatcher().eventReceived(Action.MODIFIED, deploymentConfig("4", 2));
+
+        assertThat(watcher.waitUntilAllPodsAreReady(shortTimeout())).isTrue();
+    }
+
+    @Test
+    public void testClosedDeploymentConfigWatchEndsWaiting() throws Exception {
+        watcher.updateDeploymentConfig(deploymentConfig("1", 1));
+        watcher.initialize(Collections.emptyList());
+
+        watcher.getDeploymentConfigWatcher().onClose(null);
+
+        assertThat(watcher.waitUntilAllPodsAreReady(shortTimeout())).isFalse();
+    }
+
+    private static Instant shortTimeout() {
+        return Instant.now().plusMillis(SHORT_TIMEOUT_MILLIS);
+    }
+
+    private static DeploymentConfig deploymentConfig(String resourceVersion, int replicas) {
+        DeploymentConfigSpec spec = new DeploymentConfigSpec();
+        spec.setReplicas(replicas);
+        DeploymentConfig deploymentConfig = new DeploymentConfig();
+        deploymentConfig.setMetadata(metadata(DEPLOYMENT_CONFIG_NAME, resourceVersion));
+        deploymentConfig.setSpec(spec);
+        return deploymentConfig;
+    }
+
+    private static Pod readyPod(String name, String resourceVersion) {
+        PodCondition readyCondition = new PodCondition();
+        readyCondition.setType("Ready");
+        readyCondition.setStatus("True");
+        PodStatus status = new PodStatus();
+        status.setConditions(Collections.singletonList(readyCondition));
+        Pod pod = new Pod();
+        pod.setMetadata(metadata(name, resourceVersion));
+        pod.setStatus(status);
+        return pod;
+    }
+
+    private static ObjectMeta metadata(String name, String resourceVersion) {
+        ObjectMeta metadata = new ObjectMeta();
+        metadata.setName(name);
+        metadata.setResourceVersion(resourceVersion);
+        return metadata;
+    }
+}
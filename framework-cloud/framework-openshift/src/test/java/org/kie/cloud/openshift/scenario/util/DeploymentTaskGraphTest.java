@@ -0,0 +1,136 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.cloud.openshift.scenario.util;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class DeploymentTaskGraphTest {
+
+    private static final String NAMESPACE = "deployment-task-graph-test";
+
+    private final List<String> events = new CopyOnWriteArrayList<>();
+
+    @Test(timeout = 10_000)
+    public void testTaskStartsAfterItsDependencies() {
+        CountDownLatch databaseStarted = new CountDownLatch(1);
+        CountDownLatch secretFinished = new CountDownLatch(1);
+
+        new DeploymentTaskGraph(NAMESPACE)
+                .addTask("database", recorded("database", () -> {
+                    databaseStarted.countDown();
+                    await(secretFinished);
+                }))
+                .addTask("secret", () -> {
+                    recorded("secret", () -> await(databaseStarted)).run();
+                    secretFinished.countDown();
+                })
+                .addTask("kie-server", recorded("kie-server", () -> {}), "database", "secret")
+                .execute();
+
+        // Both dependencies run at once, the dependent task starts once the later of them finishes
+        assertThat(events.subList(0, 2)).containsOnly("start secret", "start database");
+        assertThat(events.subList(2, events.size())).containsExactly("finish secret", "finish database", "start kie-server", "finish kie-server");
+    }
+
+    @Test(timeout = 10_000)
+    public void testIndependentTasksRunConcurrently() {
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        Runnable awaitOther = () -> {
+            bothStarted.countDown();
+            await(bothStarted);
+        };
+
+        new DeploymentTaskGraph(NAMESPACE)
+                .addTask("workbench", awaitOther)
+                .addTask("kie-server", awaitOther)
+                .execute();
+
+        assertThat(bothStarted.getCount()).isEqualTo(0L);
+    }
+
+    @Test(timeout = 10_000)
+    public void testFailureSkipsDependentTasksAndIsRethrown() {
+        DeploymentTaskGraph graph = new DeploymentTaskGraph(NAMESPACE)
+                .addTask("database", () -> {
+                    throw new IllegalStateException("database failed");
+                })
+                .addTask("kie-server", recorded("kie-server", () -> {}), "database");
+
+        assertThatThrownBy(graph::execute).isInstanceOf(IllegalStateException.class).hasMessageContaining("database failed");
+        assertThat(events).isEmpty();
+    }
+
+    @Test(timeout = 10_000)
+    public void testFailureDoesNotWaitForIndependentTasks() {
+        CountDownLatch neverReleased = new CountDownLatch(1);
+        DeploymentTaskGraph graph = new DeploymentTaskGraph(NAMESPACE)
+                .addTask("workbench", () -> {
+                    try {
+                        neverReleased.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                })
+                .addTask("kie-server", () -> {
+                    throw new IllegalStateException("kie-server failed");
+                });
+
+        assertThatThrownBy(graph::execute).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void testDuplicateTaskIsRejected() {
+        DeploymentTaskGraph graph = new DeploymentTaskGraph(NAMESPACE).addTask("database", () -> {});
+
+        assertThatThrownBy(() -> graph.addTask("database", () -> {})).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testUnknownDependencyIsRejected() {
+        DeploymentTaskGraph graph = new DeploymentTaskGraph(NAMESPACE);
+
+        assertThatThrownBy(() -> graph.addTask("kie-server", () -> {}, "database")).isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("database");
+    }
+
+    /**
+     * @return Action recording start and finish of the task around the given action.
+     */
+    private Runnable recorded(String taskName, Runnable action) {
+        return () -> {
+            events.add("start " + taskName);
+            action.run();
+            events.add("finish " + taskName);
+        };
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+}
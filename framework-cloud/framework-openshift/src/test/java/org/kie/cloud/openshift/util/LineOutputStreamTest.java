@@ -0,0 +1,63 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.cloud.openshift.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LineOutputStreamTest {
+
+    private final List<String> lines = new ArrayList<>();
+
+    @Test
+    public void testLinesArePassedWithoutLineTerminators() {
+        LineOutputStream output = new LineOutputStream(lines::add);
+        write(output, "first\nsecond\r\nthird");
+        assertThat(lines).containsExactly("first", "second");
+
+        output.close();
+        assertThat(lines).containsExactly("first", "second", "third");
+    }
+
+    @Test
+    public void testLongLineIsSplit() {
+        LineOutputStream output = new LineOutputStream(lines::add, 4);
+        write(output, "abcdefghij\n");
+        assertThat(lines).containsExactly("abcd", "efgh", "ij");
+    }
+
+    @Test
+    public void testLongLineIsSplitBetweenCharacters() {
+        LineOutputStream output = new LineOutputStream(lines::add, 4);
+        // Euro sign takes three bytes, it doesn't fit into the first part
+        write(output, "ab\u20accd\ud83d\ude00e\n");
+        assertThat(lines).containsExactly("ab", "\u20acc", "d", "\ud83d\ude00", "e");
+        assertThat(String.join("", lines)).isEqualTo("ab\u20accd\ud83d\ude00e");
+    }
+
+    private static void write(LineOutputStream output, String content) {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        // Write byte by byte, the same way as process output is copied
+        for (byte b : bytes) {
+            output.write(b);
+        }
+    }
+}
@@ -15,16 +15,27 @@
 
 package org.kie.cloud.integrationtests;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 import org.junit.After;
 import org.junit.Assume;
 import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.rules.TestRule;
+import org.junit.runners.model.Statement;
 import org.kie.cloud.api.DeploymentScenarioBuilderFactory;
 import org.kie.cloud.api.DeploymentScenarioBuilderFactoryLoader;
 import org.kie.cloud.api.deployment.DeploymentTimeoutException;
+import org.kie.cloud.api.deployment.constants.DeploymentConstants;
 import org.kie.cloud.api.scenario.DeploymentScenario;
 import org.kie.cloud.api.scenario.MissingResourceException;
 import org.kie.cloud.git.GitProvider;
 import org.kie.cloud.git.GitProviderFactory;
+import org.kie.cloud.integrationtests.SharedScenarioRegistry.SharedScenario;
+import org.kie.cloud.integrationtests.util.ScenarioResetUtils;
+import org.kie.cloud.maven.KjarBuildService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -74,30 +85,119 @@ public abstract class AbstractCloudIntegrationTest<T extends DeploymentScenario>
 
     private static final Logger logger = LoggerFactory.getLogger(AbstractCloudIntegrationTest.class);
 
+    /**
+     * Releases scenarios shared by test methods of the class once all of them are finished.
+     */
+    @ClassRule
+    public static final TestRule sharedScenarioClassRule = (base, description) -> new Statement() {
+        @Override
+        public void evaluate() throws Throwable {
+            try {
+                base.evaluate();
+            } finally {
+                SharedScenarioRegistry.releaseScope(description.getClassName());
+            }
+        }
+    };
+
     private final DeploymentScenarioBuilderFactory deploymentScenarioFactory = DeploymentScenarioBuilderFactoryLoader.getInstance();
 
     protected final GitProvider gitProvider = GitProviderFactory.getGitProvider();
     protected T deploymentScenario;
 
+    private SharedScenario sharedScenario;
+
     @Before
     public void initializeDeployment() {
-        deploymentScenario = createDeploymentScenario(deploymentScenarioFactory);
+        // Kjars are built while the scenario is being deployed
+        CompletableFuture<Void> kjarBuilds = KjarBuildService.buildAndDeploy(getRequiredKjars().stream()
+                .map(kjar -> ClassLoader.class.getResource("/kjars-sources/" + kjar).getFile())
+                .toArray(String[]::new));
+        deployOrLeaseScenario();
+        kjarBuilds.join();
+    }
 
-        boolean isDeployed = false;
-        for (int i = 0; i < SCENARIO_DEPLOYMENT_ATTEMPTS && !isDeployed; i++) {
-            isDeployed = deployScenario();
+    private void deployOrLeaseScenario() {
+        T scenario = createDeploymentScenario(deploymentScenarioFactory);
+
+        ScenarioLifecycle scenarioLifecycle = DeploymentConstants.isScenarioSharingEnabled() ? getScenarioLifecycle() : ScenarioLifecycle.TEST;
+        if (scenarioLifecycle == ScenarioLifecycle.TEST) {
+            deploymentScenario = scenario;
+            deployScenarioWithAttempts();
+            return;
+        }
+
+        String scope = scenarioLifecycle == ScenarioLifecycle.CLASS ? getClass().getName() : SharedScenarioRegistry.SUITE_SCOPE;
+        sharedScenario = leaseSharedScenario(scope, scenario);
+        if (sharedScenario != null && sharedScenario.isReused()) {
+            try {
+                resetScenario();
+            } catch (Exception e) {
+                logger.warn("Shared scenario in namespace " + deploymentScenario.getNamespace() + " couldn't be reset, deploying new scenario.", e);
+                SharedScenarioRegistry.discard(sharedScenario);
+                sharedScenario = leaseSharedScenario(scope, createDeploymentScenario(deploymentScenarioFactory));
+            }
         }
     }
 
     @After
     public void cleanEnvironment() {
-        if (deploymentScenario != null) {
-            deploymentScenario.undeploy();
+        if (sharedScenario != null) {
+            SharedScenarioRegistry.release(sharedScenario);
+            sharedScenario = null;
+        } else {
+            undeployScenario(deploymentScenario);
+        }
+    }
 
-            if (gitProvider != null) {
-                gitProvider.deleteGitRepository(deploymentScenario.getNamespace());
-            }
+    /**
+     * Override to build and deploy kjars from kjars-sources concurrently with scenario deployment.
+     *
+     * @return Names of kjar projects in kjars-sources required by the test.
+     */
+    protected List<String> getRequiredKjars() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * Override to share deployed scenario between tests. Test sharing the scenario mustn't expect a freshly deployed scenario, it gets a scenario reset by {@link #resetScenario()}.
+     *
+     * @return Lifecycle of deployment scenario used by this test.
+     */
+    protected ScenarioLifecycle getScenarioLifecycle() {
+        return ScenarioLifecycle.TEST;
+    }
+
+    /**
+     * Return shared scenario to the state right after deployment before it is used by next test.
+     * By default all deployments are scaled to their initial number of instances, containers and container specs are removed
+     * and Workbench repositories and organizational units are deleted.
+     * Tests creating other data in shared scenario should override this method.
+     */
+    protected void resetScenario() {
+        ScenarioResetUtils.restoreInstances(sharedScenario.getInitialInstances());
+        ScenarioResetUtils.removeTestData(deploymentScenario, gitProvider);
+    }
+
+    @SuppressWarnings("unchecked")
+    private SharedScenario leaseSharedScenario(String scope, T scenario) {
+        SharedScenario leasedScenario = SharedScenarioRegistry.lease(scope, scenario.getFingerprint(), () -> {
+            deploymentScenario = scenario;
+            return deployScenarioWithAttempts() ? scenario : null;
+        }, this::undeployScenario);
+
+        if (leasedScenario != null) {
+            deploymentScenario = (T) leasedScenario.getScenario();
+        }
+        return leasedScenario;
+    }
+
+    private boolean deployScenarioWithAttempts() {
+        boolean isDeployed = false;
+        for (int i = 0; i < SCENARIO_DEPLOYMENT_ATTEMPTS && !isDeployed; i++) {
+            isDeployed = deployScenario();
         }
+        return isDeployed;
     }
 
     /**
@@ -112,11 +212,21 @@ public abstract class AbstractCloudIntegrationTest<T extends DeploymentScenario>
             Assume.assumeNoException(e);
         } catch (DeploymentTimeoutException e) {
             logger.warn("Scenario didn't start in defined timeout, undeploying.", e);
-            cleanEnvironment();
+            undeployScenario(deploymentScenario);
         }
 
         return false;
     }
 
+    private void undeployScenario(DeploymentScenario scenario) {
+        if (scenario != null) {
+            scenario.undeploy();
+
+            if (gitProvider != null) {
+                gitProvider.deleteGitRepository(scenario.getNamespace());
+            }
+        }
+    }
+
     protected abstract T createDeploymentScenario(DeploymentScenarioBuilderFactory deploymentScenarioFactory);
 }
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.cloud.integrationtests;
+
+/**
+ * Defines how long a deployed scenario lives and which tests may share it.
+ * Shared scenario is reset between tests, see {@link AbstractCloudIntegrationTest#resetScenario()}.
+ */
+public enum ScenarioLifecycle {
+
+    /**
+     * Scenario is deployed for every test method.
+     */
+    TEST,
+
+    /**
+     * Scenario is deployed once for test class and shared by its test methods.
+     */
+    CLASS,
+
+    /**
+     * Scenario is deployed once and shared by all test classes with equal scenario fingerprint, it is undeployed at the end of test run.
+     */
+    SUITE;
+}
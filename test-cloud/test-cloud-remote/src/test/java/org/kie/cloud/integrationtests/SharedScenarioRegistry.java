@@ -0,0 +1,184 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.cloud.integrationtests;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.kie.cloud.api.deployment.Deployment;
+import org.kie.cloud.api.scenario.DeploymentScenario;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Registry of deployed scenarios shared between tests. Every shared scenario is leased by at most one test at a time,
+ * scenario is held by its scope (test class or whole test run) until the scope is released.
+ * Scenario is undeployed once the scope and the last test lease are released.
+ */
+class SharedScenarioRegistry {
+
+    static final String SUITE_SCOPE = "suite";
+
+    private static final Logger logger = LoggerFactory.getLogger(SharedScenarioRegistry.class);
+
+    private static final List<SharedScenario> sharedScenarios = new ArrayList<>();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> releaseScope(SUITE_SCOPE), "shared-scenario-cleanup"));
+    }
+
+    private SharedScenarioRegistry() {
+    }
+
+    /**
+     * Lease scenario with given fingerprint from the scope. If there isn't any free scenario then new one is deployed.
+     *
+     * @param scope Scope of the scenario, test class name or {@link #SUITE_SCOPE}.
+     * @param fingerprint Fingerprint of the scenario.
+     * @param deployer Deploys new scenario, returns null if deployment failed.
+     * @param undeployer Undeploys scenario once it isn't used anymore.
+     * @return Leased scenario or null if deployment failed.
+     */
+    static SharedScenario lease(String scope, String fingerprint, Supplier<DeploymentScenario> deployer, Consumer<DeploymentScenario> undeployer) {
+        synchronized (sharedScenarios) {
+            for (SharedScenario sharedScenario : sharedScenarios) {
+                if (sharedScenario.scope.equals(scope) && sharedScenario.fingerprint.equals(fingerprint) && !sharedScenario.inUse) {
+                    sharedScenario.inUse = true;
+                    sharedScenario.reused = true;
+                    sharedScenario.leases++;
+                    logger.info("Reusing scenario deployed in namespace {}.", sharedScenario.scenario.getNamespace());
+                    return sharedScenario;
+                }
+            }
+        }
+
+        // Deployment takes minutes, don't block other tests meanwhile
+        DeploymentScenario deploymentScenario = deployer.get();
+        if (deploymentScenario == null) {
+            return null;
+        }
+        SharedScenario sharedScenario = new SharedScenario(scope, fingerprint, deploymentScenario, undeployer);
+        synchronized (sharedScenarios) {
+            sharedScenarios.add(sharedScenario);
+        }
+        return sharedScenario;
+    }
+
+    /**
+     * Release test lease, scenario can be leased by another test afterwards.
+     */
+    static void release(SharedScenario sharedScenario) {
+        synchronized (sharedScenarios) {
+            sharedScenario.inUse = false;
+            sharedScenario.leases--;
+            if (sharedScenario.leases > 0) {
+                return;
+            }
+            sharedScenarios.remove(sharedScenario);
+        }
+        sharedScenario.undeploy();
+    }
+
+    /**
+     * Release test lease and undeploy the scenario regardless of the scope, used for scenarios which can't be reset.
+     */
+    static void discard(SharedScenario sharedScenario) {
+        synchronized (sharedScenarios) {
+            sharedScenarios.remove(sharedScenario);
+        }
+        sharedScenario.undeploy();
+    }
+
+    /**
+     * Release all scenarios held by the scope. Scenarios which are still leased by a test are undeployed once the test releases them.
+     */
+    static void releaseScope(String scope) {
+        List<SharedScenario> unusedScenarios = new ArrayList<>();
+        synchronized (sharedScenarios) {
+            Iterator<SharedScenario> iterator = sharedScenarios.iterator();
+            while (iterator.hasNext()) {
+                SharedScenario sharedScenario = iterator.next();
+                if (sharedScenario.scope.equals(scope)) {
+                    sharedScenario.leases--;
+                    if (sharedScenario.leases == 0) {
+                        iterator.remove();
+                        unusedScenarios.add(sharedScenario);
+                    }
+                }
+            }
+        }
+        unusedScenarios.forEach(SharedScenario::undeploy);
+    }
+
+    static class SharedScenario {
+
+        private final String scope;
+        private final String fingerprint;
+        private final DeploymentScenario scenario;
+        private final Consumer<DeploymentScenario> undeployer;
+        private final Map<Deployment, Integer> initialInstances = new HashMap<>();
+
+        // Guarded by sharedScenarios, one lease is held by the scope
+        private int leases = 2;
+        private boolean inUse = true;
+        private boolean reused = false;
+
+        private SharedScenario(String scope, String fingerprint, DeploymentScenario scenario, Consumer<DeploymentScenario> undeployer) {
+            this.scope = scope;
+            this.fingerprint = fingerprint;
+            this.scenario = scenario;
+            this.undeployer = undeployer;
+
+            for (Deployment deployment : scenario.getDeployments()) {
+                initialInstances.put(deployment, deployment.getInstances().size());
+            }
+        }
+
+        DeploymentScenario getScenario() {
+            return scenario;
+        }
+
+        /**
+         * @return True if the scenario was used by previous test.
+         */
+        boolean isReused() {
+            synchronized (sharedScenarios) {
+                return reused;
+            }
+        }
+
+        /**
+         * @return Number of instances of every deployment right after the scenario was deployed.
+         */
+        Map<Deployment, Integer> getInitialInstances() {
+            return Collections.unmodifiableMap(initialInstances);
+        }
+
+        private void undeploy() {
+            try {
+                undeployer.accept(scenario);
+            } catch (Exception e) {
+                logger.error("Error while undeploying shared scenario in namespace " + scenario.getNamespace(), e);
+            }
+        }
+    }
+}
@@ -18,6 +18,7 @@ package org.kie.cloud.integrationtests.drools;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -32,6 +33,7 @@ import org.kie.api.command.KieCommands;
 import org.kie.api.runtime.ExecutionResults;
 import org.kie.cloud.api.DeploymentScenarioBuilderFactory;
 import org.kie.cloud.api.deployment.Instance;
+import org.kie.cloud.api.deployment.KieServerDeployment;
 import org.kie.cloud.api.scenario.WorkbenchRuntimeSmartRouterKieServerDatabaseScenario;
 import org.kie.cloud.common.provider.KieServerClientProvider;
 import org.kie.cloud.common.provider.KieServerControllerClientProvider;
@@ -92,7 +94,7 @@ public class DroolsSessionFailoverIntegrationTest extends AbstractCloudIntegrati
 
     @Test
     @Ignore("Activate when RHBPMS-5044 is done.")
-    public void executeSimpleRuleFailoverTest() throws InterruptedException {
+    public void executeSimpleRuleFailoverTest() {
         logger.debug("Register Kie Container to Kie Server");
         KieServerInfo serverInfo = kieServerClient.getServerInfo().getResult();
         WorkbenchUtils.saveContainerSpec(kieServerMgmtControllerClient, serverInfo.getServerId(), serverInfo.getName(), CONTAINER_ID, CONTAINER_ALIAS, PROJECT_GROUP_ID, RULE_PROJECT_NAME, RULE_PROJECT_VERSION, KieContainerStatus.STARTED);
@@ -109,17 +111,15 @@ public class DroolsSessionFailoverIntegrationTest extends AbstractCloudIntegrati
         commands.add(commandsFactory.newFireAllRules());
         commands.add(commandsFactory.newGetGlobal(LIST_NAME, LIST_OUTPUT_NAME));
 
-        logger.debug("Start new thread for Kie server fail");
-        Thread failoverThread = kieServerFailoverThread(kieServerInstance);
-        failoverThread.start();
+        logger.debug("Start Kie server failover in background");
+        CompletableFuture<Void> failover = kieServerFailover(kieServerInstance);
 
         logger.debug("Fire all rules");
         ServiceResponse<ExecutionResults> response;
         try {
             response = smartRouterRuleServiceClient.executeCommandsWithResults(CONTAINER_ID, batchExecutionCommand);
-        } catch (Exception e) {
-            failoverThread.join();
-            throw e;
+        } finally {
+            failover.join();
         }
 
         logger.debug("Check result of the drools command");
@@ -140,25 +140,20 @@ public class DroolsSessionFailoverIntegrationTest extends AbstractCloudIntegrati
     }
 
     private boolean instanceLogContains(Instance instance, String... values) {
-        for (String value : values) {
-            if (!instance.getLogs().contains(value)) {
-                return false;
-            }
-        }
-        return true;
+        return instance.countLogMatches(values).values().stream().allMatch(count -> count > 0);
     }
 
-    private Thread kieServerFailoverThread(Instance kieServerInstance) {
-        return new Thread(() -> {
-            logger.debug("Scale Kie server to 2");
-            deploymentScenario.getKieServerDeployment().scale(2);
-            logger.debug("Wait for scale");
-            deploymentScenario.getKieServerDeployment().waitForScale();
-
-            logger.debug("Force delete (kill) Kie server instance.");
-            deploymentScenario.getKieServerDeployment().deleteInstances(kieServerInstance);
-            logger.debug("Wait for scale");
-            deploymentScenario.getKieServerDeployment().waitForScale();
-        });
+    private CompletableFuture<Void> kieServerFailover(Instance kieServerInstance) {
+        KieServerDeployment kieServerDeployment = deploymentScenario.getKieServerDeployment();
+        logger.debug("Scale Kie server to 2");
+        return kieServerDeployment.scaleAsync(2)
+                .thenRun(() -> {
+                    logger.debug("Force delete (kill) Kie server instance.");
+                    kieServerDeployment.deleteInstances(kieServerInstance);
+                })
+                .thenCompose(v -> {
+                    logger.debug("Wait for scale");
+                    return kieServerDeployment.waitForScaleAsync();
+                });
     }
 }
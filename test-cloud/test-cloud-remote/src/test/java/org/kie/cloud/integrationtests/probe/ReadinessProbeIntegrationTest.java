@@ -24,6 +24,7 @@ import org.kie.cloud.common.provider.KieServerClientProvider;
 import org.kie.cloud.common.provider.KieServerControllerClientProvider;
 import org.kie.cloud.common.provider.WorkbenchClientProvider;
 import org.kie.cloud.integrationtests.AbstractCloudIntegrationTest;
+import org.kie.cloud.integrationtests.ScenarioLifecycle;
 import org.kie.cloud.integrationtests.util.WorkbenchUtils;
 import org.kie.server.api.marshalling.Marshaller;
 import org.kie.server.api.marshalling.MarshallerFactory;
@@ -49,6 +50,11 @@ public class ReadinessProbeIntegrationTest extends AbstractCloudIntegrationTest<
         return deploymentScenarioFactory.getWorkbenchWithKieServerScenarioBuilder().build();
     }
 
+    @Override
+    protected ScenarioLifecycle getScenarioLifecycle() {
+        return ScenarioLifecycle.CLASS;
+    }
+
     @Before
     public void setUp() {
         httpKieServerClient = new ResteasyClientBuilder()
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.cloud.integrationtests.scaling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.cloud.api.DeploymentScenarioBuilderFactory;
+import org.kie.cloud.api.DeploymentScenarioBuilderFactoryLoader;
+import org.kie.cloud.api.deployment.Instance;
+import org.kie.cloud.api.deployment.KieServerDeployment;
+import org.kie.cloud.api.scenario.GenericScenario;
+
+/**
+ * Scales deployment through cloud API only, without calling Kie server. Test doesn't need GIT provider or Maven
+ * repository, so it runs in the in-memory cloud API implementation too.
+ */
+public class DeploymentScalingIntegrationTest {
+
+    private final DeploymentScenarioBuilderFactory deploymentScenarioFactory = DeploymentScenarioBuilderFactoryLoader.getInstance();
+
+    private GenericScenario deploymentScenario;
+
+    @Before
+    public void deployScenario() {
+        deploymentScenario = deploymentScenarioFactory.getGenericScenarioBuilder()
+                .withKieServer(deploymentScenarioFactory.getKieServerSettingsBuilder().build())
+                .build();
+        deploymentScenario.deploy();
+    }
+
+    @After
+    public void undeployScenario() {
+        deploymentScenario.undeploy();
+    }
+
+    @Test
+    public void testScaleUpAndDown() {
+        KieServerDeployment kieServerDeployment = deploymentScenario.getKieServerDeployments().get(0);
+
+        kieServerDeployment.scale(2);
+        assertThat(kieServerDeployment.getInstances()).hasSize(2);
+
+        kieServerDeployment.scale(0);
+        assertThat(kieServerDeployment.getInstances()).isEmpty();
+    }
+
+    @Test
+    public void testDeletedInstanceIsReplaced() {
+        KieServerDeployment kieServerDeployment = deploymentScenario.getKieServerDeployments().get(0);
+        Instance deletedInstance = kieServerDeployment.getInstances().get(0);
+
+        kieServerDeployment.deleteInstances(deletedInstance);
+        kieServerDeployment.waitForScale();
+
+        List<String> instanceNames = kieServerDeployment.getInstances().stream().map(Instance::getName).collect(Collectors.toList());
+        // Deleted pod may still be terminating
+        assertThat(instanceNames).filteredOn(name -> !name.equals(deletedInstance.getName())).hasSize(1);
+    }
+}
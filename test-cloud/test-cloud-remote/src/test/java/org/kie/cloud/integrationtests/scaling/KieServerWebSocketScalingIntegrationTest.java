@@ -34,7 +34,6 @@ import org.kie.cloud.api.scenario.GenericScenario;
 import org.kie.cloud.api.settings.DeploymentSettings;
 import org.kie.cloud.common.provider.KieServerClientProvider;
 import org.kie.cloud.common.provider.KieServerControllerClientProvider;
-import org.kie.cloud.integrationtests.util.TimeUtils;
 import org.kie.cloud.integrationtests.util.WorkbenchUtils;
 import org.kie.cloud.maven.MavenDeployer;
 import org.kie.cloud.maven.constants.MavenConstants;
@@ -139,13 +138,13 @@ public class KieServerWebSocketScalingIntegrationTest {
 
     private void verifyKieServerLogsContain(String logMessage) {
         for (Instance kieServerInstance : kieServerDeployment.getInstances()) {
-            assertThat(kieServerInstance.getLogs()).contains(logMessage);
+            assertThat(kieServerInstance.countLogMatches(logMessage).get(logMessage)).isPositive();
         }
     }
 
     private void waitUntilKieServerLogsContain(String logMessage) {
         for (Instance kieServerInstance : kieServerDeployment.getInstances()) {
-            TimeUtils.wait(Duration.ofSeconds(15), Duration.ofSeconds(1), () -> kieServerInstance.getLogs().contains(logMessage));
+            kieServerInstance.waitForLogMatch(logMessage, Duration.ofSeconds(15));
         }
     }
 
@@ -17,7 +17,6 @@ package org.kie.cloud.integrationtests.scaling;
 
 import java.util.List;
 
-import org.apache.commons.lang.StringUtils;
 import org.assertj.core.api.Assertions;
 import org.junit.Test;
 import org.kie.cloud.api.DeploymentScenarioBuilderFactory;
@@ -99,7 +98,7 @@ public class SmartRouterLoadBalancing extends
 
         List<Instance> kieServerInstances = deploymentScenario.getKieServerDeployment().getInstances();
         for (Instance kieServerInstance : kieServerInstances) {
-            Assertions.assertThat(StringUtils.countMatches(kieServerInstance.getLogs(), LOG_MESSAGE))
+            Assertions.assertThat(kieServerInstance.countLogMatches(LOG_MESSAGE).get(LOG_MESSAGE))
                     .isGreaterThan(PROCESS_NUMBER / 4);
         }
     }
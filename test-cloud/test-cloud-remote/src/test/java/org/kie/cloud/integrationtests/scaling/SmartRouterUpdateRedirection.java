@@ -17,6 +17,7 @@ package org.kie.cloud.integrationtests.scaling;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -32,7 +33,6 @@ import org.kie.cloud.api.settings.DeploymentSettings;
 import org.kie.cloud.common.provider.KieServerClientProvider;
 import org.kie.cloud.integrationtests.AbstractCloudIntegrationTest;
 import org.kie.cloud.integrationtests.Kjar;
-import org.kie.cloud.maven.MavenDeployer;
 import org.kie.cloud.maven.constants.MavenConstants;
 import org.kie.server.api.model.KieContainerResource;
 import org.kie.server.api.model.ReleaseId;
@@ -81,15 +81,17 @@ public class SmartRouterUpdateRedirection extends AbstractCloudIntegrationTest<G
                 .build();
     }
 
+    @Override
+    protected List<String> getRequiredKjars() {
+        return Arrays.asList(DEFINITION_PROJECT_SNAPSHOT_NAME, "definition-project-101-snapshot");
+    }
+
     @Before
     public void prepateClientsAndProject() {
         KieServerDeployment kieServerDeployment1 = deploymentScenario.getKieServerDeployments().get(0);
         KieServerDeployment kieServerDeployment2 = deploymentScenario.getKieServerDeployments().get(1);
         SmartRouterDeployment smartRouterDeployment = deploymentScenario.getSmartRouterDeployments().get(0);
 
-        MavenDeployer.buildAndDeployMavenProject(ClassLoader.class.getResource("/kjars-sources/definition-project-snapshot").getFile());
-        MavenDeployer.buildAndDeployMavenProject(ClassLoader.class.getResource("/kjars-sources/definition-project-101-snapshot").getFile());
-
         kieServerClient1 = KieServerClientProvider.getKieServerClient(kieServerDeployment1);
         kieServerClient2 = KieServerClientProvider.getKieServerClient(kieServerDeployment2);
         smartRouterClient = KieServerClientProvider.getSmartRouterClient(smartRouterDeployment,
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.cloud.integrationtests.util;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.guvnor.rest.client.OrganizationalUnit;
+import org.guvnor.rest.client.RepositoryResponse;
+import org.kie.cloud.api.deployment.Deployment;
+import org.kie.cloud.api.deployment.KieServerDeployment;
+import org.kie.cloud.api.deployment.WorkbenchDeployment;
+import org.kie.cloud.api.scenario.DeploymentScenario;
+import org.kie.cloud.common.provider.KieServerClientProvider;
+import org.kie.cloud.common.provider.KieServerControllerClientProvider;
+import org.kie.cloud.common.provider.WorkbenchClientProvider;
+import org.kie.cloud.git.GitProvider;
+import org.kie.server.api.model.KieContainerResource;
+import org.kie.server.client.KieServicesClient;
+import org.kie.server.controller.api.model.spec.ContainerSpec;
+import org.kie.server.controller.api.model.spec.ServerTemplate;
+import org.kie.server.controller.management.client.KieServerMgmtControllerClient;
+import org.kie.wb.test.rest.client.WorkbenchClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Utility methods returning shared scenario to the state it had right after deployment.
+ */
+public class ScenarioResetUtils {
+
+    private static final Logger logger = LoggerFactory.getLogger(ScenarioResetUtils.class);
+
+    /**
+     * Scale deployments back to their initial number of instances.
+     */
+    public static void restoreInstances(Map<Deployment, Integer> initialInstances) {
+        for (Entry<Deployment, Integer> entry : initialInstances.entrySet()) {
+            if (entry.getKey().getInstances().size() != entry.getValue()) {
+                entry.getKey().scale(entry.getValue());
+            }
+        }
+        for (Deployment deployment : initialInstances.keySet()) {
+            deployment.waitForScale();
+        }
+    }
+
+    /**
+     * Remove container specs from controller, dispose containers in Kie servers and delete Workbench repositories and organizational units.
+     */
+    public static void removeTestData(DeploymentScenario deploymentScenario, GitProvider gitProvider) {
+        for (Deployment deployment : deploymentScenario.getDeployments()) {
+            if (deployment instanceof WorkbenchDeployment) {
+                removeContainerSpecs((WorkbenchDeployment) deployment);
+            }
+        }
+        for (Deployment deployment : deploymentScenario.getDeployments()) {
+            if (deployment instanceof KieServerDeployment) {
+                disposeContainers((KieServerDeployment) deployment);
+            }
+        }
+        for (Deployment deployment : deploymentScenario.getDeployments()) {
+            if (deployment instanceof WorkbenchDeployment) {
+                removeWorkbenchContent((WorkbenchDeployment) deployment);
+            }
+        }
+        if (gitProvider != null) {
+            gitProvider.deleteGitRepository(deploymentScenario.getNamespace());
+        }
+    }
+
+    private static void removeContainerSpecs(WorkbenchDeployment workbenchDeployment) {
+        KieServerMgmtControllerClient kieControllerClient = KieServerControllerClientProvider.getKieServerMgmtControllerClient(workbenchDeployment);
+        for (ServerTemplate serverTemplate : kieControllerClient.listServerTemplates()) {
+            for (ContainerSpec containerSpec : serverTemplate.getContainersSpec()) {
+                logger.debug("Deleting container spec {} from server template {}.", containerSpec.getId(), serverTemplate.getId());
+                kieControllerClient.deleteContainerSpec(serverTemplate.getId(), containerSpec.getId());
+            }
+        }
+    }
+
+    private static void disposeContainers(KieServerDeployment kieServerDeployment) {
+        KieServicesClient kieServerClient = KieServerClientProvider.getKieServerClient(kieServerDeployment);
+        for (KieContainerResource container : kieServerClient.listContainers().getResult().getContainers()) {
+            logger.debug("Disposing container {}.", container.getContainerId());
+            kieServerClient.disposeContainer(container.getContainerId());
+        }
+    }
+
+    private static void removeWorkbenchContent(WorkbenchDeployment workbenchDeployment) {
+        WorkbenchClient workbenchClient = WorkbenchClientProvider.getWorkbenchClient(workbenchDeployment);
+        Collection<RepositoryResponse> repositories;
+        try {
+            repositories = workbenchClient.getRepositories();
+        } catch (RuntimeException e) {
+            // Monitoring console doesn't provide repository REST API
+            logger.debug("Repositories of Workbench deployment aren't available, skipping its cleanup.", e);
+            return;
+        }
+        for (RepositoryResponse repository : repositories) {
+            logger.debug("Deleting Workbench repository {}.", repository.getName());
+            workbenchClient.deleteRepository(repository.getName());
+        }
+        for (OrganizationalUnit organizationalUnit : workbenchClient.getOrganizationalUnits()) {
+            logger.debug("Deleting organizational unit {}.", organizationalUnit.getName());
+            workbenchClient.deleteOrganizationalUnit(organizationalUnit.getName());
+        }
+    }
+}